@@ -0,0 +1,55 @@
+-- ═══════════════════════════════════════════════════════════════════════════
+-- 🗑️ Suppression d'un animal : ligne à ligne (cascade JPA) vs ensembliste.
+-- Chaque variante s'exécute dans une transaction annulée : le jeu de données est réutilisable.
+--
+-- Usage : psql -d petcare -f compare.sql
+-- ═══════════════════════════════════════════════════════════════════════════
+
+\timing on
+
+SELECT id AS pet_id FROM pets WHERE name LIKE 'Bench Delete %' ORDER BY id LIMIT 1 \gset
+-- Les variables psql ne sont pas substituées dans un bloc DO : passage par un paramètre de session
+SELECT set_config('bench.pet_id', :'pet_id', false);
+
+-- ───────────────────────────────────────────────────────────────────────────
+-- 1. Ligne à ligne : ce que produit petRepository.delete(pet) avec CascadeType.ALL
+--    (chargement de chaque collection, puis un DELETE par identifiant).
+--    Les allers-retours réseau de Hibernate ne sont pas comptés ici : borne basse.
+-- ───────────────────────────────────────────────────────────────────────────
+BEGIN;
+DO $$
+DECLARE
+    target uuid := current_setting('bench.pet_id')::uuid;
+    r record;
+BEGIN
+    FOR r IN SELECT id FROM medical_records WHERE pet_id = target LOOP
+        DELETE FROM medical_records WHERE id = r.id;
+    END LOOP;
+    FOR r IN SELECT id FROM notifications WHERE pet_id = target LOOP
+        DELETE FROM notifications WHERE id = r.id;
+    END LOOP;
+    FOR r IN SELECT id FROM vaccines WHERE pet_id = target LOOP
+        DELETE FROM vaccines WHERE id = r.id;
+    END LOOP;
+    FOR r IN SELECT id FROM weight_logs WHERE pet_id = target LOOP
+        DELETE FROM weight_logs WHERE id = r.id;
+    END LOOP;
+    FOR r IN SELECT id FROM appointments WHERE pet_id = target LOOP
+        DELETE FROM appointments WHERE id = r.id;
+    END LOOP;
+    DELETE FROM pets WHERE id = target;
+END $$;
+ROLLBACK;
+
+-- ───────────────────────────────────────────────────────────────────────────
+-- 2. Ensembliste : requêtes émises par AccountDeletionService.deletePets
+--    (EXPLAIN ANALYZE détaille le temps passé dans les vérifications de clés étrangères)
+-- ───────────────────────────────────────────────────────────────────────────
+BEGIN;
+EXPLAIN (ANALYZE, BUFFERS) DELETE FROM medical_records WHERE pet_id IN (:'pet_id');
+EXPLAIN (ANALYZE, BUFFERS) DELETE FROM notifications WHERE pet_id IN (:'pet_id');
+EXPLAIN (ANALYZE, BUFFERS) DELETE FROM vaccines WHERE pet_id IN (:'pet_id');
+EXPLAIN (ANALYZE, BUFFERS) DELETE FROM weight_logs WHERE pet_id IN (:'pet_id');
+EXPLAIN (ANALYZE, BUFFERS) DELETE FROM appointments WHERE pet_id IN (:'pet_id');
+EXPLAIN (ANALYZE, BUFFERS) DELETE FROM pets WHERE id IN (:'pet_id');
+ROLLBACK;
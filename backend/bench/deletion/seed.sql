@@ -0,0 +1,56 @@
+-- ═══════════════════════════════════════════════════════════════════════════
+-- 🗑️ Jeu de données de mesure : 10 propriétaires × 5 animaux, ~10 ans d'historique
+-- par animal (3 650 pesées, 40 vaccins, 200 rendez-vous, 500 événements médicaux,
+-- 200 notifications), soit ~4 600 lignes enfants par animal.
+--
+-- Usage : psql -d petcare -v ON_ERROR_STOP=1 -f seed.sql
+-- Suppression : voir README.md.
+-- ═══════════════════════════════════════════════════════════════════════════
+
+BEGIN;
+
+INSERT INTO users (id, email, password_hash, first_name, last_name)
+SELECT gen_random_uuid(), 'bench-delete-' || g || '@petcare.local', 'x', 'Bench', 'Delete ' || g
+FROM generate_series(1, 10) g;
+
+INSERT INTO pets (id, name, species, owner_id)
+SELECT gen_random_uuid(), 'Bench Delete ' || g, (ARRAY['Chien', 'Chat', 'NAC'])[1 + g % 3], u.id
+FROM generate_series(1, 5) g
+CROSS JOIN users u
+WHERE u.email LIKE 'bench-delete-%@petcare.local';
+
+CREATE TEMP TABLE bench_pets AS
+SELECT p.id, p.owner_id FROM pets p WHERE p.name LIKE 'Bench Delete %';
+
+INSERT INTO weight_logs (id, weight, date, pet_id)
+SELECT gen_random_uuid(), round((4 + random() * 30)::numeric, 2), CURRENT_DATE - i, p.id
+FROM bench_pets p CROSS JOIN generate_series(1, 3650) i;
+
+INSERT INTO vaccines (id, name, date, next_date, status, pet_id)
+SELECT gen_random_uuid(), 'Rappel ' || i, CURRENT_DATE - i * 90, CURRENT_DATE - i * 90 + 365, 'valid', p.id
+FROM bench_pets p CROSS JOIN generate_series(1, 40) i;
+
+INSERT INTO appointments (id, date, reason, status, user_id, pet_id)
+SELECT gen_random_uuid(), now() - make_interval(days => i * 18), 'Contrôle ' || i, 'completed', p.owner_id, p.id
+FROM bench_pets p CROSS JOIN generate_series(1, 200) i;
+
+-- Un événement médical sur cinq est rattaché à un rendez-vous (clé étrangère vers appointments)
+INSERT INTO medical_records (id, record_type, title, date, pet_id, appointment_id, created_at)
+SELECT gen_random_uuid(), 'CONSULTATION', 'Événement ' || i, CURRENT_DATE - i * 7, p.id,
+       CASE WHEN i % 5 = 0 THEN (SELECT a.id FROM appointments a WHERE a.pet_id = p.id
+                                 ORDER BY a.date DESC OFFSET (i / 5) % 200 LIMIT 1) END,
+       now()
+FROM bench_pets p CROSS JOIN generate_series(1, 500) i;
+
+INSERT INTO notifications (id, type, title, message, user_id, pet_id)
+SELECT gen_random_uuid(), 'VACCINE_REMINDER', 'Rappel', 'Rappel ' || i, p.owner_id, p.id
+FROM bench_pets p CROSS JOIN generate_series(1, 200) i;
+
+COMMIT;
+
+ANALYZE pets;
+ANALYZE weight_logs;
+ANALYZE vaccines;
+ANALYZE appointments;
+ANALYZE medical_records;
+ANALYZE notifications;
@@ -0,0 +1,15 @@
+#!/usr/bin/env sh
+# Génère un CSV de pesées : ./generate.sh <petId> [lignes] > weights.csv
+# Une pesée par jour en remontant depuis hier, poids entre 5 et 35 kg, une note toutes les 10 lignes.
+set -eu
+
+PET_ID="$1"
+ROWS="${2:-1000000}"
+
+awk -v pet="$PET_ID" -v rows="$ROWS" 'BEGIN {
+    print "petId;date;weight;note"
+    now = systime() - 86400
+    for (i = 0; i < rows; i++) {
+        printf "%s;%s;%.1f;%s\n", pet, strftime("%Y-%m-%d", now - (i % 7000) * 86400, 1), 5 + (i % 300) / 10, (i % 10 == 0 ? "balance" : "")
+    }
+}'
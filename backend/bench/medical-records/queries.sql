@@ -0,0 +1,38 @@
+-- ═══════════════════════════════════════════════════════════════════════════
+-- 🩺 Plans et temps des requêtes de l'historique médical (après seed.sql).
+--
+-- Usage : psql -d petcare -f queries.sql
+-- Les requêtes sont celles émises par MedicalRecordRepository, pour un animal tiré au hasard.
+-- ═══════════════════════════════════════════════════════════════════════════
+
+\timing on
+
+SELECT id AS pet_id FROM pets WHERE name LIKE 'Bench %' ORDER BY random() LIMIT 1 \gset
+
+-- Historique complet (projection)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id, m.record_type, m.title, m.date, m.diagnosis, m.cost, v.first_name, v.last_name
+FROM medical_records m LEFT JOIN vets v ON v.id = m.vet_id
+WHERE m.pet_id = :'pet_id' AND m.date BETWEEN DATE '1900-01-01' AND CURRENT_DATE
+ORDER BY m.date DESC, m.created_at DESC;
+
+-- Historique filtré par type
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id, m.record_type, m.title, m.date, m.diagnosis, m.cost, v.first_name, v.last_name
+FROM medical_records m LEFT JOIN vets v ON v.id = m.vet_id
+WHERE m.pet_id = :'pet_id' AND m.record_type = 'LAB_TEST' AND m.date BETWEEN DATE '1900-01-01' AND CURRENT_DATE
+ORDER BY m.date DESC, m.created_at DESC;
+
+-- Série « créatinine >= 1.5 » d'un animal
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id, m.date, CAST(m.lab_results -> 'creatinine' AS double precision) AS value
+FROM medical_records m
+WHERE m.pet_id = :'pet_id' AND m.date BETWEEN DATE '1900-01-01' AND CURRENT_DATE
+  AND m.lab_results @@ CAST('exists($."creatinine") && $."creatinine".type() == "number" && $."creatinine" >= 1.5' AS jsonpath)
+ORDER BY m.date ASC;
+
+-- Sans filtre animal : vérifie que l'index GIN est utilisé pour la clause exists
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*)
+FROM medical_records m
+WHERE m.lab_results @@ CAST('exists($."creatinine") && $."creatinine" >= 2.9' AS jsonpath);
@@ -0,0 +1,46 @@
+-- ═══════════════════════════════════════════════════════════════════════════
+-- 🩺 Jeu de données de mesure : 10 000 animaux, 1 000 000 d'événements médicaux
+-- (100 par animal sur ~10 ans, ~30 % d'analyses avec créatinine / urée / glucose).
+--
+-- Usage : psql -d petcare -v ON_ERROR_STOP=1 -f seed.sql
+-- Suppression : voir README.md.
+-- ═══════════════════════════════════════════════════════════════════════════
+
+BEGIN;
+
+INSERT INTO users (id, email, password_hash, first_name, last_name)
+SELECT gen_random_uuid(), 'bench-' || g || '@petcare.local', 'x', 'Bench', 'Owner ' || g
+FROM generate_series(1, 1000) g;
+
+INSERT INTO pets (id, name, species, owner_id)
+SELECT gen_random_uuid(), 'Bench ' || g, (ARRAY['Chien', 'Chat', 'NAC'])[1 + g % 3], u.id
+FROM generate_series(1, 10) g
+CROSS JOIN users u
+WHERE u.email LIKE 'bench-%@petcare.local';
+
+INSERT INTO medical_records (id, record_type, title, date, diagnosis, lab_results, cost, pet_id, created_at)
+SELECT gen_random_uuid(),
+       CASE WHEN i % 10 < 3 THEN 'LAB_TEST'
+            ELSE (ARRAY['CONSULTATION', 'VACCINATION', 'DENTAL', 'FOLLOW_UP', 'PRESCRIPTION', 'OTHER'])[1 + i % 6]
+       END,
+       'Événement ' || i,
+       CURRENT_DATE - (i * 36 + (random() * 30)::int),
+       CASE WHEN i % 7 = 0 THEN 'RAS' END,
+       CASE WHEN i % 10 < 3 THEN jsonb_build_object(
+               'creatinine', round((0.6 + random() * 2.4)::numeric, 2),
+               'urea', round((0.2 + random() * 0.8)::numeric, 2),
+               'glucose', round((3.5 + random() * 4)::numeric, 2),
+               'laboratory', 'Bench')
+       END,
+       round((20 + random() * 180)::numeric, 2),
+       p.id,
+       now()
+FROM pets p
+CROSS JOIN generate_series(1, 100) i
+WHERE p.name LIKE 'Bench %';
+
+COMMIT;
+
+ANALYZE users;
+ANALYZE pets;
+ANALYZE medical_records;
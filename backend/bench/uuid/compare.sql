@@ -0,0 +1,53 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- Comparaison après seed.sql : taille des index, puis débit et WAL d'insertions
+-- supplémentaires dans des tables déjà pleines (lots de 50 lignes, comme Hibernate).
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+\timing on
+
+-- 1. Taille des index de clé primaire (et de la table pour référence)
+SELECT relname                                        AS relation,
+       pg_size_pretty(pg_relation_size(oid))          AS size,
+       pg_relation_size(oid) / current_setting('block_size')::int AS pages
+FROM pg_class
+WHERE relname IN ('bench_ids_v4', 'bench_ids_v4_pkey', 'bench_ids_v7', 'bench_ids_v7_pkey')
+ORDER BY relname;
+
+-- 2. 200 000 insertions en lots de 50 : durée et WAL généré (pages complètes après checkpoint)
+CHECKPOINT;
+SELECT set_config('bench.lsn', pg_current_wal_lsn()::text, false);
+DO $$
+BEGIN
+    FOR i IN 1..4000 LOOP
+        INSERT INTO bench_ids_v4
+        SELECT gen_random_uuid(), 5 + random() * 30, CURRENT_DATE, gen_random_uuid()
+        FROM generate_series(1, 50);
+    END LOOP;
+END $$;
+SELECT 'v4' AS version,
+       pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), current_setting('bench.lsn')::pg_lsn)) AS wal;
+
+CHECKPOINT;
+SELECT set_config('bench.lsn', pg_current_wal_lsn()::text, false);
+DO $$
+BEGIN
+    FOR i IN 1..4000 LOOP
+        INSERT INTO bench_ids_v7
+        SELECT bench_uuid_v7(), 5 + random() * 30, CURRENT_DATE, gen_random_uuid()
+        FROM generate_series(1, 50);
+    END LOOP;
+END $$;
+SELECT 'v7' AS version,
+       pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), current_setting('bench.lsn')::pg_lsn)) AS wal;
+
+-- 3. Taille des index après insertions (divisions de pages des insertions aléatoires)
+SELECT relname AS relation, pg_size_pretty(pg_relation_size(oid)) AS size
+FROM pg_class
+WHERE relname IN ('bench_ids_v4_pkey', 'bench_ids_v7_pkey')
+ORDER BY relname;
+
+-- 4. Densité des feuilles (extension pgstattuple, facultative)
+-- CREATE EXTENSION IF NOT EXISTS pgstattuple;
+-- SELECT 'v4', avg_leaf_density, leaf_fragmentation FROM pgstatindex('bench_ids_v4_pkey')
+-- UNION ALL
+-- SELECT 'v7', avg_leaf_density, leaf_fragmentation FROM pgstatindex('bench_ids_v7_pkey');
@@ -0,0 +1,55 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- Clés primaires UUID v4 (aléatoires) contre UUID v7 (ordonnées dans le temps)
+-- Deux tables au format de weight_logs, 10 millions de lignes chacune.
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+\timing on
+
+DROP TABLE IF EXISTS bench_ids_v4;
+DROP TABLE IF EXISTS bench_ids_v7;
+
+-- UUID v7 en SQL : horodatage en millisecondes sur les 48 premiers bits d'un UUID v4,
+-- bits de version passés de 0100 à 0111 (même format que UuidV7 côté application)
+CREATE OR REPLACE FUNCTION bench_uuid_v7() RETURNS uuid AS $$
+SELECT encode(
+    set_bit(set_bit(
+        overlay(uuid_send(gen_random_uuid())
+                placing substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                FROM 1 FOR 6),
+        52, 1), 53, 1),
+    'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+CREATE TABLE bench_ids_v4 (
+    id     uuid PRIMARY KEY,
+    weight double precision NOT NULL,
+    date   date NOT NULL,
+    pet_id uuid NOT NULL
+);
+CREATE TABLE bench_ids_v7 (LIKE bench_ids_v4 INCLUDING ALL);
+
+-- Chargement par tranches de 1 million (index maintenu à chaque insertion, comme en production)
+DO $$
+BEGIN
+    FOR i IN 1..10 LOOP
+        INSERT INTO bench_ids_v4
+        SELECT gen_random_uuid(), 5 + random() * 30, DATE '2020-01-01' + (g % 1500), gen_random_uuid()
+        FROM generate_series(1, 1000000) g;
+        COMMIT;
+        RAISE NOTICE 'v4 : % millions', i;
+    END LOOP;
+END $$;
+
+DO $$
+BEGIN
+    FOR i IN 1..10 LOOP
+        INSERT INTO bench_ids_v7
+        SELECT bench_uuid_v7(), 5 + random() * 30, DATE '2020-01-01' + (g % 1500), gen_random_uuid()
+        FROM generate_series(1, 1000000) g;
+        COMMIT;
+        RAISE NOTICE 'v7 : % millions', i;
+    END LOOP;
+END $$;
+
+VACUUM ANALYZE bench_ids_v4;
+VACUUM ANALYZE bench_ids_v7;
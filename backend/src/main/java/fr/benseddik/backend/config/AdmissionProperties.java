@@ -0,0 +1,79 @@
+package fr.benseddik.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Parts de concurrence et files d'admission par classe de priorité.
+ * Chargées depuis application.yml sous le préfixe "app.admission".
+ *
+ * Une requête en file occupe déjà un thread Tomcat : la somme de {@code maxConcurrent + queueCapacity}
+ * sur toutes les classes doit rester sous {@code threadBudget} (server.tomcat.threads.max), sans quoi
+ * une classe saturée et sa file peuvent prendre les threads des autres. Configuration refusée au démarrage sinon.
+ */
+@ConfigurationProperties(prefix = "app.admission")
+public record AdmissionProperties(
+        Boolean enabled,
+        Integer threadBudget,
+        Share critical,
+        Share interactive,
+        Share bulk
+) {
+    public AdmissionProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (threadBudget == null) {
+            threadBudget = 200;
+        }
+        if (critical == null) {
+            critical = new Share(16, 12, Duration.ofSeconds(5));
+        }
+        if (interactive == null) {
+            interactive = new Share(140, 20, Duration.ofSeconds(2));
+        }
+        if (bulk == null) {
+            bulk = new Share(4, 4, Duration.ofSeconds(1));
+        }
+        int threads = critical.threads() + interactive.threads() + bulk.threads();
+        if (threads > threadBudget) {
+            throw new IllegalArgumentException("app.admission : les parts (max-concurrent + queue-capacity) totalisent "
+                    + threads + " threads, au-delà de thread-budget (" + threadBudget + ")");
+        }
+    }
+
+    public Share forClass(PriorityClass priority) {
+        return switch (priority) {
+            case CRITICAL -> critical;
+            case INTERACTIVE -> interactive;
+            case BULK -> bulk;
+        };
+    }
+
+    /**
+     * @param maxConcurrent requêtes traitées simultanément
+     * @param queueCapacity requêtes en attente au-delà (rejet immédiat en 503 si la file est pleine)
+     * @param maxWait       attente maximale dans la file avant rejet en 503
+     */
+    public record Share(Integer maxConcurrent, Integer queueCapacity, Duration maxWait) {
+        public Share {
+            if (maxConcurrent == null) {
+                maxConcurrent = 10;
+            }
+            if (queueCapacity == null) {
+                queueCapacity = 10;
+            }
+            if (maxWait == null) {
+                maxWait = Duration.ofSeconds(1);
+            }
+        }
+
+        /**
+         * Threads Tomcat occupés au plus par la classe : requêtes traitées et requêtes en file.
+         */
+        public int threads() {
+            return maxConcurrent + queueCapacity;
+        }
+    }
+}
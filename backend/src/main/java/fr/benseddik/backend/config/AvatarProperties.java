@@ -0,0 +1,46 @@
+package fr.benseddik.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Propriétés des avatars (animaux, utilisateurs) et de leurs vignettes.
+ * Chargées depuis application.yml sous le préfixe "app.avatar".
+ *
+ * Les vignettes sont générées par {@code workers} threads (file d'attente de {@code queueCapacity}
+ * tâches), puis servies depuis un cache mémoire et un cache disque de tailles bornées.
+ */
+@ConfigurationProperties(prefix = "app.avatar")
+public record AvatarProperties(
+        DataSize maxUploadSize,
+        Long maxPixels,
+        Float quality,
+        Integer workers,
+        Integer queueCapacity,
+        DataSize memoryCacheSize,
+        DataSize diskCacheSize
+) {
+    public AvatarProperties {
+        if (maxUploadSize == null) {
+            maxUploadSize = DataSize.ofMegabytes(10);
+        }
+        if (maxPixels == null) {
+            maxPixels = 40_000_000L;
+        }
+        if (quality == null) {
+            quality = 0.85f;
+        }
+        if (workers == null) {
+            workers = 2;
+        }
+        if (queueCapacity == null) {
+            queueCapacity = 100;
+        }
+        if (memoryCacheSize == null) {
+            memoryCacheSize = DataSize.ofMegabytes(32);
+        }
+        if (diskCacheSize == null) {
+            diskCacheSize = DataSize.ofMegabytes(512);
+        }
+    }
+}
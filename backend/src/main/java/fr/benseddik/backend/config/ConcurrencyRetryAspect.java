@@ -0,0 +1,56 @@
+package fr.benseddik.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Aspect de rejeu des méthodes annotées {@link RetryOnConcurrencyFailure}.
+ *
+ * Ordre le plus prioritaire : l'aspect s'exécute avant l'intercepteur
+ * {@code @Transactional}, chaque tentative ouvre donc sa propre transaction.
+ *
+ * Seules les {@link ConcurrencyFailureException} sont rejouées (deadlock, sérialisation,
+ * verrou pessimiste). Une violation de contrainte (créneau déjà pris) est un résultat
+ * définitif et n'est jamais rejouée.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class ConcurrencyRetryAspect {
+
+    @Around("@annotation(retry)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConcurrencyFailure retry) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        int attempt = 1;
+        while (true) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= retry.maxAttempts()) {
+                    log.warn("❌ Échec de concurrence après {} tentatives: {}", attempt,
+                            joinPoint.getSignature().toShortString());
+                    throw e;
+                }
+                long delay = retry.backoffMillis() * attempt
+                        + ThreadLocalRandom.current().nextLong(retry.backoffMillis() + 1);
+                log.debug("🔁 Échec de concurrence ({}), nouvelle tentative {} dans {} ms",
+                        e.getClass().getSimpleName(), attempt + 1, delay);
+                Thread.sleep(delay);
+                attempt++;
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package fr.benseddik.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import net.ttddyy.observation.tracing.DataSourceObservationListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseDataSource;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Pools de connexions séparés par nature de travail ({@link Workload}).
+ *
+ * Une tâche de fond lente ou un export volumineux ne peut pas épuiser le pool des requêtes
+ * utilisateur (connexion, consultation) : chaque pool a sa taille et son statement_timeout.
+ *
+ * Fonctionnement :
+ * - Trois pools Hikari ("interactive", "background", "reporting"), métriques hikaricp.*
+ *   étiquetées par pool, réglages communs lus sous "spring.datasource.hikari"
+ * - Connexion obtenue au premier ordre SQL (LazyConnectionDataSourceProxy), dans le pool de la
+ *   nature de travail courante
+ * - Avec une réplique ({@link ReplicaDataSourceConfig}) : transactions interactives en lecture seule
+ *   routées vers la réplique
+ * - Observations JDBC (datasource-micrometer) : un span par connexion et par requête SQL,
+ *   texte de la requête sans les valeurs des paramètres
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class DataSourceConfig {
+
+    private final DataSourceProperties properties;
+    private final DataSourcePoolProperties pools;
+    private final Environment environment;
+
+    @Bean
+    public HikariDataSource interactiveDataSource() {
+        return createPool(Workload.INTERACTIVE);
+    }
+
+    /**
+     * Également utilisé par Liquibase : les migrations (création d'index) dépassent
+     * le statement_timeout du pool interactif.
+     */
+    @Bean
+    @LiquibaseDataSource
+    public HikariDataSource backgroundDataSource() {
+        return createPool(Workload.BACKGROUND);
+    }
+
+    @Bean
+    public HikariDataSource reportingDataSource() {
+        return createPool(Workload.REPORTING);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("interactiveDataSource") DataSource interactiveDataSource,
+                                 @Qualifier("backgroundDataSource") DataSource backgroundDataSource,
+                                 @Qualifier("reportingDataSource") DataSource reportingDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 ObjectProvider<ReplicaLagMonitor> lagMonitor,
+                                 ObjectProvider<ReplicaWriteTracker> writeTracker,
+                                 ObjectProvider<ObservationRegistry> observationRegistry,
+                                 SqlBudgetListener sqlBudgetListener) {
+        DataSource primary = new WorkloadRoutingDataSource(Map.of(
+                Workload.INTERACTIVE, interactiveDataSource,
+                Workload.BACKGROUND, backgroundDataSource,
+                Workload.REPORTING, reportingDataSource));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+
+        DataSource replica = replicaDataSource.getIfAvailable();
+        if (replica != null) {
+            dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica,
+                    lagMonitor.getObject(), writeTracker.getObject()));
+            log.info("📚 Réplique en lecture activée : transactions interactives en lecture seule routées vers le pool 'replica'");
+        }
+
+        DataSourceObservationListener observations = new DataSourceObservationListener(
+                SingletonSupplier.of(() -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP)));
+        return ProxyDataSourceBuilder.create("dataSource", dataSource)
+                .listener(observations)
+                .listener(sqlBudgetListener)
+                .methodListener(observations)
+                .build();
+    }
+
+    private HikariDataSource createPool(Workload workload) {
+        DataSourcePoolProperties.Pool pool = pools.forWorkload(workload);
+
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(workload.poolName());
+        dataSource.setMaximumPoolSize(pool.maximumPoolSize());
+        dataSource.setMinimumIdle(pool.minimumIdle());
+        dataSource.addDataSourceProperty("options", "-c statement_timeout=" + pool.statementTimeout().toMillis());
+        return dataSource;
+    }
+}
@@ -0,0 +1,56 @@
+package fr.benseddik.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Dimensionnement des pools de connexions par nature de travail.
+ * Chargées depuis application.yml sous le préfixe "app.datasource.pools".
+ *
+ * Les réglages communs (URL, identifiants, durées de vie, propriétés du pilote) restent
+ * sous "spring.datasource" ; chaque pool y ajoute sa taille et son délai maximal par requête SQL.
+ */
+@ConfigurationProperties(prefix = "app.datasource.pools")
+public record DataSourcePoolProperties(
+        Pool interactive,
+        Pool background,
+        Pool reporting
+) {
+    public DataSourcePoolProperties {
+        if (interactive == null) {
+            interactive = new Pool(10, 5, Duration.ofSeconds(30));
+        }
+        if (background == null) {
+            background = new Pool(3, 0, Duration.ofMinutes(10));
+        }
+        if (reporting == null) {
+            reporting = new Pool(2, 0, Duration.ofMinutes(5));
+        }
+    }
+
+    public Pool forWorkload(Workload workload) {
+        return switch (workload) {
+            case INTERACTIVE -> interactive;
+            case BACKGROUND -> background;
+            case REPORTING -> reporting;
+        };
+    }
+
+    /**
+     * @param statementTimeout durée maximale d'une requête SQL (statement_timeout PostgreSQL)
+     */
+    public record Pool(Integer maximumPoolSize, Integer minimumIdle, Duration statementTimeout) {
+        public Pool {
+            if (maximumPoolSize == null) {
+                maximumPoolSize = 5;
+            }
+            if (minimumIdle == null) {
+                minimumIdle = 0;
+            }
+            if (statementTimeout == null) {
+                statementTimeout = Duration.ofMinutes(1);
+            }
+        }
+    }
+}
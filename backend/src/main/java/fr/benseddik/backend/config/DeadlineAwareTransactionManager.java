@@ -0,0 +1,33 @@
+package fr.benseddik.backend.config;
+
+import fr.benseddik.backend.util.Deadline;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Gestionnaire de transactions JPA borné par l'échéance de la requête HTTP.
+ *
+ * - Délai de chaque transaction = min(délai déclaré, temps restant de la requête) : Hibernate et
+ *   JdbcTemplate en déduisent le délai de chaque requête SQL (Statement.setQueryTimeout),
+ *   PostgreSQL annule la requête au-delà et la connexion revient au pool
+ * - Aucune transaction ouverte une fois l'échéance dépassée (DeadlineExceededException)
+ */
+public class DeadlineAwareTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        RequestDeadlines.checkNotExpired();
+        super.doBegin(transaction, definition);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        Deadline deadline = RequestDeadlines.current();
+        if (deadline == null) {
+            return timeout;
+        }
+        int remaining = deadline.remainingSeconds();
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? remaining : Math.min(timeout, remaining);
+    }
+}
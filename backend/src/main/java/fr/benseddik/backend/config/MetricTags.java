@@ -0,0 +1,73 @@
+package fr.benseddik.backend.config;
+
+import fr.benseddik.backend.domain.Role;
+import fr.benseddik.backend.security.CustomUserDetails;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Étiquettes communes aux métriques applicatives (services, repositories, requêtes HTTP).
+ *
+ * - endpoint : motif de la route en cours ("/v1/pets/{id}"), "none" hors requête HTTP
+ * - tier : rôle de l'utilisateur ("owner", "vet", "admin"), "anonymous" sinon
+ * - outcome : "SUCCESS" ou "ERROR", mêmes valeurs que http.server.requests
+ *
+ * Valeurs en nombre borné (motifs de routes, pas d'URI brute) : pas d'explosion de séries.
+ */
+public final class MetricTags {
+
+    public static final String ENDPOINT = "endpoint";
+    public static final String TIER = "tier";
+    public static final String OUTCOME = "outcome";
+
+    public static final String NONE = "none";
+    public static final String ANONYMOUS = "anonymous";
+    public static final String SUCCESS = "SUCCESS";
+    public static final String ERROR = "ERROR";
+
+    /**
+     * Attribut de requête portant le tier, lu après la chaîne de sécurité
+     * (le contexte de sécurité est alors déjà vidé).
+     */
+    public static final String TIER_ATTRIBUTE = MetricTags.class.getName() + ".tier";
+
+    private static final Map<Role, String> TIERS = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            TIERS.put(role, role.name().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private MetricTags() {
+    }
+
+    public static String endpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return NONE;
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : NONE;
+    }
+
+    public static String tier() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return TIERS.getOrDefault(user.getUser().getRole(), ANONYMOUS);
+        }
+        return ANONYMOUS;
+    }
+
+    public static String outcome(Throwable error) {
+        return error == null ? SUCCESS : ERROR;
+    }
+}
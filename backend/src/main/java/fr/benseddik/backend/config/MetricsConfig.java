@@ -0,0 +1,52 @@
+package fr.benseddik.backend.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+/**
+ * Étiquettes communes ({@link MetricTags}) sur les métriques fournies par Spring Boot.
+ *
+ * - spring.data.repository.invocations : chaque méthode de repository, + endpoint, tier, outcome
+ * - http.server.requests : + tier (la route est déjà dans "uri", le résultat dans "outcome")
+ *
+ * Les services sont mesurés par {@link ServiceMetricsAspect}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public RepositoryTagsProvider repositoryTagsProvider() {
+        DefaultRepositoryTagsProvider defaults = new DefaultRepositoryTagsProvider();
+        return new RepositoryTagsProvider() {
+            @Override
+            public Iterable<Tag> repositoryTags(RepositoryMethodInvocation invocation) {
+                return Tags.of(defaults.repositoryTags(invocation))
+                        .and(MetricTags.ENDPOINT, MetricTags.endpoint())
+                        .and(MetricTags.TIER, MetricTags.tier())
+                        .and(MetricTags.OUTCOME, MetricTags.outcome(invocation.getResult().getError()));
+            }
+        };
+    }
+
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                Object tier = context.getCarrier().getAttribute(MetricTags.TIER_ATTRIBUTE);
+                return super.getLowCardinalityKeyValues(context)
+                        .and(KeyValue.of(MetricTags.TIER, tier != null ? tier.toString() : MetricTags.ANONYMOUS));
+            }
+        };
+    }
+}
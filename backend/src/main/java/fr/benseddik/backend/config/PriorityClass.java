@@ -0,0 +1,16 @@
+package fr.benseddik.backend.config;
+
+/**
+ * Classe de priorité d'un endpoint, chacune avec sa file d'admission et sa part de concurrence.
+ *
+ * - CRITICAL : authentification (connexion, rafraîchissement des jetons), jamais délestée
+ * - INTERACTIVE : consultation et saisie courantes (par défaut)
+ * - BULK : imports, exports, gros fichiers
+ *
+ * @see RequestPriority
+ */
+public enum PriorityClass {
+    CRITICAL,
+    INTERACTIVE,
+    BULK
+}
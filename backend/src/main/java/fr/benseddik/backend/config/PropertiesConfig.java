@@ -8,8 +8,15 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration
 @EnableConfigurationProperties({
+        AdmissionProperties.class,
+        AvatarProperties.class,
+        DataSourcePoolProperties.class,
         JwtProperties.class,
-        SecurityProperties.class
+        ReplicaProperties.class,
+        SecurityProperties.class,
+        SqlBudgetProperties.class,
+        StorageProperties.class,
+        WeightAlertProperties.class
 })
 public class PropertiesConfig {
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package fr.benseddik.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import fr.benseddik.backend.util.RecentWriters;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+
+/**
+ * Réplique PostgreSQL en lecture, branchée par {@link DataSourceConfig}.
+ *
+ * Active uniquement si "app.datasource.replica.url" est renseignée ; sinon toutes les
+ * transactions restent sur la base principale.
+ *
+ * Fonctionnement :
+ * - Pool Hikari distinct ("replica"), métriques hikaricp.* étiquetées par pool
+ * - Connexion obtenue au premier ordre SQL (LazyConnectionDataSourceProxy) : la transaction est
+ *   déjà marquée lecture seule et part sur la réplique, les autres sur la base principale
+ * - Retour sur la base principale si la réplique est en retard ou si l'utilisateur vient d'écrire
+ *
+ * ⚠️ Une transaction en écriture appelée depuis une transaction en lecture seule la rejoint
+ * (propagation REQUIRED) : elle échoue déjà aujourd'hui (connexion en lecture seule).
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica.url:}'.isBlank()")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, ReplicaProperties replica) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(replica.url())
+                .username(Objects.requireNonNullElse(replica.username(), primary.determineUsername()))
+                .password(Objects.requireNonNullElse(replica.password(), primary.determinePassword()))
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+        dataSource.setMinimumIdle(replica.minimumIdle());
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaProperties properties, MeterRegistry meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, properties.maxLag());
+        Gauge.builder("petcare.datasource.replica.lag", monitor, ReplicaLagMonitor::getLagMillis)
+                .description("Retard de réplication mesuré (-1 si inconnu)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("petcare.datasource.replica.usable", monitor, m -> m.isUsable() ? 1 : 0)
+                .description("1 si les lectures sont routées vers la réplique")
+                .register(meterRegistry);
+        return monitor;
+    }
+
+    @Bean
+    public ReplicaWriteTracker replicaWriteTracker(ReplicaProperties properties) {
+        return new ReplicaWriteTracker(new RecentWriters(properties.readYourWritesWindow(), 100_000));
+    }
+}
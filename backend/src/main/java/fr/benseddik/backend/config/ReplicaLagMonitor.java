@@ -0,0 +1,71 @@
+package fr.benseddik.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Mesure périodiquement le retard de réplication de la réplique en lecture.
+ *
+ * Retard nul si la réplique a rejoué tout le WAL reçu (une base principale inactive ne fait pas
+ * apparaître de retard), sinon âge de la dernière transaction rejouée.
+ *
+ * 🛡️ Réplique inutilisable tant que le retard dépasse le maximum ou ne peut pas être mesuré :
+ * toutes les lectures repassent alors sur la base principale.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE (EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000)::bigint
+            END""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxLagMillis;
+
+    private volatile long lagMillis = -1;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag) {
+        this.jdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.jdbcTemplate.setQueryTimeout(2);
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        Long lag;
+        try {
+            lag = jdbcTemplate.queryForObject(LAG_QUERY, Long.class);
+        } catch (RuntimeException e) {
+            log.debug("Mesure du retard de réplication impossible", e);
+            lag = null;
+        }
+
+        boolean wasUsable = usable;
+        lagMillis = lag != null ? lag : -1;
+        usable = lag != null && lag <= maxLagMillis;
+
+        if (wasUsable && !usable) {
+            log.warn("⚠️ Réplique en lecture écartée (retard : {} ms) : lectures sur la base principale", lagMillis);
+        } else if (!wasUsable && usable) {
+            log.info("✅ Réplique en lecture utilisée (retard : {} ms)", lagMillis);
+        }
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    /**
+     * Dernier retard mesuré en millisecondes, -1 si inconnu.
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
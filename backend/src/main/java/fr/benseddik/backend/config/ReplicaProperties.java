@@ -0,0 +1,52 @@
+package fr.benseddik.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriétés de la réplique en lecture.
+ * Chargées depuis application.yml sous le préfixe "app.datasource.replica".
+ *
+ * Sans {@code url}, toute l'application reste sur la base principale.
+ * Identifiants par défaut : ceux de la base principale.
+ *
+ * La réplique reste utilisée tant que son retard mesuré ne dépasse pas {@code maxLag}, mesuré toutes
+ * les {@code lagCheckInterval} : elle peut donc avoir jusqu'à {@code maxLag + lagCheckInterval} de retard.
+ * La fenêtre "read-your-writes" doit couvrir ce retard, sinon un utilisateur relirait sur la réplique
+ * une donnée qu'il vient d'écrire sans l'y trouver.
+ */
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public record ReplicaProperties(
+        String url,
+        String username,
+        String password,
+        Integer maximumPoolSize,
+        Integer minimumIdle,
+        Duration readYourWritesWindow,
+        Duration maxLag,
+        Duration lagCheckInterval
+) {
+    public ReplicaProperties {
+        if (maximumPoolSize == null) {
+            maximumPoolSize = 10;
+        }
+        if (minimumIdle == null) {
+            minimumIdle = 2;
+        }
+        if (maxLag == null) {
+            maxLag = Duration.ofSeconds(10);
+        }
+        if (lagCheckInterval == null) {
+            lagCheckInterval = Duration.ofSeconds(5);
+        }
+        Duration worstLag = maxLag.plus(lagCheckInterval);
+        if (readYourWritesWindow == null) {
+            readYourWritesWindow = worstLag;
+        }
+        if (readYourWritesWindow.compareTo(worstLag) < 0) {
+            throw new IllegalArgumentException("app.datasource.replica.read-your-writes-window (" + readYourWritesWindow
+                    + ") doit couvrir max-lag + lag-check-interval (" + worstLag + ")");
+        }
+    }
+}
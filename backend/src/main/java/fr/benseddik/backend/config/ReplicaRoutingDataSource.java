@@ -0,0 +1,41 @@
+package fr.benseddik.backend.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Source des connexions des transactions en lecture seule.
+ *
+ * Réplique par défaut ; base principale si la réplique est trop en retard, si l'utilisateur
+ * courant a écrit récemment (lecture de ses propres écritures) ou pour le travail de fond
+ * et les exports, qui gardent leurs pools dédiés.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReplicaWriteTracker writeTracker;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaLagMonitor lagMonitor, ReplicaWriteTracker writeTracker) {
+        this.lagMonitor = lagMonitor;
+        this.writeTracker = writeTracker;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (Workload.current() != Workload.INTERACTIVE
+                || !lagMonitor.isUsable()
+                || writeTracker.currentUserRecentlyWrote()) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+}
@@ -0,0 +1,53 @@
+package fr.benseddik.backend.config;
+
+import fr.benseddik.backend.security.CustomUserDetails;
+import fr.benseddik.backend.util.RecentWriters;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Suit les écritures validées par utilisateur pour garantir la lecture de ses propres écritures.
+ *
+ * Enregistré comme écouteur du gestionnaire de transactions (appliqué par Spring Boot) :
+ * chaque transaction en écriture validée place l'utilisateur authentifié dans la fenêtre
+ * "read-your-writes", pendant laquelle ses lectures restent sur la base principale.
+ *
+ * Les traitements sans utilisateur authentifié (tâches planifiées, exports) ne sont pas suivis.
+ * ⚠️ Les écritures anonymes non plus : inscription, vérification d'email, réinitialisation du mot de passe.
+ * La lecture suivante peut atteindre la réplique avant le compte ou le nouveau mot de passe. La connexion
+ * y échappe parce qu'AuthService est entièrement transactionnel en écriture (base principale) : toute
+ * autre lecture anonyme d'une donnée tout juste écrite doit faire de même.
+ */
+@RequiredArgsConstructor
+public class ReplicaWriteTracker implements TransactionExecutionListener {
+
+    private final RecentWriters recentWriters;
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly()) {
+            currentUserId().ifPresent(recentWriters::markWrite);
+        }
+    }
+
+    /**
+     * Indique si l'utilisateur courant a écrit depuis moins d'une fenêtre.
+     */
+    public boolean currentUserRecentlyWrote() {
+        return currentUserId().map(recentWriters::recentlyWrote).orElse(false);
+    }
+
+    private static Optional<UUID> currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return Optional.ofNullable(userDetails.getId());
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,24 @@
+package fr.benseddik.backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Budget de temps d'un contrôleur ou d'un endpoint (la méthode l'emporte), au format ISO-8601
+ * ("PT2S", "PT5M"). Sans annotation : "app.deadline.default-timeout".
+ *
+ * Le budget borne les délais des transactions et des requêtes SQL de la requête HTTP ;
+ * une fois épuisé, aucune nouvelle transaction n'est ouverte.
+ *
+ * @see RequestDeadlines
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestDeadline {
+
+    String value();
+}
@@ -0,0 +1,60 @@
+package fr.benseddik.backend.config;
+
+import fr.benseddik.backend.util.Deadline;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pose l'échéance de la requête ({@link RequestDeadline} ou délai par défaut) avant l'appel
+ * du contrôleur et la retire à la fin.
+ */
+@Component
+public class RequestDeadlineInterceptor implements AsyncHandlerInterceptor {
+
+    @Value("${app.deadline.default-timeout:PT10S}")
+    private Duration defaultTimeout;
+
+    // Cache : méthode du contrôleur -> budget
+    private final Map<Method, Duration> timeouts = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            Duration timeout = timeouts.computeIfAbsent(handlerMethod.getMethod(), method -> declared(handlerMethod));
+            RequestDeadlines.set(Deadline.in(timeout));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        RequestDeadlines.clear();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request,
+                                               @NonNull HttpServletResponse response, @NonNull Object handler) {
+        RequestDeadlines.clear();
+    }
+
+    private Duration declared(HandlerMethod handlerMethod) {
+        RequestDeadline annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), RequestDeadline.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), RequestDeadline.class);
+        }
+        return annotation != null ? Duration.parse(annotation.value()) : defaultTimeout;
+    }
+}
@@ -0,0 +1,54 @@
+package fr.benseddik.backend.config;
+
+import fr.benseddik.backend.exception.DeadlineExceededException;
+import fr.benseddik.backend.util.Deadline;
+
+import java.time.Duration;
+
+/**
+ * Échéance de la requête HTTP en cours sur le thread (posée par {@link RequestDeadlineInterceptor}).
+ *
+ * Lue par le gestionnaire de transactions ({@link DeadlineAwareTransactionManager}) et par les
+ * services qui répartissent leur travail sur d'autres threads.
+ */
+public final class RequestDeadlines {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private RequestDeadlines() {
+    }
+
+    /**
+     * Échéance de la requête courante, null hors requête HTTP.
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Échéance dans {@code timeout}, avancée à celle de la requête si elle est plus proche.
+     */
+    public static Deadline within(Duration timeout) {
+        Deadline local = Deadline.in(timeout);
+        Deadline request = CURRENT.get();
+        return request != null ? request.earliest(local) : local;
+    }
+
+    /**
+     * @throws DeadlineExceededException si l'échéance de la requête est dépassée
+     */
+    public static void checkNotExpired() {
+        Deadline deadline = CURRENT.get();
+        if (deadline != null && deadline.isExpired()) {
+            throw new DeadlineExceededException("Délai de traitement de la requête dépassé");
+        }
+    }
+
+    static void set(Deadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
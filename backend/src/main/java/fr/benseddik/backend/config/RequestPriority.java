@@ -0,0 +1,21 @@
+package fr.benseddik.backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Classe de priorité d'un contrôleur ou d'un endpoint (la méthode l'emporte).
+ * Sans annotation : {@link PriorityClass#INTERACTIVE}.
+ *
+ * @see fr.benseddik.backend.security.PriorityAdmissionFilter
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestPriority {
+
+    PriorityClass value();
+}
@@ -0,0 +1,33 @@
+package fr.benseddik.backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Rejoue une méthode transactionnelle en cas d'échec de concurrence transitoire
+ * (deadlock, échec de sérialisation, verrou non obtenu).
+ *
+ * Chaque tentative s'exécute dans une nouvelle transaction : l'aspect de rejeu
+ * enveloppe l'intercepteur transactionnel. Sans effet si la méthode est appelée
+ * depuis une transaction déjà ouverte (le rejeu doit alors se faire plus haut).
+ *
+ * @see ConcurrencyRetryAspect
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnConcurrencyFailure {
+
+    /**
+     * Nombre maximal de tentatives (première exécution comprise).
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * Délai de base entre deux tentatives, multiplié par le numéro de tentative (+ gigue).
+     */
+    long backoffMillis() default 50;
+}
@@ -0,0 +1,24 @@
+package fr.benseddik.backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Déclare le pool de connexions d'une classe ou d'une méthode (la méthode l'emporte).
+ *
+ * Les appels imbriqués héritent du pool, sauf s'ils en déclarent un autre. Le pool est
+ * choisi au premier ordre SQL de la transaction, l'ordre avec {@code @Transactional}
+ * est donc indifférent.
+ *
+ * @see WorkloadAspect
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RunsOn {
+
+    Workload value();
+}
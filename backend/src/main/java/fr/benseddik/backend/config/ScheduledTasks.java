@@ -3,6 +3,10 @@ package fr.benseddik.backend.config;
 import fr.benseddik.backend.repository.PasswordResetTokenRepository;
 import fr.benseddik.backend.repository.SessionRepository;
 import fr.benseddik.backend.repository.VerificationTokenRepository;
+import fr.benseddik.backend.service.AutocompleteService;
+import fr.benseddik.backend.service.BlobStoreService;
+import fr.benseddik.backend.service.ClinicGeoService;
+import fr.benseddik.backend.service.DataExportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
@@ -19,9 +23,17 @@ import java.time.Instant;
  * - Nettoyage des sessions expirées (tokens JWT refresh)
  * - Purge des tokens de vérification email expirés
  * - Purge des tokens de réinitialisation mot de passe expirés
+ * - Rafraîchissement des index de données de référence (autocomplétion, géographie)
+ * - Suppression des fichiers qui ne sont plus référencés
+ * - Suppression des exports de données expirés
+ * - Reprise des exports de données abandonnés (au démarrage puis périodiquement)
+ * - Signe de vie des exports de données planifiés sur l'instance (toutes les minutes)
+ *
+ * Toutes les tâches utilisent le pool de connexions "background".
  */
 @Configuration
 @EnableScheduling
+@RunsOn(Workload.BACKGROUND)
 @RequiredArgsConstructor
 @Slf4j
 public class ScheduledTasks {
@@ -29,6 +41,10 @@ public class ScheduledTasks {
     private final SessionRepository sessionRepository;
     private final VerificationTokenRepository verificationTokenRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final AutocompleteService autocompleteService;
+    private final ClinicGeoService clinicGeoService;
+    private final BlobStoreService blobStoreService;
+    private final DataExportService dataExportService;
 
     /**
      * 🛡️ SÉCURITÉ : Nettoyage quotidien des sessions expirées.
@@ -139,4 +155,94 @@ public class ScheduledTasks {
             log.error("❌ Erreur lors du nettoyage des tokens de reset", e);
         }
     }
+
+    /**
+     * ⚡ PERFORMANCE : Rafraîchissement des index en mémoire des données de référence.
+     *
+     * Exécution : Toutes les 5 minutes par défaut (app.reference-data.refresh-interval)
+     * Objectif : Reconstruire les index uniquement si cliniques ou vétérinaires ont changé
+     */
+    @Scheduled(fixedDelayString = "${app.reference-data.refresh-interval:PT5M}",
+            initialDelayString = "${app.reference-data.refresh-interval:PT5M}")
+    public void refreshReferenceDataIndexes() {
+        try {
+            autocompleteService.refreshIfChanged();
+            clinicGeoService.refreshIfChanged();
+        } catch (Exception e) {
+            log.error("❌ Erreur lors du rafraîchissement des index de données de référence", e);
+        }
+    }
+
+    /**
+     * Suppression des fichiers orphelins (pièces jointes retirées ou remplacées).
+     *
+     * Exécution : Toutes les heures, à la minute 15
+     * Objectif : Libérer l'espace disque après le délai de grâce (app.storage.orphan-grace-period)
+     */
+    @Scheduled(cron = "0 15 * * * ?")
+    public void purgeOrphanBlobs() {
+        try {
+            int deletedCount = blobStoreService.purgeOrphans();
+
+            if (deletedCount > 0) {
+                log.info("✅ Fichiers orphelins supprimés: {}", deletedCount);
+            }
+        } catch (Exception e) {
+            log.error("❌ Erreur lors de la purge des fichiers orphelins", e);
+        }
+    }
+
+    /**
+     * 🛡️ SÉCURITÉ : Suppression des exports de données expirés (archives contenant des données personnelles).
+     *
+     * Exécution : Toutes les heures, à la minute 45
+     * Objectif : Ne pas conserver les archives au-delà de app.export.retention
+     */
+    @Scheduled(cron = "0 45 * * * ?")
+    public void purgeExpiredExports() {
+        try {
+            int deletedCount = dataExportService.purgeExpired();
+
+            if (deletedCount > 0) {
+                log.info("✅ Exports de données expirés supprimés: {}", deletedCount);
+            }
+        } catch (Exception e) {
+            log.error("❌ Erreur lors de la purge des exports de données", e);
+        }
+    }
+
+    /**
+     * Signe de vie des exports planifiés sur cette instance.
+     *
+     * Exécution : Toutes les minutes (app.export.heartbeat-interval)
+     * Objectif : Qu'une autre instance ne marque pas en échec un export encore en file ou en cours ici
+     */
+    @Scheduled(fixedDelayString = "${app.export.heartbeat-interval:PT1M}")
+    public void heartbeatExports() {
+        try {
+            dataExportService.heartbeat();
+        } catch (Exception e) {
+            log.error("❌ Erreur lors du signe de vie des exports de données", e);
+        }
+    }
+
+    /**
+     * Reprise des exports abandonnés : génération perdue par un redémarrage ou refusée pendant l'arrêt,
+     * sans signe de vie depuis app.export.stale-after (quelle que soit l'instance).
+     *
+     * Exécution : Une minute après le démarrage, puis toutes les 15 minutes
+     * Objectif : Ne pas bloquer un nouvel export jusqu'à l'expiration de la demande (app.export.retention)
+     */
+    @Scheduled(fixedDelayString = "PT15M", initialDelayString = "PT1M")
+    public void failAbandonedExports() {
+        try {
+            int failedCount = dataExportService.failAbandoned();
+
+            if (failedCount > 0) {
+                log.info("✅ Exports de données abandonnés marqués en échec: {}", failedCount);
+            }
+        } catch (Exception e) {
+            log.error("❌ Erreur lors de la reprise des exports de données abandonnés", e);
+        }
+    }
 }
@@ -1,17 +1,23 @@
 package fr.benseddik.backend.config;
 
+import fr.benseddik.backend.security.MetricsScrapeAuthenticationProvider;
 import fr.benseddik.backend.security.RateLimitFilter;
+import fr.benseddik.backend.security.jfr.ProfiledArgon2PasswordEncoder;
 import fr.benseddik.backend.security.jwt.JwtAccessDeniedHandler;
 import fr.benseddik.backend.security.jwt.JwtAuthenticationEntryPoint;
 import fr.benseddik.backend.security.jwt.JwtAuthenticationFilter;
 import fr.benseddik.backend.security.oauth2.OAuth2FailureHandler;
 import fr.benseddik.backend.security.oauth2.OAuth2SuccessHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -20,7 +26,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -38,6 +43,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
  * - CSRF désactivé (API REST stateless)
  * - CORS configuré pour le frontend
  * - Argon2 pour le hashage des mots de passe
+ * - Scrape Prometheus : chaîne dédiée en HTTP Basic (identifiants statiques du collecteur)
  */
 @Configuration
 @EnableWebSecurity
@@ -82,7 +88,33 @@ public class SecurityConfig {
             "/error"
     };
 
+    /**
+     * 📊 Scrape Prometheus : HTTP Basic avec les identifiants de app.security.metrics-scrape.
+     *
+     * Évaluée avant la chaîne principale ; un jeton JWT de 5 minutes ne convient pas à un collecteur.
+     * /actuator/metrics reste sur la chaîne principale (administrateurs).
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsScrapeFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(EndpointRequest.to(PrometheusScrapeEndpoint.class))
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .authenticationManager(new ProviderManager(
+                        new MetricsScrapeAuthenticationProvider(securityProperties.metricsScrape())))
+                .authorizeHttpRequests(auth -> auth
+                        .anyRequest().hasRole(MetricsScrapeAuthenticationProvider.ROLE)
+                )
+                .httpBasic(basic -> basic.realmName("metrics"));
+
+        return http.build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationProvider authenticationProvider) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
@@ -148,6 +180,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/v1/vet/**").hasAnyRole("VET", "ADMIN")
+                        // 🛡️ Métriques (/actuator/metrics) : réservées aux administrateurs (Prometheus : chaîne dédiée)
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth2 -> oauth2
@@ -201,10 +235,12 @@ public class SecurityConfig {
      *
      * Temps de hash : ~250-400ms sur serveur moderne
      * (acceptable pour authentification, trop long pour attaque brute force)
+     *
+     * Chaque calcul émet un événement JFR "petcare.PasswordHash" (durée, mémoire allouée).
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new Argon2PasswordEncoder(
+        return new ProfiledArgon2PasswordEncoder(
             16,        // saltLength (128 bits)
             32,        // hashLength (256 bits)
             4,         // parallelism (4 threads CPU)
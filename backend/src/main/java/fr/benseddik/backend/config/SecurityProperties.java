@@ -13,7 +13,9 @@ import java.util.List;
 public record SecurityProperties(
         Cors cors,
         RateLimit rateLimit,
-        BruteForce bruteForce
+        ConcurrencyLimit concurrencyLimit,
+        BruteForce bruteForce,
+        MetricsScrape metricsScrape
 ) {
     public record Cors(
             List<String> allowedOrigins,
@@ -59,6 +61,47 @@ public record SecurityProperties(
         }
     }
 
+    /**
+     * Limite adaptative de requêtes simultanées (délestage en 503 au-delà).
+     *
+     * @param rttTolerance  latence courte tolérée par rapport à la latence de référence avant réduction
+     * @param smoothing     part de la nouvelle estimation appliquée à chaque ajustement (0..1)
+     * @param windowSize    nombre de requêtes terminées par ajustement
+     */
+    public record ConcurrencyLimit(
+            Boolean enabled,
+            Integer initialLimit,
+            Integer minLimit,
+            Integer maxLimit,
+            Double rttTolerance,
+            Double smoothing,
+            Integer windowSize
+    ) {
+        public ConcurrencyLimit {
+            if (enabled == null) {
+                enabled = true;
+            }
+            if (initialLimit == null) {
+                initialLimit = 20;
+            }
+            if (minLimit == null) {
+                minLimit = 5;
+            }
+            if (maxLimit == null) {
+                maxLimit = 200;
+            }
+            if (rttTolerance == null) {
+                rttTolerance = 1.5;
+            }
+            if (smoothing == null) {
+                smoothing = 0.2;
+            }
+            if (windowSize == null) {
+                windowSize = 50;
+            }
+        }
+    }
+
     public record BruteForce(
             Integer maxAttempts,
             Duration lockDuration
@@ -73,6 +116,23 @@ public record SecurityProperties(
         }
     }
 
+    /**
+     * Identifiants HTTP Basic du collecteur Prometheus (/actuator/prometheus) ; mot de passe vide : scrape refusé.
+     */
+    public record MetricsScrape(
+            String username,
+            String password
+    ) {
+        public MetricsScrape {
+            if (username == null) {
+                username = "prometheus";
+            }
+            if (password == null) {
+                password = "";
+            }
+        }
+    }
+
     public SecurityProperties {
         if (cors == null) {
             cors = new Cors(null, null, null, null, null);
@@ -80,8 +140,14 @@ public record SecurityProperties(
         if (rateLimit == null) {
             rateLimit = new RateLimit(null, null, null);
         }
+        if (concurrencyLimit == null) {
+            concurrencyLimit = new ConcurrencyLimit(null, null, null, null, null, null, null);
+        }
         if (bruteForce == null) {
             bruteForce = new BruteForce(null, null);
         }
+        if (metricsScrape == null) {
+            metricsScrape = new MetricsScrape(null, null);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package fr.benseddik.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chronomètre "petcare.service" et span de trace sur les méthodes publiques des services, le
+ * chargement de l'utilisateur (UserDetailsService) et l'encodeur de mots de passe (Argon2).
+ *
+ * Span nommé "Classe.méthode", parent des spans JDBC de l'appel, créé seulement dans une trace
+ * échantillonnée : un appel hors trace ou dans une trace écartée ne paie qu'une lecture du span courant.
+ * Étiquettes du timer : class, method, endpoint, tier, outcome, exception (voir {@link MetricTags}).
+ * Buckets SLO configurés dans management.metrics.distribution.slo.
+ *
+ * ⚡ Timers mis en cache par combinaison d'étiquettes : une mesure coûte deux lectures
+ * d'horloge et une recherche dans une table, sans passer par le registre.
+ * Coût mesuré par ServiceMetricsAspectBenchmark (timer seul, span écarté, span échantillonné).
+ *
+ * Exécuté après les aspects de rejeu et de pool : chaque tentative est mesurée, transaction comprise.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private record Key(Class<?> type, String method, String endpoint, String tier, String exception) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+
+    private final Map<Key, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * fr.benseddik.backend.service.impl.*ServiceImpl.*(..))"
+            + " || execution(* org.springframework.security.core.userdetails.UserDetailsService.loadUserByUsername(..))"
+            + " || execution(* fr.benseddik.backend.security.CustomUserDetailsService.loadUserById(..))"
+            + " || execution(* org.springframework.security.crypto.password.PasswordEncoder.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> type = AopUtils.getTargetClass(joinPoint.getTarget());
+        String method = joinPoint.getSignature().getName();
+        Span span = childSpan(type, method);
+        long start = System.nanoTime();
+        Throwable error = null;
+        try (Tracer.SpanInScope ignored = span != null ? tracer.withSpan(span) : null) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            error = e;
+            if (span != null) {
+                span.error(e);
+            }
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (span != null) {
+                span.end();
+            }
+            Key key = new Key(type, method, MetricTags.endpoint(), MetricTags.tier(),
+                    error == null ? MetricTags.NONE : error.getClass().getSimpleName());
+            timers.computeIfAbsent(key, this::register).record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Span enfant du span courant si la trace est échantillonnée, null sinon.
+     */
+    private Span childSpan(Class<?> type, String method) {
+        Span parent = tracer.currentSpan();
+        if (parent == null || !Boolean.TRUE.equals(parent.context().sampled())) {
+            return null;
+        }
+        return tracer.nextSpan(parent).name(type.getSimpleName() + "." + method).start();
+    }
+
+    private Timer register(Key key) {
+        return Timer.builder("petcare.service")
+                .description("Durée des appels de service")
+                .tag("class", key.type().getSimpleName())
+                .tag("method", key.method())
+                .tag(MetricTags.ENDPOINT, key.endpoint())
+                .tag(MetricTags.TIER, key.tier())
+                .tag(MetricTags.OUTCOME, MetricTags.NONE.equals(key.exception()) ? MetricTags.SUCCESS : MetricTags.ERROR)
+                .tag("exception", key.exception())
+                .register(meterRegistry);
+    }
+}
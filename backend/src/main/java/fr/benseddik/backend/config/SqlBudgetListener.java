@@ -0,0 +1,113 @@
+package fr.benseddik.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Écouteur JDBC (datasource-proxy, branché par {@link DataSourceConfig}) : chaque ordre SQL est
+ * compté dans {@link SqlUsage} et les ordres lents sont signalés.
+ *
+ * Requête lente : compteur "petcare.sql.slow" (étiquette endpoint) et, par échantillonnage,
+ * journal avec le texte SQL et la forme des paramètres ("(UUID, Integer, null)"), jamais
+ * leurs valeurs.
+ */
+@Slf4j
+@Component
+public class SqlBudgetListener implements QueryExecutionListener {
+
+    private static final String START = SqlBudgetListener.class.getName() + ".start";
+    private static final int MAX_SQL_LENGTH = 1_000;
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryNanos;
+
+    private final Map<String, Counter> slowQueries = new ConcurrentHashMap<>();
+
+    public SqlBudgetListener(SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.slowQueryNanos = properties.slowQueryThreshold().toNanos();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START, Long.class);
+        if (start == null || !properties.enabled() || queryInfoList.isEmpty()) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        String sql = queryInfoList.getFirst().getQuery();
+
+        SqlUsage usage = SqlUsage.current();
+        if (usage != null) {
+            usage.record(sql, elapsed);
+        }
+
+        if (elapsed >= slowQueryNanos) {
+            String endpoint = MetricTags.endpoint();
+            slowQueries.computeIfAbsent(endpoint, e -> Counter.builder("petcare.sql.slow")
+                    .description("Ordres SQL au-delà du seuil de lenteur")
+                    .tag(MetricTags.ENDPOINT, e)
+                    .register(meterRegistry)).increment();
+
+            if (properties.sampleReport()) {
+                log.warn("🐢 Requête SQL lente ({} ms) sur {} : {} | paramètres {}",
+                        elapsed / 1_000_000, endpoint, abbreviate(sql), shape(queryInfoList.getFirst()));
+            }
+        }
+    }
+
+    static String abbreviate(String sql) {
+        return sql.length() <= MAX_SQL_LENGTH ? sql : sql.substring(0, MAX_SQL_LENGTH) + "…";
+    }
+
+    /**
+     * Types des paramètres liés du premier jeu, et nombre de jeux pour un lot.
+     * Paramètres positionnels dans l'ordre de leur index (numérique : 2 avant 10),
+     * puis paramètres nommés (procédures stockées) dans l'ordre où ils ont été liés.
+     */
+    static String shape(QueryInfo query) {
+        List<List<ParameterSetOperation>> sets = query.getParametersList();
+        if (sets.isEmpty()) {
+            return "()";
+        }
+        StringJoiner shape = new StringJoiner(", ", "(", ")");
+        sets.getFirst().stream()
+                .sorted(Comparator.comparingInt(SqlBudgetListener::positionOf))
+                .forEach(operation -> shape.add(typeOf(operation)));
+        return sets.size() > 1 ? shape + " ×" + sets.size() : shape.toString();
+    }
+
+    /**
+     * Index JDBC d'un paramètre positionnel ; les paramètres nommés viennent après (tri stable).
+     */
+    private static int positionOf(ParameterSetOperation operation) {
+        return operation.getArgs()[0] instanceof Number index ? index.intValue() : Integer.MAX_VALUE;
+    }
+
+    private static String typeOf(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        if (ParameterSetOperation.isSetNullParameterOperation(operation) || args.length < 2 || args[1] == null) {
+            return "null";
+        }
+        return args[1].getClass().getSimpleName();
+    }
+}
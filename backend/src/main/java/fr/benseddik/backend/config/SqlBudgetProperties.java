@@ -0,0 +1,71 @@
+package fr.benseddik.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Budget SQL par requête HTTP et signalement des requêtes SQL lentes.
+ * Chargé depuis application.yml sous le préfixe "app.sql-budget".
+ *
+ * @param budget                budget par défaut de chaque requête HTTP
+ * @param endpoints             budgets particuliers, par motif de route ("/v1/imports/vaccines"),
+ *                              comme l'étiquette endpoint des métriques
+ * @param slowQueryThreshold    durée à partir de laquelle une requête SQL est signalée
+ * @param reportSampleRate      part des dépassements et requêtes lentes journalisés (0 à 1) ;
+ *                              les métriques comptent tout
+ */
+@ConfigurationProperties(prefix = "app.sql-budget")
+public record SqlBudgetProperties(
+        Boolean enabled,
+        Budget budget,
+        Map<String, Budget> endpoints,
+        Duration slowQueryThreshold,
+        Double reportSampleRate
+) {
+    public SqlBudgetProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (budget == null) {
+            budget = new Budget(20, Duration.ofMillis(500));
+        }
+        if (endpoints == null) {
+            endpoints = Map.of();
+        }
+        if (slowQueryThreshold == null) {
+            slowQueryThreshold = Duration.ofMillis(200);
+        }
+        if (reportSampleRate == null) {
+            reportSampleRate = 1.0;
+        }
+    }
+
+    public Budget forEndpoint(String endpoint) {
+        return endpoints.getOrDefault(endpoint, budget);
+    }
+
+    /**
+     * Tirage de l'échantillonnage des journaux.
+     */
+    public boolean sampleReport() {
+        return reportSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < reportSampleRate;
+    }
+
+    /**
+     * @param maxStatements ordres SQL exécutés au plus
+     * @param maxJdbcTime   temps cumulé au plus dans le pilote JDBC
+     */
+    public record Budget(Integer maxStatements, Duration maxJdbcTime) {
+        public Budget {
+            if (maxStatements == null) {
+                maxStatements = 20;
+            }
+            if (maxJdbcTime == null) {
+                maxJdbcTime = Duration.ofMillis(500);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package fr.benseddik.backend.config;
+
+import io.micrometer.context.ContextRegistry;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ordres SQL exécutés pour la requête HTTP courante : nombre, temps JDBC cumulé et répétitions
+ * par texte SQL (un même ordre répété des dizaines de fois signale un N+1).
+ *
+ * Portée par le thread de la requête et propagée aux exécuteurs enveloppés par
+ * {@code ContextExecutorService} (tableau de bord) : compteurs partagés, thread-safe.
+ */
+public final class SqlUsage {
+
+    private static final ThreadLocal<SqlUsage> CURRENT = new ThreadLocal<>();
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(
+                SqlUsage.class.getName(), CURRENT::get, CURRENT::set, CURRENT::remove);
+    }
+
+    /**
+     * Ordre SQL le plus répété et son nombre d'exécutions.
+     */
+    public record Repeated(String sql, int count) {
+    }
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong jdbcNanos = new AtomicLong();
+    private final Map<String, AtomicInteger> executions = new ConcurrentHashMap<>();
+
+    public static SqlUsage start() {
+        SqlUsage usage = new SqlUsage();
+        CURRENT.set(usage);
+        return usage;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Compteurs de la requête en cours, null hors requête HTTP.
+     */
+    public static SqlUsage current() {
+        return CURRENT.get();
+    }
+
+    public void record(String sql, long nanos) {
+        statements.incrementAndGet();
+        jdbcNanos.addAndGet(nanos);
+        executions.computeIfAbsent(sql, s -> new AtomicInteger()).incrementAndGet();
+    }
+
+    public int statements() {
+        return statements.get();
+    }
+
+    public Duration jdbcTime() {
+        return Duration.ofNanos(jdbcNanos.get());
+    }
+
+    public Optional<Repeated> mostRepeated() {
+        return executions.entrySet().stream()
+                .max(Comparator.comparingInt(e -> e.getValue().get()))
+                .map(e -> new Repeated(e.getKey(), e.getValue().get()));
+    }
+}
@@ -0,0 +1,33 @@
+package fr.benseddik.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Propriétés du stockage des fichiers (pièces jointes médicales).
+ * Chargées depuis application.yml sous le préfixe "app.storage".
+ *
+ * Les fichiers sont adressés par leur empreinte SHA-256 sous {@code root} ;
+ * un fichier qui n'est plus référencé est supprimé après {@code orphanGracePeriod}.
+ */
+@ConfigurationProperties(prefix = "app.storage")
+public record StorageProperties(
+        Path root,
+        DataSize maxAttachmentSize,
+        Duration orphanGracePeriod
+) {
+    public StorageProperties {
+        if (root == null) {
+            root = Path.of("data", "blobs");
+        }
+        if (maxAttachmentSize == null) {
+            maxAttachmentSize = DataSize.ofMegabytes(200);
+        }
+        if (orphanGracePeriod == null) {
+            orphanGracePeriod = Duration.ofHours(1);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package fr.benseddik.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Traçage des requêtes (Micrometer Tracing, pont OpenTelemetry).
+ *
+ * Spans produits :
+ * - Requête HTTP et chaîne Spring Security (un événement par filtre, dont RateLimitFilter et
+ *   JwtAuthenticationFilter) : instrumentation Spring
+ * - Attente dans la file d'admission : {@code PriorityAdmissionFilter}
+ * - Appels de service, chargement de l'utilisateur, Argon2 : {@link ServiceMetricsAspect}
+ * - Connexions et requêtes JDBC : {@link DataSourceConfig}
+ * - Tâches @Async et exécuteurs internes : contexte de trace propagé au thread d'exécution
+ *
+ * Export (plusieurs possibles) :
+ * - OTLP : MANAGEMENT_OTLP_TRACING_ENDPOINT (ex. http://localhost:4318/v1/traces)
+ * - Fichier JSON local : app.tracing.file ({@link FileSpanExporter})
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Appliqué par Spring Boot à l'exécuteur des méthodes @Async (envoi d'emails).
+     */
+    @Bean
+    public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+
+    @Bean
+    @ConditionalOnProperty("app.tracing.file")
+    public FileSpanExporter fileSpanExporter(@Value("${app.tracing.file}") Path file,
+                                             ObjectMapper objectMapper) throws IOException {
+        return new FileSpanExporter(file, objectMapper);
+    }
+}
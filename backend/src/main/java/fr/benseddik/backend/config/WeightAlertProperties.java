@@ -0,0 +1,83 @@
+package fr.benseddik.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Propriétés de la détection d'anomalies de poids.
+ * Chargées depuis application.yml sous le préfixe "app.weight-alert".
+ *
+ * Une alerte est levée lorsque l'écart entre une nouvelle pesée et la moyenne mobile
+ * exponentielle (EWMA) dépasse à la fois {@code zScore} écarts-types et {@code minRelativeChange}
+ * (fraction de la moyenne), après {@code warmupSamples} pesées.
+ */
+@ConfigurationProperties(prefix = "app.weight-alert")
+public record WeightAlertProperties(
+        Boolean enabled,
+        Double alpha,
+        Integer warmupSamples,
+        Threshold defaults,
+        Map<String, Threshold> species,
+        Backfill backfill
+) {
+    public WeightAlertProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (alpha == null) {
+            alpha = 0.3;
+        }
+        if (warmupSamples == null) {
+            warmupSamples = 3;
+        }
+        if (defaults == null) {
+            defaults = new Threshold(3.0, 0.10);
+        }
+        if (species == null) {
+            species = Map.of();
+        }
+        if (backfill == null) {
+            backfill = new Backfill(null, null);
+        }
+    }
+
+    /**
+     * Seuils applicables à une espèce (clé insensible à la casse, seuils par défaut sinon).
+     */
+    public Threshold thresholdFor(String speciesName) {
+        if (speciesName == null) {
+            return defaults;
+        }
+        String key = speciesName.trim().toLowerCase(Locale.ROOT);
+        for (Map.Entry<String, Threshold> entry : species.entrySet()) {
+            if (entry.getKey().toLowerCase(Locale.ROOT).equals(key)) {
+                return entry.getValue();
+            }
+        }
+        return defaults;
+    }
+
+    public record Threshold(Double zScore, Double minRelativeChange) {
+        public Threshold {
+            if (zScore == null) {
+                zScore = 3.0;
+            }
+            if (minRelativeChange == null) {
+                minRelativeChange = 0.10;
+            }
+        }
+    }
+
+    public record Backfill(Integer chunkSize, Integer parallelism) {
+        public Backfill {
+            if (chunkSize == null) {
+                chunkSize = 500;
+            }
+            if (parallelism == null) {
+                parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package fr.benseddik.backend.config;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Nature du travail en cours sur le thread, qui détermine le pool de connexions utilisé.
+ *
+ * - INTERACTIVE : requêtes des utilisateurs (par défaut)
+ * - BACKGROUND : tâches planifiées, nettoyages, imports en masse
+ * - REPORTING : lectures longues (exports de données)
+ *
+ * Déclaré par {@link RunsOn} sur les beans, ou par {@link #run(Runnable)} / {@link #call(Callable)}
+ * dans les threads des pools d'exécution internes des services.
+ */
+public enum Workload {
+
+    INTERACTIVE("interactive"),
+    BACKGROUND("background"),
+    REPORTING("reporting");
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private final String poolName;
+
+    Workload(String poolName) {
+        this.poolName = poolName;
+    }
+
+    /**
+     * Nom du pool Hikari (étiquette "pool" des métriques hikaricp.*).
+     */
+    public String poolName() {
+        return poolName;
+    }
+
+    /**
+     * Nature du travail du thread courant (INTERACTIVE si non déclarée).
+     */
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : INTERACTIVE;
+    }
+
+    public void run(Runnable task) {
+        Workload previous = enter();
+        try {
+            task.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public <T> T call(Callable<T> task) throws Exception {
+        Workload previous = enter();
+        try {
+            return task.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Active cette nature de travail sur le thread courant.
+     *
+     * @return la nature déclarée auparavant (null si aucune), à passer à {@link #restore(Workload)}
+     */
+    Workload enter() {
+        Workload previous = CURRENT.get();
+        CURRENT.set(this);
+        return previous;
+    }
+
+    static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
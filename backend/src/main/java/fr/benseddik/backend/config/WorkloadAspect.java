@@ -0,0 +1,38 @@
+package fr.benseddik.backend.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aspect appliquant {@link RunsOn} : le pool déclaré est actif pendant l'appel.
+ *
+ * Exécuté juste après l'aspect de rejeu, avant l'intercepteur {@code @Transactional}.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class WorkloadAspect {
+
+    @Around("@annotation(runsOn)")
+    public Object onMethod(ProceedingJoinPoint joinPoint, RunsOn runsOn) throws Throwable {
+        return proceed(joinPoint, runsOn.value());
+    }
+
+    @Around("@within(runsOn) && !@annotation(fr.benseddik.backend.config.RunsOn)")
+    public Object onType(ProceedingJoinPoint joinPoint, RunsOn runsOn) throws Throwable {
+        return proceed(joinPoint, runsOn.value());
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint, Workload workload) throws Throwable {
+        Workload previous = workload.enter();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            Workload.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package fr.benseddik.backend.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ⚡ PERFORMANCE : échantillonnage des journaux à fort volume, par logger.
+ *
+ * Déclaré dans logback-spring.xml :
+ * <pre>
+ * &lt;turboFilter class="fr.benseddik.backend.config.logging.LogSamplingFilter"&gt;
+ *     &lt;sample&gt;fr.benseddik.backend.service=0.1&lt;/sample&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ *
+ * Seuls les événements jusqu'au niveau {@code level} (INFO par défaut) sont échantillonnés :
+ * WARN et ERROR passent toujours. Le préfixe le plus long l'emporte. Écarté avant la mise
+ * en forme du message : un événement non retenu ne coûte qu'un tirage aléatoire.
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    private static final double ALL = 1.0;
+
+    private final Map<String, Double> rates = new LinkedHashMap<>();
+    private final Map<String, Double> ratesByLogger = new ConcurrentHashMap<>();
+    private Level level = Level.INFO;
+
+    /**
+     * @param sample "préfixe de logger=part conservée (0 à 1)"
+     */
+    public void addSample(String sample) {
+        int separator = sample.lastIndexOf('=');
+        if (separator < 1) {
+            addError("Échantillon invalide, attendu 'logger=part' : " + sample);
+            return;
+        }
+        double rate = Double.parseDouble(sample.substring(separator + 1).trim());
+        rates.put(sample.substring(0, separator).trim(), Math.clamp(rate, 0.0, ALL));
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format null : simple test isXxxEnabled(), tiré au sort seulement à l'écriture
+        if (!isStarted() || format == null || level.toInt() > this.level.toInt()
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        double rate = ratesByLogger.computeIfAbsent(logger.getName(), this::rateFor);
+        if (rate >= ALL || ThreadLocalRandom.current().nextDouble() < rate) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    private double rateFor(String loggerName) {
+        String match = null;
+        for (String prefix : rates.keySet()) {
+            if (covers(prefix, loggerName) && (match == null || prefix.length() > match.length())) {
+                match = prefix;
+            }
+        }
+        return match != null ? rates.get(match) : ALL;
+    }
+
+    static boolean covers(String prefix, String loggerName) {
+        return loggerName.startsWith(prefix)
+                && (loggerName.length() == prefix.length() || loggerName.charAt(prefix.length()) == '.');
+    }
+}
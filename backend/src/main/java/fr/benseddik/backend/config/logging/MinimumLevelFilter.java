@@ -0,0 +1,47 @@
+package fr.benseddik.backend.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🛡️ Niveau minimal imposé à des loggers, quelle que soit la configuration des niveaux.
+ *
+ * Déclaré dans logback-spring.xml pour le profil prod : les traces SQL et les valeurs des
+ * paramètres liés par Hibernate (données personnelles, coût d'écriture) restent écartées même
+ * si logging.level, une variable d'environnement ou l'endpoint loggers les réactive.
+ */
+public class MinimumLevelFilter extends TurboFilter {
+
+    private final List<String> loggers = new ArrayList<>();
+    private Level level = Level.INFO;
+
+    /**
+     * @param logger préfixe de logger concerné (ses descendants aussi)
+     */
+    public void addLogger(String logger) {
+        loggers.add(logger.trim());
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || level == null || level.isGreaterOrEqual(this.level)) {
+            return FilterReply.NEUTRAL;
+        }
+        for (String prefix : loggers) {
+            if (LogSamplingFilter.covers(prefix, logger.getName())) {
+                return FilterReply.DENY;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,42 @@
+package fr.benseddik.backend.controller;
+
+import fr.benseddik.backend.config.PriorityClass;
+import fr.benseddik.backend.config.RequestDeadline;
+import fr.benseddik.backend.config.RequestPriority;
+import fr.benseddik.backend.dto.response.WeightAlertBackfillResponse;
+import fr.benseddik.backend.service.WeightAnomalyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Contrôleur d'administration de la détection d'anomalies de poids.
+ *
+ * 🛡️ SÉCURITÉ : Réservé au rôle ADMIN (/api/v1/admin/**).
+ *
+ * Endpoints :
+ * - POST /api/v1/admin/weight-alerts/backfill - Recalculer l'état du détecteur depuis l'historique
+ */
+@Slf4j
+@RestController
+@RequestPriority(PriorityClass.BULK)
+@RequestDeadline("PT30M")
+@RequestMapping("/api/v1/admin/weight-alerts")
+@RequiredArgsConstructor
+public class AdminWeightAlertController {
+
+    private final WeightAnomalyService weightAnomalyService;
+
+    /**
+     * Recalcule l'état EWMA de tous les animaux (après import, changement de paramètres...).
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<WeightAlertBackfillResponse> backfill() {
+        log.info("⚖️ POST /api/v1/admin/weight-alerts/backfill");
+
+        return ResponseEntity.ok(weightAnomalyService.backfill());
+    }
+}
@@ -1,5 +1,7 @@
 package fr.benseddik.backend.controller;
 
+import fr.benseddik.backend.config.PriorityClass;
+import fr.benseddik.backend.config.RequestPriority;
 import fr.benseddik.backend.dto.request.LoginRequest;
 import fr.benseddik.backend.dto.request.OAuthCodeExchangeRequest;
 import fr.benseddik.backend.dto.request.RefreshTokenRequest;
@@ -34,6 +36,7 @@ import java.util.Map;
  * - GET  /api/v1/auth/me - Infos utilisateur courant
  */
 @RestController
+@RequestPriority(PriorityClass.CRITICAL)
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
 public class AuthController {
@@ -1,5 +1,7 @@
 package fr.benseddik.backend.controller;
 
+import fr.benseddik.backend.config.PriorityClass;
+import fr.benseddik.backend.config.RequestPriority;
 import fr.benseddik.backend.dto.request.LoginRequest;
 import fr.benseddik.backend.dto.request.RefreshTokenRequest;
 import fr.benseddik.backend.dto.request.RegisterRequest;
@@ -36,6 +38,7 @@ import org.springframework.web.bind.annotation.*;
  * - GET  /api/auth/me
  */
 @RestController
+@RequestPriority(PriorityClass.CRITICAL)
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthControllerAlias {
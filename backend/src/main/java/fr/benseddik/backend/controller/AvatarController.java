@@ -0,0 +1,59 @@
+package fr.benseddik.backend.controller;
+
+import fr.benseddik.backend.service.AvatarService;
+import fr.benseddik.backend.service.AvatarService.ThumbnailSize;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+/**
+ * Contrôleur des vignettes d'avatars.
+ *
+ * Endpoint public (URL non devinable : empreinte SHA-256 du contenu) :
+ * - GET /api/v1/public/avatars/{sha256}/{64|128|256}.jpg - Vignette carrée JPEG
+ *
+ * ⚡ PERFORMANCE : contenu immuable → cache navigateur / CDN d'un an, 304 sur ETag.
+ */
+@RestController
+@RequestMapping("/api/v1/public/avatars")
+@RequiredArgsConstructor
+public class AvatarController {
+
+    private final AvatarService avatarService;
+
+    /**
+     * Vignette d'un avatar.
+     */
+    @GetMapping("/{sha256:[0-9a-f]{64}}/{pixels:\\d{2,3}}.jpg")
+    public ResponseEntity<byte[]> getThumbnail(@PathVariable String sha256, @PathVariable int pixels,
+                                               WebRequest webRequest) {
+        ThumbnailSize size = ThumbnailSize.fromPixels(pixels);
+        if (size == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String etag = "\"" + sha256 + "-" + pixels + "\"";
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        byte[] thumbnail = avatarService.getThumbnail(sha256, size);
+        if (thumbnail == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_JPEG)
+                .cacheControl(cacheControl)
+                .eTag(etag)
+                .body(thumbnail);
+    }
+}
@@ -0,0 +1,55 @@
+package fr.benseddik.backend.controller;
+
+import fr.benseddik.backend.service.CalendarFeedService;
+import fr.benseddik.backend.service.CalendarFeedService.CalendarFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+
+/**
+ * Contrôleur du flux iCalendar personnel (abonnement depuis un agenda externe).
+ *
+ * Endpoint public (authentification par jeton secret dans l'URL) :
+ * - GET /api/v1/public/calendar/{token}.ics - Flux des rendez-vous et rappels de vaccins
+ *
+ * ⚡ PERFORMANCE : requêtes conditionnelles (If-None-Match / If-Modified-Since) → 304 sans lecture des événements.
+ */
+@RestController
+@RequestMapping("/api/v1/public/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
+    private final CalendarFeedService calendarFeedService;
+
+    /**
+     * Flux iCalendar de l'utilisateur propriétaire du jeton.
+     */
+    @GetMapping("/{token:[A-Za-z0-9_-]{20,100}}.ics")
+    public ResponseEntity<StreamingResponseBody> getFeed(@PathVariable String token, WebRequest webRequest) {
+        CalendarFeed feed = calendarFeedService.resolve(token);
+        long lastModified = feed.lastModified() != null ? feed.lastModified().toEpochMilli() : -1;
+
+        if (webRequest.checkNotModified(feed.etag(), lastModified)) {
+            return null;
+        }
+
+        StreamingResponseBody body = out -> calendarFeedService.writeFeed(feed.userId(), out);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePrivate())
+                .eTag(feed.etag())
+                .lastModified(lastModified)
+                .body(body);
+    }
+}
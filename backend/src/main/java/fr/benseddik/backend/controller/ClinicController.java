@@ -1,12 +1,20 @@
 package fr.benseddik.backend.controller;
 
+import fr.benseddik.backend.dto.response.AutocompleteSuggestionResponse;
+import fr.benseddik.backend.dto.response.AvailableSlotResponse;
 import fr.benseddik.backend.dto.response.ClinicResponse;
+import fr.benseddik.backend.dto.response.NearbyClinicResponse;
+import fr.benseddik.backend.service.AutocompleteService;
+import fr.benseddik.backend.service.VetAvailabilityService;
+import fr.benseddik.backend.service.ClinicGeoService;
 import fr.benseddik.backend.service.ClinicService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,6 +30,9 @@ import java.util.UUID;
 public class ClinicController {
 
     private final ClinicService clinicService;
+    private final AutocompleteService autocompleteService;
+    private final VetAvailabilityService vetAvailabilityService;
+    private final ClinicGeoService clinicGeoService;
 
     /**
      * Récupère toutes les cliniques.
@@ -56,6 +67,49 @@ public class ClinicController {
         return ResponseEntity.ok(clinics);
     }
 
+    /**
+     * Créneaux libres des vétérinaires d'une clinique entre deux dates (incluses).
+     */
+    @GetMapping("/{clinicId}/availability")
+    public ResponseEntity<List<AvailableSlotResponse>> getClinicAvailability(
+            @PathVariable UUID clinicId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer slotMinutes) {
+        log.debug("📅 GET /v1/clinics/{}/availability?from={}&to={}", clinicId, from, to);
+
+        List<AvailableSlotResponse> slots = vetAvailabilityService.getClinicAvailability(clinicId, from, to, slotMinutes);
+        return ResponseEntity.ok(slots);
+    }
+
+    /**
+     * Autocomplétion des cliniques (nom ou ville), servie depuis l'index en mémoire.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteSuggestionResponse>> autocompleteClinics(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("⚡ GET /v1/clinics/autocomplete?prefix={}", prefix);
+
+        List<AutocompleteSuggestionResponse> suggestions = autocompleteService.suggestClinics(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    /**
+     * Recherche des cliniques les plus proches d'une position (optionnellement dans un rayon en km).
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyClinicResponse>> findNearbyClinics(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("🗺️ GET /v1/clinics/nearby?lat={}&lng={}&radiusKm={}", lat, lng, radiusKm);
+
+        List<NearbyClinicResponse> clinics = clinicGeoService.findNearby(lat, lng, radiusKm, limit);
+        return ResponseEntity.ok(clinics);
+    }
+
     /**
      * Recherche des cliniques par ville.
      */
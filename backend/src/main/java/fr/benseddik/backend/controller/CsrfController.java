@@ -1,5 +1,7 @@
 package fr.benseddik.backend.controller;
 
+import fr.benseddik.backend.config.PriorityClass;
+import fr.benseddik.backend.config.RequestPriority;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -17,6 +19,7 @@ import java.util.Map;
  * car CSRF est désactivé côté backend.
  */
 @RestController
+@RequestPriority(PriorityClass.CRITICAL)
 @RequestMapping("/api")
 public class CsrfController {
 
@@ -0,0 +1,35 @@
+package fr.benseddik.backend.controller;
+
+import fr.benseddik.backend.dto.response.DashboardResponse;
+import fr.benseddik.backend.security.CustomUserDetails;
+import fr.benseddik.backend.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Contrôleur REST du tableau de bord.
+ *
+ * Endpoints :
+ * - GET /v1/dashboard - Animaux, prochains rendez-vous et rappels de vaccins en un seul aller-retour
+ *
+ * 🛡️ SÉCURITÉ : Nécessite une authentification, données limitées à l'utilisateur connecté.
+ */
+@RestController
+@RequestMapping("/v1/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * Tableau de bord de l'utilisateur connecté.
+     */
+    @GetMapping
+    public ResponseEntity<DashboardResponse> getDashboard(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(dashboardService.getDashboard(userDetails.getId()));
+    }
+}
@@ -0,0 +1,135 @@
+package fr.benseddik.backend.controller;
+
+import fr.benseddik.backend.config.PriorityClass;
+import fr.benseddik.backend.config.RequestPriority;
+import fr.benseddik.backend.dto.response.DataExportResponse;
+import fr.benseddik.backend.security.CustomUserDetails;
+import fr.benseddik.backend.service.DataExportService.ExportArchive;
+import fr.benseddik.backend.service.DataExportService;
+import fr.benseddik.backend.util.ByteRange;
+import fr.benseddik.backend.util.FileTransfer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Contrôleur REST de l'export des données personnelles (RGPD).
+ *
+ * Endpoints :
+ * - POST /v1/exports - Demander un export (202, généré en arrière-plan)
+ * - GET  /v1/exports - Exports disponibles
+ * - GET  /v1/exports/{id} - État d'un export
+ * - GET  /v1/exports/{id}/download - Télécharger l'archive ZIP (Range)
+ *
+ * 🛡️ SÉCURITÉ :
+ * - Nécessite une authentification
+ * - Un utilisateur n'accède qu'à ses propres exports, archives jamais mises en cache partagé
+ *
+ * Demande et téléchargement en classe BULK ; la liste et le suivi de l'état (interrogé
+ * régulièrement par le client) restent interactifs.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/v1/exports")
+@RequiredArgsConstructor
+public class DataExportController {
+
+    private static final String APPLICATION_ZIP = "application/zip";
+
+    private final DataExportService dataExportService;
+
+    /**
+     * Demande un export des données de l'utilisateur connecté.
+     */
+    @RequestPriority(PriorityClass.BULK)
+    @PostMapping
+    public ResponseEntity<DataExportResponse> requestExport(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        log.debug("📦 POST /v1/exports - Demande d'export des données");
+
+        DataExportResponse response = dataExportService.requestExport(userDetails.getId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/v1/exports/" + response.id()))
+                .body(response);
+    }
+
+    /**
+     * Liste les exports non expirés.
+     */
+    @GetMapping
+    public ResponseEntity<List<DataExportResponse>> getExports(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(dataExportService.getExports(userDetails.getId()));
+    }
+
+    /**
+     * État d'un export.
+     */
+    @GetMapping("/{exportId}")
+    public ResponseEntity<DataExportResponse> getExport(
+            @PathVariable UUID exportId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return ResponseEntity.ok(dataExportService.getExport(exportId, userDetails.getId()));
+    }
+
+    /**
+     * Télécharge l'archive d'un export prêt (reprise par plages).
+     */
+    @RequestPriority(PriorityClass.BULK)
+    @GetMapping("/{exportId}/download")
+    public void downloadExport(
+            @PathVariable UUID exportId,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        log.debug("📥 GET /v1/exports/{}/download", exportId);
+
+        ExportArchive archive = dataExportService.getArchive(exportId, userDetails.getId());
+        String etag = "\"" + archive.id() + "\"";
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        String rangeHeader = ifRange == null || ifRange.equals(etag) ? request.getHeader(HttpHeaders.RANGE) : null;
+        ByteRange range = ByteRange.resolve(rangeHeader, archive.size());
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (range == null) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + archive.size());
+            return;
+        }
+        if (range.isPartial(archive.size())) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range.start() + "-" + range.end() + "/" + archive.size());
+        }
+
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(archive.fileName(), StandardCharsets.UTF_8).build().toString());
+        response.setContentType(APPLICATION_ZIP);
+        response.setContentLengthLong(range.length());
+
+        if (!"HEAD".equals(request.getMethod())) {
+            FileTransfer.send(request, response, archive.path(), range);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package fr.benseddik.backend.controller;
+
+import fr.benseddik.backend.config.PriorityClass;
+import fr.benseddik.backend.config.RequestDeadline;
+import fr.benseddik.backend.config.RequestPriority;
+import fr.benseddik.backend.dto.response.ImportReportResponse;
+import fr.benseddik.backend.exception.BadRequestException;
+import fr.benseddik.backend.security.CustomUserDetails;
+import fr.benseddik.backend.service.ImportService.ImportFormat;
+import fr.benseddik.backend.service.ImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Contrôleur REST pour l'import en masse de l'historique des animaux.
+ *
+ * Endpoints (multipart, champ "file", CSV ou NDJSON) :
+ * - POST /v1/imports/weight-logs - Importer des pesées (petId, date, weight, note)
+ * - POST /v1/imports/vaccines - Importer des vaccins (petId, name, date, nextDate)
+ *
+ * 🛡️ SÉCURITÉ : Seuls les animaux de l'utilisateur connecté sont acceptés.
+ */
+@Slf4j
+@RestController
+@RequestPriority(PriorityClass.BULK)
+@RequestDeadline("PT5M")
+@RequestMapping("/v1/imports")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private final ImportService importService;
+
+    /**
+     * Importe des pesées.
+     */
+    @PostMapping(value = "/weight-logs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportReportResponse> importWeightLogs(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) ImportFormat format,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) throws IOException {
+        log.debug("📥 POST /v1/imports/weight-logs - {} ({} octets)", file.getOriginalFilename(), file.getSize());
+
+        try (InputStream input = open(file)) {
+            return ResponseEntity.ok(importService.importWeightLogs(input, resolveFormat(file, format), userDetails.getId()));
+        }
+    }
+
+    /**
+     * Importe des vaccins.
+     */
+    @PostMapping(value = "/vaccines", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportReportResponse> importVaccines(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) ImportFormat format,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) throws IOException {
+        log.debug("📥 POST /v1/imports/vaccines - {} ({} octets)", file.getOriginalFilename(), file.getSize());
+
+        try (InputStream input = open(file)) {
+            return ResponseEntity.ok(importService.importVaccines(input, resolveFormat(file, format), userDetails.getId()));
+        }
+    }
+
+    private static InputStream open(MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new BadRequestException("Le fichier est vide");
+        }
+        return file.getInputStream();
+    }
+
+    private static ImportFormat resolveFormat(MultipartFile file, ImportFormat format) {
+        return format != null ? format : ImportFormat.detect(file.getOriginalFilename(), file.getContentType());
+    }
+}
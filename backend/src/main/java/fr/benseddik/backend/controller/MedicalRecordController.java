@@ -0,0 +1,252 @@
+package fr.benseddik.backend.controller;
+
+import fr.benseddik.backend.config.PriorityClass;
+import fr.benseddik.backend.config.RequestDeadline;
+import fr.benseddik.backend.config.RequestPriority;
+import fr.benseddik.backend.domain.MedicalRecord.RecordType;
+import fr.benseddik.backend.dto.request.CreateMedicalRecordRequest;
+import fr.benseddik.backend.dto.request.UpdateMedicalRecordRequest;
+import fr.benseddik.backend.dto.response.AttachmentResponse;
+import fr.benseddik.backend.dto.response.LabValueResponse;
+import fr.benseddik.backend.dto.response.MedicalRecordResponse;
+import fr.benseddik.backend.dto.response.MedicalTimelineEntryResponse;
+import fr.benseddik.backend.security.CustomUserDetails;
+import fr.benseddik.backend.service.MedicalRecordService.AttachmentFile;
+import fr.benseddik.backend.service.MedicalRecordService;
+import fr.benseddik.backend.util.ByteRange;
+import fr.benseddik.backend.util.FileTransfer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Contrôleur REST pour l'historique médical des animaux.
+ *
+ * Endpoints :
+ * - POST   /v1/medical-records - Enregistrer un événement médical
+ * - GET    /v1/medical-records/{id} - Détail d'un événement
+ * - PATCH  /v1/medical-records/{id} - Mise à jour partielle
+ * - DELETE /v1/medical-records/{id} - Suppression
+ * - GET    /v1/medical-records/pet/{petId} - Historique (filtre type, période)
+ * - GET    /v1/medical-records/pet/{petId}/lab/{analyte} - Évolution d'une valeur d'analyse
+ * - POST   /v1/medical-records/{id}/attachments - Ajouter une pièce jointe (multipart, champ "file")
+ * - GET    /v1/medical-records/{id}/attachments/{sha256} - Télécharger (Range, ETag)
+ * - DELETE /v1/medical-records/{id}/attachments/{sha256} - Retirer une pièce jointe
+ *
+ * 🛡️ SÉCURITÉ :
+ * - Nécessite une authentification
+ * - Vérifie que l'animal appartient à l'utilisateur
+ *
+ * ⚡ PERFORMANCE : téléchargements servis par sendfile / transferTo, sans copie dans le tas ;
+ * contenu immuable (ETag fort = SHA-256) → 304 et reprise par plages.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/v1/medical-records")
+@RequiredArgsConstructor
+public class MedicalRecordController {
+
+    private static final String SHA256_PATTERN = "{sha256:[0-9a-f]{64}}";
+
+    private final MedicalRecordService medicalRecordService;
+
+    /**
+     * Enregistre un événement médical.
+     */
+    @PostMapping
+    public ResponseEntity<MedicalRecordResponse> createMedicalRecord(
+            @Valid @RequestBody CreateMedicalRecordRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        log.debug("🩺 POST /v1/medical-records - Enregistrement d'un événement médical");
+
+        MedicalRecordResponse response = medicalRecordService.createMedicalRecord(request, userDetails.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Récupère un événement médical.
+     */
+    @GetMapping("/{recordId}")
+    public ResponseEntity<MedicalRecordResponse> getMedicalRecord(
+            @PathVariable UUID recordId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        log.debug("🔍 GET /v1/medical-records/{}", recordId);
+
+        return ResponseEntity.ok(medicalRecordService.getMedicalRecord(recordId, userDetails.getId()));
+    }
+
+    /**
+     * Met à jour un événement médical.
+     */
+    @PatchMapping("/{recordId}")
+    public ResponseEntity<MedicalRecordResponse> updateMedicalRecord(
+            @PathVariable UUID recordId,
+            @Valid @RequestBody UpdateMedicalRecordRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        log.debug("✏️ PATCH /v1/medical-records/{}", recordId);
+
+        return ResponseEntity.ok(medicalRecordService.updateMedicalRecord(recordId, request, userDetails.getId()));
+    }
+
+    /**
+     * Supprime un événement médical.
+     */
+    @DeleteMapping("/{recordId}")
+    public ResponseEntity<Void> deleteMedicalRecord(
+            @PathVariable UUID recordId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        log.debug("🗑️ DELETE /v1/medical-records/{}", recordId);
+
+        medicalRecordService.deleteMedicalRecord(recordId, userDetails.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Récupère l'historique médical d'un animal (plus récent en premier).
+     */
+    @GetMapping("/pet/{petId}")
+    public ResponseEntity<List<MedicalTimelineEntryResponse>> getTimeline(
+            @PathVariable UUID petId,
+            @RequestParam(required = false) RecordType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        log.debug("📋 GET /v1/medical-records/pet/{}?type={}&from={}&to={}", petId, type, from, to);
+
+        return ResponseEntity.ok(medicalRecordService.getTimeline(petId, userDetails.getId(), type, from, to));
+    }
+
+    /**
+     * Récupère l'évolution d'une valeur d'analyse (ex : /lab/creatinine?min=1.4).
+     */
+    @GetMapping("/pet/{petId}/lab/{analyte}")
+    public ResponseEntity<List<LabValueResponse>> getLabSeries(
+            @PathVariable UUID petId,
+            @PathVariable String analyte,
+            @RequestParam(required = false) Double min,
+            @RequestParam(required = false) Double max,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        log.debug("🧪 GET /v1/medical-records/pet/{}/lab/{}?min={}&max={}", petId, analyte, min, max);
+
+        return ResponseEntity.ok(medicalRecordService.getLabSeries(
+                petId, userDetails.getId(), analyte, min, max, from, to));
+    }
+
+    /**
+     * Ajoute une pièce jointe (radio, compte rendu PDF…).
+     */
+    @RequestPriority(PriorityClass.BULK)
+    @RequestDeadline("PT2M")
+    @PostMapping(value = "/{recordId}/attachments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<AttachmentResponse> addAttachment(
+            @PathVariable UUID recordId,
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) throws IOException {
+        log.debug("📎 POST /v1/medical-records/{}/attachments - {} ({} octets)",
+                recordId, file.getOriginalFilename(), file.getSize());
+
+        try (InputStream input = file.getInputStream()) {
+            AttachmentResponse response = medicalRecordService.addAttachment(
+                    recordId, input, file.getOriginalFilename(), file.getContentType(), userDetails.getId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+    }
+
+    /**
+     * Télécharge une pièce jointe, entière ou par plage d'octets.
+     */
+    @RequestPriority(PriorityClass.BULK)
+    @GetMapping("/{recordId}/attachments/" + SHA256_PATTERN)
+    public void downloadAttachment(
+            @PathVariable UUID recordId,
+            @PathVariable String sha256,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        log.debug("📥 GET /v1/medical-records/{}/attachments/{}", recordId, sha256);
+
+        AttachmentFile file = medicalRecordService.getAttachment(recordId, sha256, userDetails.getId());
+        String etag = "\"" + file.sha256() + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable().getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        // If-Range : la plage n'est servie que si le client possède encore ce contenu
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        String rangeHeader = ifRange == null || ifRange.equals(etag) ? request.getHeader(HttpHeaders.RANGE) : null;
+        ByteRange range = ByteRange.resolve(rangeHeader, file.size());
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (range == null) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size());
+            return;
+        }
+        if (range.isPartial(file.size())) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range.start() + "-" + range.end() + "/" + file.size());
+        }
+
+        boolean inline = file.contentType().startsWith("image/") || file.contentType().equals("application/pdf");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                (inline ? ContentDisposition.inline() : ContentDisposition.attachment())
+                        .filename(file.name(), StandardCharsets.UTF_8).build().toString());
+        response.setContentType(file.contentType());
+        response.setContentLengthLong(range.length());
+
+        if (!"HEAD".equals(request.getMethod())) {
+            FileTransfer.send(request, response, file.path(), range);
+        }
+    }
+
+    /**
+     * Retire une pièce jointe.
+     */
+    @DeleteMapping("/{recordId}/attachments/" + SHA256_PATTERN)
+    public ResponseEntity<Void> removeAttachment(
+            @PathVariable UUID recordId,
+            @PathVariable String sha256,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        log.debug("🗑️ DELETE /v1/medical-records/{}/attachments/{}", recordId, sha256);
+
+        medicalRecordService.removeAttachment(recordId, sha256, userDetails.getId());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,18 +1,26 @@
 package fr.benseddik.backend.controller;
 
+import fr.benseddik.backend.config.RequestDeadline;
 import fr.benseddik.backend.domain.User;
 import fr.benseddik.backend.dto.request.CreatePetRequest;
 import fr.benseddik.backend.dto.request.UpdatePetRequest;
+import fr.benseddik.backend.dto.response.AvatarResponse;
 import fr.benseddik.backend.dto.response.PetResponse;
+import fr.benseddik.backend.security.CustomUserDetails;
+import fr.benseddik.backend.service.AvatarService;
 import fr.benseddik.backend.service.PetService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,6 +39,7 @@ import java.util.UUID;
 public class PetController {
 
     private final PetService petService;
+    private final AvatarService avatarService;
 
     /**
      * Crée un nouvel animal pour l'utilisateur connecté.
@@ -100,9 +109,26 @@ public class PetController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Envoie la photo d'un animal (vignettes générées en arrière-plan).
+     */
+    @PostMapping(value = "/{petId}/avatar", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<AvatarResponse> uploadAvatar(
+            @PathVariable UUID petId,
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) throws IOException {
+        log.debug("🖼️ POST /v1/pets/{}/avatar - {} octets", petId, file.getSize());
+
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(avatarService.uploadPetAvatar(petId, input, file.getContentType(), userDetails.getId()));
+        }
+    }
+
     /**
      * Recherche des animaux par nom ou race.
      */
+    @RequestDeadline("PT2S")
     @GetMapping("/search")
     public ResponseEntity<List<PetResponse>> searchPets(
             @RequestParam String query,
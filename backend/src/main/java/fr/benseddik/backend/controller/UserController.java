@@ -1,18 +1,29 @@
 package fr.benseddik.backend.controller;
 
 import fr.benseddik.backend.dto.request.ChangePasswordRequest;
+import fr.benseddik.backend.dto.request.DeleteAccountRequest;
 import fr.benseddik.backend.dto.request.ForgotPasswordRequest;
 import fr.benseddik.backend.dto.request.ResendVerificationRequest;
 import fr.benseddik.backend.dto.request.ResetPasswordRequest;
+import fr.benseddik.backend.dto.response.AvatarResponse;
 import fr.benseddik.backend.dto.response.UserResponse;
+import fr.benseddik.backend.security.CookieUtils;
 import fr.benseddik.backend.security.CustomUserDetails;
+import fr.benseddik.backend.service.AvatarService;
+import fr.benseddik.backend.service.CalendarFeedService;
 import fr.benseddik.backend.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
 /**
@@ -28,6 +39,10 @@ import java.util.Map;
  * Endpoints authentifiés :
  * - POST /api/v1/users/change-password - Changer le password
  * - GET  /api/v1/users/profile - Récupérer le profil
+ * - POST /api/v1/users/calendar-token - Générer le lien du flux iCalendar
+ * - DELETE /api/v1/users/calendar-token - Désactiver le flux iCalendar
+ * - POST /api/v1/users/avatar - Envoyer la photo de profil
+ * - DELETE /api/v1/users/account - Supprimer définitivement le compte
  */
 @RestController
 @RequestMapping("/api/v1/users")
@@ -35,6 +50,9 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final CalendarFeedService calendarFeedService;
+    private final AvatarService avatarService;
+    private final CookieUtils cookieUtils;
 
     // ═══════════════════════════════════════════════════════════════════════════
     // VÉRIFICATION D'EMAIL (Public)
@@ -161,4 +179,65 @@ public class UserController {
                 "message", "Email de vérification envoyé"
         ));
     }
-}
\ No newline at end of file
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // FLUX ICALENDAR (Authentifié)
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Génère (ou régénère) le lien secret du flux iCalendar. L'ancien lien est invalidé.
+     */
+    @PostMapping("/calendar-token")
+    public ResponseEntity<Map<String, String>> rotateCalendarToken(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        String token = calendarFeedService.rotateToken(userDetails.getId());
+        String url = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/public/calendar/{token}.ics")
+                .buildAndExpand(token)
+                .toUriString();
+
+        return ResponseEntity.ok(Map.of(
+                "token", token,
+                "url", url
+        ));
+    }
+
+    /**
+     * Désactive le flux iCalendar.
+     */
+    @DeleteMapping("/calendar-token")
+    public ResponseEntity<Void> revokeCalendarToken(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        calendarFeedService.revokeToken(userDetails.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Envoie la photo de profil (vignettes générées en arrière-plan).
+     */
+    @PostMapping(value = "/avatar", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<AvatarResponse> uploadAvatar(
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(avatarService.uploadUserAvatar(userDetails.getId(), input, file.getContentType()));
+        }
+    }
+
+    /**
+     * Supprime définitivement le compte et toutes ses données (animaux, historique, fichiers).
+     */
+    @DeleteMapping("/account")
+    public ResponseEntity<Void> deleteAccount(
+            @Valid @RequestBody(required = false) DeleteAccountRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletResponse httpResponse
+    ) {
+        userService.deleteAccount(userDetails.getId(), request);
+        cookieUtils.clearAuthCookies(httpResponse);
+        return ResponseEntity.noContent().build();
+    }
+}
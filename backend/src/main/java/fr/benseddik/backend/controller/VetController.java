@@ -1,12 +1,18 @@
 package fr.benseddik.backend.controller;
 
+import fr.benseddik.backend.dto.response.AutocompleteSuggestionResponse;
+import fr.benseddik.backend.dto.response.AvailableSlotResponse;
 import fr.benseddik.backend.dto.response.VetResponse;
+import fr.benseddik.backend.service.AutocompleteService;
+import fr.benseddik.backend.service.VetAvailabilityService;
 import fr.benseddik.backend.service.VetService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,6 +28,8 @@ import java.util.UUID;
 public class VetController {
 
     private final VetService vetService;
+    private final AutocompleteService autocompleteService;
+    private final VetAvailabilityService vetAvailabilityService;
 
     /**
      * Récupère tous les vétérinaires.
@@ -67,6 +75,34 @@ public class VetController {
         return ResponseEntity.ok(vets);
     }
 
+    /**
+     * Créneaux libres d'un vétérinaire entre deux dates (incluses).
+     */
+    @GetMapping("/{vetId}/availability")
+    public ResponseEntity<List<AvailableSlotResponse>> getVetAvailability(
+            @PathVariable UUID vetId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer slotMinutes) {
+        log.debug("📅 GET /v1/vets/{}/availability?from={}&to={}", vetId, from, to);
+
+        List<AvailableSlotResponse> slots = vetAvailabilityService.getVetAvailability(vetId, from, to, slotMinutes);
+        return ResponseEntity.ok(slots);
+    }
+
+    /**
+     * Autocomplétion des vétérinaires (nom, spécialité ou clinique), servie depuis l'index en mémoire.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteSuggestionResponse>> autocompleteVets(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("⚡ GET /v1/vets/autocomplete?prefix={}", prefix);
+
+        List<AutocompleteSuggestionResponse> suggestions = autocompleteService.suggestVets(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
     /**
      * Recherche des vétérinaires par spécialité.
      */
@@ -1,8 +1,11 @@
 package fr.benseddik.backend.controller;
 
 import fr.benseddik.backend.domain.User;
+import fr.benseddik.backend.domain.WeightAggregate.Granularity;
 import fr.benseddik.backend.dto.request.CreateWeightLogRequest;
 import fr.benseddik.backend.dto.response.WeightLogResponse;
+import fr.benseddik.backend.dto.response.WeightTrendResponse;
+import fr.benseddik.backend.security.CustomUserDetails;
 import fr.benseddik.backend.service.WeightLogService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -90,6 +93,27 @@ public class WeightLogController {
         return ResponseEntity.ok(weightLogs);
     }
 
+    /**
+     * Récupère la courbe de poids d'un animal avec un nombre de points borné.
+     * Sans granularité : pesées sous-échantillonnées (LTTB) ; WEEK / MONTH : agrégats précalculés.
+     */
+    @GetMapping("/pet/{petId}/trend")
+    public ResponseEntity<WeightTrendResponse> getWeightTrend(
+            @PathVariable UUID petId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(required = false) Integer points,
+            @RequestParam(required = false) Granularity granularity,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        log.debug("📈 GET /v1/weight-logs/pet/{}/trend?start={}&end={}&points={}&granularity={}",
+                petId, start, end, points, granularity);
+
+        WeightTrendResponse trend = weightLogService.getWeightTrend(
+                petId, userDetails.getId(), start, end, points, granularity);
+        return ResponseEntity.ok(trend);
+    }
+
     /**
      * Supprime une pesée.
      */
@@ -0,0 +1,31 @@
+package fr.benseddik.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * Entité Avatar - Contenu stocké (voir {@link Blob}) envoyé comme photo de profil.
+ *
+ * 🛡️ SÉCURITÉ : seuls ces contenus sont servis par l'endpoint public des vignettes,
+ * jamais les pièces jointes médicales.
+ */
+@Entity
+@Table(name = "avatars")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Avatar {
+
+    @Id
+    @Column(length = 64)
+    private String sha256;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
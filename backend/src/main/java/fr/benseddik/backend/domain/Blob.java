@@ -0,0 +1,49 @@
+package fr.benseddik.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * Entité Blob - Fichier stocké sur disque, adressé par son contenu.
+ *
+ * Deux envois identiques partagent le même fichier (déduplication par SHA-256) ;
+ * {@code refCount} compte les références (pièces jointes) vers ce contenu.
+ */
+@Entity
+@Table(name = "blobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Blob {
+
+    /**
+     * Empreinte SHA-256 du contenu (64 caractères hexadécimaux).
+     */
+    @Id
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /**
+     * Date à laquelle le nombre de références est tombé à zéro (null si référencé).
+     */
+    @Column(name = "orphaned_at")
+    private Instant orphanedAt;
+}
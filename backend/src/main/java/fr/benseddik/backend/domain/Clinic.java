@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -25,7 +26,7 @@ import java.util.UUID;
 public class Clinic {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @Column(nullable = false, length = 200)
@@ -49,6 +50,15 @@ public class Clinic {
     @Column(name = "opening_hours", length = 1000)
     private String openingHours;
 
+    /**
+     * Coordonnées géographiques (WGS84), géocodées hors ligne.
+     */
+    @Column
+    private Double latitude;
+
+    @Column
+    private Double longitude;
+
     @OneToMany(mappedBy = "clinic", cascade = CascadeType.ALL)
     @Builder.Default
     private List<Vet> vets = new ArrayList<>();
@@ -0,0 +1,86 @@
+package fr.benseddik.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Entité DataExport - Demande d'export des données d'un compte (RGPD, droit à la portabilité).
+ *
+ * L'archive ZIP est générée en arrière-plan dans le stockage local, puis téléchargeable
+ * jusqu'à {@code expiresAt} ; la ligne et le fichier sont ensuite purgés.
+ */
+@Entity
+@Table(name = "data_exports", indexes = {
+        @Index(name = "idx_data_export_user", columnList = "user_id, created_at"),
+        @Index(name = "idx_data_export_expires", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DataExport {
+
+    @Id
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    /**
+     * Taille de l'archive en octets (une fois prête).
+     */
+    private Long size;
+
+    @Column(length = 500)
+    private String error;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    /**
+     * Dernier signe de vie de l'instance qui doit générer l'archive, rafraîchi tant que l'export y est planifié.
+     */
+    @Column(name = "heartbeat_at")
+    private Instant heartbeatAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * Une demande en attente ou en cours n'a pas encore d'archive.
+     */
+    public boolean isActive() {
+        return status == Status.PENDING || status == Status.RUNNING;
+    }
+
+    /**
+     * Dernier signe de vie, à défaut la date de la demande.
+     */
+    public Instant lastSeenAt() {
+        return heartbeatAt != null ? heartbeatAt : createdAt;
+    }
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        READY,
+        FAILED
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
@@ -20,9 +21,9 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "medical_records", indexes = {
-        @Index(name = "idx_medical_pet", columnList = "pet_id"),
-        @Index(name = "idx_medical_date", columnList = "date"),
-        @Index(name = "idx_medical_type", columnList = "recordType")
+        @Index(name = "idx_medical_pet_date", columnList = "pet_id, date"),
+        @Index(name = "idx_medical_pet_type_date", columnList = "pet_id, record_type, date"),
+        @Index(name = "idx_medical_date", columnList = "date")
 })
 @Getter
 @Setter
@@ -32,7 +33,7 @@ import java.util.UUID;
 public class MedicalRecord {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     /**
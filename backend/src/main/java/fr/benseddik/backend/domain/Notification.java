@@ -3,8 +3,10 @@ package fr.benseddik.backend.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.Instant;
+import java.util.Locale;
 import java.util.UUID;
 
 /**
@@ -18,6 +20,7 @@ import java.util.UUID;
 @Entity
 @Table(name = "notifications", indexes = {
         @Index(name = "idx_notification_user", columnList = "user_id"),
+        @Index(name = "idx_notification_pet", columnList = "pet_id"),
         @Index(name = "idx_notification_read", columnList = "isRead"),
         @Index(name = "idx_notification_created", columnList = "createdAt")
 })
@@ -29,7 +32,7 @@ import java.util.UUID;
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     /**
@@ -161,6 +164,20 @@ public class Notification {
                 .build();
     }
 
+    public static Notification weightAlert(User user, Pet pet, double weight, double averageWeight) {
+        double change = (weight - averageWeight) / averageWeight * 100;
+        return Notification.builder()
+                .user(user)
+                .pet(pet)
+                .type(NotificationType.WEIGHT_ALERT)
+                .title("Variation de poids inhabituelle")
+                .message(String.format(Locale.FRANCE,
+                        "%s pèse %.1f kg, soit %+.0f %% par rapport à son poids habituel (%.1f kg).",
+                        pet.getName(), weight, change, averageWeight))
+                .link("/pets/" + pet.getId())
+                .build();
+    }
+
     public static Notification welcome(User user) {
         return Notification.builder()
                 .user(user)
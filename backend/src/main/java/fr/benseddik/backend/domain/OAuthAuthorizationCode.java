@@ -3,6 +3,7 @@ package fr.benseddik.backend.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -18,7 +19,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "oauth_authorization_codes", indexes = {
         @Index(name = "idx_oauth_code", columnList = "code", unique = true),
-        @Index(name = "idx_oauth_expires", columnList = "expiresAt")
+        @Index(name = "idx_oauth_expires", columnList = "expiresAt"),
+        @Index(name = "idx_oauth_code_user", columnList = "user_id")
 })
 @Getter
 @Setter
@@ -28,7 +30,7 @@ import java.util.UUID;
 public class OAuthAuthorizationCode {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     /**
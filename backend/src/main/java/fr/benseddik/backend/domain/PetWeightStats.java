@@ -0,0 +1,64 @@
+package fr.benseddik.backend.domain;
+
+import fr.benseddik.backend.util.EwmaStats;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Entité PetWeightStats - État du détecteur d'anomalies de poids d'un animal.
+ *
+ * ⚡ PERFORMANCE : Une ligne par animal (moyenne / variance mobiles), mise à jour en O(1)
+ * à chaque pesée, sans relire l'historique.
+ */
+@Entity
+@Table(name = "pet_weight_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PetWeightStats {
+
+    @Id
+    @Column(name = "pet_id")
+    private UUID petId;
+
+    @Column(name = "sample_count", nullable = false)
+    private Integer sampleCount;
+
+    @Column(name = "ewma_mean", nullable = false)
+    private Double ewmaMean;
+
+    @Column(name = "ewma_variance", nullable = false)
+    private Double ewmaVariance;
+
+    /**
+     * Date de la dernière pesée intégrée (les pesées antérieures sont ignorées jusqu'au prochain recalcul).
+     */
+    @Column(name = "last_date", nullable = false)
+    private LocalDate lastDate;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // MÉTHODES UTILITAIRES
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    public EwmaStats toStats() {
+        return new EwmaStats(sampleCount, ewmaMean, ewmaVariance);
+    }
+
+    public void apply(EwmaStats stats, LocalDate date) {
+        this.sampleCount = stats.count();
+        this.ewmaMean = stats.mean();
+        this.ewmaVariance = stats.variance();
+        this.lastDate = date;
+    }
+}
@@ -0,0 +1,23 @@
+package fr.benseddik.backend.domain;
+
+import fr.benseddik.backend.util.UuidV7;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.util.UUID;
+
+/**
+ * Algorithme des identifiants des entités : UUID v7 ordonnés dans le temps.
+ *
+ * Généré côté application avant l'INSERT : Hibernate peut regrouper les insertions
+ * en lots JDBC (aucun aller-retour pour obtenir l'identifiant).
+ *
+ * Usage : {@code @Id @UuidGenerator(algorithm = UuidV7Generator.class)}
+ */
+public class UuidV7Generator implements UuidValueGenerator {
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return UuidV7.generate();
+    }
+}
@@ -2,7 +2,11 @@ package fr.benseddik.backend.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
@@ -22,7 +26,7 @@ import java.util.UUID;
 public class Vaccine {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     /**
@@ -54,6 +58,14 @@ public class Vaccine {
     @JoinColumn(name = "pet_id", nullable = false)
     private Pet pet;
 
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
     // ═══════════════════════════════════════════════════════════════════════════
     // MÉTHODES UTILITAIRES
     // ═══════════════════════════════════════════════════════════════════════════
@@ -62,20 +74,25 @@ public class Vaccine {
      * Met à jour le statut en fonction de la date de rappel.
      */
     public void updateStatus() {
+        this.status = statusFor(nextDate, LocalDate.now());
+    }
+
+    /**
+     * Statut correspondant à une date de rappel (valid, upcoming dans les 30 jours, expired).
+     */
+    public static String statusFor(LocalDate nextDate, LocalDate today) {
         if (nextDate == null) {
-            this.status = "valid";
-            return;
+            return "valid";
         }
 
-        LocalDate today = LocalDate.now();
         LocalDate warningDate = nextDate.minusDays(30); // 30 jours avant expiration
 
         if (today.isAfter(nextDate)) {
-            this.status = "expired";
+            return "expired";
         } else if (today.isAfter(warningDate)) {
-            this.status = "upcoming";
+            return "upcoming";
         } else {
-            this.status = "valid";
+            return "valid";
         }
     }
 
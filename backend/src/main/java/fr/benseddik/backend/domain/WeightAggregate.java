@@ -0,0 +1,80 @@
+package fr.benseddik.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Entité WeightAggregate - Agrégat des pesées d'un animal sur une semaine ou un mois.
+ *
+ * ⚡ PERFORMANCE : Maintenu à chaque insertion / suppression de pesée,
+ * les courbes longues se lisent sans parcourir tout l'historique.
+ */
+@Entity
+@Table(name = "weight_aggregates", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_weight_aggregate_period", columnNames = {"pet_id", "granularity", "period_start"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeightAggregate {
+
+    @Id
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    private UUID id;
+
+    @Column(name = "pet_id", nullable = false)
+    private UUID petId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Granularity granularity;
+
+    /**
+     * Premier jour de la période (lundi ou 1er du mois).
+     */
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "sample_count", nullable = false)
+    private Integer sampleCount;
+
+    @Column(name = "weight_sum", nullable = false)
+    private Double weightSum;
+
+    @Column(name = "weight_min", nullable = false)
+    private Double weightMin;
+
+    @Column(name = "weight_max", nullable = false)
+    private Double weightMax;
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // MÉTHODES UTILITAIRES
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    public double getAverage() {
+        return weightSum / sampleCount;
+    }
+
+    /**
+     * Granularité d'agrégation.
+     */
+    public enum Granularity {
+        WEEK,   // Semaine ISO (du lundi au dimanche)
+        MONTH;  // Mois calendaire
+
+        public LocalDate periodStart(LocalDate date) {
+            return this == WEEK ? date.with(DayOfWeek.MONDAY) : date.withDayOfMonth(1);
+        }
+
+        public LocalDate periodEnd(LocalDate periodStart) {
+            return this == WEEK ? periodStart.plusWeeks(1) : periodStart.plusMonths(1);
+        }
+    }
+}
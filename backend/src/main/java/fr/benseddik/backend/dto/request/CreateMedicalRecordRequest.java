@@ -0,0 +1,59 @@
+package fr.benseddik.backend.dto.request;
+
+import fr.benseddik.backend.domain.MedicalRecord.RecordType;
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO pour l'enregistrement d'un événement médical.
+ *
+ * 🛡️ SÉCURITÉ : Validation stricte des données médicales.
+ * Les résultats d'analyses sont un objet JSON plat : {"creatinine": 1.4, "urea": 0.5, ...}.
+ */
+public record CreateMedicalRecordRequest(
+
+        @NotNull(message = "L'ID de l'animal est obligatoire")
+        UUID petId,
+
+        @NotNull(message = "Le type d'enregistrement est obligatoire")
+        RecordType recordType,
+
+        @NotBlank(message = "Le titre est obligatoire")
+        @Size(max = 200, message = "Le titre ne peut dépasser 200 caractères")
+        String title,
+
+        @Size(max = 10000, message = "La description ne peut dépasser 10000 caractères")
+        String description,
+
+        @NotNull(message = "La date est obligatoire")
+        @PastOrPresent(message = "La date ne peut être dans le futur")
+        LocalDate date,
+
+        @Size(max = 500, message = "Le diagnostic ne peut dépasser 500 caractères")
+        String diagnosis,
+
+        @Size(max = 10000, message = "Le traitement ne peut dépasser 10000 caractères")
+        String treatment,
+
+        @Size(max = 1000, message = "Les médicaments ne peuvent dépasser 1000 caractères")
+        String medications,
+
+        @Size(max = 100, message = "100 résultats d'analyses au maximum")
+        Map<String, Object> labResults,
+
+        @PositiveOrZero(message = "Le coût doit être positif")
+        @Digits(integer = 8, fraction = 2, message = "Coût invalide")
+        BigDecimal cost,
+
+        @Size(max = 10000, message = "Les notes ne peuvent dépasser 10000 caractères")
+        String notes,
+
+        UUID vetId,
+
+        UUID appointmentId
+) {
+}
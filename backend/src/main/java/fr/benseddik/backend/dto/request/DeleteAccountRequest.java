@@ -0,0 +1,14 @@
+package fr.benseddik.backend.dto.request;
+
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO pour supprimer définitivement son compte (utilisateur connecté).
+ *
+ * 🛡️ SÉCURITÉ : Le mot de passe actuel est exigé pour les comptes qui en ont un
+ * (facultatif pour les comptes créés via OAuth2).
+ */
+public record DeleteAccountRequest(
+        @Size(max = 128, message = "Le mot de passe ne peut dépasser 128 caractères")
+        String currentPassword
+) {}
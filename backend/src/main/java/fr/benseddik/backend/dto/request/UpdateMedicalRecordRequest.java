@@ -0,0 +1,51 @@
+package fr.benseddik.backend.dto.request;
+
+import fr.benseddik.backend.domain.MedicalRecord.RecordType;
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO pour la mise à jour d'un événement médical.
+ *
+ * 🛡️ SÉCURITÉ : Validation stricte des données médicales.
+ * Tous les champs sont optionnels (mise à jour partielle).
+ */
+public record UpdateMedicalRecordRequest(
+
+        RecordType recordType,
+
+        @Size(min = 1, max = 200, message = "Le titre doit contenir entre 1 et 200 caractères")
+        String title,
+
+        @Size(max = 10000, message = "La description ne peut dépasser 10000 caractères")
+        String description,
+
+        @PastOrPresent(message = "La date ne peut être dans le futur")
+        LocalDate date,
+
+        @Size(max = 500, message = "Le diagnostic ne peut dépasser 500 caractères")
+        String diagnosis,
+
+        @Size(max = 10000, message = "Le traitement ne peut dépasser 10000 caractères")
+        String treatment,
+
+        @Size(max = 1000, message = "Les médicaments ne peuvent dépasser 1000 caractères")
+        String medications,
+
+        @Size(max = 100, message = "100 résultats d'analyses au maximum")
+        Map<String, Object> labResults,
+
+        @PositiveOrZero(message = "Le coût doit être positif")
+        @Digits(integer = 8, fraction = 2, message = "Coût invalide")
+        BigDecimal cost,
+
+        @Size(max = 10000, message = "Les notes ne peuvent dépasser 10000 caractères")
+        String notes,
+
+        UUID vetId
+) {
+}
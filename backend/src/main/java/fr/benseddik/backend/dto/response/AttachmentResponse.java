@@ -0,0 +1,13 @@
+package fr.benseddik.backend.dto.response;
+
+/**
+ * DTO de réponse pour une pièce jointe d'un événement médical.
+ */
+public record AttachmentResponse(
+        String name,
+        String sha256,
+        long size,
+        String contentType,
+        String url
+) {
+}
@@ -0,0 +1,22 @@
+package fr.benseddik.backend.dto.response;
+
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour une suggestion d'autocomplétion (clinique ou vétérinaire).
+ *
+ * 🔓 DONNÉES PUBLIQUES : Construit à partir des données de référence.
+ *
+ * @param type     "clinic" ou "vet"
+ * @param label    texte principal affiché (nom de la clinique, nom complet du vétérinaire)
+ * @param detail   texte secondaire (adresse, spécialité)
+ * @param clinicId clinique de rattachement (null pour une clinique)
+ */
+public record AutocompleteSuggestionResponse(
+        UUID id,
+        String type,
+        String label,
+        String detail,
+        UUID clinicId
+) {
+}
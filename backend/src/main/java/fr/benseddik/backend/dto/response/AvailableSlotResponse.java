@@ -0,0 +1,15 @@
+package fr.benseddik.backend.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour un créneau libre d'un vétérinaire.
+ */
+public record AvailableSlotResponse(
+        UUID vetId,
+        String vetName,
+        LocalDateTime start,
+        LocalDateTime end
+) {
+}
@@ -0,0 +1,16 @@
+package fr.benseddik.backend.dto.response;
+
+import java.util.Map;
+
+/**
+ * DTO de réponse après l'envoi d'un avatar.
+ *
+ * @param avatar   URL enregistrée sur l'animal / l'utilisateur (vignette moyenne)
+ * @param variants URL de chaque vignette, par côté en pixels
+ */
+public record AvatarResponse(
+        String sha256,
+        String avatar,
+        Map<Integer, String> variants
+) {
+}
@@ -16,6 +16,8 @@ public record ClinicResponse(
         String email,
         String website,
         String openingHours,
+        Double latitude,
+        Double longitude,
         Instant createdAt,
         Instant updatedAt
 ) {
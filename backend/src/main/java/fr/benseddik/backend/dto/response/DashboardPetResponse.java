@@ -0,0 +1,22 @@
+package fr.benseddik.backend.dto.response;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Résumé d'un animal pour le tableau de bord.
+ *
+ * @param currentWeight  dernier poids enregistré (null si aucune pesée)
+ * @param lastWeighedOn  date de cette pesée
+ */
+public record DashboardPetResponse(
+        UUID id,
+        String name,
+        String species,
+        String breed,
+        Integer ageInYears,
+        String avatar,
+        Double currentWeight,
+        LocalDate lastWeighedOn
+) {
+}
@@ -0,0 +1,17 @@
+package fr.benseddik.backend.dto.response;
+
+import java.util.List;
+
+/**
+ * Tableau de bord du propriétaire, en une seule réponse.
+ *
+ * @param unavailable sections non chargées dans le délai imparti (leur liste est alors vide)
+ */
+public record DashboardResponse(
+        List<DashboardPetResponse> pets,
+        List<AppointmentResponse> nextAppointments,
+        List<VaccineResponse> upcomingVaccines,
+        List<VaccineResponse> expiredVaccines,
+        List<String> unavailable
+) {
+}
@@ -0,0 +1,23 @@
+package fr.benseddik.backend.dto.response;
+
+import fr.benseddik.backend.domain.DataExport.Status;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour une demande d'export des données.
+ *
+ * @param downloadUrl lien de téléchargement de l'archive (null tant qu'elle n'est pas prête)
+ */
+public record DataExportResponse(
+        UUID id,
+        Status status,
+        Long size,
+        String error,
+        Instant createdAt,
+        Instant completedAt,
+        Instant expiresAt,
+        String downloadUrl
+) {
+}
@@ -0,0 +1,26 @@
+package fr.benseddik.backend.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO de réponse d'un import en masse.
+ *
+ * @param rows            lignes de données lues (hors en-tête)
+ * @param errors          erreurs par ligne (limitées, voir {@code errorsTruncated})
+ * @param errorsTruncated vrai si des erreurs supplémentaires n'ont pas été détaillées
+ */
+public record ImportReportResponse(
+        long rows,
+        long imported,
+        long rejected,
+        List<RowError> errors,
+        boolean errorsTruncated,
+        long durationMs
+) {
+
+    /**
+     * Erreur d'une ligne du fichier (numéro de ligne en base 1, en-tête compris pour le CSV).
+     */
+    public record RowError(long line, String message) {
+    }
+}
@@ -0,0 +1,14 @@
+package fr.benseddik.backend.dto.response;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour une valeur d'analyse à une date (série temporelle).
+ */
+public record LabValueResponse(
+        UUID recordId,
+        LocalDate date,
+        double value
+) {
+}
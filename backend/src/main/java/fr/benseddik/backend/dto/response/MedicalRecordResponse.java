@@ -0,0 +1,31 @@
+package fr.benseddik.backend.dto.response;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour un événement médical complet.
+ */
+public record MedicalRecordResponse(
+        UUID id,
+        String recordType,
+        String title,
+        String description,
+        LocalDate date,
+        String diagnosis,
+        String treatment,
+        String medications,
+        Map<String, Object> labResults,
+        Map<String, String> attachments,
+        BigDecimal cost,
+        String notes,
+        UUID petId,
+        UUID vetId,
+        String vetName,
+        UUID appointmentId,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,19 @@
+package fr.benseddik.backend.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour une ligne de l'historique médical (sans texte long ni JSON).
+ */
+public record MedicalTimelineEntryResponse(
+        UUID id,
+        String recordType,
+        String title,
+        LocalDate date,
+        String diagnosis,
+        BigDecimal cost,
+        String vetName
+) {
+}
@@ -0,0 +1,20 @@
+package fr.benseddik.backend.dto.response;
+
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour une clinique trouvée à proximité d'une position.
+ *
+ * 🔓 DONNÉES PUBLIQUES : Les cliniques sont visibles par tous.
+ */
+public record NearbyClinicResponse(
+        UUID id,
+        String name,
+        String address,
+        String phone,
+        String openingHours,
+        double latitude,
+        double longitude,
+        double distanceKm
+) {
+}
@@ -0,0 +1,11 @@
+package fr.benseddik.backend.dto.response;
+
+/**
+ * DTO de réponse du recalcul de l'état du détecteur d'anomalies de poids.
+ */
+public record WeightAlertBackfillResponse(
+        int pets,
+        long weightLogs,
+        long durationMs
+) {
+}
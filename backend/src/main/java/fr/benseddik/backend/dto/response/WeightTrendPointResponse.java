@@ -0,0 +1,18 @@
+package fr.benseddik.backend.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * Point d'une courbe de poids.
+ *
+ * Pour une courbe agrégée, {@code weight} est la moyenne de la période
+ * et {@code min} / {@code max} / {@code count} la décrivent. Ces champs sont null pour une pesée brute.
+ */
+public record WeightTrendPointResponse(
+        LocalDate date,
+        double weight,
+        Double min,
+        Double max,
+        Integer count
+) {
+}
@@ -0,0 +1,21 @@
+package fr.benseddik.backend.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour une courbe de poids à nombre de points borné.
+ *
+ * @param granularity  RAW (pesées, éventuellement sous-échantillonnées), WEEK ou MONTH
+ * @param sourcePoints nombre de pesées / périodes sur l'intervalle avant sous-échantillonnage
+ */
+public record WeightTrendResponse(
+        UUID petId,
+        LocalDate start,
+        LocalDate end,
+        String granularity,
+        long sourcePoints,
+        List<WeightTrendPointResponse> points
+) {
+}
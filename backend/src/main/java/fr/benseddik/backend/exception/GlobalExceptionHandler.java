@@ -2,9 +2,12 @@ package fr.benseddik.backend.exception;
 
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -85,6 +88,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * Conflit avec l'état de la ressource (409).
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflictException(
+            ConflictException ex,
+            WebRequest request
+    ) {
+        log.debug("Conflict: {}", ex.getMessage());
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     /**
      * Erreur d'authentification (401).
      */
@@ -205,6 +228,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * Budget de temps de la requête épuisé ou requête SQL annulée par délai (503).
+     * La connexion est rendue au pool, le client peut réessayer.
+     */
+    @ExceptionHandler({
+            DeadlineExceededException.class,
+            QueryTimeoutException.class,
+            TransactionTimedOutException.class
+    })
+    public ResponseEntity<ErrorResponse> handleDeadlineExceededException(
+            RuntimeException ex,
+            WebRequest request
+    ) {
+        String path = request.getDescription(false).replace("uri=", "");
+        log.warn("⏱️ Délai dépassé sur {} : {}", path, ex.getMessage());
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "Délai de traitement dépassé. Réessayez plus tard.",
+                path
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     /**
      * Erreur serveur générique (500).
      * ⚠️ Ne pas exposer les détails en production.
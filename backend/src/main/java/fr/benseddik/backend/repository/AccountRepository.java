@@ -0,0 +1,24 @@
+package fr.benseddik.backend.repository;
+
+import fr.benseddik.backend.domain.Account;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repository pour les comptes OAuth2 liés à un utilisateur.
+ */
+@Repository
+public interface AccountRepository extends JpaRepository<Account, UUID> {
+
+    /**
+     * Suppression en masse des lignes d'un utilisateur (suppression du compte).
+     */
+    @Modifying
+    @Query("DELETE FROM Account a WHERE a.user.id = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+}
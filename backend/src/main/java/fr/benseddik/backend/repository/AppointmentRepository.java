@@ -1,15 +1,23 @@
 package fr.benseddik.backend.repository;
 
 import fr.benseddik.backend.domain.Appointment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository pour l'entité Appointment.
@@ -33,8 +41,9 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
     List<Appointment> findUpcomingByUserId(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
 
     /**
-     * Trouve les N prochains rendez-vous.
+     * Trouve les N prochains rendez-vous (animal, vétérinaire et clinique chargés dans la même requête).
      */
+    @EntityGraph(attributePaths = {"pet", "vet", "vet.clinic", "clinic"})
     @Query("SELECT a FROM Appointment a WHERE a.user.id = :userId " +
            "AND a.date > :now AND a.status = 'scheduled' " +
            "ORDER BY a.date ASC LIMIT :limit")
@@ -73,4 +82,162 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
      * Vérifie si un rendez-vous appartient à un utilisateur.
      */
     boolean existsByIdAndUserId(UUID id, UUID userId);
+
+    /**
+     * Créneaux réservés (statut scheduled) de plusieurs vétérinaires sur une période.
+     * Projection légère : ni entité ni relation chargée.
+     * Sans flush préalable : lit les rendez-vous en base, pas les modifications en cours de la
+     * transaction (une violation de contrainte surgirait ici au lieu de l'enregistrement).
+     */
+    @Query("SELECT a.vet.id AS vetId, a.date AS date, a.durationMinutes AS durationMinutes " +
+           "FROM Appointment a WHERE a.vet.id IN :vetIds " +
+           "AND a.status = 'scheduled' AND a.date >= :from AND a.date < :to")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    List<ScheduledSlot> findScheduledSlots(@Param("vetIds") Collection<UUID> vetIds,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+
+    /**
+     * Créneaux réservés à venir d'un lot d'animaux, avant leur suppression en masse
+     * (libération du cache des disponibilités).
+     */
+    @Query("SELECT a.vet.id AS vetId, a.date AS date, a.durationMinutes AS durationMinutes " +
+           "FROM Appointment a WHERE a.pet.id IN :petIds " +
+           "AND a.vet IS NOT NULL AND a.status = 'scheduled' AND a.date >= :since")
+    List<ScheduledSlot> findScheduledSlotsByPetIdIn(@Param("petIds") Collection<UUID> petIds,
+                                                    @Param("since") LocalDateTime since);
+
+    /**
+     * Créneaux réservés à venir d'un utilisateur, avant la suppression de son compte.
+     */
+    @Query("SELECT a.vet.id AS vetId, a.date AS date, a.durationMinutes AS durationMinutes " +
+           "FROM Appointment a WHERE a.user.id = :userId " +
+           "AND a.vet IS NOT NULL AND a.status = 'scheduled' AND a.date >= :since")
+    List<ScheduledSlot> findScheduledSlotsByUserId(@Param("userId") UUID userId,
+                                                   @Param("since") LocalDateTime since);
+
+    /**
+     * Rendez-vous d'un utilisateur pour le flux iCalendar, en flux continu (sans entité).
+     * ⚠️ Doit être consommé dans une transaction, puis fermé.
+     */
+    @Query("SELECT a.id AS id, a.date AS date, a.durationMinutes AS durationMinutes, " +
+           "a.reason AS reason, a.status AS status, a.updatedAt AS updatedAt, p.name AS petName, " +
+           "v.firstName AS vetFirstName, v.lastName AS vetLastName, " +
+           "c.name AS clinicName, c.address AS clinicAddress " +
+           "FROM Appointment a JOIN a.pet p LEFT JOIN a.vet v LEFT JOIN a.clinic c " +
+           "WHERE a.user.id = :userId AND a.date >= :since ORDER BY a.date ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    Stream<CalendarAppointment> streamCalendarByUserId(@Param("userId") UUID userId,
+                                                       @Param("since") LocalDateTime since);
+
+    /**
+     * Version des rendez-vous d'un utilisateur (nombre + dernière modification) pour l'ETag,
+     * avec celle des animaux, vétérinaires et cliniques dont le flux affiche les noms et adresses.
+     */
+    @Query("SELECT COUNT(a) AS count, MAX(a.updatedAt) AS lastUpdated, MAX(p.updatedAt) AS petsUpdated, " +
+           "MAX(v.updatedAt) AS vetsUpdated, MAX(c.updatedAt) AS clinicsUpdated " +
+           "FROM Appointment a JOIN a.pet p LEFT JOIN a.vet v LEFT JOIN a.clinic c WHERE a.user.id = :userId")
+    CalendarFeedVersion findFeedVersionByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Version des rendez-vous et des entités affichées avec eux (dates null si aucune ligne).
+     */
+    interface CalendarFeedVersion extends FeedVersion {
+        Instant getPetsUpdated();
+
+        Instant getVetsUpdated();
+
+        Instant getClinicsUpdated();
+    }
+
+    /**
+     * Projection d'un rendez-vous pour le flux iCalendar.
+     */
+    interface CalendarAppointment {
+        UUID getId();
+
+        LocalDateTime getDate();
+
+        Integer getDurationMinutes();
+
+        String getReason();
+
+        String getStatus();
+
+        Instant getUpdatedAt();
+
+        String getPetName();
+
+        String getVetFirstName();
+
+        String getVetLastName();
+
+        String getClinicName();
+
+        String getClinicAddress();
+    }
+
+    /**
+     * Projection d'un créneau réservé.
+     */
+    interface ScheduledSlot {
+        UUID getVetId();
+
+        LocalDateTime getDate();
+
+        Integer getDurationMinutes();
+    }
+
+    /**
+     * Rendez-vous d'un utilisateur pour l'export de ses données, en flux continu (sans entité).
+     * ⚠️ Doit être consommé dans une transaction, puis fermé.
+     */
+    @Query("SELECT a.id AS id, a.date AS date, a.durationMinutes AS durationMinutes, a.reason AS reason, " +
+           "a.status AS status, a.notes AS notes, p.name AS petName, " +
+           "v.firstName AS vetFirstName, v.lastName AS vetLastName, c.name AS clinicName, a.createdAt AS createdAt " +
+           "FROM Appointment a JOIN a.pet p LEFT JOIN a.vet v LEFT JOIN a.clinic c " +
+           "WHERE a.user.id = :userId ORDER BY a.date ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ExportAppointment> streamExportByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Projection d'un rendez-vous pour l'export des données.
+     */
+    interface ExportAppointment {
+        UUID getId();
+
+        LocalDateTime getDate();
+
+        Integer getDurationMinutes();
+
+        String getReason();
+
+        String getStatus();
+
+        String getNotes();
+
+        String getPetName();
+
+        String getVetFirstName();
+
+        String getVetLastName();
+
+        String getClinicName();
+
+        Instant getCreatedAt();
+    }
+
+    /**
+     * Suppression en masse pour un lot d'animaux (une requête, sans chargement des entités).
+     */
+    @Modifying
+    @Query("DELETE FROM Appointment a WHERE a.pet.id IN :petIds")
+    int deleteByPetIdIn(@Param("petIds") Collection<UUID> petIds);
+
+    /**
+     * Suppression en masse des lignes d'un utilisateur (suppression du compte).
+     */
+    @Modifying
+    @Query("DELETE FROM Appointment a WHERE a.user.id = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
 }
@@ -1,14 +1,22 @@
 package fr.benseddik.backend.repository;
 
 import fr.benseddik.backend.domain.AuditLog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository pour l'entité AuditLog.
@@ -40,4 +48,36 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
      * Compte les tentatives de connexion échouées récentes pour une IP.
      */
     long countByIpAddressAndActionAndCreatedAtAfter(String ipAddress, String action, Instant after);
-}
\ No newline at end of file
+
+    /**
+     * Journal d'audit d'un utilisateur pour l'export de ses données, en flux continu (sans entité).
+     * ⚠️ Doit être consommé dans une transaction, puis fermé.
+     */
+    @Query("SELECT a.action AS action, a.metadata AS metadata, a.ipAddress AS ipAddress, " +
+           "a.userAgent AS userAgent, a.createdAt AS createdAt " +
+           "FROM AuditLog a WHERE a.user.id = :userId ORDER BY a.createdAt ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<ExportAuditLog> streamExportByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Projection d'une entrée du journal d'audit pour l'export des données.
+     */
+    interface ExportAuditLog {
+        String getAction();
+
+        Map<String, Object> getMetadata();
+
+        String getIpAddress();
+
+        String getUserAgent();
+
+        Instant getCreatedAt();
+    }
+
+    /**
+     * Suppression en masse des lignes d'un utilisateur (suppression du compte).
+     */
+    @Modifying
+    @Query("DELETE FROM AuditLog a WHERE a.user.id = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+}
@@ -0,0 +1,23 @@
+package fr.benseddik.backend.repository;
+
+import fr.benseddik.backend.domain.Avatar;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository pour l'entité Avatar.
+ */
+@Repository
+public interface AvatarRepository extends JpaRepository<Avatar, String> {
+
+    /**
+     * Déclare un contenu comme avatar (sans conflit entre envois simultanés).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO avatars (sha256, created_at) VALUES (:sha256, now()) ON CONFLICT (sha256) DO NOTHING",
+           nativeQuery = true)
+    void insertIfAbsent(@Param("sha256") String sha256);
+}
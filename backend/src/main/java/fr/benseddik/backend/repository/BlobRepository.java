@@ -0,0 +1,80 @@
+package fr.benseddik.backend.repository;
+
+import fr.benseddik.backend.domain.Blob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository pour l'entité Blob.
+ *
+ * Les compteurs de références sont modifiés par des UPDATE atomiques
+ * (pas de lecture-modification-écriture entre deux envois simultanés).
+ */
+@Repository
+public interface BlobRepository extends JpaRepository<Blob, String> {
+
+    /**
+     * Ajoute une référence vers un contenu, en créant la ligne au premier envoi.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO blobs (sha256, size, content_type, ref_count, created_at) " +
+                   "VALUES (:sha256, :size, :contentType, 1, now()) " +
+                   "ON CONFLICT (sha256) DO UPDATE SET ref_count = blobs.ref_count + 1, orphaned_at = NULL",
+           nativeQuery = true)
+    void retain(@Param("sha256") String sha256, @Param("size") long size, @Param("contentType") String contentType);
+
+    /**
+     * Déclare orphelin un contenu dont l'envoi a été annulé (sans effet si la ligne existe).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO blobs (sha256, size, content_type, ref_count, created_at, orphaned_at) " +
+                   "VALUES (:sha256, :size, :contentType, 0, now(), now()) " +
+                   "ON CONFLICT (sha256) DO NOTHING",
+           nativeQuery = true)
+    void insertOrphan(@Param("sha256") String sha256, @Param("size") long size, @Param("contentType") String contentType);
+
+    /**
+     * Retire une référence ; le contenu devient orphelin quand il n'en reste plus.
+     */
+    @Modifying
+    @Query(value = "UPDATE blobs SET ref_count = GREATEST(ref_count - 1, 0), " +
+                   "orphaned_at = CASE WHEN ref_count <= 1 THEN now() END " +
+                   "WHERE sha256 = :sha256",
+           nativeQuery = true)
+    int release(@Param("sha256") String sha256);
+
+    /**
+     * Contenus orphelins depuis avant une date (candidats à la suppression du disque).
+     */
+    @Query("SELECT b.sha256 FROM Blob b WHERE b.refCount = 0 AND b.orphanedAt < :before")
+    List<String> findOrphansBefore(@Param("before") Instant before);
+
+    /**
+     * Supprime la ligne d'un contenu s'il est toujours orphelin.
+     */
+    @Modifying
+    @Query("DELETE FROM Blob b WHERE b.sha256 = :sha256 AND b.refCount = 0")
+    int deleteIfOrphan(@Param("sha256") String sha256);
+
+    /**
+     * Retire en une requête les références des pièces jointes de l'historique médical d'un lot d'animaux
+     * (à appeler avant la suppression des enregistrements médicaux).
+     */
+    @Modifying
+    @Query(value = "UPDATE blobs b SET ref_count = GREATEST(b.ref_count - r.refs, 0), " +
+                   "orphaned_at = CASE WHEN b.ref_count <= r.refs THEN now() END " +
+                   "FROM (SELECT a.value AS sha256, COUNT(*) AS refs FROM medical_records m " +
+                   "CROSS JOIN LATERAL jsonb_each_text(m.attachments) a " +
+                   "WHERE m.pet_id IN (:petIds) AND m.attachments IS NOT NULL GROUP BY a.value) r " +
+                   "WHERE b.sha256 = r.sha256",
+           nativeQuery = true)
+    int releaseMedicalAttachments(@Param("petIds") Collection<UUID> petIds);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -35,8 +36,20 @@ public interface ClinicRepository extends JpaRepository<Clinic, UUID> {
     @Query("SELECT DISTINCT c FROM Clinic c LEFT JOIN FETCH c.vets")
     List<Clinic> findAllWithVets();
 
+    /**
+     * Trouve les cliniques géocodées (latitude et longitude renseignées).
+     */
+    @Query("SELECT c FROM Clinic c WHERE c.latitude IS NOT NULL AND c.longitude IS NOT NULL")
+    List<Clinic> findAllGeocoded();
+
     /**
      * Vérifie si une clinique existe par nom.
      */
     boolean existsByName(String name);
+
+    /**
+     * Date de dernière modification d'une clinique (null si aucune).
+     */
+    @Query("SELECT MAX(c.updatedAt) FROM Clinic c")
+    Instant findLastUpdatedAt();
 }
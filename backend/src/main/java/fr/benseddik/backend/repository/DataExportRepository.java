@@ -0,0 +1,89 @@
+package fr.benseddik.backend.repository;
+
+import fr.benseddik.backend.domain.DataExport;
+import fr.benseddik.backend.domain.DataExport.Status;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository pour l'entité DataExport.
+ */
+@Repository
+public interface DataExportRepository extends JpaRepository<DataExport, UUID> {
+
+    /**
+     * Trouve un export par ID et utilisateur (sécurité).
+     */
+    Optional<DataExport> findByIdAndUserId(UUID id, UUID userId);
+
+    /**
+     * Exports non expirés d'un utilisateur, du plus récent au plus ancien.
+     */
+    @Query("SELECT e FROM DataExport e WHERE e.user.id = :userId AND e.expiresAt > :now ORDER BY e.createdAt DESC")
+    List<DataExport> findCurrentByUserId(@Param("userId") UUID userId, @Param("now") Instant now);
+
+    /**
+     * IDs des exports expirés (leur archive doit être supprimée avant la ligne).
+     */
+    @Query("SELECT e.id FROM DataExport e WHERE e.expiresAt <= :now")
+    List<UUID> findExpiredIds(@Param("now") Instant now);
+
+    /**
+     * Exports dans l'un des états donnés dont le dernier signe de vie (à défaut la demande) précède {@code before}.
+     */
+    @Query("SELECT e FROM DataExport e WHERE e.status IN :statuses AND COALESCE(e.heartbeatAt, e.createdAt) < :before")
+    List<DataExport> findStale(@Param("statuses") Collection<Status> statuses, @Param("before") Instant before);
+
+    /**
+     * Rafraîchit le signe de vie des exports encore dans l'un des états donnés.
+     */
+    @Modifying
+    @Query("UPDATE DataExport e SET e.heartbeatAt = :now WHERE e.id IN :ids AND e.status IN :statuses")
+    int touch(@Param("ids") Collection<UUID> ids, @Param("statuses") Collection<Status> statuses,
+              @Param("now") Instant now);
+
+    /**
+     * Passe un export à l'état {@code status} s'il est encore dans l'un des états {@code expected}
+     * (une autre instance a pu le marquer abandonné entre-temps).
+     *
+     * @return 0 si l'état a changé ou si la ligne a disparu
+     */
+    @Modifying
+    @Query("UPDATE DataExport e SET e.status = :status, e.size = :size, e.error = :error, " +
+           "e.completedAt = :completedAt, e.heartbeatAt = :now WHERE e.id = :id AND e.status IN :expected")
+    int transition(@Param("id") UUID id, @Param("expected") Collection<Status> expected,
+                   @Param("status") Status status, @Param("size") Long size, @Param("error") String error,
+                   @Param("completedAt") Instant completedAt, @Param("now") Instant now);
+
+    /**
+     * Marque en échec un export encore dans l'un des états donnés et sans signe de vie depuis {@code before} :
+     * un signe de vie rafraîchi entre la lecture et la mise à jour le préserve.
+     *
+     * @return 0 si l'export a changé d'état ou donné signe de vie entre-temps
+     */
+    @Modifying
+    @Query("UPDATE DataExport e SET e.status = :failed, e.error = :error, e.completedAt = :now " +
+           "WHERE e.id = :id AND e.status IN :statuses AND COALESCE(e.heartbeatAt, e.createdAt) < :before")
+    int failIfStale(@Param("id") UUID id, @Param("statuses") Collection<Status> statuses,
+                    @Param("failed") Status failed, @Param("error") String error,
+                    @Param("before") Instant before, @Param("now") Instant now);
+
+    /**
+     * IDs des exports d'un utilisateur.
+     */
+    @Query("SELECT e.id FROM DataExport e WHERE e.user.id = :userId")
+    List<UUID> findIdsByUserId(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM DataExport e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<UUID> ids);
+}
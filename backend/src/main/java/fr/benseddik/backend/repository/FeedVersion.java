@@ -0,0 +1,18 @@
+package fr.benseddik.backend.repository;
+
+import java.time.Instant;
+
+/**
+ * Projection "version" d'un ensemble de lignes : nombre + date de dernière modification.
+ *
+ * Le nombre permet de détecter une suppression, que la date maximale seule ne reflète pas.
+ */
+public interface FeedVersion {
+
+    long getCount();
+
+    /**
+     * Date de dernière modification (null si aucune ligne).
+     */
+    Instant getLastUpdated();
+}
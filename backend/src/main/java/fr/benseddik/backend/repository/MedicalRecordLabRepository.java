@@ -0,0 +1,28 @@
+package fr.benseddik.backend.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Requêtes jsonb sur les résultats d'analyses (fragment de {@link MedicalRecordRepository}).
+ *
+ * ⚡ PERFORMANCE : Filtre jsonpath (opérateur @@) servi par l'index GIN sur lab_results.
+ */
+public interface MedicalRecordLabRepository {
+
+    /**
+     * Série temporelle d'une valeur d'analyse numérique pour un animal, dans l'ordre chronologique.
+     *
+     * @param analyte clé de l'analyse dans lab_results (ex : "creatinine")
+     * @param min     borne basse incluse (null = pas de borne)
+     * @param max     borne haute incluse (null = pas de borne)
+     */
+    List<LabValue> findLabSeries(UUID petId, String analyte, Double min, Double max, LocalDate from, LocalDate to);
+
+    /**
+     * Valeur d'analyse à une date.
+     */
+    record LabValue(UUID recordId, LocalDate date, double value) {
+    }
+}
@@ -0,0 +1,44 @@
+package fr.benseddik.backend.repository;
+
+import fr.benseddik.backend.util.JsonPathPredicates;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implémentation JDBC des requêtes jsonb sur les résultats d'analyses.
+ *
+ * Le filtre est un prédicat jsonpath paramétré : l'index GIN réduit les lignes
+ * aux enregistrements contenant la clé, les bornes sont vérifiées ensuite.
+ */
+@RequiredArgsConstructor
+public class MedicalRecordLabRepositoryImpl implements MedicalRecordLabRepository {
+
+    private static final String LAB_SERIES_SQL =
+            "SELECT m.id, m.date, CAST(m.lab_results -> :analyte AS double precision) AS value " +
+            "FROM medical_records m " +
+            "WHERE m.pet_id = :petId AND m.date BETWEEN :from AND :to " +
+            "AND m.lab_results @@ CAST(:predicate AS jsonpath) " +
+            "ORDER BY m.date ASC";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<LabValue> findLabSeries(UUID petId, String analyte, Double min, Double max, LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("petId", petId)
+                .addValue("analyte", analyte)
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("predicate", JsonPathPredicates.numberInRange(analyte, min, max));
+
+        return jdbcTemplate.query(LAB_SERIES_SQL, params, (rs, rowNum) -> new LabValue(
+                rs.getObject("id", UUID.class),
+                rs.getObject("date", LocalDate.class),
+                rs.getDouble("value")));
+    }
+}
@@ -0,0 +1,143 @@
+package fr.benseddik.backend.repository;
+
+import fr.benseddik.backend.domain.MedicalRecord;
+import fr.benseddik.backend.domain.MedicalRecord.RecordType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Repository pour l'entité MedicalRecord.
+ *
+ * 🛡️ SÉCURITÉ : Les requêtes passent par Pet pour vérifier la propriété.
+ * ⚡ PERFORMANCE : Historique lu sous forme de projections (sans description, traitement ni JSON).
+ */
+@Repository
+public interface MedicalRecordRepository extends JpaRepository<MedicalRecord, UUID>, MedicalRecordLabRepository {
+
+    /**
+     * Trouve un enregistrement par ID pour un propriétaire (sécurité), avec son vétérinaire.
+     */
+    @Query("SELECT m FROM MedicalRecord m LEFT JOIN FETCH m.vet JOIN FETCH m.pet p " +
+           "WHERE m.id = :id AND p.owner.id = :ownerId")
+    Optional<MedicalRecord> findByIdAndOwnerId(@Param("id") UUID id, @Param("ownerId") UUID ownerId);
+
+    /**
+     * Historique médical d'un animal sur une période (plus récent en premier).
+     */
+    @Query("SELECT m.id AS id, m.recordType AS recordType, m.title AS title, m.date AS date, " +
+           "m.diagnosis AS diagnosis, m.cost AS cost, v.firstName AS vetFirstName, v.lastName AS vetLastName " +
+           "FROM MedicalRecord m LEFT JOIN m.vet v " +
+           "WHERE m.pet.id = :petId AND m.date BETWEEN :from AND :to " +
+           "ORDER BY m.date DESC, m.createdAt DESC")
+    List<TimelineEntry> findTimeline(@Param("petId") UUID petId,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to);
+
+    /**
+     * Historique médical d'un animal pour un type d'enregistrement (plus récent en premier).
+     */
+    @Query("SELECT m.id AS id, m.recordType AS recordType, m.title AS title, m.date AS date, " +
+           "m.diagnosis AS diagnosis, m.cost AS cost, v.firstName AS vetFirstName, v.lastName AS vetLastName " +
+           "FROM MedicalRecord m LEFT JOIN m.vet v " +
+           "WHERE m.pet.id = :petId AND m.recordType = :recordType AND m.date BETWEEN :from AND :to " +
+           "ORDER BY m.date DESC, m.createdAt DESC")
+    List<TimelineEntry> findTimelineByType(@Param("petId") UUID petId,
+                                           @Param("recordType") RecordType recordType,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+
+    /**
+     * Projection d'une ligne de l'historique médical.
+     */
+    interface TimelineEntry {
+        UUID getId();
+
+        RecordType getRecordType();
+
+        String getTitle();
+
+        LocalDate getDate();
+
+        String getDiagnosis();
+
+        BigDecimal getCost();
+
+        String getVetFirstName();
+
+        String getVetLastName();
+    }
+
+    /**
+     * Historique médical complet d'un propriétaire pour l'export de ses données, en flux continu (sans entité).
+     * ⚠️ Doit être consommé dans une transaction, puis fermé.
+     */
+    @Query("SELECT m.id AS id, p.name AS petName, m.recordType AS recordType, m.title AS title, " +
+           "m.description AS description, m.date AS date, m.diagnosis AS diagnosis, m.treatment AS treatment, " +
+           "m.medications AS medications, m.labResults AS labResults, m.attachments AS attachments, " +
+           "m.cost AS cost, m.notes AS notes, v.firstName AS vetFirstName, v.lastName AS vetLastName, " +
+           "m.createdAt AS createdAt " +
+           "FROM MedicalRecord m JOIN m.pet p LEFT JOIN m.vet v " +
+           "WHERE p.owner.id = :ownerId ORDER BY p.name ASC, m.date ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    Stream<ExportMedicalRecord> streamExportByOwnerId(@Param("ownerId") UUID ownerId);
+
+    /**
+     * Projection d'un enregistrement médical pour l'export des données.
+     */
+    interface ExportMedicalRecord {
+        UUID getId();
+
+        String getPetName();
+
+        RecordType getRecordType();
+
+        String getTitle();
+
+        String getDescription();
+
+        LocalDate getDate();
+
+        String getDiagnosis();
+
+        String getTreatment();
+
+        String getMedications();
+
+        Map<String, Object> getLabResults();
+
+        Map<String, String> getAttachments();
+
+        BigDecimal getCost();
+
+        String getNotes();
+
+        String getVetFirstName();
+
+        String getVetLastName();
+
+        Instant getCreatedAt();
+    }
+
+    /**
+     * Suppression en masse pour un lot d'animaux (une requête, sans chargement des entités).
+     */
+    @Modifying
+    @Query("DELETE FROM MedicalRecord m WHERE m.pet.id IN :petIds")
+    int deleteByPetIdIn(@Param("petIds") Collection<UUID> petIds);
+}
@@ -0,0 +1,32 @@
+package fr.benseddik.backend.repository;
+
+import fr.benseddik.backend.domain.Notification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Repository pour l'entité Notification.
+ */
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, UUID> {
+
+    /**
+     * Suppression en masse pour un lot d'animaux (une requête, sans chargement des entités).
+     */
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.pet.id IN :petIds")
+    int deleteByPetIdIn(@Param("petIds") Collection<UUID> petIds);
+
+    /**
+     * Suppression en masse des lignes d'un utilisateur (suppression du compte).
+     */
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.user.id = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+}
@@ -4,6 +4,7 @@ import fr.benseddik.backend.domain.OAuthAuthorizationCode;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -40,4 +41,11 @@ public interface OAuthAuthorizationCodeRepository extends JpaRepository<OAuthAut
     @Modifying
     @Query("DELETE FROM OAuthAuthorizationCode c WHERE c.used = true")
     int deleteUsedCodes();
-}
\ No newline at end of file
+
+    /**
+     * Suppression en masse des lignes d'un utilisateur (suppression du compte).
+     */
+    @Modifying
+    @Query("DELETE FROM OAuthAuthorizationCode c WHERE c.user.id = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+}
@@ -2,14 +2,23 @@ package fr.benseddik.backend.repository;
 
 import fr.benseddik.backend.domain.Pet;
 import fr.benseddik.backend.domain.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository pour l'entité Pet.
@@ -62,4 +71,56 @@ public interface PetRepository extends JpaRepository<Pet, UUID> {
      * Vérifie si un animal appartient à un utilisateur.
      */
     boolean existsByIdAndOwnerId(UUID id, UUID ownerId);
+
+    /**
+     * IDs des animaux d'un propriétaire (contrôle de propriété en masse).
+     */
+    @Query("SELECT p.id FROM Pet p WHERE p.owner.id = :ownerId")
+    Set<UUID> findIdsByOwnerId(@Param("ownerId") UUID ownerId);
+
+    /**
+     * Animaux d'un propriétaire pour l'export de ses données, en flux continu (sans entité).
+     * ⚠️ Doit être consommé dans une transaction, puis fermé.
+     */
+    @Query("SELECT p.id AS id, p.name AS name, p.species AS species, p.breed AS breed, p.birthDate AS birthDate, " +
+           "p.gender AS gender, p.microchip AS microchip, p.color AS color, p.createdAt AS createdAt " +
+           "FROM Pet p WHERE p.owner.id = :ownerId ORDER BY p.createdAt ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ExportPet> streamExportByOwnerId(@Param("ownerId") UUID ownerId);
+
+    /**
+     * Projection d'un animal pour l'export des données.
+     */
+    interface ExportPet {
+        UUID getId();
+
+        String getName();
+
+        String getSpecies();
+
+        String getBreed();
+
+        LocalDate getBirthDate();
+
+        String getGender();
+
+        String getMicrochip();
+
+        String getColor();
+
+        Instant getCreatedAt();
+    }
+
+    /**
+     * Avatars des animaux (références à libérer avant suppression).
+     */
+    @Query("SELECT p.avatar FROM Pet p WHERE p.id IN :petIds AND p.avatar IS NOT NULL")
+    List<String> findAvatarsByIdIn(@Param("petIds") Collection<UUID> petIds);
+
+    /**
+     * Suppression en masse (les lignes dépendantes doivent avoir été supprimées avant).
+     */
+    @Modifying
+    @Query("DELETE FROM Pet p WHERE p.id IN :petIds")
+    int deleteByIdIn(@Param("petIds") Collection<UUID> petIds);
 }
@@ -0,0 +1,44 @@
+package fr.benseddik.backend.repository;
+
+import fr.benseddik.backend.domain.PetWeightStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository pour l'entité PetWeightStats.
+ */
+@Repository
+public interface PetWeightStatsRepository extends JpaRepository<PetWeightStats, UUID> {
+
+    /**
+     * Lit l'état d'un animal en le verrouillant (pesées simultanées du même animal sérialisées).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PetWeightStats s WHERE s.petId = :petId")
+    Optional<PetWeightStats> findByIdForUpdate(@Param("petId") UUID petId);
+
+    /**
+     * Crée l'état vide d'un animal s'il n'existe pas encore (sans conflit entre pesées simultanées).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO pet_weight_stats (pet_id, sample_count, ewma_mean, ewma_variance, last_date) " +
+                   "VALUES (:petId, 0, 0, 0, :date) ON CONFLICT (pet_id) DO NOTHING",
+           nativeQuery = true)
+    void insertIfAbsent(@Param("petId") UUID petId, @Param("date") LocalDate date);
+
+    /**
+     * Supprime l'état des animaux qui n'ont plus aucune pesée (recalcul complet).
+     */
+    @Modifying
+    @Query("DELETE FROM PetWeightStats s WHERE NOT EXISTS (SELECT 1 FROM WeightLog w WHERE w.pet.id = s.petId)")
+    int deleteWithoutWeightLogs();
+}
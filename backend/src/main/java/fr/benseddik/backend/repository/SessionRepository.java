@@ -4,6 +4,7 @@ import fr.benseddik.backend.domain.Session;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -79,4 +80,11 @@ public interface SessionRepository extends JpaRepository<Session, UUID> {
         AND s.expiresAt > :now
     """)
     long countActiveSessionsByUserId(UUID userId, Instant now);
-}
\ No newline at end of file
+
+    /**
+     * Suppression en masse des lignes d'un utilisateur (suppression du compte).
+     */
+    @Modifying
+    @Query("DELETE FROM Session s WHERE s.user.id = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+}
@@ -4,6 +4,7 @@ import fr.benseddik.backend.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -36,6 +37,12 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     Optional<User> findByFacebookId(String facebookId);
 
+    /**
+     * Recherche l'ID de l'utilisateur propriétaire d'un flux iCalendar (par hash du jeton).
+     */
+    @Query("SELECT u.id FROM User u WHERE u.calendarTokenHash = :tokenHash")
+    Optional<UUID> findIdByCalendarTokenHash(@Param("tokenHash") String tokenHash);
+
     /**
      * Réinitialise les tentatives de connexion échouées.
      */
@@ -61,4 +68,11 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Modifying
     @Query("UPDATE User u SET u.lockedUntil = :lockedUntil WHERE u.id = :userId")
     void lockAccount(UUID userId, Instant lockedUntil);
-}
\ No newline at end of file
+
+    /**
+     * Supprime la ligne de l'utilisateur sans la charger (les lignes dépendantes doivent avoir été supprimées avant).
+     */
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id = :userId")
+    int deleteAccount(@Param("userId") UUID userId);
+}
@@ -1,15 +1,22 @@
 package fr.benseddik.backend.repository;
 
 import fr.benseddik.backend.domain.Vaccine;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository pour l'entité Vaccine.
@@ -54,6 +61,54 @@ public interface VaccineRepository extends JpaRepository<Vaccine, UUID> {
                                         @Param("today") LocalDate today,
                                         @Param("futureDate") LocalDate futureDate);
 
+    /**
+     * Vaccins d'un propriétaire dont le rappel est dépassé ou tombe avant une date (tous animaux confondus).
+     */
+    @Query("SELECT v FROM Vaccine v JOIN FETCH v.pet p WHERE p.owner.id = :ownerId " +
+           "AND v.nextDate <= :until ORDER BY v.nextDate ASC")
+    List<Vaccine> findDueByOwnerId(@Param("ownerId") UUID ownerId, @Param("until") LocalDate until);
+
+    /**
+     * Rappels de vaccins d'un propriétaire pour le flux iCalendar, en flux continu (sans entité).
+     * ⚠️ Doit être consommé dans une transaction, puis fermé.
+     */
+    @Query("SELECT v.id AS id, v.name AS name, v.nextDate AS nextDate, v.updatedAt AS updatedAt, " +
+           "p.name AS petName FROM Vaccine v JOIN v.pet p " +
+           "WHERE p.owner.id = :ownerId AND v.nextDate >= :since ORDER BY v.nextDate ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    Stream<CalendarVaccine> streamCalendarByOwnerId(@Param("ownerId") UUID ownerId,
+                                                    @Param("since") LocalDate since);
+
+    /**
+     * Version des vaccins d'un propriétaire (nombre + dernière modification) pour l'ETag,
+     * avec celle des animaux dont le flux affiche le nom.
+     */
+    @Query("SELECT COUNT(v) AS count, MAX(v.updatedAt) AS lastUpdated, MAX(p.updatedAt) AS petsUpdated " +
+           "FROM Vaccine v JOIN v.pet p WHERE p.owner.id = :ownerId")
+    CalendarFeedVersion findFeedVersionByOwnerId(@Param("ownerId") UUID ownerId);
+
+    /**
+     * Version des vaccins et des animaux affichés avec eux (dates null si aucune ligne).
+     */
+    interface CalendarFeedVersion extends FeedVersion {
+        Instant getPetsUpdated();
+    }
+
+    /**
+     * Projection d'un rappel de vaccin pour le flux iCalendar.
+     */
+    interface CalendarVaccine {
+        UUID getId();
+
+        String getName();
+
+        LocalDate getNextDate();
+
+        Instant getUpdatedAt();
+
+        String getPetName();
+    }
+
     /**
      * Vérifie si un vaccin appartient à un animal.
      */
@@ -63,4 +118,38 @@ public interface VaccineRepository extends JpaRepository<Vaccine, UUID> {
      * Supprime tous les vaccins d'un animal (cascade manuel si nécessaire).
      */
     void deleteByPetId(UUID petId);
+
+    /**
+     * Vaccins de tous les animaux d'un propriétaire pour l'export de ses données, en flux continu (sans entité).
+     * ⚠️ Doit être consommé dans une transaction, puis fermé.
+     */
+    @Query("SELECT v.id AS id, p.name AS petName, v.name AS name, v.date AS date, v.nextDate AS nextDate, " +
+           "v.status AS status FROM Vaccine v JOIN v.pet p " +
+           "WHERE p.owner.id = :ownerId ORDER BY p.name ASC, v.date ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ExportVaccine> streamExportByOwnerId(@Param("ownerId") UUID ownerId);
+
+    /**
+     * Projection d'un vaccin pour l'export des données.
+     */
+    interface ExportVaccine {
+        UUID getId();
+
+        String getPetName();
+
+        String getName();
+
+        LocalDate getDate();
+
+        LocalDate getNextDate();
+
+        String getStatus();
+    }
+
+    /**
+     * Suppression en masse pour un lot d'animaux (une requête, sans chargement des entités).
+     */
+    @Modifying
+    @Query("DELETE FROM Vaccine v WHERE v.pet.id IN :petIds")
+    int deleteByPetIdIn(@Param("petIds") Collection<UUID> petIds);
 }
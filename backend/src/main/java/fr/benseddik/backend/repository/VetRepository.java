@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,7 +26,7 @@ public interface VetRepository extends JpaRepository<Vet, UUID> {
     /**
      * Cherche des vétérinaires par nom.
      */
-    @Query("SELECT v FROM Vet v WHERE LOWER(v.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    @Query("SELECT v FROM Vet v WHERE LOWER(CONCAT(v.firstName, ' ', v.lastName)) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Vet> searchByName(@Param("name") String name);
 
     /**
@@ -35,8 +36,14 @@ public interface VetRepository extends JpaRepository<Vet, UUID> {
     List<Vet> findBySpecialty(@Param("specialty") String specialty);
 
     /**
-     * Trouve tous les vétérinaires avec leur clinique.
+     * Trouve tous les vétérinaires avec leur clinique (y compris ceux sans clinique).
      */
-    @Query("SELECT v FROM Vet v JOIN FETCH v.clinic")
+    @Query("SELECT v FROM Vet v LEFT JOIN FETCH v.clinic")
     List<Vet> findAllWithClinic();
+
+    /**
+     * Date de dernière modification d'un vétérinaire (null si aucun).
+     */
+    @Query("SELECT MAX(v.updatedAt) FROM Vet v")
+    Instant findLastUpdatedAt();
 }
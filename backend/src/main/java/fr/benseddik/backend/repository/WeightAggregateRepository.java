@@ -0,0 +1,73 @@
+package fr.benseddik.backend.repository;
+
+import fr.benseddik.backend.domain.WeightAggregate;
+import fr.benseddik.backend.domain.WeightAggregate.Granularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository pour l'entité WeightAggregate.
+ *
+ * ⚡ PERFORMANCE : Mises à jour en une requête (upsert PostgreSQL), sans lecture préalable.
+ */
+@Repository
+public interface WeightAggregateRepository extends JpaRepository<WeightAggregate, UUID> {
+
+    /**
+     * Agrégats d'un animal sur une période, dans l'ordre chronologique.
+     */
+    @Query("SELECT a FROM WeightAggregate a WHERE a.petId = :petId AND a.granularity = :granularity " +
+           "AND a.periodStart BETWEEN :startDate AND :endDate ORDER BY a.periodStart ASC")
+    List<WeightAggregate> findByPetIdAndPeriod(@Param("petId") UUID petId,
+                                               @Param("granularity") Granularity granularity,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate);
+
+    /**
+     * Ajoute une pesée à l'agrégat de sa période (création si absent).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO weight_aggregates (pet_id, granularity, period_start, sample_count, weight_sum, weight_min, weight_max) " +
+                   "VALUES (:petId, :granularity, :periodStart, 1, :weight, :weight, :weight) " +
+                   "ON CONFLICT (pet_id, granularity, period_start) DO UPDATE SET " +
+                   "sample_count = weight_aggregates.sample_count + 1, " +
+                   "weight_sum = weight_aggregates.weight_sum + EXCLUDED.weight_sum, " +
+                   "weight_min = LEAST(weight_aggregates.weight_min, EXCLUDED.weight_min), " +
+                   "weight_max = GREATEST(weight_aggregates.weight_max, EXCLUDED.weight_max)",
+           nativeQuery = true)
+    void addSample(@Param("petId") UUID petId,
+                   @Param("granularity") String granularity,
+                   @Param("periodStart") LocalDate periodStart,
+                   @Param("weight") double weight);
+
+    /**
+     * Recalcule l'agrégat d'une période depuis les pesées (après suppression : min / max non réversibles).
+     * Une période devenue vide est supprimée par {@link #deleteEmpty}.
+     */
+    @Modifying
+    @Query(value = "UPDATE weight_aggregates a SET sample_count = s.sample_count, weight_sum = s.weight_sum, " +
+                   "weight_min = s.weight_min, weight_max = s.weight_max " +
+                   "FROM (SELECT COUNT(*) AS sample_count, COALESCE(SUM(w.weight), 0) AS weight_sum, " +
+                   "COALESCE(MIN(w.weight), 0) AS weight_min, COALESCE(MAX(w.weight), 0) AS weight_max " +
+                   "FROM weight_logs w WHERE w.pet_id = :petId AND w.date >= :periodStart AND w.date < :periodEnd) s " +
+                   "WHERE a.pet_id = :petId AND a.granularity = :granularity AND a.period_start = :periodStart",
+           nativeQuery = true)
+    void recompute(@Param("petId") UUID petId,
+                   @Param("granularity") String granularity,
+                   @Param("periodStart") LocalDate periodStart,
+                   @Param("periodEnd") LocalDate periodEnd);
+
+    /**
+     * Supprime les agrégats vides d'un animal.
+     */
+    @Modifying
+    @Query("DELETE FROM WeightAggregate a WHERE a.petId = :petId AND a.sampleCount = 0")
+    void deleteEmpty(@Param("petId") UUID petId);
+}
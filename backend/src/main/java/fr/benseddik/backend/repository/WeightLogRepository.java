@@ -1,15 +1,21 @@
 package fr.benseddik.backend.repository;
 
 import fr.benseddik.backend.domain.WeightLog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository pour l'entité WeightLog.
@@ -50,6 +56,46 @@ public interface WeightLogRepository extends JpaRepository<WeightLog, UUID> {
                                               @Param("startDate") LocalDate startDate,
                                               @Param("endDate") LocalDate endDate);
 
+    /**
+     * Compte les poids dans une période donnée.
+     */
+    long countByPetIdAndDateBetween(UUID petId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Poids dans une période donnée, en flux continu (date + poids, sans entité).
+     * ⚠️ Doit être consommé dans une transaction, puis fermé.
+     */
+    @Query("SELECT w.date AS date, w.weight AS weight FROM WeightLog w WHERE w.pet.id = :petId " +
+           "AND w.date BETWEEN :startDate AND :endDate " +
+           "ORDER BY w.date ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<WeightPoint> streamByPetIdAndDateBetween(@Param("petId") UUID petId,
+                                                    @Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate);
+
+    /**
+     * IDs des animaux ayant au moins une pesée.
+     */
+    @Query("SELECT DISTINCT w.pet.id FROM WeightLog w")
+    List<UUID> findDistinctPetIds();
+
+    /**
+     * Poids d'un lot d'animaux en flux continu, groupés par animal puis par date.
+     * ⚠️ Doit être consommé dans une transaction, puis fermé.
+     */
+    @Query("SELECT w.pet.id AS petId, w.date AS date, w.weight AS weight FROM WeightLog w " +
+           "WHERE w.pet.id IN :petIds ORDER BY w.pet.id, w.date ASC, w.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<PetWeightPoint> streamByPetIds(@Param("petIds") Collection<UUID> petIds);
+
+    /**
+     * Dernière pesée de chaque animal d'un lot (plusieurs lignes si plusieurs pesées le même jour).
+     */
+    @Query("SELECT w.pet.id AS petId, w.date AS date, w.weight AS weight FROM WeightLog w " +
+           "WHERE w.pet.id IN :petIds " +
+           "AND w.date = (SELECT MAX(w2.date) FROM WeightLog w2 WHERE w2.pet = w.pet)")
+    List<PetWeightPoint> findLatestByPetIds(@Param("petIds") Collection<UUID> petIds);
+
     /**
      * Vérifie si un poids appartient à un animal.
      */
@@ -59,4 +105,45 @@ public interface WeightLogRepository extends JpaRepository<WeightLog, UUID> {
      * Supprime tous les poids d'un animal.
      */
     void deleteByPetId(UUID petId);
+
+    /**
+     * Projection d'une pesée (date + poids).
+     */
+    interface WeightPoint {
+        LocalDate getDate();
+
+        Double getWeight();
+    }
+
+    /**
+     * Projection d'une pesée avec son animal.
+     */
+    interface PetWeightPoint extends WeightPoint {
+        UUID getPetId();
+    }
+
+    /**
+     * Pesées de tous les animaux d'un propriétaire pour l'export de ses données, en flux continu (sans entité).
+     * ⚠️ Doit être consommé dans une transaction, puis fermé.
+     */
+    @Query("SELECT p.name AS petName, w.date AS date, w.weight AS weight, w.note AS note " +
+           "FROM WeightLog w JOIN w.pet p WHERE p.owner.id = :ownerId ORDER BY p.name ASC, w.date ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<ExportWeightLog> streamExportByOwnerId(@Param("ownerId") UUID ownerId);
+
+    /**
+     * Projection d'une pesée pour l'export des données.
+     */
+    interface ExportWeightLog extends WeightPoint {
+        String getPetName();
+
+        String getNote();
+    }
+
+    /**
+     * Suppression en masse pour un lot d'animaux (une requête, sans chargement des entités).
+     */
+    @Modifying
+    @Query("DELETE FROM WeightLog w WHERE w.pet.id IN :petIds")
+    int deleteByPetIdIn(@Param("petIds") Collection<UUID> petIds);
 }
@@ -0,0 +1,122 @@
+package fr.benseddik.backend.security;
+
+import fr.benseddik.backend.config.PriorityClass;
+import fr.benseddik.backend.config.SecurityProperties;
+import fr.benseddik.backend.util.GradientLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ⚡ PERFORMANCE : délestage adaptatif des requêtes simultanées.
+ *
+ * Complète le rate limiting par IP : lors d'un pic de trafic légitime, les requêtes au-delà
+ * de la limite reçoivent immédiatement un 503 au lieu d'attendre le pool de connexions
+ * et de dégrader la latence de tout le monde.
+ *
+ * La limite suit la latence mesurée ({@link GradientLimit}) : elle baisse dès que la latence
+ * s'allonge, remonte tant qu'elle reste stable.
+ *
+ * Placé avant la chaîne Spring Security : une requête délestée ne coûte ni décodage JWT
+ * ni accès à la base. Les sondes /actuator/health et l'authentification (classe CRITICAL,
+ * voir {@link PriorityAdmissionFilter}) ne sont jamais délestées.
+ *
+ * Seule la classe INTERACTIVE alimente le gradient : les requêtes BULK (imports, exports, pièces jointes)
+ * sont longues par nature et bornées par leur propre file d'admission ; les compter ferait baisser la limite
+ * et délester les requêtes interactives sans que leur latence ait changé. De même, une requête asynchrone
+ * ou en flux rend la main avant d'avoir fini : sa durée n'est pas une mesure de latence.
+ *
+ * Métriques : petcare.concurrency.limit, petcare.concurrency.inflight, petcare.concurrency.shed
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final SecurityProperties.ConcurrencyLimit properties;
+    private final GradientLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter shed;
+
+    public ConcurrencyLimitFilter(SecurityProperties securityProperties, MeterRegistry meterRegistry) {
+        this.properties = securityProperties.concurrencyLimit();
+        this.limit = new GradientLimit(properties.initialLimit(), properties.minLimit(), properties.maxLimit(),
+                properties.rttTolerance(), properties.smoothing(), properties.windowSize());
+
+        Gauge.builder("petcare.concurrency.limit", limit, GradientLimit::limit)
+                .description("Limite adaptative de requêtes simultanées")
+                .register(meterRegistry);
+        Gauge.builder("petcare.concurrency.inflight", inFlight, AtomicInteger::get)
+                .description("Requêtes interactives et d'authentification en cours de traitement")
+                .register(meterRegistry);
+        this.shed = Counter.builder("petcare.concurrency.shed")
+                .description("Requêtes rejetées (503) au-delà de la limite")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        PriorityClass priority = priorityOf(request);
+        if (!properties.enabled() || priority == PriorityClass.BULK) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        int current = inFlight.incrementAndGet();
+        if (current > limit.limit() && priority != PriorityClass.CRITICAL) {
+            inFlight.decrementAndGet();
+            shed.increment();
+            log.debug("Requête délestée ({} en cours, limite {}) : {}", current - 1, limit.limit(),
+                    request.getServletPath());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setContentType("application/json");
+            response.getWriter().write(
+                    "{\"error\":\"Service Unavailable\",\"message\":\"Serveur momentanément surchargé. Réessayez dans un instant.\"}");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            inFlight.decrementAndGet();
+            if (priority == PriorityClass.INTERACTIVE && !request.isAsyncStarted()) {
+                limit.onSample(System.nanoTime() - startedAt, current);
+            }
+        }
+    }
+
+    /**
+     * Classe fixée par {@link PriorityAdmissionFilter} ; INTERACTIVE si l'admission est désactivée.
+     * Authentification (CRITICAL) : comptée mais jamais délestée ; BULK : ni comptée ni délestée.
+     */
+    private static PriorityClass priorityOf(HttpServletRequest request) {
+        return request.getAttribute(PriorityAdmissionFilter.PRIORITY_ATTRIBUTE) instanceof PriorityClass priority
+                ? priority : PriorityClass.INTERACTIVE;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Sondes de santé jamais délestées (sinon l'instance serait retirée en pleine charge)
+        return request.getServletPath().startsWith("/actuator/health");
+    }
+}
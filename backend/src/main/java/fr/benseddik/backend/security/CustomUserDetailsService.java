@@ -2,6 +2,7 @@ package fr.benseddik.backend.security;
 
 import fr.benseddik.backend.domain.User;
 import fr.benseddik.backend.repository.UserRepository;
+import fr.benseddik.backend.security.jfr.UserLookupEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -9,10 +10,13 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Service de chargement des utilisateurs pour Spring Security.
+ *
+ * 🔬 Événement JFR "petcare.UserLookup" par chargement.
  */
 @Service
 @RequiredArgsConstructor
@@ -23,7 +27,12 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        UserLookupEvent event = new UserLookupEvent();
+        event.begin();
+        Optional<User> found = userRepository.findByEmail(email);
+        event.record("email", found.isPresent());
+
+        User user = found
                 .orElseThrow(() -> new UsernameNotFoundException(
                         "Utilisateur non trouvé avec l'email: " + email
                 ));
@@ -37,7 +46,12 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Transactional(readOnly = true)
     public UserDetails loadUserById(UUID userId) throws UsernameNotFoundException {
-        User user = userRepository.findById(userId)
+        UserLookupEvent event = new UserLookupEvent();
+        event.begin();
+        Optional<User> found = userRepository.findById(userId);
+        event.record("id", found.isPresent());
+
+        User user = found
                 .orElseThrow(() -> new UsernameNotFoundException(
                         "Utilisateur non trouvé avec l'ID: " + userId
                 ));
@@ -0,0 +1,53 @@
+package fr.benseddik.backend.security;
+
+import fr.benseddik.backend.config.SecurityProperties;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Authentification HTTP Basic du collecteur Prometheus sur /actuator/prometheus.
+ *
+ * Identifiants statiques (app.security.metrics-scrape), comparés en temps constant : un jeton
+ * JWT de 5 minutes ne convient pas à un scrape périodique, et Argon2 (~300 ms) à chaque scrape non plus.
+ * Mot de passe vide : scrape refusé.
+ */
+public class MetricsScrapeAuthenticationProvider implements AuthenticationProvider {
+
+    public static final String ROLE = "METRICS";
+
+    private final byte[] username;
+    private final byte[] password;
+
+    public MetricsScrapeAuthenticationProvider(SecurityProperties.MetricsScrape properties) {
+        this.username = properties.username().getBytes(StandardCharsets.UTF_8);
+        this.password = properties.password().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        String name = authentication.getName();
+        Object credentials = authentication.getCredentials();
+        if (password.length == 0 || name == null || credentials == null) {
+            throw new BadCredentialsException("Identifiants de scrape invalides");
+        }
+        boolean usernameMatches = MessageDigest.isEqual(username, name.getBytes(StandardCharsets.UTF_8));
+        boolean passwordMatches = MessageDigest.isEqual(password, credentials.toString().getBytes(StandardCharsets.UTF_8));
+        if (!(usernameMatches && passwordMatches)) {
+            throw new BadCredentialsException("Identifiants de scrape invalides");
+        }
+        return UsernamePasswordAuthenticationToken.authenticated(name, null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + ROLE)));
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+}
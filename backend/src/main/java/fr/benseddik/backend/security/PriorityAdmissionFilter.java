@@ -0,0 +1,177 @@
+package fr.benseddik.backend.security;
+
+import fr.benseddik.backend.config.AdmissionProperties;
+import fr.benseddik.backend.config.PriorityClass;
+import fr.benseddik.backend.config.RequestPriority;
+import fr.benseddik.backend.util.AdmissionQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.RequestPath;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ⚡ PERFORMANCE : admission des requêtes par classe de priorité ({@link RequestPriority}).
+ *
+ * Chaque classe a sa propre part de concurrence et sa file d'attente bornée : un afflux
+ * d'imports ou d'exports (BULK) sature sa file et reçoit des 503, sans jamais retarder
+ * l'authentification (CRITICAL) ni la navigation (INTERACTIVE).
+ *
+ * Exécuté en premier, avant le délestage adaptatif ({@link ConcurrencyLimitFilter}) qui
+ * épargne la classe CRITICAL, et avant la chaîne Spring Security.
+ *
+ * Métriques (étiquette "class") : petcare.admission.active, petcare.admission.waiting,
+ * petcare.admission.rejected. Span de trace "admission.wait" couvrant l'attente en file.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@Slf4j
+public class PriorityAdmissionFilter extends OncePerRequestFilter {
+
+    /**
+     * Attribut de requête portant la {@link PriorityClass} résolue.
+     */
+    public static final String PRIORITY_ATTRIBUTE = PriorityAdmissionFilter.class.getName() + ".priority";
+
+    private final AdmissionProperties properties;
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+    private final Map<PriorityClass, AdmissionQueue> queues = new EnumMap<>(PriorityClass.class);
+    private final Map<PriorityClass, Counter> rejected = new EnumMap<>(PriorityClass.class);
+    private final Tracer tracer;
+
+    // Cache : méthode du contrôleur -> classe de priorité
+    private final Map<Method, PriorityClass> priorities = new ConcurrentHashMap<>();
+
+    public PriorityAdmissionFilter(AdmissionProperties properties,
+                                   @Qualifier("requestMappingHandlerMapping")
+                                   ObjectProvider<RequestMappingHandlerMapping> handlerMapping,
+                                   MeterRegistry meterRegistry,
+                                   Tracer tracer) {
+        this.properties = properties;
+        this.handlerMapping = handlerMapping;
+        this.tracer = tracer;
+
+        for (PriorityClass priority : PriorityClass.values()) {
+            AdmissionProperties.Share share = properties.forClass(priority);
+            AdmissionQueue queue = new AdmissionQueue(share.maxConcurrent(), share.queueCapacity());
+            queues.put(priority, queue);
+
+            String tag = priority.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("petcare.admission.active", queue, AdmissionQueue::active)
+                    .description("Requêtes admises en cours de traitement")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder("petcare.admission.waiting", queue, AdmissionQueue::waiting)
+                    .description("Requêtes en file d'admission")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            rejected.put(priority, Counter.builder("petcare.admission.rejected")
+                    .description("Requêtes rejetées (503) : file pleine ou attente dépassée")
+                    .tag("class", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        if (!properties.enabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        PriorityClass priority = resolve(request);
+        request.setAttribute(PRIORITY_ATTRIBUTE, priority);
+        AdmissionQueue queue = queues.get(priority);
+
+        boolean admitted = false;
+        Span wait = tracer.nextSpan().name("admission.wait").tag("class", priority.name()).start();
+        try {
+            admitted = queue.enter(properties.forClass(priority).maxWait());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            wait.tag("admitted", String.valueOf(admitted)).end();
+        }
+
+        if (!admitted) {
+            rejected.get(priority).increment();
+            log.debug("Requête {} non admise ({} en cours, {} en attente) : {}", priority,
+                    queue.active(), queue.waiting(), request.getServletPath());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setContentType("application/json");
+            response.getWriter().write(
+                    "{\"error\":\"Service Unavailable\",\"message\":\"Serveur momentanément surchargé. Réessayez dans un instant.\"}");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            queue.exit();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getServletPath().startsWith("/actuator/health");
+    }
+
+    /**
+     * Classe de priorité du contrôleur qui traitera la requête (INTERACTIVE par défaut).
+     */
+    private PriorityClass resolve(HttpServletRequest request) {
+        // Le DispatcherServlet n'a pas encore analysé le chemin : analyse temporaire
+        RequestPath previousPath = (RequestPath) request.getAttribute(ServletRequestPathUtils.PATH_ATTRIBUTE);
+        ServletRequestPathUtils.parseAndCache(request);
+        try {
+            HandlerExecutionChain chain = handlerMapping.getObject().getHandler(request);
+            if (chain != null && chain.getHandler() instanceof HandlerMethod handlerMethod) {
+                return priorities.computeIfAbsent(handlerMethod.getMethod(), method -> declared(handlerMethod));
+            }
+        } catch (Exception e) {
+            // Pas de correspondance (404, 405...) : traité plus loin par le DispatcherServlet
+        } finally {
+            ServletRequestPathUtils.setParsedRequestPath(previousPath, request);
+        }
+        return PriorityClass.INTERACTIVE;
+    }
+
+    private static PriorityClass declared(HandlerMethod handlerMethod) {
+        RequestPriority annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), RequestPriority.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), RequestPriority.class);
+        }
+        return annotation != null ? annotation.value() : PriorityClass.INTERACTIVE;
+    }
+}
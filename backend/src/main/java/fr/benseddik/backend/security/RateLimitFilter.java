@@ -3,6 +3,7 @@ package fr.benseddik.backend.security;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import fr.benseddik.backend.config.SecurityProperties;
+import fr.benseddik.backend.security.jfr.RateLimitEvent;
 import fr.benseddik.backend.util.IpAddressResolver;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
@@ -31,6 +32,8 @@ import java.util.concurrent.TimeUnit;
  *
  * Utilise Bucket4j (Token Bucket Algorithm) avec cache Caffeine.
  * Pour production : remplacer Caffeine par Redis (cache distribué).
+ *
+ * 🔬 Événement JFR "petcare.RateLimit" par décision (création de bucket comprise).
  */
 @Component
 @RequiredArgsConstructor
@@ -59,18 +62,29 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
+        RateLimitEvent event = new RateLimitEvent();
+        event.begin();
+
         String ip = ipAddressResolver.resolveClientIp(request);
         String path = request.getServletPath();
 
         // Déterminer la limite selon le type d'endpoint
-        int limit = isAuthEndpoint(path)
+        boolean authEndpoint = isAuthEndpoint(path);
+        int limit = authEndpoint
                 ? securityProperties.rateLimit().authRequestsPerMinute()
                 : securityProperties.rateLimit().requestsPerMinute();
 
         // Récupérer ou créer le bucket pour cette IP
-        Bucket bucket = cache.get(ip, key -> createBucket(limit));
+        Bucket bucket = cache.get(ip, key -> {
+            event.bucketCreated();
+            return createBucket(limit);
+        });
+
+        boolean allowed = bucket != null && bucket.tryConsume(1);
+        long remaining = allowed ? bucket.getAvailableTokens() : 0;
+        event.record(authEndpoint ? "auth" : "api", allowed, limit, remaining);
 
-        if (bucket == null || !bucket.tryConsume(1)) {
+        if (!allowed) {
             // Rate limit dépassé
             log.warn("Rate limit dépassé pour IP: {} sur {}", ip, path);
             response.setStatus(429); // Too Many Requests
@@ -85,7 +99,6 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
 
         // Ajouter header avec nombre de requêtes restantes
-        long remaining = bucket.getAvailableTokens();
         response.setHeader("X-RateLimit-Limit", String.valueOf(limit));
         response.setHeader("X-RateLimit-Remaining", String.valueOf(remaining));
 
@@ -0,0 +1,133 @@
+package fr.benseddik.backend.security;
+
+import fr.benseddik.backend.config.MetricTags;
+import fr.benseddik.backend.config.SqlBudgetProperties;
+import fr.benseddik.backend.config.SqlUsage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ⚡ PERFORMANCE : budget SQL par requête HTTP, pour repérer les N+1 en production.
+ *
+ * Ouvre un {@link SqlUsage} alimenté par {@code SqlBudgetListener} puis, en fin de requête,
+ * compare le nombre d'ordres SQL et le temps JDBC cumulé au budget de la route
+ * ({@link SqlBudgetProperties}).
+ *
+ * Placé avant la chaîne Spring Security : le chargement de l'utilisateur par le filtre JWT
+ * est compté avec le reste de la requête.
+ *
+ * Métriques (étiquette endpoint) : petcare.sql.statements, petcare.sql.time,
+ * petcare.sql.budget.exceeded (étiquette limit : statements ou time)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 15)
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public SqlBudgetFilter(SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        if (!properties.enabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SqlUsage usage = SqlUsage.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlUsage.clear();
+            report(request, usage);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlUsage usage) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : MetricTags.NONE;
+        Meters endpointMeters = meters.computeIfAbsent(endpoint, this::register);
+
+        int statements = usage.statements();
+        Duration jdbcTime = usage.jdbcTime();
+        endpointMeters.statements.record(statements);
+        endpointMeters.time.record(jdbcTime.toNanos(), TimeUnit.NANOSECONDS);
+
+        SqlBudgetProperties.Budget budget = properties.forEndpoint(endpoint);
+        boolean tooManyStatements = statements > budget.maxStatements();
+        boolean tooLong = jdbcTime.compareTo(budget.maxJdbcTime()) > 0;
+        if (tooManyStatements) {
+            endpointMeters.statementsExceeded.increment();
+        }
+        if (tooLong) {
+            endpointMeters.timeExceeded.increment();
+        }
+
+        if ((tooManyStatements || tooLong) && properties.sampleReport()) {
+            log.warn("🧮 Budget SQL dépassé sur {} {} : {} ordres (max {}), {} ms JDBC (max {} ms){}",
+                    request.getMethod(), endpoint, statements, budget.maxStatements(),
+                    jdbcTime.toMillis(), budget.maxJdbcTime().toMillis(),
+                    usage.mostRepeated()
+                            .filter(repeated -> repeated.count() > 1)
+                            .map(repeated -> " | le plus répété (×" + repeated.count() + ") : " + repeated.sql())
+                            .orElse(""));
+        }
+    }
+
+    private Meters register(String endpoint) {
+        return new Meters(
+                DistributionSummary.builder("petcare.sql.statements")
+                        .description("Ordres SQL exécutés par requête HTTP")
+                        .tag(MetricTags.ENDPOINT, endpoint)
+                        .register(meterRegistry),
+                Timer.builder("petcare.sql.time")
+                        .description("Temps JDBC cumulé par requête HTTP")
+                        .tag(MetricTags.ENDPOINT, endpoint)
+                        .register(meterRegistry),
+                exceeded(endpoint, "statements"),
+                exceeded(endpoint, "time"));
+    }
+
+    private Counter exceeded(String endpoint, String limit) {
+        return Counter.builder("petcare.sql.budget.exceeded")
+                .description("Requêtes HTTP au-delà du budget SQL")
+                .tag(MetricTags.ENDPOINT, endpoint)
+                .tag("limit", limit)
+                .register(meterRegistry);
+    }
+
+    private record Meters(DistributionSummary statements, Timer time,
+                          Counter statementsExceeded, Counter timeExceeded) {
+    }
+}
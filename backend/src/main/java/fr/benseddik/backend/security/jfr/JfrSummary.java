@@ -0,0 +1,104 @@
+package fr.benseddik.backend.security.jfr;
+
+import jdk.jfr.ValueDescriptor;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * Résumé d'un enregistrement JFR : durées des événements PetCare ("petcare.*") par type et par
+ * valeur de leurs champs texte et booléens (résultat, opération…).
+ *
+ * Usage :
+ * <pre>
+ * java -cp target/classes fr.benseddik.backend.security.jfr.JfrSummary petcare.jfr [préfixe]
+ * </pre>
+ */
+public final class JfrSummary {
+
+    static final String DEFAULT_PREFIX = "petcare.";
+
+    /**
+     * Statistiques d'un groupe d'événements, durées en nanosecondes.
+     */
+    public record Stats(String group, long count, long mean, long p50, long p99, long max, long meanAllocated) {
+    }
+
+    private JfrSummary() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage : JfrSummary <enregistrement.jfr> [préfixe des événements]");
+            System.exit(2);
+        }
+        print(summarize(Path.of(args[0]), args.length > 1 ? args[1] : DEFAULT_PREFIX), System.out);
+    }
+
+    public static List<Stats> summarize(Path recording, String prefix) throws IOException {
+        Map<String, List<long[]>> groups = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (event.getEventType().getName().startsWith(prefix)) {
+                    long allocated = event.hasField("allocated") ? event.getLong("allocated") : 0;
+                    groups.computeIfAbsent(group(event), g -> new ArrayList<>())
+                            .add(new long[]{event.getDuration().toNanos(), allocated});
+                }
+            }
+        }
+
+        List<Stats> stats = new ArrayList<>();
+        groups.forEach((group, samples) -> {
+            long[] durations = samples.stream().mapToLong(s -> s[0]).sorted().toArray();
+            long allocated = samples.stream().mapToLong(s -> s[1]).sum();
+            stats.add(new Stats(group, durations.length,
+                    Arrays.stream(durations).sum() / durations.length,
+                    percentile(durations, 0.50), percentile(durations, 0.99),
+                    durations[durations.length - 1], allocated / durations.length));
+        });
+        return stats;
+    }
+
+    static void print(List<Stats> stats, PrintStream out) {
+        int width = stats.stream().mapToInt(s -> s.group().length()).max().orElse(10);
+        String format = "%-" + width + "s %9s %10s %10s %10s %10s %10s%n";
+        out.printf(format, "event", "count", "mean", "p50", "p99", "max", "alloc/op");
+        for (Stats s : stats) {
+            out.printf(format, s.group(), s.count(), micros(s.mean()), micros(s.p50()), micros(s.p99()),
+                    micros(s.max()), s.meanAllocated() > 0 ? s.meanAllocated() / 1024 + " KiB" : "-");
+        }
+    }
+
+    /**
+     * Type de l'événement suivi de ses champs texte et booléens ("petcare.JwtVerify outcome=VALID").
+     */
+    private static String group(RecordedEvent event) {
+        StringJoiner group = new StringJoiner(" ");
+        group.add(event.getEventType().getName());
+        for (ValueDescriptor field : event.getFields()) {
+            String type = field.getTypeName();
+            if (type.equals("java.lang.String") || type.equals("boolean")) {
+                group.add(field.getName() + "=" + event.getValue(field.getName()));
+            }
+        }
+        return group.toString();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    private static String micros(long nanos) {
+        return String.format("%.1f µs", nanos / 1_000.0);
+    }
+}
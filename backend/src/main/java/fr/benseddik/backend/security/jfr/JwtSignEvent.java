@@ -0,0 +1,29 @@
+package fr.benseddik.backend.security.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Événement JFR : signature et sérialisation d'un JWT.
+ */
+@Name("petcare.JwtSign")
+@Label("JWT Sign")
+@Category({"PetCare", "Security"})
+@Description("Signature HMAC et sérialisation d'un jeton d'accès ou de rafraîchissement")
+@StackTrace(false)
+public class JwtSignEvent extends Event {
+
+    @Label("Token Type")
+    String tokenType;
+
+    public void record(String tokenType) {
+        if (shouldCommit()) {
+            this.tokenType = tokenType;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package fr.benseddik.backend.security.jfr;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SecurityException;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Événement JFR : analyse et vérification de signature d'un JWT.
+ */
+@Name("petcare.JwtVerify")
+@Label("JWT Verify")
+@Category({"PetCare", "Security"})
+@Description("Analyse d'un JWT et vérification de sa signature HMAC")
+@StackTrace(false)
+public class JwtVerifyEvent extends Event {
+
+    public static final String VALID = "VALID";
+
+    @Label("Purpose")
+    @Description("Appelant : validation du jeton ou lecture d'un claim")
+    String purpose;
+
+    @Label("Outcome")
+    @Description("VALID, EXPIRED, BAD_SIGNATURE, MALFORMED ou INVALID")
+    String outcome;
+
+    public void record(String purpose, String outcome) {
+        if (shouldCommit()) {
+            this.purpose = purpose;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+
+    public static String outcome(JwtException e) {
+        if (e instanceof ExpiredJwtException) {
+            return "EXPIRED";
+        }
+        if (e instanceof SecurityException) {
+            return "BAD_SIGNATURE";
+        }
+        if (e instanceof MalformedJwtException) {
+            return "MALFORMED";
+        }
+        return "INVALID";
+    }
+}
@@ -0,0 +1,55 @@
+package fr.benseddik.backend.security.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Événement JFR : hachage ou vérification Argon2 d'un mot de passe.
+ */
+@Name("petcare.PasswordHash")
+@Label("Password Hash")
+@Category({"PetCare", "Security"})
+@Description("Calcul Argon2id (encodage ou vérification d'un mot de passe)")
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    @Label("Operation")
+    @Description("encode ou matches")
+    String operation;
+
+    @Label("Matched")
+    boolean matched;
+
+    @Label("Memory Cost")
+    @DataAmount
+    long memoryCost;
+
+    @Label("Iterations")
+    int iterations;
+
+    @Label("Parallelism")
+    int parallelism;
+
+    @Label("Allocated")
+    @Description("Octets alloués par le thread pendant le calcul")
+    @DataAmount
+    long allocated;
+
+    public void record(String operation, boolean matched, long memoryCost, int iterations, int parallelism,
+                       long allocated) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.matched = matched;
+            this.memoryCost = memoryCost;
+            this.iterations = iterations;
+            this.parallelism = parallelism;
+            this.allocated = allocated;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package fr.benseddik.backend.security.jfr;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Encodeur Argon2 émettant un {@link PasswordHashEvent} par calcul : durée, paramètres de coût
+ * et octets alloués par le thread (les blocs mémoire Argon2 sont alloués sur le tas).
+ *
+ * Sans enregistrement JFR actif, seul le test {@code isEnabled()} s'ajoute au calcul.
+ */
+public class ProfiledArgon2PasswordEncoder extends Argon2PasswordEncoder {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final long memoryCost;
+    private final int iterations;
+    private final int parallelism;
+
+    /**
+     * @param memory mémoire en Kio, comme {@link Argon2PasswordEncoder}
+     */
+    public ProfiledArgon2PasswordEncoder(int saltLength, int hashLength, int parallelism, int memory,
+                                         int iterations) {
+        super(saltLength, hashLength, parallelism, memory, iterations);
+        this.memoryCost = memory * 1024L;
+        this.iterations = iterations;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        if (!event.isEnabled()) {
+            return super.encode(rawPassword);
+        }
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        event.begin();
+        String hash = super.encode(rawPassword);
+        event.record("encode", false, memoryCost, iterations, parallelism,
+                THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore);
+        return hash;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        if (!event.isEnabled()) {
+            return super.matches(rawPassword, encodedPassword);
+        }
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        event.begin();
+        boolean matched = super.matches(rawPassword, encodedPassword);
+        event.record("matches", matched, memoryCost, iterations, parallelism,
+                THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore);
+        return matched;
+    }
+}
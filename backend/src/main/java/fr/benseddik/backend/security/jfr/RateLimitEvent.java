@@ -0,0 +1,55 @@
+package fr.benseddik.backend.security.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Événement JFR : décision du limiteur de débit par IP.
+ *
+ * L'adresse IP n'est pas enregistrée (donnée personnelle).
+ */
+@Name("petcare.RateLimit")
+@Label("Rate Limit")
+@Category({"PetCare", "Security"})
+@Description("Décision du limiteur de débit (bucket par IP)")
+@StackTrace(false)
+public class RateLimitEvent extends Event {
+
+    @Label("Scope")
+    @Description("auth (limite stricte) ou api")
+    String scope;
+
+    @Label("Allowed")
+    boolean allowed;
+
+    @Label("Bucket Created")
+    @Description("Premier passage de l'IP : bucket créé pendant la décision")
+    boolean bucketCreated;
+
+    @Label("Limit")
+    int limit;
+
+    @Label("Remaining Tokens")
+    long remaining;
+
+    /**
+     * Renseigné pendant la décision, avant {@link #record}.
+     */
+    public void bucketCreated() {
+        this.bucketCreated = true;
+    }
+
+    public void record(String scope, boolean allowed, int limit, long remaining) {
+        if (shouldCommit()) {
+            this.scope = scope;
+            this.allowed = allowed;
+            this.limit = limit;
+            this.remaining = remaining;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package fr.benseddik.backend.security.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Événement JFR : chargement de l'utilisateur authentifié (connexion ou filtre JWT).
+ */
+@Name("petcare.UserLookup")
+@Label("User Lookup")
+@Category({"PetCare", "Security"})
+@Description("Chargement de l'utilisateur par email (connexion) ou par identifiant (filtre JWT)")
+@StackTrace(false)
+public class UserLookupEvent extends Event {
+
+    @Label("Lookup")
+    @Description("email ou id")
+    String lookup;
+
+    @Label("Found")
+    boolean found;
+
+    public void record(String lookup, boolean found) {
+        if (shouldCommit()) {
+            this.lookup = lookup;
+            this.found = found;
+            commit();
+        }
+    }
+}
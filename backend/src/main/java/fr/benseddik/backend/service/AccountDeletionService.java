@@ -0,0 +1,27 @@
+package fr.benseddik.backend.service;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Service de suppression définitive des animaux et des comptes.
+ *
+ * ⚡ PERFORMANCE : suppressions ensemblistes ordonnées (une requête DELETE par table, enfants
+ * avant parents) au lieu du chargement puis de la suppression ligne à ligne des collections
+ * en cascade JPA. Aucune vérification de propriété : à la charge de l'appelant.
+ */
+public interface AccountDeletionService {
+
+    /**
+     * Supprime des animaux et tout leur historique (rendez-vous, vaccins, pesées,
+     * historique médical, notifications) et libère leurs fichiers.
+     *
+     * @return nombre d'animaux supprimés
+     */
+    int deletePets(Collection<UUID> petIds);
+
+    /**
+     * Supprime un utilisateur, ses animaux et toutes les données qui lui sont rattachées.
+     */
+    void deleteAccount(UUID userId);
+}
@@ -30,6 +30,11 @@ public interface AppointmentService {
      */
     List<AppointmentResponse> getUpcomingAppointments(UUID userId);
 
+    /**
+     * Récupère les N prochains rendez-vous.
+     */
+    List<AppointmentResponse> getNextAppointments(UUID userId, int limit);
+
     /**
      * Récupère un rendez-vous par ID (avec vérification de propriété).
      */
@@ -0,0 +1,29 @@
+package fr.benseddik.backend.service;
+
+import fr.benseddik.backend.dto.response.AutocompleteSuggestionResponse;
+
+import java.util.List;
+
+/**
+ * Service d'autocomplétion des cliniques et vétérinaires.
+ *
+ * ⚡ PERFORMANCE : Les suggestions sont servies depuis un index en mémoire,
+ * sans aucun accès à la base de données par frappe clavier.
+ */
+public interface AutocompleteService {
+
+    /**
+     * Suggère des cliniques dont le nom ou l'adresse (ville) commence par le préfixe.
+     */
+    List<AutocompleteSuggestionResponse> suggestClinics(String prefix, Integer limit);
+
+    /**
+     * Suggère des vétérinaires dont le nom, la spécialité ou la clinique commence par le préfixe.
+     */
+    List<AutocompleteSuggestionResponse> suggestVets(String prefix, Integer limit);
+
+    /**
+     * Reconstruit les index si les cliniques ou vétérinaires ont changé.
+     */
+    void refreshIfChanged();
+}
@@ -0,0 +1,68 @@
+package fr.benseddik.backend.service;
+
+import fr.benseddik.backend.dto.response.AvatarResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Service des avatars (animaux, utilisateurs) et de leurs vignettes.
+ *
+ * ⚡ PERFORMANCE : les listes chargent des vignettes JPEG de quelques Ko,
+ * générées en arrière-plan à l'envoi et servies depuis un cache.
+ */
+public interface AvatarService {
+
+    /**
+     * Enregistre la photo d'un animal (avec vérification de propriété).
+     */
+    AvatarResponse uploadPetAvatar(UUID petId, InputStream content, String contentType, UUID userId) throws IOException;
+
+    /**
+     * Enregistre la photo de profil d'un utilisateur.
+     */
+    AvatarResponse uploadUserAvatar(UUID userId, InputStream content, String contentType) throws IOException;
+
+    /**
+     * Remplace un avatar par une URL fournie par le client : référence la nouvelle, libère l'ancienne
+     * (sans effet pour une URL externe).
+     */
+    void replace(String previousUrl, String newUrl);
+
+    /**
+     * Libère le contenu d'un avatar remplacé ou supprimé (sans effet pour une URL externe).
+     */
+    void release(String avatarUrl);
+
+    /**
+     * Récupère une vignette (JPEG).
+     *
+     * @return le contenu, ou null si l'avatar est inconnu
+     */
+    byte[] getThumbnail(String sha256, ThumbnailSize size);
+
+    /**
+     * Tailles de vignettes générées (carrées).
+     */
+    enum ThumbnailSize {
+        SMALL(64),
+        MEDIUM(128),
+        LARGE(256);
+
+        private final int pixels;
+
+        ThumbnailSize(int pixels) {
+            this.pixels = pixels;
+        }
+
+        public int pixels() {
+            return pixels;
+        }
+
+        public static ThumbnailSize fromPixels(int pixels) {
+            return Arrays.stream(values()).filter(size -> size.pixels == pixels).findFirst().orElse(null);
+        }
+    }
+}
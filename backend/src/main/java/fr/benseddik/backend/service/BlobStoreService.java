@@ -0,0 +1,69 @@
+package fr.benseddik.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Stockage de fichiers sur disque local, adressés par leur contenu (SHA-256).
+ *
+ * ⚡ PERFORMANCE : les envois sont recopiés par flux vers le disque, jamais chargés en mémoire.
+ */
+public interface BlobStoreService {
+
+    /**
+     * Enregistre un contenu et lui ajoute une référence (dédupliqué s'il existe déjà).
+     *
+     * @param maxSize taille maximale acceptée en octets
+     */
+    default StoredBlob store(InputStream content, String contentType, long maxSize) throws IOException {
+        return store(content, contentType, maxSize, file -> { });
+    }
+
+    /**
+     * Enregistre un contenu après l'avoir fait valider par l'appelant.
+     *
+     * Le contrôle porte sur le fichier temporaire : un contenu refusé n'atteint jamais
+     * son emplacement définitif. Si la transaction de l'appelant est annulée, le contenu
+     * créé par cet envoi est déclaré orphelin et supprimé par la purge.
+     *
+     * @param check contrôle du contenu reçu ; lève une exception pour le refuser
+     */
+    StoredBlob store(InputStream content, String contentType, long maxSize, ContentCheck check) throws IOException;
+
+    /**
+     * Ajoute une référence vers un contenu existant.
+     */
+    void retain(String sha256);
+
+    /**
+     * Retire une référence ; le fichier est supprimé par la purge une fois orphelin.
+     */
+    void release(String sha256);
+
+    /**
+     * Chemin du fichier d'un contenu.
+     */
+    Path path(String sha256);
+
+    /**
+     * Supprime les contenus orphelins depuis plus que le délai de grâce.
+     *
+     * @return nombre de fichiers supprimés
+     */
+    int purgeOrphans();
+
+    /**
+     * Contrôle d'un contenu reçu, avant son enregistrement définitif.
+     */
+    @FunctionalInterface
+    interface ContentCheck {
+        void check(Path file) throws IOException;
+    }
+
+    /**
+     * Contenu enregistré.
+     */
+    record StoredBlob(String sha256, long size, String contentType) {
+    }
+}
@@ -0,0 +1,48 @@
+package fr.benseddik.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Service du flux iCalendar personnel (rendez-vous + rappels de vaccins).
+ *
+ * 🛡️ Le flux est accessible sans session via un jeton secret, stocké haché (SHA-256) en base.
+ * ⚡ PERFORMANCE : version (ETag / Last-Modified) calculée par deux agrégats indexés,
+ * corps écrit en flux continu sans charger d'entités.
+ */
+public interface CalendarFeedService {
+
+    /**
+     * Génère un nouveau jeton de flux (l'ancien est invalidé).
+     *
+     * @return le jeton en clair, affiché une seule fois
+     */
+    String rotateToken(UUID userId);
+
+    /**
+     * Désactive le flux de l'utilisateur.
+     */
+    void revokeToken(UUID userId);
+
+    /**
+     * Résout un jeton et calcule la version courante du flux.
+     *
+     * @throws fr.benseddik.backend.exception.ResourceNotFoundException si le jeton est inconnu
+     */
+    CalendarFeed resolve(String token);
+
+    /**
+     * Écrit le flux iCalendar complet de l'utilisateur.
+     */
+    void writeFeed(UUID userId, OutputStream out) throws IOException;
+
+    /**
+     * Flux résolu : propriétaire et validateurs HTTP.
+     *
+     * @param lastModified dernière modification connue (null si aucun événement)
+     */
+    record CalendarFeed(UUID userId, String etag, Instant lastModified) {
+    }
+}
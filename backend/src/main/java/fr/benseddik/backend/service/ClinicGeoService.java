@@ -0,0 +1,25 @@
+package fr.benseddik.backend.service;
+
+import fr.benseddik.backend.dto.response.NearbyClinicResponse;
+
+import java.util.List;
+
+/**
+ * Service de recherche géographique des cliniques.
+ *
+ * ⚡ PERFORMANCE : Requêtes servies par un arbre k-d en mémoire, sans accès base.
+ */
+public interface ClinicGeoService {
+
+    /**
+     * Recherche les cliniques les plus proches d'une position.
+     *
+     * @param radiusKm rayon maximal en km (null = les {@code limit} plus proches, sans limite de distance)
+     */
+    List<NearbyClinicResponse> findNearby(double latitude, double longitude, Double radiusKm, Integer limit);
+
+    /**
+     * Reconstruit l'index si les cliniques ont changé.
+     */
+    void refreshIfChanged();
+}
@@ -0,0 +1,17 @@
+package fr.benseddik.backend.service;
+
+import fr.benseddik.backend.dto.response.DashboardResponse;
+
+import java.util.UUID;
+
+/**
+ * Service du tableau de bord du propriétaire.
+ */
+public interface DashboardService {
+
+    /**
+     * Agrège animaux (avec poids actuel), prochains rendez-vous et rappels de vaccins.
+     * Les sections non chargées dans le délai sont listées dans {@code unavailable}.
+     */
+    DashboardResponse getDashboard(UUID userId);
+}
@@ -0,0 +1,74 @@
+package fr.benseddik.backend.service;
+
+import fr.benseddik.backend.dto.response.DataExportResponse;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service d'export des données d'un compte (RGPD, droit à la portabilité).
+ *
+ * L'archive ZIP contient le profil, les animaux, rendez-vous, vaccins, pesées (CSV),
+ * l'historique médical et le journal d'audit (NDJSON), ainsi que les pièces jointes.
+ * ⚡ PERFORMANCE : générée en arrière-plan, chaque table lue en flux (curseur) et écrite
+ * directement dans l'archive ; mémoire constante quelle que soit la taille du compte.
+ */
+public interface DataExportService {
+
+    /**
+     * Demande un export ; une demande déjà en attente ou en cours est réutilisée.
+     */
+    DataExportResponse requestExport(UUID userId);
+
+    /**
+     * Exports non expirés de l'utilisateur (plus récent en premier).
+     */
+    List<DataExportResponse> getExports(UUID userId);
+
+    /**
+     * État d'un export (avec vérification de propriété).
+     */
+    DataExportResponse getExport(UUID exportId, UUID userId);
+
+    /**
+     * Archive d'un export prêt.
+     *
+     * @throws fr.benseddik.backend.exception.BadRequestException si l'archive n'est pas encore prête
+     */
+    ExportArchive getArchive(UUID exportId, UUID userId);
+
+    /**
+     * Supprime les exports expirés et leurs archives.
+     *
+     * @return nombre d'exports supprimés
+     */
+    int purgeExpired();
+
+    /**
+     * Marque en échec les exports en attente ou en cours dont la génération a été perdue
+     * (redémarrage du serveur) ; l'utilisateur peut alors en demander un nouveau.
+     *
+     * @return nombre d'exports marqués en échec
+     */
+    int failAbandoned();
+
+    /**
+     * Rafraîchit le signe de vie des exports planifiés sur cette instance : une autre instance
+     * ne les considère pas abandonnés tant qu'il date de moins de app.export.stale-after.
+     *
+     * @return nombre d'exports rafraîchis
+     */
+    int heartbeat();
+
+    /**
+     * Supprime les exports d'un utilisateur ; les archives sont effacées après commit.
+     */
+    void deleteUserExports(UUID userId);
+
+    /**
+     * Archive prête à être téléchargée.
+     */
+    record ExportArchive(UUID id, Path path, String fileName, long size) {
+    }
+}
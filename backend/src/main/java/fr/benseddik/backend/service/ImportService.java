@@ -0,0 +1,50 @@
+package fr.benseddik.backend.service;
+
+import fr.benseddik.backend.dto.response.ImportReportResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Service d'import en masse (carnets papier numérisés, balances connectées...).
+ *
+ * 🛡️ SÉCURITÉ : Chaque ligne doit concerner un animal de l'utilisateur.
+ * ⚡ PERFORMANCE : Lecture en flux continu, insertions JDBC par lots.
+ *
+ * Les lignes valides sont importées, les lignes invalides sont rapportées avec leur numéro.
+ */
+public interface ImportService {
+
+    /**
+     * Importe des pesées (colonnes : petId, date, weight, note).
+     */
+    ImportReportResponse importWeightLogs(InputStream input, ImportFormat format, UUID userId) throws IOException;
+
+    /**
+     * Importe des vaccins (colonnes : petId, name, date, nextDate).
+     */
+    ImportReportResponse importVaccines(InputStream input, ImportFormat format, UUID userId) throws IOException;
+
+    /**
+     * Format du fichier importé.
+     */
+    enum ImportFormat {
+        CSV,     // En-tête obligatoire, séparateur "," ou ";"
+        NDJSON;  // Un objet JSON par ligne
+
+        /**
+         * Déduit le format du nom de fichier ou du type de contenu (CSV par défaut).
+         */
+        public static ImportFormat detect(String filename, String contentType) {
+            String name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+            String type = contentType != null ? contentType.toLowerCase(Locale.ROOT) : "";
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")
+                    || type.contains("ndjson") || type.contains("jsonl")) {
+                return NDJSON;
+            }
+            return CSV;
+        }
+    }
+}
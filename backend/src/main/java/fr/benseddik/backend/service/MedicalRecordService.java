@@ -0,0 +1,84 @@
+package fr.benseddik.backend.service;
+
+import fr.benseddik.backend.domain.MedicalRecord.RecordType;
+import fr.benseddik.backend.dto.request.CreateMedicalRecordRequest;
+import fr.benseddik.backend.dto.request.UpdateMedicalRecordRequest;
+import fr.benseddik.backend.dto.response.AttachmentResponse;
+import fr.benseddik.backend.dto.response.LabValueResponse;
+import fr.benseddik.backend.dto.response.MedicalRecordResponse;
+import fr.benseddik.backend.dto.response.MedicalTimelineEntryResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service pour la gestion de l'historique médical.
+ *
+ * 🛡️ SÉCURITÉ : Vérification que l'animal appartient à l'utilisateur.
+ */
+public interface MedicalRecordService {
+
+    /**
+     * Enregistre un nouvel événement médical.
+     */
+    MedicalRecordResponse createMedicalRecord(CreateMedicalRecordRequest request, UUID userId);
+
+    /**
+     * Récupère un événement médical complet.
+     */
+    MedicalRecordResponse getMedicalRecord(UUID recordId, UUID userId);
+
+    /**
+     * Met à jour un événement médical (champs non null uniquement).
+     */
+    MedicalRecordResponse updateMedicalRecord(UUID recordId, UpdateMedicalRecordRequest request, UUID userId);
+
+    /**
+     * Supprime un événement médical.
+     */
+    void deleteMedicalRecord(UUID recordId, UUID userId);
+
+    /**
+     * Récupère l'historique médical d'un animal, éventuellement filtré par type.
+     *
+     * @param from null = depuis toujours
+     * @param to   null = jusqu'à aujourd'hui
+     */
+    List<MedicalTimelineEntryResponse> getTimeline(UUID petId, UUID userId, RecordType recordType,
+                                                   LocalDate from, LocalDate to);
+
+    /**
+     * Récupère l'évolution d'une valeur d'analyse (ex : créatinine) dans l'ordre chronologique.
+     *
+     * @param min borne basse incluse (null = pas de borne)
+     * @param max borne haute incluse (null = pas de borne)
+     */
+    List<LabValueResponse> getLabSeries(UUID petId, UUID userId, String analyte, Double min, Double max,
+                                        LocalDate from, LocalDate to);
+
+    /**
+     * Ajoute une pièce jointe (remplace celle de même nom).
+     */
+    AttachmentResponse addAttachment(UUID recordId, InputStream content, String fileName, String contentType,
+                                     UUID userId) throws IOException;
+
+    /**
+     * Retire une pièce jointe.
+     */
+    void removeAttachment(UUID recordId, String sha256, UUID userId);
+
+    /**
+     * Localise le fichier d'une pièce jointe pour le téléchargement.
+     */
+    AttachmentFile getAttachment(UUID recordId, String sha256, UUID userId);
+
+    /**
+     * Fichier d'une pièce jointe (contenu immuable, identifié par son SHA-256).
+     */
+    record AttachmentFile(Path path, String name, String contentType, long size, String sha256) {
+    }
+}
@@ -1,6 +1,7 @@
 package fr.benseddik.backend.service;
 
 import fr.benseddik.backend.dto.request.ChangePasswordRequest;
+import fr.benseddik.backend.dto.request.DeleteAccountRequest;
 import fr.benseddik.backend.dto.request.ForgotPasswordRequest;
 import fr.benseddik.backend.dto.request.ResendVerificationRequest;
 import fr.benseddik.backend.dto.request.ResetPasswordRequest;
@@ -103,4 +104,12 @@ public interface UserService {
      * @return Informations utilisateur
      */
     UserResponse getUserByEmail(String email);
+
+    /**
+     * Supprime définitivement le compte de l'utilisateur et toutes ses données.
+     *
+     * @param userId  ID de l'utilisateur
+     * @param request Mot de passe actuel (exigé si le compte en a un)
+     */
+    void deleteAccount(UUID userId, DeleteAccountRequest request);
 }
\ No newline at end of file
@@ -38,6 +38,12 @@ public interface VaccineService {
      */
     List<VaccineResponse> getUpcomingVaccines(UUID petId, UUID userId);
 
+    /**
+     * Récupère les vaccins de tous les animaux de l'utilisateur dont le rappel est dépassé
+     * ou tombe dans les {@code horizonDays} prochains jours.
+     */
+    List<VaccineResponse> getDueVaccines(UUID userId, int horizonDays);
+
     /**
      * Supprime un vaccin.
      */
@@ -0,0 +1,57 @@
+package fr.benseddik.backend.service;
+
+import fr.benseddik.backend.domain.Clinic;
+import fr.benseddik.backend.dto.response.AvailableSlotResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moteur de disponibilité des vétérinaires.
+ *
+ * - Horaires d'ouverture des cliniques analysés en plages de minutes par jour
+ * - Créneaux réservés de chaque vétérinaire indexés par jour
+ * - Réservation atomique : contrôle du conflit et prise du créneau sous verrou par vétérinaire
+ */
+public interface VetAvailabilityService {
+
+    /**
+     * Créneaux libres d'un vétérinaire entre deux dates (incluses).
+     */
+    List<AvailableSlotResponse> getVetAvailability(UUID vetId, LocalDate from, LocalDate to, Integer slotMinutes);
+
+    /**
+     * Créneaux libres de tous les vétérinaires d'une clinique entre deux dates (incluses).
+     */
+    List<AvailableSlotResponse> getClinicAvailability(UUID clinicId, LocalDate from, LocalDate to, Integer slotMinutes);
+
+    /**
+     * Réserve un créneau dans la transaction courante.
+     *
+     * Vérifie les horaires de la clinique puis l'absence de chevauchement avec les
+     * rendez-vous du vétérinaire (y compris ceux en cours de réservation par d'autres requêtes).
+     * Le créneau est libéré si la transaction est annulée.
+     *
+     * @param previous créneau remplacé (modification de rendez-vous), ignoré pour le contrôle; null sinon
+     * @throws fr.benseddik.backend.exception.ConflictException si le créneau est déjà pris
+     * @throws fr.benseddik.backend.exception.BadRequestException si la clinique est fermée
+     */
+    void reserve(Booking booking, Clinic clinic, Booking previous);
+
+    /**
+     * Libère un créneau (annulation, suppression) après validation de la transaction.
+     */
+    void release(Booking booking);
+
+    /**
+     * Créneau d'un rendez-vous. {@code vetId} est null si aucun vétérinaire n'est choisi.
+     */
+    record Booking(UUID vetId, LocalDateTime start, int durationMinutes) {
+
+        public LocalDateTime end() {
+            return start.plusMinutes(durationMinutes);
+        }
+    }
+}
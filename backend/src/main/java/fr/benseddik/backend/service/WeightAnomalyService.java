@@ -0,0 +1,40 @@
+package fr.benseddik.backend.service;
+
+import fr.benseddik.backend.domain.Pet;
+import fr.benseddik.backend.dto.response.WeightAlertBackfillResponse;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Service de détection des variations de poids anormales.
+ *
+ * ⚡ PERFORMANCE : État EWMA compact par animal, mis à jour en O(1) à chaque pesée.
+ */
+public interface WeightAnomalyService {
+
+    /**
+     * Intègre une nouvelle pesée et crée une notification WEIGHT_ALERT si elle est anormale.
+     * Appelé dans la transaction d'enregistrement de la pesée.
+     */
+    void onWeightLogged(Pet pet, LocalDate date, double weight);
+
+    /**
+     * Recalcule l'état d'un animal après la suppression d'une de ses pesées (une valeur erronée
+     * supprimée ne doit plus peser sur la moyenne ni la variance). Appelé dans la transaction de suppression.
+     */
+    void onWeightLogDeleted(UUID petId);
+
+    /**
+     * Recalcule l'état de quelques animaux dans la transaction courante (après un import).
+     * L'état d'un animal sans pesée est supprimé.
+     */
+    void rebuild(Collection<UUID> petIds);
+
+    /**
+     * Recalcule l'état de tous les animaux depuis l'historique complet (lots traités en parallèle).
+     * Aucune notification n'est émise pendant le recalcul.
+     */
+    WeightAlertBackfillResponse backfill();
+}
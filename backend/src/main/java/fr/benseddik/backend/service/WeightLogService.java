@@ -1,7 +1,9 @@
 package fr.benseddik.backend.service;
 
+import fr.benseddik.backend.domain.WeightAggregate.Granularity;
 import fr.benseddik.backend.dto.request.CreateWeightLogRequest;
 import fr.benseddik.backend.dto.response.WeightLogResponse;
+import fr.benseddik.backend.dto.response.WeightTrendResponse;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -34,6 +36,14 @@ public interface WeightLogService {
      */
     List<WeightLogResponse> getWeightLogsBetween(UUID petId, UUID userId, LocalDate start, LocalDate end);
 
+    /**
+     * Récupère la courbe de poids sur une période, avec au plus {@code maxPoints} points.
+     *
+     * @param granularity null = pesées sous-échantillonnées (LTTB), sinon agrégats hebdomadaires / mensuels
+     */
+    WeightTrendResponse getWeightTrend(UUID petId, UUID userId, LocalDate start, LocalDate end,
+                                       Integer maxPoints, Granularity granularity);
+
     /**
      * Supprime une pesée.
      */
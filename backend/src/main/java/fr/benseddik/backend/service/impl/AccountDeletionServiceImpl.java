@@ -0,0 +1,135 @@
+package fr.benseddik.backend.service.impl;
+
+import fr.benseddik.backend.domain.User;
+import fr.benseddik.backend.exception.ResourceNotFoundException;
+import fr.benseddik.backend.repository.AccountRepository;
+import fr.benseddik.backend.repository.AppointmentRepository;
+import fr.benseddik.backend.repository.AuditLogRepository;
+import fr.benseddik.backend.repository.BlobRepository;
+import fr.benseddik.backend.repository.MedicalRecordRepository;
+import fr.benseddik.backend.repository.NotificationRepository;
+import fr.benseddik.backend.repository.OAuthAuthorizationCodeRepository;
+import fr.benseddik.backend.repository.PasswordResetTokenRepository;
+import fr.benseddik.backend.repository.PetRepository;
+import fr.benseddik.backend.repository.SessionRepository;
+import fr.benseddik.backend.repository.UserRepository;
+import fr.benseddik.backend.repository.VaccineRepository;
+import fr.benseddik.backend.repository.VerificationTokenRepository;
+import fr.benseddik.backend.repository.WeightLogRepository;
+import fr.benseddik.backend.service.AccountDeletionService;
+import fr.benseddik.backend.service.AvatarService;
+import fr.benseddik.backend.service.DataExportService;
+import fr.benseddik.backend.service.VetAvailabilityService;
+import fr.benseddik.backend.service.VetAvailabilityService.Booking;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implémentation de la suppression définitive des animaux et des comptes.
+ *
+ * Ordre des suppressions (contraintes de clés étrangères, enfants avant parents) :
+ * 1. Références des fichiers (pièces jointes, avatars) libérées, fichiers purgés plus tard par le stockage
+ * 2. Historique médical (référence les rendez-vous), notifications, vaccins, pesées
+ *    (agrégats et état du détecteur de poids supprimés par ON DELETE CASCADE)
+ * 3. Rendez-vous (créneaux à venir libérés dans le cache des disponibilités après commit), puis animaux
+ * 4. Pour un compte : sessions, jetons, comptes OAuth2, journal d'audit, exports, puis l'utilisateur
+ *
+ * ⚡ PERFORMANCE : une requête DELETE par table, chacune servie par l'index de sa clé étrangère ;
+ * aucune entité enfant n'est chargée dans le contexte de persistance.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AccountDeletionServiceImpl implements AccountDeletionService {
+
+    private final UserRepository userRepository;
+    private final PetRepository petRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final VaccineRepository vaccineRepository;
+    private final WeightLogRepository weightLogRepository;
+    private final MedicalRecordRepository medicalRecordRepository;
+    private final NotificationRepository notificationRepository;
+    private final SessionRepository sessionRepository;
+    private final AccountRepository accountRepository;
+    private final VerificationTokenRepository verificationTokenRepository;
+    private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final OAuthAuthorizationCodeRepository oauthAuthorizationCodeRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final BlobRepository blobRepository;
+    private final AvatarService avatarService;
+    private final DataExportService dataExportService;
+    private final VetAvailabilityService vetAvailabilityService;
+
+    @Override
+    @Transactional
+    public int deletePets(Collection<UUID> petIds) {
+        if (petIds.isEmpty()) {
+            return 0;
+        }
+        long startedAt = System.currentTimeMillis();
+
+        petRepository.findAvatarsByIdIn(petIds).forEach(avatarService::release);
+        int attachments = blobRepository.releaseMedicalAttachments(petIds);
+
+        int medicalRecords = medicalRecordRepository.deleteByPetIdIn(petIds);
+        int notifications = notificationRepository.deleteByPetIdIn(petIds);
+        int vaccines = vaccineRepository.deleteByPetIdIn(petIds);
+        int weightLogs = weightLogRepository.deleteByPetIdIn(petIds);
+        release(appointmentRepository.findScheduledSlotsByPetIdIn(petIds, LocalDate.now().atStartOfDay()));
+        int appointments = appointmentRepository.deleteByPetIdIn(petIds);
+        int pets = petRepository.deleteByIdIn(petIds);
+
+        log.info("🗑️ {} animaux supprimés en {} ms : {} rendez-vous, {} vaccins, {} pesées, " +
+                        "{} enregistrements médicaux, {} notifications, {} fichiers libérés",
+                pets, System.currentTimeMillis() - startedAt, appointments, vaccines, weightLogs,
+                medicalRecords, notifications, attachments);
+        return pets;
+    }
+
+    @Override
+    @Transactional
+    public void deleteAccount(UUID userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Utilisateur", "id", userId));
+        long startedAt = System.currentTimeMillis();
+
+        Set<UUID> petIds = petRepository.findIdsByOwnerId(userId);
+        deletePets(petIds);
+
+        avatarService.release(user.getAvatar());
+        release(appointmentRepository.findScheduledSlotsByUserId(userId, LocalDate.now().atStartOfDay()));
+        appointmentRepository.deleteByUserId(userId);
+        notificationRepository.deleteByUserId(userId);
+        sessionRepository.deleteByUserId(userId);
+        accountRepository.deleteByUserId(userId);
+        verificationTokenRepository.deleteByUserId(userId);
+        passwordResetTokenRepository.deleteByUserId(userId);
+        oauthAuthorizationCodeRepository.deleteByUserId(userId);
+        auditLogRepository.deleteByUserId(userId);
+        dataExportService.deleteUserExports(userId);
+        userRepository.deleteAccount(userId);
+
+        log.info("🗑️ Compte {} supprimé ({} animaux) en {} ms", userId, petIds.size(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * La suppression en masse contourne AppointmentService : les créneaux libérés
+     * doivent être retirés du cache des disponibilités.
+     */
+    private void release(List<AppointmentRepository.ScheduledSlot> slots) {
+        for (AppointmentRepository.ScheduledSlot slot : slots) {
+            int duration = slot.getDurationMinutes() != null ? slot.getDurationMinutes() : 30;
+            vetAvailabilityService.release(new Booking(slot.getVetId(), slot.getDate(), duration));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package fr.benseddik.backend.service.impl;
 
+import fr.benseddik.backend.config.RetryOnConcurrencyFailure;
 import fr.benseddik.backend.domain.Appointment;
 import fr.benseddik.backend.domain.Clinic;
 import fr.benseddik.backend.domain.Pet;
@@ -10,15 +11,20 @@ import fr.benseddik.backend.dto.request.UpdateAppointmentRequest;
 import fr.benseddik.backend.dto.response.AppointmentResponse;
 import fr.benseddik.backend.dto.response.ClinicResponse;
 import fr.benseddik.backend.dto.response.VetResponse;
+import fr.benseddik.backend.exception.ConflictException;
 import fr.benseddik.backend.exception.ResourceNotFoundException;
 import fr.benseddik.backend.repository.*;
 import fr.benseddik.backend.service.AppointmentService;
+import fr.benseddik.backend.service.VetAvailabilityService;
+import fr.benseddik.backend.service.VetAvailabilityService.Booking;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -31,6 +37,10 @@ import java.util.stream.Collectors;
  * - Vérification que l'animal appartient bien à l'utilisateur
  * - Filtrage automatique par user_id
  * - Validation des entrées via DTOs
+ *
+ * 📅 PLANNING : Horaires de la clinique et absence de double réservation
+ * du vétérinaire vérifiés par {@link VetAvailabilityService}, puis garantis
+ * en base par la contrainte d'exclusion excl_appointment_vet_overlap (409 si violée).
  */
 @Slf4j
 @Service
@@ -38,14 +48,21 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AppointmentServiceImpl implements AppointmentService {
 
+    /**
+     * SQLSTATE PostgreSQL d'une violation de contrainte d'exclusion.
+     */
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final AppointmentRepository appointmentRepository;
     private final PetRepository petRepository;
     private final UserRepository userRepository;
     private final VetRepository vetRepository;
     private final ClinicRepository clinicRepository;
+    private final VetAvailabilityService vetAvailabilityService;
 
     @Override
     @Transactional
+    @RetryOnConcurrencyFailure
     public AppointmentResponse createAppointment(CreateAppointmentRequest request, UUID userId) {
         log.debug("📅 Création d'un rendez-vous pour l'utilisateur: {}", userId);
 
@@ -78,7 +95,10 @@ public class AppointmentServiceImpl implements AppointmentService {
             appointment.setClinic(clinic);
         }
 
-        Appointment savedAppointment = appointmentRepository.save(appointment);
+        // 📅 Horaires d'ouverture + créneau libre du vétérinaire
+        vetAvailabilityService.reserve(bookingOf(appointment), clinicOf(appointment), null);
+
+        Appointment savedAppointment = saveBooking(appointment);
         log.info("✅ Rendez-vous créé: {} le {}", savedAppointment.getReason(), savedAppointment.getDate());
 
         return mapToResponse(savedAppointment);
@@ -106,6 +126,15 @@ public class AppointmentServiceImpl implements AppointmentService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<AppointmentResponse> getNextAppointments(UUID userId, int limit) {
+        log.debug("🔍 Récupération des {} prochains rendez-vous pour: {}", limit, userId);
+
+        return appointmentRepository.findNextAppointments(userId, LocalDateTime.now(), limit).stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
     @Override
     public AppointmentResponse getAppointmentById(UUID appointmentId, UUID userId) {
         log.debug("🔍 Récupération du rendez-vous: {} pour: {}", appointmentId, userId);
@@ -144,6 +173,7 @@ public class AppointmentServiceImpl implements AppointmentService {
 
     @Override
     @Transactional
+    @RetryOnConcurrencyFailure
     public AppointmentResponse updateAppointment(UUID appointmentId, UpdateAppointmentRequest request, UUID userId) {
         log.debug("✏️ Mise à jour du rendez-vous: {}", appointmentId);
 
@@ -151,27 +181,43 @@ public class AppointmentServiceImpl implements AppointmentService {
         Appointment appointment = appointmentRepository.findByIdAndUserId(appointmentId, userId)
                 .orElseThrow(() -> new AccessDeniedException("Accès non autorisé à ce rendez-vous"));
 
-        // Mise à jour partielle
-        if (request.date() != null) appointment.setDate(request.date());
-        if (request.reason() != null) appointment.setReason(request.reason());
-        if (request.status() != null) appointment.setStatus(request.status());
-        if (request.notes() != null) appointment.setNotes(request.notes());
-        if (request.durationMinutes() != null) appointment.setDurationMinutes(request.durationMinutes());
+        Booking previous = bookingOf(appointment);
 
-        // Mise à jour des relations optionnelles
+        // Relations demandées, résolues avant toute modification de l'entité
+        Vet vet = appointment.getVet();
         if (request.vetId() != null) {
-            Vet vet = vetRepository.findById(request.vetId())
+            vet = vetRepository.findById(request.vetId())
                     .orElseThrow(() -> new ResourceNotFoundException("Vétérinaire introuvable"));
-            appointment.setVet(vet);
         }
-
+        Clinic clinic = appointment.getClinic();
         if (request.clinicId() != null) {
-            Clinic clinic = clinicRepository.findById(request.clinicId())
+            clinic = clinicRepository.findById(request.clinicId())
                     .orElseThrow(() -> new ResourceNotFoundException("Clinique introuvable"));
-            appointment.setClinic(clinic);
         }
 
-        Appointment updatedAppointment = appointmentRepository.save(appointment);
+        // 📅 Nouveau créneau contrôlé AVANT de modifier l'entité : une entité modifiée serait
+        // écrite en base (flush) par la relecture des créneaux et entrerait en conflit avec elle-même
+        Booking next = bookingOf(
+                request.status() != null ? request.status() : appointment.getStatus(),
+                vet,
+                request.date() != null ? request.date() : appointment.getDate(),
+                request.durationMinutes() != null ? request.durationMinutes() : appointment.getDurationMinutes());
+        if (next != null && !next.equals(previous)) {
+            vetAvailabilityService.reserve(next, clinicOf(clinic, vet), previous);
+        } else if (next == null && previous != null) {
+            vetAvailabilityService.release(previous);
+        }
+
+        // Mise à jour partielle
+        if (request.date() != null) appointment.setDate(request.date());
+        if (request.reason() != null) appointment.setReason(request.reason());
+        if (request.status() != null) appointment.setStatus(request.status());
+        if (request.notes() != null) appointment.setNotes(request.notes());
+        if (request.durationMinutes() != null) appointment.setDurationMinutes(request.durationMinutes());
+        appointment.setVet(vet);
+        appointment.setClinic(clinic);
+
+        Appointment updatedAppointment = saveBooking(appointment);
         log.info("✅ Rendez-vous mis à jour: {}", updatedAppointment.getId());
 
         return mapToResponse(updatedAppointment);
@@ -186,7 +232,11 @@ public class AppointmentServiceImpl implements AppointmentService {
         Appointment appointment = appointmentRepository.findByIdAndUserId(appointmentId, userId)
                 .orElseThrow(() -> new AccessDeniedException("Accès non autorisé à ce rendez-vous"));
 
+        Booking previous = bookingOf(appointment);
         appointment.cancel();
+        if (previous != null) {
+            vetAvailabilityService.release(previous);
+        }
         Appointment cancelledAppointment = appointmentRepository.save(appointment);
         log.info("✅ Rendez-vous annulé: {}", cancelledAppointment.getId());
 
@@ -202,10 +252,68 @@ public class AppointmentServiceImpl implements AppointmentService {
         Appointment appointment = appointmentRepository.findByIdAndUserId(appointmentId, userId)
                 .orElseThrow(() -> new AccessDeniedException("Accès non autorisé à ce rendez-vous"));
 
+        Booking previous = bookingOf(appointment);
         appointmentRepository.delete(appointment);
+        if (previous != null) {
+            vetAvailabilityService.release(previous);
+        }
         log.info("✅ Rendez-vous supprimé: {}", appointmentId);
     }
 
+    // ═══════════════════════════════════════════════════════════════════════════
+    // PLANNING
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Créneau occupé par un rendez-vous programmé (null s'il est annulé ou terminé).
+     */
+    private Booking bookingOf(Appointment appointment) {
+        return bookingOf(appointment.getStatus(), appointment.getVet(), appointment.getDate(),
+                appointment.getDurationMinutes());
+    }
+
+    private static Booking bookingOf(String status, Vet vet, LocalDateTime date, Integer durationMinutes) {
+        if (!"scheduled".equals(status)) {
+            return null;
+        }
+        return new Booking(
+                vet != null ? vet.getId() : null,
+                date,
+                durationMinutes != null ? durationMinutes : 30
+        );
+    }
+
+    /**
+     * Enregistre immédiatement (flush) pour que la contrainte d'exclusion soit évaluée ici
+     * et traduite en 409, plutôt qu'au commit en erreur 500.
+     */
+    private Appointment saveBooking(Appointment appointment) {
+        try {
+            return appointmentRepository.saveAndFlush(appointment);
+        } catch (DataIntegrityViolationException e) {
+            if (e.getMostSpecificCause() instanceof SQLException sqlException
+                    && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                log.info("⛔ Double réservation refusée par la base pour le rendez-vous du {}", appointment.getDate());
+                throw new ConflictException("Ce créneau n'est plus disponible pour ce vétérinaire", e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Clinique dont les horaires s'appliquent : celle du rendez-vous, sinon celle du vétérinaire.
+     */
+    private Clinic clinicOf(Appointment appointment) {
+        return clinicOf(appointment.getClinic(), appointment.getVet());
+    }
+
+    private static Clinic clinicOf(Clinic clinic, Vet vet) {
+        if (clinic != null) {
+            return clinic;
+        }
+        return vet != null ? vet.getClinic() : null;
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // MAPPERS
     // ═══════════════════════════════════════════════════════════════════════════
@@ -253,6 +361,8 @@ public class AppointmentServiceImpl implements AppointmentService {
                 clinic.getEmail(),
                 clinic.getWebsite(),
                 clinic.getOpeningHours(),
+                clinic.getLatitude(),
+                clinic.getLongitude(),
                 clinic.getCreatedAt(),
                 clinic.getUpdatedAt()
         );
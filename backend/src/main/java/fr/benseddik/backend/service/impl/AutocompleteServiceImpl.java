@@ -0,0 +1,152 @@
+package fr.benseddik.backend.service.impl;
+
+import fr.benseddik.backend.domain.Clinic;
+import fr.benseddik.backend.domain.Vet;
+import fr.benseddik.backend.dto.response.AutocompleteSuggestionResponse;
+import fr.benseddik.backend.repository.ClinicRepository;
+import fr.benseddik.backend.repository.VetRepository;
+import fr.benseddik.backend.service.AutocompleteService;
+import fr.benseddik.backend.util.PrefixIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implémentation du service d'autocomplétion.
+ *
+ * ⚡ PERFORMANCE :
+ * - Index construits au démarrage depuis les tables clinics et vets
+ * - Reconstruction complète puis publication atomique (référence volatile)
+ * - Reconstruction uniquement si l'empreinte (nombre de lignes + dernier updatedAt) a changé
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AutocompleteServiceImpl implements AutocompleteService {
+
+    private final ClinicRepository clinicRepository;
+    private final VetRepository vetRepository;
+
+    @Value("${app.autocomplete.default-limit:8}")
+    private int defaultLimit;
+
+    @Value("${app.autocomplete.max-limit:25}")
+    private int maxLimit;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @Override
+    public List<AutocompleteSuggestionResponse> suggestClinics(String prefix, Integer limit) {
+        return snapshot.clinics().search(prefix, resolveLimit(limit));
+    }
+
+    @Override
+    public List<AutocompleteSuggestionResponse> suggestVets(String prefix, Integer limit) {
+        return snapshot.vets().search(prefix, resolveLimit(limit));
+    }
+
+    /**
+     * Construit les index une fois l'application démarrée (Liquibase déjà appliqué).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refreshIfChanged();
+    }
+
+    @Override
+    public void refreshIfChanged() {
+        Fingerprint current = currentFingerprint();
+        if (current.equals(snapshot.fingerprint())) {
+            log.debug("✅ Index d'autocomplétion à jour");
+            return;
+        }
+
+        long start = System.nanoTime();
+        PrefixIndex<AutocompleteSuggestionResponse> clinics = buildClinicIndex();
+        PrefixIndex<AutocompleteSuggestionResponse> vets = buildVetIndex();
+        snapshot = new Snapshot(current, clinics, vets);
+
+        log.info("🔄 Index d'autocomplétion reconstruit: {} cliniques, {} vétérinaires ({} clés) en {} ms",
+                current.clinicCount(), current.vetCount(), clinics.size() + vets.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // CONSTRUCTION DES INDEX
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private Fingerprint currentFingerprint() {
+        return new Fingerprint(
+                clinicRepository.count(),
+                clinicRepository.findLastUpdatedAt(),
+                vetRepository.count(),
+                vetRepository.findLastUpdatedAt()
+        );
+    }
+
+    private PrefixIndex<AutocompleteSuggestionResponse> buildClinicIndex() {
+        PrefixIndex.Builder<AutocompleteSuggestionResponse> builder = PrefixIndex.builder();
+        for (Clinic clinic : clinicRepository.findAll()) {
+            AutocompleteSuggestionResponse suggestion = new AutocompleteSuggestionResponse(
+                    clinic.getId(),
+                    "clinic",
+                    clinic.getName(),
+                    clinic.getAddress(),
+                    null
+            );
+            builder.add(suggestion, clinic.getName(), clinic.getAddress());
+        }
+        return builder.build();
+    }
+
+    private PrefixIndex<AutocompleteSuggestionResponse> buildVetIndex() {
+        PrefixIndex.Builder<AutocompleteSuggestionResponse> builder = PrefixIndex.builder();
+        for (Vet vet : vetRepository.findAllWithClinic()) {
+            Clinic clinic = vet.getClinic();
+            AutocompleteSuggestionResponse suggestion = new AutocompleteSuggestionResponse(
+                    vet.getId(),
+                    "vet",
+                    vet.getFullName(),
+                    vet.getSpecialty(),
+                    clinic != null ? clinic.getId() : null
+            );
+            builder.add(suggestion,
+                    vet.getLastName() + " " + vet.getFirstName(),
+                    vet.getFirstName() + " " + vet.getLastName(),
+                    vet.getSpecialty(),
+                    clinic != null ? clinic.getName() : null);
+        }
+        return builder.build();
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return defaultLimit;
+        }
+        return Math.min(limit, maxLimit);
+    }
+
+    /**
+     * Empreinte des tables de référence pour détecter un changement sans tout relire.
+     */
+    private record Fingerprint(long clinicCount, Instant clinicLastUpdate, long vetCount, Instant vetLastUpdate) {
+    }
+
+    /**
+     * État publié atomiquement : les lecteurs voient soit l'ancien, soit le nouvel index.
+     */
+    private record Snapshot(Fingerprint fingerprint,
+                            PrefixIndex<AutocompleteSuggestionResponse> clinics,
+                            PrefixIndex<AutocompleteSuggestionResponse> vets) {
+
+        static final Snapshot EMPTY = new Snapshot(null, PrefixIndex.empty(), PrefixIndex.empty());
+    }
+}
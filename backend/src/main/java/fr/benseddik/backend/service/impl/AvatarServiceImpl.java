@@ -0,0 +1,347 @@
+package fr.benseddik.backend.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import fr.benseddik.backend.config.AvatarProperties;
+import fr.benseddik.backend.config.StorageProperties;
+import fr.benseddik.backend.domain.Pet;
+import fr.benseddik.backend.domain.User;
+import fr.benseddik.backend.dto.response.AvatarResponse;
+import fr.benseddik.backend.exception.BadRequestException;
+import fr.benseddik.backend.exception.ResourceNotFoundException;
+import fr.benseddik.backend.repository.AvatarRepository;
+import fr.benseddik.backend.repository.PetRepository;
+import fr.benseddik.backend.repository.UserRepository;
+import fr.benseddik.backend.service.AvatarService;
+import fr.benseddik.backend.service.BlobStoreService;
+import fr.benseddik.backend.service.BlobStoreService.StoredBlob;
+import fr.benseddik.backend.util.ImageThumbnails;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Implémentation du service des avatars.
+ *
+ * Chaîne de traitement :
+ * 1. Envoi recopié par flux dans le stockage par contenu (original dédupliqué)
+ * 2. Après commit : génération des vignettes sur un pool borné (tâches en excès abandonnées)
+ * 3. Lecture : cache mémoire → cache disque → génération à la demande si la tâche n'a pas encore tourné
+ *
+ * Les deux caches sont bornés en taille (LRU Caffeine) ; une vignette évincée du cache disque
+ * est supprimée du disque. Les vignettes étant dérivées du contenu, elles peuvent toujours être recalculées.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class AvatarServiceImpl implements AvatarService {
+
+    private static final String URL_PREFIX = "/api/v1/public/avatars/";
+    private static final Pattern AVATAR_URL = Pattern.compile("^" + URL_PREFIX + "([0-9a-f]{64})/\\d+\\.jpg$");
+    private static final int[] PIXELS = Arrays.stream(ThumbnailSize.values()).mapToInt(ThumbnailSize::pixels).toArray();
+
+    private final BlobStoreService blobStoreService;
+    private final AvatarRepository avatarRepository;
+    private final PetRepository petRepository;
+    private final UserRepository userRepository;
+    private final AvatarProperties properties;
+    private final Path thumbnailRoot;
+    private final Cache<String, byte[]> memoryCache;
+    private final Cache<String, Integer> diskIndex;
+    private final ThreadPoolExecutor workers;
+
+    public AvatarServiceImpl(BlobStoreService blobStoreService,
+                             AvatarRepository avatarRepository,
+                             PetRepository petRepository,
+                             UserRepository userRepository,
+                             AvatarProperties properties,
+                             StorageProperties storageProperties) {
+        this.blobStoreService = blobStoreService;
+        this.avatarRepository = avatarRepository;
+        this.petRepository = petRepository;
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.thumbnailRoot = storageProperties.root().resolve("thumbnails");
+
+        this.memoryCache = Caffeine.newBuilder()
+                .maximumWeight(properties.memoryCacheSize().toBytes())
+                .weigher((String key, byte[] data) -> data.length)
+                .build();
+
+        // Poids en Ko : la taille du cache disque peut dépasser Integer.MAX_VALUE octets
+        this.diskIndex = Caffeine.newBuilder()
+                .maximumWeight(properties.diskCacheSize().toKilobytes())
+                .weigher((String key, Integer kilobytes) -> kilobytes)
+                .removalListener((String key, Integer kilobytes, RemovalCause cause) -> {
+                    if (cause.wasEvicted() && key != null) {
+                        deleteQuietly(thumbnailPath(key));
+                    }
+                })
+                .build();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                properties.workers(), properties.workers(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // File pleine : la vignette sera générée à la première demande
+                (runnable, executor) -> log.warn("⚠️ File de génération des vignettes pleine : tâche abandonnée"));
+    }
+
+    /**
+     * Reconstruit l'index du cache disque à partir des vignettes déjà présentes.
+     */
+    @PostConstruct
+    void indexDiskCache() throws IOException {
+        Files.createDirectories(thumbnailRoot);
+        try (Stream<Path> files = Files.walk(thumbnailRoot)) {
+            files.filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(".jpg"))
+                    .forEach(file -> {
+                        String name = file.getFileName().toString();
+                        diskIndex.put(name.substring(0, name.length() - 4), kilobytes(file.toFile().length()));
+                    });
+        }
+        log.info("🖼️ Cache disque des vignettes : {} fichiers", diskIndex.estimatedSize());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    @Override
+    @Transactional(rollbackFor = IOException.class)
+    public AvatarResponse uploadPetAvatar(UUID petId, InputStream content, String contentType, UUID userId)
+            throws IOException {
+        log.debug("🖼️ Envoi de l'avatar de l'animal: {}", petId);
+
+        // 🛡️ SÉCURITÉ : Vérifier que l'animal appartient à l'utilisateur
+        Pet pet = petRepository.findByIdAndOwnerId(petId, userId)
+                .orElseThrow(() -> new AccessDeniedException("Cet animal ne vous appartient pas"));
+
+        String sha256 = storeImage(content, contentType);
+        release(pet.getAvatar());
+        pet.setAvatar(url(sha256, ThumbnailSize.MEDIUM));
+
+        log.info("✅ Avatar enregistré pour {}: {}", pet.getName(), sha256);
+        return toResponse(sha256);
+    }
+
+    @Override
+    @Transactional(rollbackFor = IOException.class)
+    public AvatarResponse uploadUserAvatar(UUID userId, InputStream content, String contentType) throws IOException {
+        log.debug("🖼️ Envoi de l'avatar de l'utilisateur: {}", userId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Utilisateur", "id", userId));
+
+        String sha256 = storeImage(content, contentType);
+        release(user.getAvatar());
+        user.setAvatar(url(sha256, ThumbnailSize.MEDIUM));
+
+        log.info("✅ Avatar enregistré pour l'utilisateur {}: {}", userId, sha256);
+        return toResponse(sha256);
+    }
+
+    @Override
+    @Transactional
+    public void replace(String previousUrl, String newUrl) {
+        String sha256 = sha256Of(newUrl);
+        if (sha256 != null) {
+            // 🛡️ SÉCURITÉ : seule l'empreinte d'un avatar existant est acceptée
+            if (!avatarRepository.existsById(sha256)) {
+                throw new BadRequestException("Avatar inconnu");
+            }
+            blobStoreService.retain(sha256);
+        }
+        release(previousUrl);
+    }
+
+    @Override
+    @Transactional
+    public void release(String avatarUrl) {
+        String sha256 = sha256Of(avatarUrl);
+        if (sha256 != null) {
+            blobStoreService.release(sha256);
+        }
+    }
+
+    @Override
+    public byte[] getThumbnail(String sha256, ThumbnailSize size) {
+        try {
+            // Chargements simultanés de la même vignette dédupliqués par Caffeine
+            return memoryCache.get(key(sha256, size), key -> loadThumbnail(sha256, size));
+        } catch (UncheckedIOException e) {
+            log.error("❌ Lecture de la vignette {} impossible", key(sha256, size), e.getCause());
+            return null;
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // ENVOI
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private String storeImage(InputStream content, String contentType) throws IOException {
+        // Image contrôlée dans le fichier temporaire : un refus ne laisse rien dans le stockage
+        StoredBlob blob = blobStoreService.store(content, contentType, properties.maxUploadSize().toBytes(),
+                this::checkImage);
+        avatarRepository.insertIfAbsent(blob.sha256());
+
+        // Vignettes générées après commit : le contenu est alors visible par l'endpoint public
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                workers.execute(() -> pregenerate(blob.sha256()));
+            }
+        });
+        return blob.sha256();
+    }
+
+    private void checkImage(Path file) throws IOException {
+        ImageThumbnails.Size size = ImageThumbnails.probe(file);
+        if (size == null) {
+            throw new BadRequestException("Format d'image non reconnu (JPEG, PNG, GIF ou BMP)");
+        }
+        if (size.pixels() > properties.maxPixels()) {
+            throw new BadRequestException("Image trop grande (" + size.width() + "x" + size.height() + ")");
+        }
+    }
+
+    private void pregenerate(String sha256) {
+        boolean cached = Arrays.stream(ThumbnailSize.values())
+                .allMatch(size -> Files.exists(thumbnailPath(key(sha256, size))));
+        if (cached) {
+            return;
+        }
+        try {
+            generate(sha256);
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ Génération des vignettes de {} impossible: {}", sha256, e.getMessage());
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // VIGNETTES
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private byte[] loadThumbnail(String sha256, ThumbnailSize size) {
+        String key = key(sha256, size);
+        Path file = thumbnailPath(key);
+        try {
+            if (Files.exists(file)) {
+                byte[] data = Files.readAllBytes(file);
+                if (diskIndex.getIfPresent(key) == null) {
+                    diskIndex.put(key, kilobytes(data.length));
+                }
+                return data;
+            }
+            if (!avatarRepository.existsById(sha256)) {
+                return null;
+            }
+            return generate(sha256).get(size.pixels());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Génère toutes les tailles en un seul décodage et les écrit dans le cache disque.
+     */
+    private Map<Integer, byte[]> generate(String sha256) throws IOException {
+        Path source = blobStoreService.path(sha256);
+        if (!Files.exists(source)) {
+            return Map.of();
+        }
+
+        long startedAt = System.nanoTime();
+        Map<Integer, byte[]> thumbnails = ImageThumbnails.render(source, PIXELS, properties.maxPixels(), properties.quality());
+        for (Map.Entry<Integer, byte[]> thumbnail : thumbnails.entrySet()) {
+            String key = sha256 + "-" + thumbnail.getKey();
+            Path target = thumbnailPath(key);
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), key, ".part");
+            try {
+                Files.write(tmp, thumbnail.getValue());
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            diskIndex.put(key, kilobytes(thumbnail.getValue().length));
+        }
+        log.debug("🖼️ Vignettes de {} générées en {} ms", sha256, (System.nanoTime() - startedAt) / 1_000_000);
+        return thumbnails;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // HELPERS
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private AvatarResponse toResponse(String sha256) {
+        Map<Integer, String> variants = new LinkedHashMap<>();
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            variants.put(size.pixels(), url(sha256, size));
+        }
+        return new AvatarResponse(sha256, url(sha256, ThumbnailSize.MEDIUM), variants);
+    }
+
+    private static String sha256Of(String avatarUrl) {
+        if (avatarUrl == null) {
+            return null;
+        }
+        Matcher matcher = AVATAR_URL.matcher(avatarUrl);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private static String url(String sha256, ThumbnailSize size) {
+        return URL_PREFIX + sha256 + "/" + size.pixels() + ".jpg";
+    }
+
+    private static String key(String sha256, ThumbnailSize size) {
+        return sha256 + "-" + size.pixels();
+    }
+
+    private Path thumbnailPath(String key) {
+        return thumbnailRoot.resolve(key.substring(0, 2)).resolve(key + ".jpg");
+    }
+
+    private static int kilobytes(long bytes) {
+        return (int) Math.max(1, (bytes + 1023) / 1024);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("⚠️ Suppression impossible de la vignette {}: {}", file, e.getMessage());
+        }
+    }
+}
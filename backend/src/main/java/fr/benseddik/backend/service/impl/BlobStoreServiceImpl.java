@@ -0,0 +1,194 @@
+package fr.benseddik.backend.service.impl;
+
+import fr.benseddik.backend.config.StorageProperties;
+import fr.benseddik.backend.domain.Blob;
+import fr.benseddik.backend.exception.BadRequestException;
+import fr.benseddik.backend.exception.ResourceNotFoundException;
+import fr.benseddik.backend.repository.BlobRepository;
+import fr.benseddik.backend.service.BlobStoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Implémentation du stockage de fichiers par contenu.
+ *
+ * Disposition sur disque : {@code root/ab/cd/abcd…} (deux niveaux de répertoires
+ * pour éviter des dossiers de plusieurs millions d'entrées), envois en cours dans {@code root/tmp}.
+ *
+ * - Écriture dans un fichier temporaire en calculant le SHA-256, contrôle par l'appelant, puis renommage atomique
+ * - Transaction annulée : le contenu créé par l'envoi est déclaré orphelin, sinon la purge l'ignorerait
+ * - Contenu déjà présent : le fichier temporaire est supprimé (déduplication)
+ * - Un fichier final n'est jamais modifié : il peut être servi sans verrou
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BlobStoreServiceImpl implements BlobStoreService {
+
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BlobRepository blobRepository;
+    private final StorageProperties properties;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    @Transactional
+    public StoredBlob store(InputStream content, String contentType, long maxSize, ContentCheck check)
+            throws IOException {
+        Path tmpDir = Files.createDirectories(properties.root().resolve("tmp"));
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxSize) {
+                        throw new BadRequestException("Fichier trop volumineux (maximum " + maxSize + " octets)");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (size == 0) {
+                throw new BadRequestException("Fichier vide");
+            }
+            check.check(tmp);
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            String type = contentType != null && !contentType.isBlank() && contentType.length() <= 100
+                    ? contentType : "application/octet-stream";
+
+            // Référence posée avant le fichier : la ligne verrouillée sérialise l'envoi avec une purge concurrente
+            blobRepository.retain(sha256, size, type);
+
+            Path target = path(sha256);
+            if (Files.exists(target)) {
+                log.debug("📎 Contenu déjà stocké: {}", sha256);
+            } else {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                    orphanOnRollback(sha256, size, type);
+                } catch (FileAlreadyExistsException e) {
+                    // Envoi simultané du même contenu : l'autre copie est identique
+                    log.debug("📎 Contenu stocké par un envoi simultané: {}", sha256);
+                }
+            }
+
+            log.info("✅ Contenu stocké: {} ({} octets)", sha256, size);
+            return new StoredBlob(sha256, size, type);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void retain(String sha256) {
+        Blob blob = blobRepository.findById(sha256)
+                .orElseThrow(() -> new ResourceNotFoundException("Fichier introuvable"));
+        blobRepository.retain(blob.getSha256(), blob.getSize(), blob.getContentType());
+    }
+
+    @Override
+    @Transactional
+    public void release(String sha256) {
+        blobRepository.release(sha256);
+    }
+
+    @Override
+    public Path path(String sha256) {
+        if (!SHA256.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("Empreinte SHA-256 invalide");
+        }
+        return properties.root()
+                .resolve(sha256.substring(0, 2))
+                .resolve(sha256.substring(2, 4))
+                .resolve(sha256);
+    }
+
+    @Override
+    @Transactional
+    public int purgeOrphans() {
+        List<String> orphans = blobRepository.findOrphansBefore(Instant.now().minus(properties.orphanGracePeriod()));
+        int deleted = 0;
+        for (String sha256 : orphans) {
+            // La ligne n'est supprimée que si aucune référence n'a été ajoutée entre-temps
+            if (blobRepository.deleteIfOrphan(sha256) == 0) {
+                continue;
+            }
+            try {
+                if (Files.deleteIfExists(path(sha256))) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.warn("⚠️ Suppression impossible du fichier {}: {}", sha256, e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Transaction annulée après la création du fichier : la ligne {@code retain} disparaît avec elle.
+     * Le contenu est alors déclaré orphelin pour que la purge le retrouve après le délai de grâce.
+     *
+     * Le fichier n'est pas supprimé ici : un envoi simultané du même contenu, bloqué sur le verrou
+     * de la ligne jusqu'à l'annulation, a pu le trouver présent et le référencer. L'insertion
+     * attend son issue : validé, il garde sa ligne (ON CONFLICT) ; sinon la purge tranche sous verrou.
+     */
+    private void orphanOnRollback(String sha256, long size, String contentType) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+                    transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                    transaction.executeWithoutResult(tx -> blobRepository.insertOrphan(sha256, size, contentType));
+                    log.info("🗑️ Envoi annulé, contenu laissé à la purge: {}", sha256);
+                } catch (RuntimeException e) {
+                    log.warn("⚠️ Contenu d'un envoi annulé non déclaré orphelin {}: {}", sha256, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package fr.benseddik.backend.service.impl;
+
+import fr.benseddik.backend.domain.User;
+import fr.benseddik.backend.exception.ResourceNotFoundException;
+import fr.benseddik.backend.repository.AppointmentRepository;
+import fr.benseddik.backend.repository.AppointmentRepository.CalendarAppointment;
+import fr.benseddik.backend.repository.UserRepository;
+import fr.benseddik.backend.repository.VaccineRepository;
+import fr.benseddik.backend.repository.VaccineRepository.CalendarVaccine;
+import fr.benseddik.backend.service.CalendarFeedService;
+import fr.benseddik.backend.service.JwtService;
+import fr.benseddik.backend.util.IcsWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Implémentation du flux iCalendar personnel.
+ *
+ * ⚡ PERFORMANCE :
+ * - ETag faible = nombre + dernier updatedAt des rendez-vous et des vaccins, et dernier updatedAt des animaux,
+ *   vétérinaires et cliniques affichés (un renommage change le texte des événements) : deux agrégats
+ * - Les clients qui interrogent le flux toutes les quelques minutes reçoivent un 304 sans lecture des lignes
+ * - Corps écrit ligne à ligne depuis des projections en flux (fetch size 200), mémoire constante
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CalendarFeedServiceImpl implements CalendarFeedService {
+
+    private static final String PRODUCT_ID = "-//PetCare//Calendar Feed//FR";
+    private static final String UID_DOMAIN = "@petcare";
+    private static final int TOKEN_BYTES = 32;
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final UserRepository userRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final VaccineRepository vaccineRepository;
+    private final JwtService jwtService;
+
+    @Value("${app.calendar.history-days:90}")
+    private int historyDays;
+
+    @Value("${app.calendar.time-zone:Europe/Paris}")
+    private ZoneId timeZone;
+
+    @Override
+    @Transactional
+    public String rotateToken(UUID userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Utilisateur", "id", userId));
+
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        user.setCalendarTokenHash(jwtService.hashToken(token));
+        userRepository.save(user);
+
+        log.info("📅 Nouveau jeton de flux iCalendar pour l'utilisateur {}", userId);
+        return token;
+    }
+
+    @Override
+    @Transactional
+    public void revokeToken(UUID userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Utilisateur", "id", userId));
+
+        user.setCalendarTokenHash(null);
+        userRepository.save(user);
+
+        log.info("📅 Flux iCalendar désactivé pour l'utilisateur {}", userId);
+    }
+
+    @Override
+    public CalendarFeed resolve(String token) {
+        UUID userId = userRepository.findIdByCalendarTokenHash(jwtService.hashToken(token))
+                .orElseThrow(() -> new ResourceNotFoundException("Flux iCalendar introuvable"));
+
+        AppointmentRepository.CalendarFeedVersion appointments = appointmentRepository.findFeedVersionByUserId(userId);
+        VaccineRepository.CalendarFeedVersion vaccines = vaccineRepository.findFeedVersionByOwnerId(userId);
+        Instant related = latest(latest(appointments.getPetsUpdated(), vaccines.getPetsUpdated()),
+                latest(appointments.getVetsUpdated(), appointments.getClinicsUpdated()));
+
+        String etag = "W/\"" + appointments.getCount() + "-" + epochMillis(appointments.getLastUpdated())
+                + "." + vaccines.getCount() + "-" + epochMillis(vaccines.getLastUpdated())
+                + "." + epochMillis(related) + "\"";
+        return new CalendarFeed(userId, etag,
+                latest(latest(appointments.getLastUpdated(), vaccines.getLastUpdated()), related));
+    }
+
+    @Override
+    public void writeFeed(UUID userId, OutputStream out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        IcsWriter ics = new IcsWriter(writer).beginCalendar(PRODUCT_ID, "PetCare");
+
+        LocalDate sinceDate = LocalDate.now(timeZone).minusDays(historyDays);
+
+        try (Stream<CalendarAppointment> appointments =
+                     appointmentRepository.streamCalendarByUserId(userId, sinceDate.atStartOfDay())) {
+            Iterator<CalendarAppointment> iterator = appointments.iterator();
+            while (iterator.hasNext()) {
+                writeAppointment(ics, iterator.next());
+            }
+        }
+
+        try (Stream<CalendarVaccine> vaccines = vaccineRepository.streamCalendarByOwnerId(userId, sinceDate)) {
+            Iterator<CalendarVaccine> iterator = vaccines.iterator();
+            while (iterator.hasNext()) {
+                writeVaccine(ics, iterator.next());
+            }
+        }
+
+        ics.endCalendar();
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // ÉVÉNEMENTS
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private void writeAppointment(IcsWriter ics, CalendarAppointment appointment) throws IOException {
+        LocalDateTime start = appointment.getDate();
+        int duration = appointment.getDurationMinutes() != null ? appointment.getDurationMinutes() : 30;
+
+        ics.beginEvent("appointment-" + appointment.getId() + UID_DOMAIN, appointment.getUpdatedAt())
+                .dateTime("DTSTART", start.atZone(timeZone).toInstant())
+                .dateTime("DTEND", start.plusMinutes(duration).atZone(timeZone).toInstant())
+                .text("SUMMARY", "🐾 " + appointment.getPetName()
+                        + (appointment.getReason() != null ? " - " + appointment.getReason() : ""))
+                .text("LOCATION", location(appointment))
+                .text("DESCRIPTION", vetName(appointment))
+                .raw("STATUS", "cancelled".equals(appointment.getStatus()) ? "CANCELLED" : "CONFIRMED");
+        if (appointment.getUpdatedAt() != null) {
+            ics.dateTime("LAST-MODIFIED", appointment.getUpdatedAt());
+        }
+        ics.endEvent();
+    }
+
+    private void writeVaccine(IcsWriter ics, CalendarVaccine vaccine) throws IOException {
+        ics.beginEvent("vaccine-" + vaccine.getId() + UID_DOMAIN, vaccine.getUpdatedAt())
+                .date("DTSTART", vaccine.getNextDate())
+                .date("DTEND", vaccine.getNextDate().plusDays(1))
+                .text("SUMMARY", "💉 Rappel " + vaccine.getName() + " - " + vaccine.getPetName())
+                .raw("TRANSP", "TRANSPARENT");
+        if (vaccine.getUpdatedAt() != null) {
+            ics.dateTime("LAST-MODIFIED", vaccine.getUpdatedAt());
+        }
+        ics.endEvent();
+    }
+
+    private static String location(CalendarAppointment appointment) {
+        if (appointment.getClinicName() == null) {
+            return null;
+        }
+        return appointment.getClinicAddress() != null
+                ? appointment.getClinicName() + ", " + appointment.getClinicAddress()
+                : appointment.getClinicName();
+    }
+
+    private static String vetName(CalendarAppointment appointment) {
+        if (appointment.getVetLastName() == null) {
+            return null;
+        }
+        return String.format("Dr. %s %s", appointment.getVetFirstName(), appointment.getVetLastName());
+    }
+
+    private static long epochMillis(Instant instant) {
+        return instant != null ? instant.toEpochMilli() : 0L;
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+}
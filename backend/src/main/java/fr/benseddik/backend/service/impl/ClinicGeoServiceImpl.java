@@ -0,0 +1,123 @@
+package fr.benseddik.backend.service.impl;
+
+import fr.benseddik.backend.domain.Clinic;
+import fr.benseddik.backend.dto.response.NearbyClinicResponse;
+import fr.benseddik.backend.exception.BadRequestException;
+import fr.benseddik.backend.repository.ClinicRepository;
+import fr.benseddik.backend.service.ClinicGeoService;
+import fr.benseddik.backend.util.GeoKdTree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implémentation de la recherche géographique des cliniques.
+ *
+ * ⚡ PERFORMANCE :
+ * - Arbre k-d construit au démarrage sur les cliniques géocodées
+ * - Reconstruction complète puis publication atomique (référence volatile)
+ * - Reconstruction uniquement si l'empreinte (nombre de lignes + dernier updatedAt) a changé
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ClinicGeoServiceImpl implements ClinicGeoService {
+
+    private final ClinicRepository clinicRepository;
+
+    @Value("${app.geo.default-limit:10}")
+    private int defaultLimit;
+
+    @Value("${app.geo.max-limit:100}")
+    private int maxLimit;
+
+    @Value("${app.geo.max-radius-km:500}")
+    private double maxRadiusKm;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @Override
+    public List<NearbyClinicResponse> findNearby(double latitude, double longitude, Double radiusKm, Integer limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("Coordonnées invalides");
+        }
+        if (radiusKm != null && (radiusKm <= 0 || radiusKm > maxRadiusKm)) {
+            throw new BadRequestException("Le rayon doit être compris entre 0 et " + maxRadiusKm + " km");
+        }
+
+        int resolvedLimit = limit == null || limit <= 0 ? defaultLimit : Math.min(limit, maxLimit);
+
+        return snapshot.tree().nearest(latitude, longitude, resolvedLimit, radiusKm).stream()
+                .map(neighbor -> withDistance(neighbor.value(), neighbor.distanceKm()))
+                .toList();
+    }
+
+    /**
+     * Construit l'index une fois l'application démarrée (Liquibase déjà appliqué).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refreshIfChanged();
+    }
+
+    @Override
+    public void refreshIfChanged() {
+        Fingerprint current = new Fingerprint(clinicRepository.count(), clinicRepository.findLastUpdatedAt());
+        if (current.equals(snapshot.fingerprint())) {
+            return;
+        }
+
+        List<GeoKdTree.GeoPoint<NearbyClinicResponse>> points = clinicRepository.findAllGeocoded().stream()
+                .map(clinic -> new GeoKdTree.GeoPoint<>(clinic.getLatitude(), clinic.getLongitude(), mapToResponse(clinic)))
+                .toList();
+        snapshot = new Snapshot(current, GeoKdTree.build(points));
+
+        log.info("🗺️ Index géographique reconstruit: {} cliniques géocodées sur {}", points.size(), current.clinicCount());
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // MAPPER
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private NearbyClinicResponse mapToResponse(Clinic clinic) {
+        return new NearbyClinicResponse(
+                clinic.getId(),
+                clinic.getName(),
+                clinic.getAddress(),
+                clinic.getPhone(),
+                clinic.getOpeningHours(),
+                clinic.getLatitude(),
+                clinic.getLongitude(),
+                0
+        );
+    }
+
+    private NearbyClinicResponse withDistance(NearbyClinicResponse clinic, double distanceKm) {
+        return new NearbyClinicResponse(
+                clinic.id(),
+                clinic.name(),
+                clinic.address(),
+                clinic.phone(),
+                clinic.openingHours(),
+                clinic.latitude(),
+                clinic.longitude(),
+                Math.round(distanceKm * 100) / 100.0
+        );
+    }
+
+    private record Fingerprint(long clinicCount, Instant lastUpdate) {
+    }
+
+    private record Snapshot(Fingerprint fingerprint, GeoKdTree<NearbyClinicResponse> tree) {
+
+        static final Snapshot EMPTY = new Snapshot(null, GeoKdTree.empty());
+    }
+}
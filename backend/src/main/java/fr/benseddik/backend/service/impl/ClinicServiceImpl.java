@@ -83,6 +83,8 @@ public class ClinicServiceImpl implements ClinicService {
                 clinic.getEmail(),
                 clinic.getWebsite(),
                 clinic.getOpeningHours(),
+                clinic.getLatitude(),
+                clinic.getLongitude(),
                 clinic.getCreatedAt(),
                 clinic.getUpdatedAt()
         );
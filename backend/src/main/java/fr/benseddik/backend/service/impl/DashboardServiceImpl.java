@@ -0,0 +1,187 @@
+package fr.benseddik.backend.service.impl;
+
+import fr.benseddik.backend.config.RequestDeadlines;
+import fr.benseddik.backend.domain.Pet;
+import fr.benseddik.backend.dto.response.AppointmentResponse;
+import fr.benseddik.backend.dto.response.DashboardPetResponse;
+import fr.benseddik.backend.dto.response.DashboardResponse;
+import fr.benseddik.backend.dto.response.VaccineResponse;
+import fr.benseddik.backend.repository.PetRepository;
+import fr.benseddik.backend.repository.WeightLogRepository;
+import fr.benseddik.backend.repository.WeightLogRepository.PetWeightPoint;
+import fr.benseddik.backend.service.AppointmentService;
+import fr.benseddik.backend.service.DashboardService;
+import fr.benseddik.backend.service.VaccineService;
+import fr.benseddik.backend.util.Deadline;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Implémentation du tableau de bord.
+ *
+ * Trois sections indépendantes, chacune en requêtes ensemblistes (pas de N+1) :
+ * - Animaux + dernière pesée de chacun (2 requêtes)
+ * - N prochains rendez-vous avec vétérinaire et clinique (1 requête)
+ * - Rappels de vaccins dépassés et à venir, tous animaux confondus (1 requête)
+ *
+ * ⚡ PERFORMANCE : sections exécutées en parallèle sur des threads virtuels, chacune dans sa
+ * propre transaction en lecture seule. Une échéance commune borne la requête : le délai de
+ * transaction (timeout JDBC) en découle, et une section en retard est abandonnée plutôt que
+ * de bloquer les autres (réponse partielle, section listée dans {@code unavailable}).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DashboardServiceImpl implements DashboardService {
+
+    static final String PETS = "pets";
+    static final String APPOINTMENTS = "appointments";
+    static final String VACCINES = "vaccines";
+
+    private final PetRepository petRepository;
+    private final WeightLogRepository weightLogRepository;
+    private final AppointmentService appointmentService;
+    private final VaccineService vaccineService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.dashboard.appointments:5}")
+    private int appointmentLimit;
+
+    @Value("${app.dashboard.vaccine-horizon-days:30}")
+    private int vaccineHorizonDays;
+
+    @Value("${app.dashboard.timeout:PT2S}")
+    private Duration timeout;
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DashboardResponse getDashboard(UUID userId) {
+        Deadline deadline = RequestDeadlines.within(timeout);
+        List<String> unavailable = new ArrayList<>();
+
+        // Contextes de sécurité (routage des lectures par utilisateur) et de trace propagés
+        ExecutorService executor = new DelegatingSecurityContextExecutorService(
+                ContextExecutorService.wrap(Executors.newVirtualThreadPerTaskExecutor(),
+                        ContextSnapshotFactory.builder().build()));
+        try {
+            Future<List<DashboardPetResponse>> pets = executor.submit(inTransaction(deadline, () -> loadPets(userId)));
+            Future<List<AppointmentResponse>> appointments = executor.submit(inTransaction(deadline,
+                    () -> appointmentService.getNextAppointments(userId, appointmentLimit)));
+            Future<List<VaccineResponse>> vaccines = executor.submit(inTransaction(deadline,
+                    () -> vaccineService.getDueVaccines(userId, vaccineHorizonDays)));
+
+            List<VaccineResponse> due = await(vaccines, VACCINES, deadline, unavailable);
+            LocalDate today = LocalDate.now();
+
+            return new DashboardResponse(
+                    await(pets, PETS, deadline, unavailable),
+                    await(appointments, APPOINTMENTS, deadline, unavailable),
+                    due.stream().filter(v -> !v.nextDate().isBefore(today)).toList(),
+                    due.stream().filter(v -> v.nextDate().isBefore(today)).toList(),
+                    List.copyOf(unavailable)
+            );
+        } finally {
+            // Ne pas attendre les sections abandonnées : leur transaction expire d'elle-même
+            executor.shutdownNow();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // SECTIONS
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private List<DashboardPetResponse> loadPets(UUID userId) {
+        List<Pet> pets = petRepository.findByOwnerId(userId);
+        if (pets.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, PetWeightPoint> latest = new HashMap<>();
+        for (PetWeightPoint point : weightLogRepository.findLatestByPetIds(pets.stream().map(Pet::getId).toList())) {
+            latest.putIfAbsent(point.getPetId(), point);
+        }
+
+        return pets.stream()
+                .map(pet -> {
+                    PetWeightPoint weight = latest.get(pet.getId());
+                    return new DashboardPetResponse(
+                            pet.getId(),
+                            pet.getName(),
+                            pet.getSpecies(),
+                            pet.getBreed(),
+                            pet.getAgeInYears(),
+                            pet.getAvatar(),
+                            weight != null ? weight.getWeight() : null,
+                            weight != null ? weight.getDate() : null
+                    );
+                })
+                .toList();
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // EXÉCUTION
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Exécute la section dans une transaction en lecture seule dont le délai est le temps restant.
+     */
+    private <T> Callable<T> inTransaction(Deadline deadline, Callable<T> section) {
+        return () -> {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.setTimeout(deadline.remainingSeconds());
+            return transaction.execute(status -> {
+                try {
+                    return section.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        };
+    }
+
+    /**
+     * Attend une section jusqu'à l'échéance ; en cas d'échec ou de retard, retourne une liste vide.
+     */
+    private <T> List<T> await(Future<List<T>> future, String section, Deadline deadline, List<String> unavailable) {
+        try {
+            return future.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("⏱️ Tableau de bord : section '{}' abandonnée (délai de {} dépassé)", section, timeout);
+        } catch (ExecutionException e) {
+            log.warn("⚠️ Tableau de bord : échec de la section '{}'", section, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        future.cancel(true);
+        unavailable.add(section);
+        return List.of();
+    }
+}
@@ -0,0 +1,627 @@
+package fr.benseddik.backend.service.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.benseddik.backend.config.StorageProperties;
+import fr.benseddik.backend.config.Workload;
+import fr.benseddik.backend.domain.DataExport;
+import fr.benseddik.backend.domain.DataExport.Status;
+import fr.benseddik.backend.domain.User;
+import fr.benseddik.backend.dto.response.DataExportResponse;
+import fr.benseddik.backend.exception.BadRequestException;
+import fr.benseddik.backend.exception.ResourceNotFoundException;
+import fr.benseddik.backend.repository.AppointmentRepository;
+import fr.benseddik.backend.repository.AppointmentRepository.ExportAppointment;
+import fr.benseddik.backend.repository.AuditLogRepository;
+import fr.benseddik.backend.repository.AuditLogRepository.ExportAuditLog;
+import fr.benseddik.backend.repository.DataExportRepository;
+import fr.benseddik.backend.repository.MedicalRecordRepository;
+import fr.benseddik.backend.repository.MedicalRecordRepository.ExportMedicalRecord;
+import fr.benseddik.backend.repository.PetRepository;
+import fr.benseddik.backend.repository.PetRepository.ExportPet;
+import fr.benseddik.backend.repository.UserRepository;
+import fr.benseddik.backend.repository.VaccineRepository;
+import fr.benseddik.backend.repository.VaccineRepository.ExportVaccine;
+import fr.benseddik.backend.repository.WeightLogRepository;
+import fr.benseddik.backend.repository.WeightLogRepository.ExportWeightLog;
+import fr.benseddik.backend.service.BlobStoreService;
+import fr.benseddik.backend.service.DataExportService;
+import fr.benseddik.backend.util.CsvWriter;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StreamUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Implémentation de l'export des données d'un compte.
+ *
+ * Déroulement :
+ * 1. La demande est enregistrée (PENDING) ; après commit, elle est confiée à un pool dédié
+ * 2. L'archive est écrite dans un fichier temporaire, dans une seule transaction en lecture seule
+ *    (REPEATABLE READ : instantané cohérent de toutes les tables), puis renommée atomiquement (READY)
+ * 3. Téléchargement jusqu'à expiration, puis purge de la ligne et du fichier
+ *
+ * 🛡️ Plusieurs instances : chaque instance rafraîchit le signe de vie (heartbeat_at) des exports qu'elle
+ * a planifiés ; seul un export sans signe de vie depuis app.export.stale-after est marqué abandonné,
+ * et chaque changement d'état est un UPDATE conditionné par l'état attendu.
+ *
+ * ⚡ PERFORMANCE :
+ * - Chaque table est lue par une projection en flux (curseur PostgreSQL, fetch size 200 à 1000),
+ *   sans entité dans le contexte de persistance
+ * - Chaque ligne est écrite aussitôt dans l'entrée ZIP courante (CSV ou NDJSON)
+ * - Les pièces jointes sont recopiées du stockage par contenu, une seule fois par empreinte
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class DataExportServiceImpl implements DataExportService {
+
+    private static final String DOWNLOAD_URL = "/v1/exports/%s/download";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final char CSV_DELIMITER = ',';
+    private static final String ABANDONED = "Génération interrompue (redémarrage du serveur), relancer l'export";
+    private static final List<Status> ACTIVE = List.of(Status.PENDING, Status.RUNNING);
+
+    private final DataExportRepository dataExportRepository;
+    private final UserRepository userRepository;
+    private final PetRepository petRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final VaccineRepository vaccineRepository;
+    private final WeightLogRepository weightLogRepository;
+    private final MedicalRecordRepository medicalRecordRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final BlobStoreService blobStoreService;
+    private final JsonFactory jsonFactory;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate snapshotTransaction;
+    private final Path exportRoot;
+    private final Duration retention;
+    private final Duration staleAfter;
+    private final ExecutorService workers;
+    /**
+     * Exports confiés aux workers de cette instance et pas encore terminés : jamais considérés abandonnés.
+     */
+    private final Set<UUID> scheduled = ConcurrentHashMap.newKeySet();
+
+    public DataExportServiceImpl(DataExportRepository dataExportRepository,
+                                 UserRepository userRepository,
+                                 PetRepository petRepository,
+                                 AppointmentRepository appointmentRepository,
+                                 VaccineRepository vaccineRepository,
+                                 WeightLogRepository weightLogRepository,
+                                 MedicalRecordRepository medicalRecordRepository,
+                                 AuditLogRepository auditLogRepository,
+                                 BlobStoreService blobStoreService,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 StorageProperties storageProperties,
+                                 @Value("${app.export.retention:P7D}") Duration retention,
+                                 @Value("${app.export.stale-after:PT30M}") Duration staleAfter,
+                                 @Value("${app.export.workers:1}") int workerCount) {
+        this.dataExportRepository = dataExportRepository;
+        this.userRepository = userRepository;
+        this.petRepository = petRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.vaccineRepository = vaccineRepository;
+        this.weightLogRepository = weightLogRepository;
+        this.medicalRecordRepository = medicalRecordRepository;
+        this.auditLogRepository = auditLogRepository;
+        this.blobStoreService = blobStoreService;
+        this.jsonFactory = objectMapper.getFactory();
+        this.exportRoot = storageProperties.root().resolve("exports");
+        this.retention = retention;
+        this.staleAfter = staleAfter;
+
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        // File non bornée : au plus une demande active par utilisateur ; génération rattachée à la trace de la demande
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = ContextExecutorService.wrap(new ThreadPoolExecutor(
+                workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "data-export-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }),
+                ContextSnapshotFactory.builder().build());
+    }
+
+    @PostConstruct
+    void createDirectories() throws IOException {
+        Files.createDirectories(exportRoot);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    @Override
+    @Transactional
+    public DataExportResponse requestExport(UUID userId) {
+        Instant now = Instant.now();
+        List<DataExport> current = dataExportRepository.findCurrentByUserId(userId, now);
+        for (DataExport export : current) {
+            if (!export.isActive()) {
+                continue;
+            }
+            if (isAbandoned(export, now) && markAbandoned(export, now)) {
+                continue;
+            }
+            log.debug("📦 Export déjà en cours pour l'utilisateur {} : {}", userId, export.getId());
+            return mapToResponse(export);
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Utilisateur", "id", userId));
+
+        DataExport export = dataExportRepository.saveAndFlush(DataExport.builder()
+                .user(user)
+                .expiresAt(Instant.now().plus(retention))
+                .build());
+
+        UUID exportId = export.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduled.add(exportId);
+                try {
+                    workers.execute(() -> Workload.REPORTING.run(() -> generate(exportId, userId)));
+                } catch (RejectedExecutionException e) {
+                    // Laissé en attente : repris par failAbandoned() une fois le délai app.export.stale-after écoulé
+                    scheduled.remove(exportId);
+                    log.warn("⚠️ Export {} non planifié (arrêt en cours)", exportId);
+                }
+            }
+        });
+
+        log.info("📦 Export des données demandé par l'utilisateur {} : {}", userId, exportId);
+        return mapToResponse(export);
+    }
+
+    @Override
+    public List<DataExportResponse> getExports(UUID userId) {
+        return dataExportRepository.findCurrentByUserId(userId, Instant.now()).stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    @Override
+    public DataExportResponse getExport(UUID exportId, UUID userId) {
+        return mapToResponse(findOwnedExport(exportId, userId));
+    }
+
+    @Override
+    public ExportArchive getArchive(UUID exportId, UUID userId) {
+        DataExport export = findOwnedExport(exportId, userId);
+        if (export.getStatus() != Status.READY) {
+            throw new BadRequestException("L'export n'est pas encore prêt");
+        }
+
+        Path path = archivePath(exportId);
+        if (!Files.isRegularFile(path)) {
+            throw new ResourceNotFoundException("Archive de l'export introuvable");
+        }
+        String fileName = "petcare-export-" + LocalDate.ofInstant(export.getCreatedAt(), ZoneOffset.UTC) + ".zip";
+        return new ExportArchive(exportId, path, fileName, export.getSize());
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired() {
+        List<UUID> expired = dataExportRepository.findExpiredIds(Instant.now());
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        for (UUID exportId : expired) {
+            deleteQuietly(archivePath(exportId));
+            deleteQuietly(partialPath(exportId));
+        }
+        return dataExportRepository.deleteByIdIn(expired);
+    }
+
+    @Override
+    @Transactional
+    public int failAbandoned() {
+        Instant now = Instant.now();
+        return (int) dataExportRepository.findStale(ACTIVE, now.minus(staleAfter)).stream()
+                .filter(export -> isAbandoned(export, now))
+                .filter(export -> markAbandoned(export, now))
+                .count();
+    }
+
+    @Override
+    @Transactional
+    public int heartbeat() {
+        if (scheduled.isEmpty()) {
+            return 0;
+        }
+        return dataExportRepository.touch(List.copyOf(scheduled), ACTIVE, Instant.now());
+    }
+
+    @Override
+    @Transactional
+    public void deleteUserExports(UUID userId) {
+        List<UUID> exportIds = dataExportRepository.findIdsByUserId(userId);
+        if (exportIds.isEmpty()) {
+            return;
+        }
+        dataExportRepository.deleteByIdIn(exportIds);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (UUID exportId : exportIds) {
+                    deleteQuietly(archivePath(exportId));
+                    deleteQuietly(partialPath(exportId));
+                }
+            }
+        });
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // GÉNÉRATION
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private void generate(UUID exportId, UUID userId) {
+        try {
+            generateArchive(exportId, userId);
+        } finally {
+            scheduled.remove(exportId);
+        }
+    }
+
+    private void generateArchive(UUID exportId, UUID userId) {
+        long startedAt = System.currentTimeMillis();
+        Path partial = partialPath(exportId);
+        Path archive = archivePath(exportId);
+
+        try {
+            if (!transition(exportId, List.of(Status.PENDING), Status.RUNNING, null, null)) {
+                // Supprimé (compte supprimé) ou marqué abandonné par une autre instance entre-temps
+                log.warn("⚠️ Export {} non généré : supprimé ou marqué en échec entre-temps", exportId);
+                return;
+            }
+
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial), BUFFER_SIZE)) {
+                snapshotTransaction.executeWithoutResult(status -> {
+                    try {
+                        writeArchive(userId, out);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            Files.move(partial, archive, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            long size = Files.size(archive);
+            if (!transition(exportId, List.of(Status.RUNNING), Status.READY, size, null)) {
+                // Export supprimé pendant la génération (compte supprimé) ou marqué en échec par une autre instance
+                log.warn("⚠️ Export {} supprimé ou marqué en échec pendant la génération : archive abandonnée", exportId);
+                deleteQuietly(archive);
+                return;
+            }
+            log.info("✅ Export {} prêt : {} octets en {} ms", exportId, size, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("❌ Échec de l'export {}", exportId, e);
+            deleteQuietly(partial);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            transition(exportId, ACTIVE, Status.FAILED, null,
+                    message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        }
+    }
+
+    /**
+     * Écrit l'archive complète ; doit être appelé dans une transaction (curseurs).
+     */
+    private void writeArchive(UUID userId, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        // Les écrivains de chaque entrée ne doivent pas fermer l'archive
+        OutputStream entry = StreamUtils.nonClosing(zip);
+
+        zip.putNextEntry(new ZipEntry("account.json"));
+        writeAccount(userId, entry);
+        zip.closeEntry();
+
+        zip.putNextEntry(new ZipEntry("pets.csv"));
+        writePets(userId, entry);
+        zip.closeEntry();
+
+        zip.putNextEntry(new ZipEntry("appointments.csv"));
+        writeAppointments(userId, entry);
+        zip.closeEntry();
+
+        zip.putNextEntry(new ZipEntry("vaccines.csv"));
+        writeVaccines(userId, entry);
+        zip.closeEntry();
+
+        zip.putNextEntry(new ZipEntry("weight_logs.csv"));
+        writeWeightLogs(userId, entry);
+        zip.closeEntry();
+
+        zip.putNextEntry(new ZipEntry("medical_records.ndjson"));
+        Set<String> attachments = writeMedicalRecords(userId, entry);
+        zip.closeEntry();
+
+        zip.putNextEntry(new ZipEntry("audit_logs.ndjson"));
+        writeAuditLogs(userId, entry);
+        zip.closeEntry();
+
+        for (String sha256 : attachments) {
+            Path file = blobStoreService.path(sha256);
+            if (!Files.isRegularFile(file)) {
+                log.warn("⚠️ Pièce jointe {} absente du stockage : ignorée dans l'export", sha256);
+                continue;
+            }
+            zip.putNextEntry(new ZipEntry("attachments/" + sha256));
+            Files.copy(file, zip);
+            zip.closeEntry();
+        }
+
+        zip.finish();
+    }
+
+    private void writeAccount(UUID userId, OutputStream out) throws IOException {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Utilisateur", "id", userId));
+
+        try (JsonGenerator json = jsonFactory.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("id", user.getId().toString());
+            json.writeStringField("email", user.getEmail());
+            json.writeStringField("firstName", user.getFirstName());
+            json.writeStringField("lastName", user.getLastName());
+            json.writeStringField("avatar", user.getAvatar());
+            json.writeStringField("role", user.getRole().name());
+            json.writeStringField("provider", user.getProvider().name());
+            json.writeBooleanField("emailVerified", Boolean.TRUE.equals(user.getEmailVerified()));
+            json.writeStringField("createdAt", text(user.getCreatedAt()));
+            json.writeStringField("exportedAt", Instant.now().toString());
+            json.writeEndObject();
+        }
+    }
+
+    private void writePets(UUID userId, OutputStream out) throws IOException {
+        try (Stream<ExportPet> rows = petRepository.streamExportByOwnerId(userId);
+             BufferedWriter writer = csvWriter(out)) {
+            CsvWriter csv = new CsvWriter(writer, CSV_DELIMITER)
+                    .row("id", "name", "species", "breed", "birth_date", "gender", "microchip", "color", "created_at");
+            Iterator<ExportPet> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ExportPet pet = iterator.next();
+                csv.row(pet.getId(), pet.getName(), pet.getSpecies(), pet.getBreed(), pet.getBirthDate(),
+                        pet.getGender(), pet.getMicrochip(), pet.getColor(), pet.getCreatedAt());
+            }
+        }
+    }
+
+    private void writeAppointments(UUID userId, OutputStream out) throws IOException {
+        try (Stream<ExportAppointment> rows = appointmentRepository.streamExportByUserId(userId);
+             BufferedWriter writer = csvWriter(out)) {
+            CsvWriter csv = new CsvWriter(writer, CSV_DELIMITER)
+                    .row("id", "date", "duration_minutes", "reason", "status", "notes", "pet", "vet", "clinic", "created_at");
+            Iterator<ExportAppointment> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ExportAppointment appointment = iterator.next();
+                csv.row(appointment.getId(), appointment.getDate(), appointment.getDurationMinutes(),
+                        appointment.getReason(), appointment.getStatus(), appointment.getNotes(),
+                        appointment.getPetName(), vetName(appointment.getVetFirstName(), appointment.getVetLastName()),
+                        appointment.getClinicName(), appointment.getCreatedAt());
+            }
+        }
+    }
+
+    private void writeVaccines(UUID userId, OutputStream out) throws IOException {
+        try (Stream<ExportVaccine> rows = vaccineRepository.streamExportByOwnerId(userId);
+             BufferedWriter writer = csvWriter(out)) {
+            CsvWriter csv = new CsvWriter(writer, CSV_DELIMITER)
+                    .row("id", "pet", "name", "date", "next_date", "status");
+            Iterator<ExportVaccine> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ExportVaccine vaccine = iterator.next();
+                csv.row(vaccine.getId(), vaccine.getPetName(), vaccine.getName(), vaccine.getDate(),
+                        vaccine.getNextDate(), vaccine.getStatus());
+            }
+        }
+    }
+
+    private void writeWeightLogs(UUID userId, OutputStream out) throws IOException {
+        try (Stream<ExportWeightLog> rows = weightLogRepository.streamExportByOwnerId(userId);
+             BufferedWriter writer = csvWriter(out)) {
+            CsvWriter csv = new CsvWriter(writer, CSV_DELIMITER).row("pet", "date", "weight", "note");
+            Iterator<ExportWeightLog> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ExportWeightLog weightLog = iterator.next();
+                csv.row(weightLog.getPetName(), weightLog.getDate(), weightLog.getWeight(), weightLog.getNote());
+            }
+        }
+    }
+
+    /**
+     * @return empreintes des pièces jointes référencées, à recopier dans l'archive
+     */
+    private Set<String> writeMedicalRecords(UUID userId, OutputStream out) throws IOException {
+        Set<String> attachments = new LinkedHashSet<>();
+        try (Stream<ExportMedicalRecord> rows = medicalRecordRepository.streamExportByOwnerId(userId);
+             JsonGenerator json = jsonFactory.createGenerator(out)) {
+            Iterator<ExportMedicalRecord> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ExportMedicalRecord record = iterator.next();
+                json.writeStartObject();
+                json.writeStringField("id", record.getId().toString());
+                json.writeStringField("pet", record.getPetName());
+                json.writeStringField("recordType", record.getRecordType().name());
+                json.writeStringField("title", record.getTitle());
+                json.writeStringField("description", record.getDescription());
+                json.writeStringField("date", text(record.getDate()));
+                json.writeStringField("diagnosis", record.getDiagnosis());
+                json.writeStringField("treatment", record.getTreatment());
+                json.writeStringField("medications", record.getMedications());
+                json.writeObjectField("labResults", record.getLabResults());
+                json.writeObjectField("attachments", record.getAttachments());
+                json.writeObjectField("cost", record.getCost());
+                json.writeStringField("notes", record.getNotes());
+                json.writeStringField("vet", vetName(record.getVetFirstName(), record.getVetLastName()));
+                json.writeStringField("createdAt", text(record.getCreatedAt()));
+                json.writeEndObject();
+                json.writeRaw('\n');
+
+                if (record.getAttachments() != null) {
+                    attachments.addAll(record.getAttachments().values());
+                }
+            }
+        }
+        return attachments;
+    }
+
+    private void writeAuditLogs(UUID userId, OutputStream out) throws IOException {
+        try (Stream<ExportAuditLog> rows = auditLogRepository.streamExportByUserId(userId);
+             JsonGenerator json = jsonFactory.createGenerator(out)) {
+            Iterator<ExportAuditLog> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ExportAuditLog entry = iterator.next();
+                json.writeStartObject();
+                json.writeStringField("action", entry.getAction());
+                json.writeObjectField("metadata", entry.getMetadata());
+                json.writeStringField("ipAddress", entry.getIpAddress());
+                json.writeStringField("userAgent", entry.getUserAgent());
+                json.writeStringField("createdAt", text(entry.getCreatedAt()));
+                json.writeEndObject();
+                json.writeRaw('\n');
+            }
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // UTILITAIRES
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Change l'état d'un export s'il est encore dans l'un des états attendus ; rafraîchit son signe de vie.
+     *
+     * @return false si la ligne a disparu (compte supprimé, purge) ou changé d'état entre-temps
+     */
+    private boolean transition(UUID exportId, List<Status> expected, Status status, Long size, String error) {
+        Instant now = Instant.now();
+        Instant completedAt = status == Status.READY || status == Status.FAILED ? now : null;
+        Integer updated = writeTransaction.execute(tx ->
+                dataExportRepository.transition(exportId, expected, status, size, error, completedAt, now));
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * Demande en attente ou en cours sans signe de vie depuis plus de app.export.stale-after et non planifiée
+     * sur cette instance : le worker qui la portait a disparu (redémarrage, tâche refusée à l'arrêt).
+     */
+    private boolean isAbandoned(DataExport export, Instant now) {
+        return export.isActive()
+                && export.lastSeenAt().isBefore(now.minus(staleAfter))
+                && !scheduled.contains(export.getId());
+    }
+
+    /**
+     * @return false si l'export a changé d'état ou donné signe de vie depuis sa lecture
+     */
+    private boolean markAbandoned(DataExport export, Instant now) {
+        if (dataExportRepository.failIfStale(export.getId(), ACTIVE, Status.FAILED, ABANDONED,
+                now.minus(staleAfter), now) == 0) {
+            return false;
+        }
+        log.warn("⚠️ Export {} abandonné ({}), marqué en échec", export.getId(), export.getStatus());
+        deleteQuietly(partialPath(export.getId()));
+        return true;
+    }
+
+    private DataExport findOwnedExport(UUID exportId, UUID userId) {
+        return dataExportRepository.findByIdAndUserId(exportId, userId)
+                .filter(export -> export.getExpiresAt().isAfter(Instant.now()))
+                .orElseThrow(() -> new ResourceNotFoundException("Export", "id", exportId));
+    }
+
+    private DataExportResponse mapToResponse(DataExport export) {
+        return new DataExportResponse(
+                export.getId(),
+                export.getStatus(),
+                export.getSize(),
+                export.getError(),
+                export.getCreatedAt(),
+                export.getCompletedAt(),
+                export.getExpiresAt(),
+                export.getStatus() == Status.READY ? DOWNLOAD_URL.formatted(export.getId()) : null
+        );
+    }
+
+    private BufferedWriter csvWriter(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private Path archivePath(UUID exportId) {
+        return exportRoot.resolve(exportId + ".zip");
+    }
+
+    private Path partialPath(UUID exportId) {
+        return exportRoot.resolve(exportId + ".zip.part");
+    }
+
+    private static String vetName(String firstName, String lastName) {
+        return firstName != null ? String.format("Dr. %s %s", firstName, lastName) : null;
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("⚠️ Impossible de supprimer {}", path, e);
+        }
+    }
+}
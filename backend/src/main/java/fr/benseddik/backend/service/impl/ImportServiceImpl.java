@@ -0,0 +1,419 @@
+package fr.benseddik.backend.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import fr.benseddik.backend.config.RunsOn;
+import fr.benseddik.backend.config.Workload;
+import fr.benseddik.backend.domain.Vaccine;
+import fr.benseddik.backend.domain.WeightAggregate.Granularity;
+import fr.benseddik.backend.dto.response.ImportReportResponse;
+import fr.benseddik.backend.dto.response.ImportReportResponse.RowError;
+import fr.benseddik.backend.exception.BadRequestException;
+import fr.benseddik.backend.repository.PetRepository;
+import fr.benseddik.backend.service.ImportService;
+import fr.benseddik.backend.service.WeightAnomalyService;
+import fr.benseddik.backend.util.CsvReader;
+import fr.benseddik.backend.util.UuidV7;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implémentation de l'import en masse des pesées et des vaccins.
+ *
+ * ⚡ PERFORMANCE :
+ * - Lecture en flux (CSV ou NDJSON), une ligne en mémoire à la fois
+ * - Propriété des animaux vérifiée par une seule requête (IDs des animaux de l'utilisateur)
+ * - INSERT JDBC par lots (reWriteBatchedInserts côté pilote PostgreSQL), sans entités ni contexte de persistance
+ * - Agrégats de poids fusionnés en mémoire puis écrits en un lot, détecteur recalculé une fois par animal
+ *
+ * Pool de connexions "background" : un import volumineux ne consomme pas les connexions interactives.
+ */
+@Slf4j
+@Service
+@RunsOn(Workload.BACKGROUND)
+@Transactional(readOnly = true)
+public class ImportServiceImpl implements ImportService {
+
+    private static final String INSERT_WEIGHT_LOG =
+            "INSERT INTO weight_logs (id, weight, date, note, pet_id) VALUES (?, ?, ?, ?, ?)";
+    private static final int[] WEIGHT_LOG_TYPES = {Types.OTHER, Types.DOUBLE, Types.DATE, Types.VARCHAR, Types.OTHER};
+
+    private static final String INSERT_VACCINE =
+            "INSERT INTO vaccines (id, name, date, next_date, status, pet_id) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final int[] VACCINE_TYPES = {Types.OTHER, Types.VARCHAR, Types.DATE, Types.DATE, Types.VARCHAR, Types.OTHER};
+
+    private static final String MERGE_WEIGHT_AGGREGATE =
+            "INSERT INTO weight_aggregates (pet_id, granularity, period_start, sample_count, weight_sum, weight_min, weight_max) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (pet_id, granularity, period_start) DO UPDATE SET " +
+            "sample_count = weight_aggregates.sample_count + EXCLUDED.sample_count, " +
+            "weight_sum = weight_aggregates.weight_sum + EXCLUDED.weight_sum, " +
+            "weight_min = LEAST(weight_aggregates.weight_min, EXCLUDED.weight_min), " +
+            "weight_max = GREATEST(weight_aggregates.weight_max, EXCLUDED.weight_max)";
+    private static final int[] AGGREGATE_TYPES =
+            {Types.OTHER, Types.VARCHAR, Types.DATE, Types.INTEGER, Types.DOUBLE, Types.DOUBLE, Types.DOUBLE};
+
+    private static final DateTimeFormatter FRENCH_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PetRepository petRepository;
+    private final WeightAnomalyService weightAnomalyService;
+    private final ObjectReader ndjsonReader;
+
+    @Value("${app.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.import.max-rows:1000000}")
+    private long maxRows;
+
+    @Value("${app.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public ImportServiceImpl(JdbcTemplate jdbcTemplate,
+                             PetRepository petRepository,
+                             WeightAnomalyService weightAnomalyService,
+                             ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.petRepository = petRepository;
+        this.weightAnomalyService = weightAnomalyService;
+        this.ndjsonReader = objectMapper.readerFor(new TypeReference<Map<String, Object>>() {
+        });
+    }
+
+    @Override
+    @Transactional(rollbackFor = IOException.class)
+    public ImportReportResponse importWeightLogs(InputStream input, ImportFormat format, UUID userId) throws IOException {
+        log.info("📥 Import de pesées ({}) pour l'utilisateur {}", format, userId);
+
+        Map<AggregateKey, double[]> aggregates = new HashMap<>();
+        Set<UUID> touchedPets = new HashSet<>();
+        LocalDate today = LocalDate.now();
+
+        ImportReportResponse report = importRows(input, format, userId, INSERT_WEIGHT_LOG, WEIGHT_LOG_TYPES,
+                (row, owned) -> {
+                    UUID petId = ownedPet(row, owned);
+                    LocalDate date = requiredDate(row, "date");
+                    if (date.isAfter(today)) {
+                        throw new RowException("La date de pesée ne peut être dans le futur");
+                    }
+                    double weight = requiredDouble(row, "weight");
+                    if (weight <= 0 || weight > 500) {
+                        throw new RowException("Le poids doit être compris entre 0 et 500 kg");
+                    }
+                    String note = optional(row, "note");
+                    if (note != null && note.length() > 500) {
+                        throw new RowException("La note ne peut dépasser 500 caractères");
+                    }
+
+                    touchedPets.add(petId);
+                    for (Granularity granularity : Granularity.values()) {
+                        double[] aggregate = aggregates.computeIfAbsent(
+                                new AggregateKey(petId, granularity, granularity.periodStart(date)),
+                                key -> new double[]{0, 0, Double.MAX_VALUE, -Double.MAX_VALUE});
+                        aggregate[0]++;
+                        aggregate[1] += weight;
+                        aggregate[2] = Math.min(aggregate[2], weight);
+                        aggregate[3] = Math.max(aggregate[3], weight);
+                    }
+                    return new Object[]{UuidV7.generate(), weight, date, note, petId};
+                });
+
+        if (!aggregates.isEmpty()) {
+            List<Object[]> rows = new ArrayList<>(aggregates.size());
+            aggregates.forEach((key, value) -> rows.add(new Object[]{
+                    key.petId(), key.granularity().name(), key.periodStart(), (int) value[0], value[1], value[2], value[3]}));
+            jdbcTemplate.batchUpdate(MERGE_WEIGHT_AGGREGATE, rows, AGGREGATE_TYPES);
+        }
+        if (!touchedPets.isEmpty()) {
+            weightAnomalyService.rebuild(touchedPets);
+        }
+        return report;
+    }
+
+    @Override
+    @Transactional(rollbackFor = IOException.class)
+    public ImportReportResponse importVaccines(InputStream input, ImportFormat format, UUID userId) throws IOException {
+        log.info("📥 Import de vaccins ({}) pour l'utilisateur {}", format, userId);
+
+        LocalDate today = LocalDate.now();
+
+        return importRows(input, format, userId, INSERT_VACCINE, VACCINE_TYPES, (row, owned) -> {
+            UUID petId = ownedPet(row, owned);
+            String name = optional(row, "name");
+            if (name == null || name.length() < 2 || name.length() > 100) {
+                throw new RowException("Le nom du vaccin doit contenir entre 2 et 100 caractères");
+            }
+            LocalDate date = requiredDate(row, "date");
+            if (date.isAfter(today)) {
+                throw new RowException("La date d'administration ne peut être dans le futur");
+            }
+            LocalDate nextDate = optionalDate(row, "nextdate");
+            if (nextDate != null && !nextDate.isAfter(date)) {
+                throw new RowException("La date de rappel doit suivre la date d'administration");
+            }
+            return new Object[]{UuidV7.generate(), name, date, nextDate, Vaccine.statusFor(nextDate, today), petId};
+        });
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // BOUCLE D'IMPORT
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private ImportReportResponse importRows(InputStream input, ImportFormat format, UUID userId,
+                                            String insertSql, int[] argTypes, RowMapper mapper) throws IOException {
+        long startedAt = System.currentTimeMillis();
+
+        // 🛡️ SÉCURITÉ : Une seule requête pour connaître les animaux de l'utilisateur
+        Set<UUID> owned = petRepository.findIdsByOwnerId(userId);
+
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        List<RowError> errors = new ArrayList<>();
+        long rows = 0;
+        long imported = 0;
+        long rejected = 0;
+
+        try (RowSource source = openSource(input, format)) {
+            Row row;
+            while ((row = source.next()) != null) {
+                if (++rows > maxRows) {
+                    rows--;
+                    errors.add(new RowError(row.line(), "Limite de " + maxRows + " lignes atteinte, fin du fichier ignorée"));
+                    break;
+                }
+                try {
+                    if (row.parseError() != null) {
+                        throw new RowException(row.parseError());
+                    }
+                    batch.add(mapper.map(row, owned));
+                } catch (RowException e) {
+                    rejected++;
+                    if (errors.size() < maxReportedErrors) {
+                        errors.add(new RowError(row.line(), e.getMessage()));
+                    }
+                    continue;
+                }
+                if (batch.size() >= batchSize) {
+                    imported += flush(insertSql, argTypes, batch);
+                }
+            }
+        }
+        imported += flush(insertSql, argTypes, batch);
+
+        long duration = System.currentTimeMillis() - startedAt;
+        log.info("✅ Import terminé : {} lignes, {} importées, {} rejetées en {} ms", rows, imported, rejected, duration);
+        return new ImportReportResponse(rows, imported, rejected, errors, rejected > errors.size(), duration);
+    }
+
+    private int flush(String insertSql, int[] argTypes, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(insertSql, batch, argTypes);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // SOURCES
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private RowSource openSource(InputStream input, ImportFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024);
+        return format == ImportFormat.NDJSON ? new NdjsonSource(reader) : csvSource(reader);
+    }
+
+    private RowSource csvSource(BufferedReader reader) throws IOException {
+        CsvReader csv = CsvReader.detectingDelimiter(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new BadRequestException("Le fichier est vide");
+        }
+        String[] columns = header.stream().map(ImportServiceImpl::normalizeKey).toArray(String[]::new);
+
+        return new RowSource() {
+            @Override
+            public Row next() throws IOException {
+                List<String> values = csv.next();
+                if (values == null) {
+                    return null;
+                }
+                Map<String, String> fields = new HashMap<>(columns.length * 2);
+                for (int i = 0; i < columns.length && i < values.size(); i++) {
+                    fields.put(columns[i], values.get(i));
+                }
+                return new Row(csv.recordLine(), fields, null);
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        };
+    }
+
+    private final class NdjsonSource implements RowSource {
+
+        private final BufferedReader reader;
+        private long line;
+
+        private NdjsonSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isBlank());
+
+            try {
+                Map<String, Object> values = ndjsonReader.readValue(text);
+                Map<String, String> fields = new HashMap<>(values.size() * 2);
+                values.forEach((key, value) -> fields.put(normalizeKey(key), value != null ? value.toString() : null));
+                return new Row(line, fields, null);
+            } catch (JsonProcessingException e) {
+                return new Row(line, Map.of(), "JSON invalide");
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // VALIDATION DES CHAMPS
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private static UUID ownedPet(Row row, Set<UUID> owned) {
+        String value = optional(row, "petid");
+        if (value == null) {
+            throw new RowException("petId obligatoire");
+        }
+        UUID petId;
+        try {
+            petId = UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new RowException("petId invalide : " + value);
+        }
+        if (!owned.contains(petId)) {
+            throw new RowException("Animal introuvable : " + petId);
+        }
+        return petId;
+    }
+
+    private static LocalDate requiredDate(Row row, String key) {
+        LocalDate date = optionalDate(row, key);
+        if (date == null) {
+            throw new RowException(key + " obligatoire");
+        }
+        return date;
+    }
+
+    private static LocalDate optionalDate(Row row, String key) {
+        String value = optional(row, key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.indexOf('/') > 0 ? LocalDate.parse(value, FRENCH_DATE) : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new RowException(key + " invalide (AAAA-MM-JJ ou JJ/MM/AAAA) : " + value);
+        }
+    }
+
+    private static double requiredDouble(Row row, String key) {
+        String value = optional(row, key);
+        if (value == null) {
+            throw new RowException(key + " obligatoire");
+        }
+        try {
+            return Double.parseDouble(value.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw new RowException(key + " invalide : " + value);
+        }
+    }
+
+    private static String optional(Row row, String key) {
+        String value = row.fields().get(key);
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /**
+     * "pet_id", "petId", "Pet-ID" → "petid".
+     */
+    private static String normalizeKey(String key) {
+        StringBuilder sb = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // TYPES INTERNES
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private record Row(long line, Map<String, String> fields, String parseError) {
+    }
+
+    private record AggregateKey(UUID petId, Granularity granularity, LocalDate periodStart) {
+    }
+
+    private interface RowSource extends AutoCloseable {
+        Row next() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface RowMapper {
+        Object[] map(Row row, Set<UUID> ownedPets);
+    }
+
+    /**
+     * Erreur de validation d'une ligne (rapportée, n'interrompt pas l'import).
+     */
+    private static final class RowException extends RuntimeException {
+        RowException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
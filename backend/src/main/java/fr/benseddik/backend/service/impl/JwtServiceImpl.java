@@ -2,6 +2,8 @@ package fr.benseddik.backend.service.impl;
 
 import fr.benseddik.backend.config.JwtProperties;
 import fr.benseddik.backend.domain.User;
+import fr.benseddik.backend.security.jfr.JwtSignEvent;
+import fr.benseddik.backend.security.jfr.JwtVerifyEvent;
 import fr.benseddik.backend.service.JwtService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
@@ -28,6 +30,8 @@ import java.util.UUID;
  * - Claims standards (iss, aud, sub, exp, iat)
  * - Distinction access/refresh via claim "type"
  * - Hash SHA-256 pour stockage des refresh tokens
+ *
+ * 🔬 Événements JFR "petcare.JwtSign" et "petcare.JwtVerify" sur chaque signature et analyse.
  */
 @Service
 @Slf4j
@@ -95,7 +99,7 @@ public class JwtServiceImpl implements JwtService {
         Instant now = Instant.now();
         Instant expiration = now.plus(jwtProperties.accessToken().expiration());
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .issuer(jwtProperties.issuer())
                 .audience().add(jwtProperties.audience()).and()
                 .subject(user.getEmail())
@@ -104,9 +108,8 @@ public class JwtServiceImpl implements JwtService {
                 .claim(CLAIM_ROLE, user.getRole().name())
                 .claim(CLAIM_TYPE, TOKEN_TYPE_ACCESS)
                 .issuedAt(Date.from(now))
-                .expiration(Date.from(expiration))
-                .signWith(secretKey)
-                .compact();
+                .expiration(Date.from(expiration));
+        return sign(builder, TOKEN_TYPE_ACCESS);
     }
 
     @Override
@@ -114,22 +117,21 @@ public class JwtServiceImpl implements JwtService {
         Instant now = Instant.now();
         Instant expiration = now.plus(jwtProperties.refreshToken().expiration());
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .issuer(jwtProperties.issuer())
                 .audience().add(jwtProperties.audience()).and()
                 .subject(user.getEmail())
                 .claim(CLAIM_USER_ID, user.getId().toString())
                 .claim(CLAIM_TYPE, TOKEN_TYPE_REFRESH)
                 .issuedAt(Date.from(now))
-                .expiration(Date.from(expiration))
-                .signWith(secretKey)
-                .compact();
+                .expiration(Date.from(expiration));
+        return sign(builder, TOKEN_TYPE_REFRESH);
     }
 
     @Override
     public boolean isTokenValid(String token) {
         try {
-            jwtParser.parseSignedClaims(token);
+            parse(token, "validate");
             return true;
         } catch (ExpiredJwtException e) {
             log.debug("Token expiré: {}", e.getMessage());
@@ -173,12 +175,39 @@ public class JwtServiceImpl implements JwtService {
         }
     }
 
+    /**
+     * Signe et sérialise le jeton.
+     */
+    private String sign(JwtBuilder builder, String tokenType) {
+        JwtSignEvent event = new JwtSignEvent();
+        event.begin();
+        String token = builder.signWith(secretKey).compact();
+        event.record(tokenType);
+        return token;
+    }
+
+    /**
+     * Analyse le jeton et vérifie sa signature.
+     */
+    private Jws<Claims> parse(String token, String purpose) {
+        JwtVerifyEvent event = new JwtVerifyEvent();
+        event.begin();
+        try {
+            Jws<Claims> jws = jwtParser.parseSignedClaims(token);
+            event.record(purpose, JwtVerifyEvent.VALID);
+            return jws;
+        } catch (JwtException e) {
+            event.record(purpose, JwtVerifyEvent.outcome(e));
+            throw e;
+        }
+    }
+
     /**
      * Extrait un claim du token.
      */
     private Optional<String> extractClaim(String token, String claimName) {
         try {
-            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            Claims claims = parse(token, "claim").getPayload();
             return Optional.ofNullable(claims.get(claimName, String.class));
         } catch (JwtException e) {
             log.debug("Impossible d'extraire le claim {}: {}", claimName, e.getMessage());
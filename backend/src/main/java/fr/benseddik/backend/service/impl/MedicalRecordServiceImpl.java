@@ -0,0 +1,344 @@
+package fr.benseddik.backend.service.impl;
+
+import fr.benseddik.backend.config.StorageProperties;
+import fr.benseddik.backend.domain.Appointment;
+import fr.benseddik.backend.domain.Blob;
+import fr.benseddik.backend.domain.MedicalRecord;
+import fr.benseddik.backend.domain.MedicalRecord.RecordType;
+import fr.benseddik.backend.domain.Pet;
+import fr.benseddik.backend.domain.Vet;
+import fr.benseddik.backend.dto.request.CreateMedicalRecordRequest;
+import fr.benseddik.backend.dto.request.UpdateMedicalRecordRequest;
+import fr.benseddik.backend.dto.response.AttachmentResponse;
+import fr.benseddik.backend.dto.response.LabValueResponse;
+import fr.benseddik.backend.dto.response.MedicalRecordResponse;
+import fr.benseddik.backend.dto.response.MedicalTimelineEntryResponse;
+import fr.benseddik.backend.exception.BadRequestException;
+import fr.benseddik.backend.exception.ResourceNotFoundException;
+import fr.benseddik.backend.repository.AppointmentRepository;
+import fr.benseddik.backend.repository.BlobRepository;
+import fr.benseddik.backend.repository.MedicalRecordRepository;
+import fr.benseddik.backend.repository.MedicalRecordRepository.TimelineEntry;
+import fr.benseddik.backend.repository.PetRepository;
+import fr.benseddik.backend.repository.VetRepository;
+import fr.benseddik.backend.service.BlobStoreService;
+import fr.benseddik.backend.service.BlobStoreService.StoredBlob;
+import fr.benseddik.backend.service.MedicalRecordService;
+import fr.benseddik.backend.util.JsonPathPredicates;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implémentation du service de gestion de l'historique médical.
+ *
+ * 🛡️ SÉCURITÉ :
+ * - Vérification que l'animal appartient à l'utilisateur
+ * - Le rendez-vous associé doit concerner le même animal
+ * - Les pièces jointes ne sont ajoutées que par envoi de fichier (pas d'empreinte fournie par le client)
+ *
+ * ⚡ PERFORMANCE :
+ * - Historique lu en projections (index pet_id, record_type, date)
+ * - Séries d'analyses filtrées en base par prédicat jsonpath (index GIN sur lab_results)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MedicalRecordServiceImpl implements MedicalRecordService {
+
+    private static final LocalDate EPOCH = LocalDate.of(1900, 1, 1);
+    private static final int MAX_ATTACHMENTS = 50;
+    private static final int MAX_FILE_NAME_LENGTH = 200;
+
+    private final MedicalRecordRepository medicalRecordRepository;
+    private final PetRepository petRepository;
+    private final VetRepository vetRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final BlobRepository blobRepository;
+    private final BlobStoreService blobStoreService;
+    private final StorageProperties storageProperties;
+
+    @Override
+    @Transactional
+    public MedicalRecordResponse createMedicalRecord(CreateMedicalRecordRequest request, UUID userId) {
+        log.debug("🩺 Enregistrement d'un événement médical pour l'animal: {}", request.petId());
+
+        // 🛡️ SÉCURITÉ : Vérifier que l'animal appartient à l'utilisateur
+        Pet pet = petRepository.findByIdAndOwnerId(request.petId(), userId)
+                .orElseThrow(() -> new AccessDeniedException("Cet animal ne vous appartient pas"));
+
+        MedicalRecord record = MedicalRecord.builder()
+                .recordType(request.recordType())
+                .title(request.title())
+                .description(request.description())
+                .date(request.date())
+                .diagnosis(request.diagnosis())
+                .treatment(request.treatment())
+                .medications(request.medications())
+                .labResults(request.labResults())
+                .cost(request.cost())
+                .notes(request.notes())
+                .pet(pet)
+                .vet(findVet(request.vetId()))
+                .appointment(findAppointment(request.appointmentId(), pet, userId))
+                .build();
+
+        MedicalRecord savedRecord = medicalRecordRepository.save(record);
+        log.info("✅ Événement médical enregistré: {} ({}) pour {}",
+                savedRecord.getTitle(), savedRecord.getRecordType(), pet.getName());
+
+        return mapToResponse(savedRecord);
+    }
+
+    @Override
+    public MedicalRecordResponse getMedicalRecord(UUID recordId, UUID userId) {
+        log.debug("🔍 Récupération de l'événement médical: {}", recordId);
+        return mapToResponse(findOwned(recordId, userId));
+    }
+
+    @Override
+    @Transactional
+    public MedicalRecordResponse updateMedicalRecord(UUID recordId, UpdateMedicalRecordRequest request, UUID userId) {
+        log.debug("✏️ Mise à jour de l'événement médical: {}", recordId);
+
+        MedicalRecord record = findOwned(recordId, userId);
+
+        if (request.recordType() != null) record.setRecordType(request.recordType());
+        if (request.title() != null) record.setTitle(request.title());
+        if (request.description() != null) record.setDescription(request.description());
+        if (request.date() != null) record.setDate(request.date());
+        if (request.diagnosis() != null) record.setDiagnosis(request.diagnosis());
+        if (request.treatment() != null) record.setTreatment(request.treatment());
+        if (request.medications() != null) record.setMedications(request.medications());
+        if (request.labResults() != null) record.setLabResults(request.labResults());
+        if (request.cost() != null) record.setCost(request.cost());
+        if (request.notes() != null) record.setNotes(request.notes());
+        if (request.vetId() != null) record.setVet(findVet(request.vetId()));
+
+        log.info("✅ Événement médical mis à jour: {}", recordId);
+        return mapToResponse(record);
+    }
+
+    @Override
+    @Transactional
+    public void deleteMedicalRecord(UUID recordId, UUID userId) {
+        log.debug("🗑️ Suppression de l'événement médical: {}", recordId);
+
+        MedicalRecord record = findOwned(recordId, userId);
+        if (record.getAttachments() != null) {
+            record.getAttachments().values().forEach(blobStoreService::release);
+        }
+        medicalRecordRepository.delete(record);
+        log.info("✅ Événement médical supprimé: {}", recordId);
+    }
+
+    @Override
+    public List<MedicalTimelineEntryResponse> getTimeline(UUID petId, UUID userId, RecordType recordType,
+                                                          LocalDate from, LocalDate to) {
+        log.debug("📋 Historique médical de l'animal {} (type: {})", petId, recordType);
+
+        // 🛡️ SÉCURITÉ : Vérifier que l'animal appartient à l'utilisateur
+        petRepository.findByIdAndOwnerId(petId, userId)
+                .orElseThrow(() -> new AccessDeniedException("Cet animal ne vous appartient pas"));
+
+        LocalDate start = from != null ? from : EPOCH;
+        LocalDate end = to != null ? to : LocalDate.now();
+        checkPeriod(start, end);
+
+        List<TimelineEntry> entries = recordType == null
+                ? medicalRecordRepository.findTimeline(petId, start, end)
+                : medicalRecordRepository.findTimelineByType(petId, recordType, start, end);
+
+        return entries.stream()
+                .map(entry -> new MedicalTimelineEntryResponse(
+                        entry.getId(),
+                        entry.getRecordType().name(),
+                        entry.getTitle(),
+                        entry.getDate(),
+                        entry.getDiagnosis(),
+                        entry.getCost(),
+                        vetName(entry.getVetFirstName(), entry.getVetLastName())))
+                .toList();
+    }
+
+    @Override
+    public List<LabValueResponse> getLabSeries(UUID petId, UUID userId, String analyte, Double min, Double max,
+                                               LocalDate from, LocalDate to) {
+        log.debug("🧪 Série d'analyses '{}' de l'animal {}", analyte, petId);
+
+        // 🛡️ SÉCURITÉ : Vérifier que l'animal appartient à l'utilisateur
+        petRepository.findByIdAndOwnerId(petId, userId)
+                .orElseThrow(() -> new AccessDeniedException("Cet animal ne vous appartient pas"));
+
+        if (!JsonPathPredicates.isValidKey(analyte)) {
+            throw new BadRequestException("Nom d'analyse invalide");
+        }
+        if (min != null && max != null && min > max) {
+            throw new BadRequestException("La borne basse doit être inférieure à la borne haute");
+        }
+        LocalDate start = from != null ? from : EPOCH;
+        LocalDate end = to != null ? to : LocalDate.now();
+        checkPeriod(start, end);
+
+        return medicalRecordRepository.findLabSeries(petId, analyte, min, max, start, end).stream()
+                .map(value -> new LabValueResponse(value.recordId(), value.date(), value.value()))
+                .toList();
+    }
+
+    @Override
+    @Transactional(rollbackFor = IOException.class)
+    public AttachmentResponse addAttachment(UUID recordId, InputStream content, String fileName, String contentType,
+                                            UUID userId) throws IOException {
+        log.debug("📎 Ajout d'une pièce jointe à l'événement médical: {}", recordId);
+
+        MedicalRecord record = findOwned(recordId, userId);
+        Map<String, String> attachments = record.getAttachments() != null
+                ? new HashMap<>(record.getAttachments()) : new HashMap<>();
+        String name = sanitizeFileName(fileName);
+        if (!attachments.containsKey(name) && attachments.size() >= MAX_ATTACHMENTS) {
+            throw new BadRequestException(MAX_ATTACHMENTS + " pièces jointes au maximum");
+        }
+
+        StoredBlob blob = blobStoreService.store(content, contentType, storageProperties.maxAttachmentSize().toBytes());
+        String previous = attachments.put(name, blob.sha256());
+        if (previous != null) {
+            blobStoreService.release(previous);
+        }
+        record.setAttachments(attachments);
+
+        log.info("✅ Pièce jointe ajoutée: {} ({} octets) à {}", name, blob.size(), recordId);
+        return new AttachmentResponse(name, blob.sha256(), blob.size(), blob.contentType(),
+                attachmentUrl(recordId, blob.sha256()));
+    }
+
+    @Override
+    @Transactional
+    public void removeAttachment(UUID recordId, String sha256, UUID userId) {
+        log.debug("🗑️ Suppression de la pièce jointe {} de l'événement médical: {}", sha256, recordId);
+
+        MedicalRecord record = findOwned(recordId, userId);
+        Map<String, String> attachments = record.getAttachments() != null
+                ? new HashMap<>(record.getAttachments()) : new HashMap<>();
+        if (!attachments.values().removeIf(sha256::equals)) {
+            throw new ResourceNotFoundException("Pièce jointe introuvable");
+        }
+        record.setAttachments(attachments);
+        blobStoreService.release(sha256);
+        log.info("✅ Pièce jointe supprimée: {}", sha256);
+    }
+
+    @Override
+    public AttachmentFile getAttachment(UUID recordId, String sha256, UUID userId) {
+        MedicalRecord record = findOwned(recordId, userId);
+
+        // 🛡️ SÉCURITÉ : seul un contenu référencé par cet événement est accessible
+        String name = record.getAttachments() == null ? null : record.getAttachments().entrySet().stream()
+                .filter(entry -> entry.getValue().equals(sha256))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElse(null);
+        if (name == null) {
+            throw new ResourceNotFoundException("Pièce jointe introuvable");
+        }
+        Blob blob = blobRepository.findById(sha256)
+                .orElseThrow(() -> new ResourceNotFoundException("Pièce jointe introuvable"));
+
+        return new AttachmentFile(blobStoreService.path(sha256), name, blob.getContentType(), blob.getSize(), sha256);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // HELPERS
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private MedicalRecord findOwned(UUID recordId, UUID userId) {
+        // 🛡️ SÉCURITÉ : Un enregistrement d'un autre propriétaire est traité comme introuvable
+        return medicalRecordRepository.findByIdAndOwnerId(recordId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Événement médical introuvable"));
+    }
+
+    private Vet findVet(UUID vetId) {
+        if (vetId == null) {
+            return null;
+        }
+        return vetRepository.findById(vetId)
+                .orElseThrow(() -> new ResourceNotFoundException("Vétérinaire", "id", vetId));
+    }
+
+    private Appointment findAppointment(UUID appointmentId, Pet pet, UUID userId) {
+        if (appointmentId == null) {
+            return null;
+        }
+        Appointment appointment = appointmentRepository.findByIdAndUserId(appointmentId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Rendez-vous introuvable"));
+        if (!appointment.getPet().getId().equals(pet.getId())) {
+            throw new BadRequestException("Le rendez-vous ne concerne pas cet animal");
+        }
+        return appointment;
+    }
+
+    /**
+     * Nom de fichier sans chemin ni caractères de contrôle.
+     */
+    private String sanitizeFileName(String fileName) {
+        String name = fileName == null ? "" : fileName;
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1)
+                .replaceAll("\\p{Cntrl}", "")
+                .trim();
+        if (name.isEmpty()) {
+            name = "fichier";
+        }
+        return name.length() > MAX_FILE_NAME_LENGTH ? name.substring(0, MAX_FILE_NAME_LENGTH) : name;
+    }
+
+    private String attachmentUrl(UUID recordId, String sha256) {
+        return "/v1/medical-records/" + recordId + "/attachments/" + sha256;
+    }
+
+    private void checkPeriod(LocalDate start, LocalDate end) {
+        if (start.isAfter(end)) {
+            throw new BadRequestException("La date de début doit précéder la date de fin");
+        }
+    }
+
+    private String vetName(String firstName, String lastName) {
+        return firstName == null ? null : String.format("Dr. %s %s", firstName, lastName);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // MAPPER
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private MedicalRecordResponse mapToResponse(MedicalRecord record) {
+        Vet vet = record.getVet();
+        return new MedicalRecordResponse(
+                record.getId(),
+                record.getRecordType().name(),
+                record.getTitle(),
+                record.getDescription(),
+                record.getDate(),
+                record.getDiagnosis(),
+                record.getTreatment(),
+                record.getMedications(),
+                record.getLabResults(),
+                record.getAttachments(),
+                record.getCost(),
+                record.getNotes(),
+                record.getPet().getId(),
+                vet != null ? vet.getId() : null,
+                vet != null ? vet.getFullName() : null,
+                record.getAppointment() != null ? record.getAppointment().getId() : null,
+                record.getCreatedAt()
+        );
+    }
+}
@@ -8,6 +8,8 @@ import fr.benseddik.backend.dto.response.PetResponse;
 import fr.benseddik.backend.exception.ResourceNotFoundException;
 import fr.benseddik.backend.repository.PetRepository;
 import fr.benseddik.backend.repository.UserRepository;
+import fr.benseddik.backend.service.AccountDeletionService;
+import fr.benseddik.backend.service.AvatarService;
 import fr.benseddik.backend.service.PetService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +37,8 @@ public class PetServiceImpl implements PetService {
 
     private final PetRepository petRepository;
     private final UserRepository userRepository;
+    private final AvatarService avatarService;
+    private final AccountDeletionService accountDeletionService;
 
     @Override
     @Transactional
@@ -43,6 +47,7 @@ public class PetServiceImpl implements PetService {
 
         User owner = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Utilisateur introuvable"));
+        avatarService.replace(null, request.avatar());
 
         Pet pet = Pet.builder()
                 .name(request.name())
@@ -100,7 +105,10 @@ public class PetServiceImpl implements PetService {
         if (request.gender() != null) pet.setGender(request.gender());
         if (request.microchip() != null) pet.setMicrochip(request.microchip());
         if (request.color() != null) pet.setColor(request.color());
-        if (request.avatar() != null) pet.setAvatar(request.avatar());
+        if (request.avatar() != null && !request.avatar().equals(pet.getAvatar())) {
+            avatarService.replace(pet.getAvatar(), request.avatar());
+            pet.setAvatar(request.avatar());
+        }
 
         Pet updatedPet = petRepository.save(pet);
         log.info("✅ Animal mis à jour: {} (ID: {})", updatedPet.getName(), updatedPet.getId());
@@ -117,7 +125,8 @@ public class PetServiceImpl implements PetService {
         Pet pet = petRepository.findByIdAndOwnerId(petId, userId)
                 .orElseThrow(() -> new AccessDeniedException("Accès non autorisé à cet animal"));
 
-        petRepository.delete(pet);
+        // ⚡ PERFORMANCE : suppressions ensemblistes, l'historique n'est pas chargé
+        accountDeletionService.deletePets(List.of(pet.getId()));
         log.info("✅ Animal supprimé: {} (ID: {})", pet.getName(), pet.getId());
     }
 
@@ -5,6 +5,7 @@ import fr.benseddik.backend.domain.PasswordResetToken;
 import fr.benseddik.backend.domain.User;
 import fr.benseddik.backend.domain.VerificationToken;
 import fr.benseddik.backend.dto.request.ChangePasswordRequest;
+import fr.benseddik.backend.dto.request.DeleteAccountRequest;
 import fr.benseddik.backend.dto.request.ForgotPasswordRequest;
 import fr.benseddik.backend.dto.request.ResendVerificationRequest;
 import fr.benseddik.backend.dto.request.ResetPasswordRequest;
@@ -16,6 +17,7 @@ import fr.benseddik.backend.repository.PasswordResetTokenRepository;
 import fr.benseddik.backend.repository.SessionRepository;
 import fr.benseddik.backend.repository.UserRepository;
 import fr.benseddik.backend.repository.VerificationTokenRepository;
+import fr.benseddik.backend.service.AccountDeletionService;
 import fr.benseddik.backend.service.EmailService;
 import fr.benseddik.backend.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -51,6 +53,7 @@ public class UserServiceImpl implements UserService {
     private final AuditLogRepository auditLogRepository;
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
+    private final AccountDeletionService accountDeletionService;
 
     @Value("${app.frontend-url:http://localhost:5173}")
     private String frontendUrl;
@@ -245,6 +248,22 @@ public class UserServiceImpl implements UserService {
         return UserResponse.fromEntity(user);
     }
 
+    @Override
+    @Transactional
+    public void deleteAccount(UUID userId, DeleteAccountRequest request) {
+        User user = findUserById(userId);
+
+        // 🛡️ SÉCURITÉ : Confirmation par le mot de passe (comptes OAuth2 sans mot de passe exemptés)
+        if (user.getPasswordHash() != null
+                && (request == null || request.currentPassword() == null
+                || !passwordEncoder.matches(request.currentPassword(), user.getPasswordHash()))) {
+            throw new BadRequestException("Mot de passe actuel incorrect");
+        }
+
+        accountDeletionService.deleteAccount(userId);
+        log.info("🗑️ Compte supprimé à la demande de l'utilisateur: {}", userId);
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // MÉTHODES PRIVÉES
     // ═══════════════════════════════════════════════════════════════════════════
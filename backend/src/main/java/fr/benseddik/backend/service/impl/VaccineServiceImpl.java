@@ -124,6 +124,15 @@ public class VaccineServiceImpl implements VaccineService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<VaccineResponse> getDueVaccines(UUID userId, int horizonDays) {
+        log.debug("🔍 Récupération des rappels dus pour l'utilisateur: {}", userId);
+
+        return vaccineRepository.findDueByOwnerId(userId, LocalDate.now().plusDays(horizonDays)).stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
     @Override
     @Transactional
     public void deleteVaccine(UUID vaccineId, UUID userId) {
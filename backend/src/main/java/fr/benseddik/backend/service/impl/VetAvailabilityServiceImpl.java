@@ -0,0 +1,408 @@
+package fr.benseddik.backend.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fr.benseddik.backend.domain.Clinic;
+import fr.benseddik.backend.domain.Vet;
+import fr.benseddik.backend.dto.response.AvailableSlotResponse;
+import fr.benseddik.backend.exception.BadRequestException;
+import fr.benseddik.backend.exception.ConflictException;
+import fr.benseddik.backend.exception.ResourceNotFoundException;
+import fr.benseddik.backend.repository.AppointmentRepository;
+import fr.benseddik.backend.repository.ClinicRepository;
+import fr.benseddik.backend.repository.VetRepository;
+import fr.benseddik.backend.service.VetAvailabilityService;
+import fr.benseddik.backend.util.MinuteIntervals;
+import fr.benseddik.backend.util.OpeningHours;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implémentation du moteur de disponibilité des vétérinaires.
+ *
+ * ⚡ PERFORMANCE :
+ * - Créneaux réservés par (vétérinaire, jour) en cache Caffeine, chargés en une requête par lot
+ * - Horaires d'ouverture analysés une seule fois par texte distinct
+ * - Calcul des créneaux libres par simple parcours des intervalles triés
+ *
+ * 🛡️ COHÉRENCE :
+ * - Réservation sous verrou par vétérinaire : relecture des rendez-vous validés en base
+ *   + réservations en cours (transactions non encore validées) de cette instance
+ * - Le créneau en cours est libéré ou confirmé à la fin de la transaction
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VetAvailabilityServiceImpl implements VetAvailabilityService {
+
+    /**
+     * Durée maximale d'un rendez-vous (cf. CreateAppointmentRequest) : un rendez-vous
+     * commencé la veille peut déborder sur le jour demandé.
+     */
+    private static final int MAX_APPOINTMENT_MINUTES = 480;
+    private static final int DEFAULT_APPOINTMENT_MINUTES = 30;
+    private static final int LOCK_STRIPES = 64;
+
+    private final AppointmentRepository appointmentRepository;
+    private final VetRepository vetRepository;
+    private final ClinicRepository clinicRepository;
+
+    @Value("${app.scheduling.default-opening-hours:Lun-Ven: 9h-19h}")
+    private String defaultOpeningHours;
+
+    @Value("${app.scheduling.slot-granularity-minutes:15}")
+    private int slotGranularityMinutes;
+
+    @Value("${app.scheduling.default-slot-minutes:30}")
+    private int defaultSlotMinutes;
+
+    @Value("${app.scheduling.max-range-days:31}")
+    private int maxRangeDays;
+
+    // Cache : (vétérinaire, jour) -> créneaux réservés validés en base
+    private final Cache<VetDay, MinuteIntervals> bookedCache = Caffeine.newBuilder()
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .maximumSize(100_000)
+            .build();
+
+    // Cache : texte des horaires -> horaires analysés
+    private final Cache<String, OpeningHours> openingHoursCache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .build();
+
+    // Réservations en cours (transactions non encore terminées) sur cette instance
+    private final Map<VetDay, MinuteIntervals> pending = new ConcurrentHashMap<>();
+
+    private final ReentrantLock[] locks = createLocks();
+
+    @Override
+    public List<AvailableSlotResponse> getVetAvailability(UUID vetId, LocalDate from, LocalDate to, Integer slotMinutes) {
+        log.debug("📅 Disponibilités du vétérinaire {} du {} au {}", vetId, from, to);
+
+        int slot = validateQuery(from, to, slotMinutes);
+        Vet vet = vetRepository.findById(vetId)
+                .orElseThrow(() -> new ResourceNotFoundException("Vétérinaire introuvable"));
+
+        return findSlots(List.of(vet), openingHoursOf(vet.getClinic()), from, to, slot);
+    }
+
+    @Override
+    public List<AvailableSlotResponse> getClinicAvailability(UUID clinicId, LocalDate from, LocalDate to, Integer slotMinutes) {
+        log.debug("📅 Disponibilités de la clinique {} du {} au {}", clinicId, from, to);
+
+        int slot = validateQuery(from, to, slotMinutes);
+        Clinic clinic = clinicRepository.findById(clinicId)
+                .orElseThrow(() -> new ResourceNotFoundException("Clinique introuvable"));
+
+        return findSlots(vetRepository.findByClinicId(clinicId), openingHoursOf(clinic), from, to, slot);
+    }
+
+    @Override
+    @Transactional
+    public void reserve(Booking booking, Clinic clinic, Booking previous) {
+        List<Segment> segments = segments(booking);
+
+        // Horaires de la clinique (si une clinique est concernée)
+        if (clinic != null) {
+            OpeningHours hours = openingHoursOf(clinic);
+            for (Segment segment : segments) {
+                if (!hours.covers(segment.key().day().getDayOfWeek(), segment.start(), segment.end())) {
+                    throw new BadRequestException("La clinique est fermée sur ce créneau");
+                }
+            }
+        }
+
+        if (booking.vetId() == null) {
+            return;
+        }
+
+        ReentrantLock lock = lockFor(booking.vetId());
+        lock.lock();
+        try {
+            // Lecture dans la transaction d'écriture : jamais mise en cache (elle peut être annulée)
+            Map<VetDay, MinuteIntervals> committed = loadFromDatabase(
+                    Set.of(booking.vetId()), booking.start().toLocalDate(), booking.end().toLocalDate(), false);
+
+            // Le créneau remplacé ne compte pas comme conflit
+            if (previous != null && booking.vetId().equals(previous.vetId())) {
+                for (Segment segment : segments(previous)) {
+                    committed.computeIfPresent(segment.key(), (key, day) -> day.without(segment.start(), segment.end()));
+                }
+            }
+
+            for (Segment segment : segments) {
+                MinuteIntervals day = committed.getOrDefault(segment.key(), MinuteIntervals.EMPTY)
+                        .union(pending.getOrDefault(segment.key(), MinuteIntervals.EMPTY));
+                if (day.overlaps(segment.start(), segment.end())) {
+                    log.info("⛔ Conflit de réservation pour le vétérinaire {} le {}", booking.vetId(), booking.start());
+                    throw new ConflictException("Ce créneau n'est plus disponible pour ce vétérinaire");
+                }
+            }
+
+            for (Segment segment : segments) {
+                pending.merge(segment.key(), MinuteIntervals.EMPTY.with(segment.start(), segment.end()),
+                        MinuteIntervals::union);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        afterCompletion(() -> {
+            removePending(booking.vetId(), segments);
+            invalidate(segments);
+            if (previous != null) {
+                invalidate(segments(previous));
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public void release(Booking booking) {
+        if (booking.vetId() == null) {
+            return;
+        }
+        List<Segment> segments = segments(booking);
+        afterCompletion(() -> invalidate(segments));
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // CALCUL DES CRÉNEAUX LIBRES
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private List<AvailableSlotResponse> findSlots(List<Vet> vets, OpeningHours hours,
+                                                  LocalDate from, LocalDate to, int slotMinutes) {
+        List<AvailableSlotResponse> slots = new ArrayList<>();
+        if (vets.isEmpty()) {
+            return slots;
+        }
+
+        Map<VetDay, MinuteIntervals> booked = loadBooked(vets.stream().map(Vet::getId).toList(), from, to);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Vet vet : vets) {
+            String vetName = vet.getFullName();
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                VetDay key = new VetDay(vet.getId(), day);
+                MinuteIntervals dayBooked = booked.getOrDefault(key, MinuteIntervals.EMPTY)
+                        .union(pending.getOrDefault(key, MinuteIntervals.EMPTY));
+                int[] open = hours.rangesFor(day.getDayOfWeek());
+                LocalDateTime midnight = day.atStartOfDay();
+
+                for (int i = 0; i < open.length; i += 2) {
+                    dayBooked.forEachGap(open[i], open[i + 1], (gapStart, gapEnd) -> {
+                        int start = ceilToGranularity(gapStart);
+                        for (; start + slotMinutes <= gapEnd; start += slotMinutes) {
+                            LocalDateTime slotStart = midnight.plusMinutes(start);
+                            if (slotStart.isAfter(now)) {
+                                slots.add(new AvailableSlotResponse(vet.getId(), vetName,
+                                        slotStart, slotStart.plusMinutes(slotMinutes)));
+                            }
+                        }
+                    });
+                }
+            }
+        }
+        return slots;
+    }
+
+    private int ceilToGranularity(int minute) {
+        int remainder = minute % slotGranularityMinutes;
+        return remainder == 0 ? minute : minute + slotGranularityMinutes - remainder;
+    }
+
+    private int validateQuery(LocalDate from, LocalDate to, Integer slotMinutes) {
+        if (to.isBefore(from)) {
+            throw new BadRequestException("La date de fin doit être postérieure à la date de début");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new BadRequestException("La période ne peut dépasser " + maxRangeDays + " jours");
+        }
+        int slot = slotMinutes != null ? slotMinutes : defaultSlotMinutes;
+        if (slot < 5 || slot > MAX_APPOINTMENT_MINUTES) {
+            throw new BadRequestException("La durée du créneau doit être comprise entre 5 et "
+                    + MAX_APPOINTMENT_MINUTES + " minutes");
+        }
+        return slot;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // CHARGEMENT DES CRÉNEAUX RÉSERVÉS
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Créneaux réservés depuis le cache ; les (vétérinaire, jour) absents sont chargés en une requête.
+     */
+    private Map<VetDay, MinuteIntervals> loadBooked(Collection<UUID> vetIds, LocalDate from, LocalDate to) {
+        Map<VetDay, MinuteIntervals> result = new HashMap<>();
+        Set<UUID> missingVets = new HashSet<>();
+
+        for (UUID vetId : vetIds) {
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                VetDay key = new VetDay(vetId, day);
+                MinuteIntervals cached = bookedCache.getIfPresent(key);
+                if (cached != null) {
+                    result.put(key, cached);
+                } else {
+                    missingVets.add(vetId);
+                }
+            }
+        }
+
+        if (!missingVets.isEmpty()) {
+            loadFromDatabase(missingVets, from, to, true).forEach(result::putIfAbsent);
+        }
+        return result;
+    }
+
+    /**
+     * Relit en base les rendez-vous validés et les découpe par jour.
+     * Le résultat contient une entrée (éventuellement vide) pour chaque vétérinaire et chaque jour.
+     *
+     * @param cache mise en cache du résultat : seulement pour les lectures hors transaction d'écriture
+     */
+    private Map<VetDay, MinuteIntervals> loadFromDatabase(Set<UUID> vetIds, LocalDate from, LocalDate to,
+                                                          boolean cache) {
+        List<AppointmentRepository.ScheduledSlot> rows = appointmentRepository.findScheduledSlots(
+                vetIds,
+                from.atStartOfDay().minusMinutes(MAX_APPOINTMENT_MINUTES),
+                to.plusDays(1).atStartOfDay());
+
+        Map<VetDay, List<Integer>> pairs = new HashMap<>();
+        for (AppointmentRepository.ScheduledSlot row : rows) {
+            int duration = row.getDurationMinutes() != null ? row.getDurationMinutes() : DEFAULT_APPOINTMENT_MINUTES;
+            for (Segment segment : segments(new Booking(row.getVetId(), row.getDate(), duration))) {
+                List<Integer> day = pairs.computeIfAbsent(segment.key(), key -> new ArrayList<>());
+                day.add(segment.start());
+                day.add(segment.end());
+            }
+        }
+
+        Map<VetDay, MinuteIntervals> result = new HashMap<>();
+        for (UUID vetId : vetIds) {
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                VetDay key = new VetDay(vetId, day);
+                List<Integer> dayPairs = pairs.get(key);
+                MinuteIntervals intervals = dayPairs == null
+                        ? MinuteIntervals.EMPTY
+                        : MinuteIntervals.of(dayPairs.stream().mapToInt(Integer::intValue).toArray());
+                result.put(key, intervals);
+                if (cache) {
+                    bookedCache.put(key, intervals);
+                }
+            }
+        }
+        return result;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // UTILITAIRES
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private OpeningHours openingHoursOf(Clinic clinic) {
+        String text = clinic != null && clinic.getOpeningHours() != null && !clinic.getOpeningHours().isBlank()
+                ? clinic.getOpeningHours()
+                : defaultOpeningHours;
+
+        return openingHoursCache.get(text, key -> OpeningHours.parse(key).orElseGet(() -> {
+            log.warn("⚠️ Horaires d'ouverture non reconnus, horaires par défaut appliqués: '{}'", key);
+            return OpeningHours.parse(defaultOpeningHours).orElse(OpeningHours.alwaysOpen());
+        }));
+    }
+
+    /**
+     * Découpe un créneau en segments journaliers (un rendez-vous peut franchir minuit).
+     */
+    private static List<Segment> segments(Booking booking) {
+        List<Segment> segments = new ArrayList<>(2);
+        LocalDate day = booking.start().toLocalDate();
+        int start = booking.start().getHour() * 60 + booking.start().getMinute();
+        int end = start + booking.durationMinutes();
+
+        while (end > OpeningHours.MINUTES_PER_DAY) {
+            segments.add(new Segment(new VetDay(booking.vetId(), day), start, OpeningHours.MINUTES_PER_DAY));
+            day = day.plusDays(1);
+            start = 0;
+            end -= OpeningHours.MINUTES_PER_DAY;
+        }
+        segments.add(new Segment(new VetDay(booking.vetId(), day), start, end));
+        return segments;
+    }
+
+    private void removePending(UUID vetId, List<Segment> segments) {
+        ReentrantLock lock = lockFor(vetId);
+        lock.lock();
+        try {
+            for (Segment segment : segments) {
+                pending.computeIfPresent(segment.key(), (key, day) -> {
+                    MinuteIntervals remaining = day.without(segment.start(), segment.end());
+                    return remaining.isEmpty() ? null : remaining;
+                });
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void invalidate(List<Segment> segments) {
+        for (Segment segment : segments) {
+            bookedCache.invalidate(segment.key());
+        }
+    }
+
+    /**
+     * Exécute l'action à la fin de la transaction courante (validation ou annulation),
+     * ou immédiatement en l'absence de transaction.
+     */
+    private static void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+
+    private ReentrantLock lockFor(UUID vetId) {
+        return locks[Math.floorMod(vetId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        return stripes;
+    }
+
+    private record VetDay(UUID vetId, LocalDate day) {
+    }
+
+    private record Segment(VetDay key, int start, int end) {
+    }
+}
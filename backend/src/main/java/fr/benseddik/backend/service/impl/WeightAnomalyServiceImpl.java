@@ -0,0 +1,226 @@
+package fr.benseddik.backend.service.impl;
+
+import fr.benseddik.backend.config.RunsOn;
+import fr.benseddik.backend.config.WeightAlertProperties;
+import fr.benseddik.backend.config.WeightAlertProperties.Threshold;
+import fr.benseddik.backend.config.Workload;
+import fr.benseddik.backend.domain.Notification;
+import fr.benseddik.backend.domain.Pet;
+import fr.benseddik.backend.domain.PetWeightStats;
+import fr.benseddik.backend.dto.response.WeightAlertBackfillResponse;
+import fr.benseddik.backend.repository.NotificationRepository;
+import fr.benseddik.backend.repository.PetWeightStatsRepository;
+import fr.benseddik.backend.repository.WeightLogRepository;
+import fr.benseddik.backend.repository.WeightLogRepository.PetWeightPoint;
+import fr.benseddik.backend.service.WeightAnomalyService;
+import fr.benseddik.backend.util.EwmaStats;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Implémentation de la détection des variations de poids anormales.
+ *
+ * Algorithme :
+ * - Moyenne et variance mobiles exponentielles (EWMA) par animal, une ligne en base
+ * - Alerte si l'écart dépasse à la fois un z-score et une variation relative, seuils par espèce
+ * - Les pesées antérieures à la dernière pesée intégrée sont ignorées jusqu'au prochain recalcul
+ * - Suppression d'une pesée : état de l'animal recalculé depuis les pesées restantes
+ *
+ * 🛡️ Verrou pessimiste sur la ligne d'état : deux pesées simultanées du même animal sont sérialisées.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WeightAnomalyServiceImpl implements WeightAnomalyService {
+
+    private final PetWeightStatsRepository statsRepository;
+    private final WeightLogRepository weightLogRepository;
+    private final NotificationRepository notificationRepository;
+    private final WeightAlertProperties properties;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    @Transactional
+    public void onWeightLogged(Pet pet, LocalDate date, double weight) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        PetWeightStats state = statsRepository.findByIdForUpdate(pet.getId()).orElse(null);
+        if (state == null) {
+            statsRepository.insertIfAbsent(pet.getId(), date);
+            state = statsRepository.findByIdForUpdate(pet.getId()).orElseThrow();
+        }
+
+        EwmaStats stats = state.toStats();
+        if (stats.count() > 0 && date.isBefore(state.getLastDate())) {
+            log.debug("⚖️ Pesée antérieure à la dernière intégrée pour l'animal {} : ignorée par le détecteur", pet.getId());
+            return;
+        }
+
+        if (stats.count() >= properties.warmupSamples()) {
+            Threshold threshold = properties.thresholdFor(pet.getSpecies());
+            double relativeChange = stats.relativeChange(weight);
+            if (stats.zScore(weight) >= threshold.zScore()
+                    && Math.abs(relativeChange) >= threshold.minRelativeChange()) {
+                raiseAlert(pet, weight, stats.mean());
+            }
+        }
+
+        state.apply(stats.update(weight, properties.alpha()), date);
+    }
+
+    @Override
+    @Transactional
+    public void onWeightLogDeleted(UUID petId) {
+        // Verrou de la ligne d'état : une pesée simultanée attend la fin du recalcul
+        if (statsRepository.findByIdForUpdate(petId).isEmpty()) {
+            return;
+        }
+        rebuildChunk(List.of(petId));
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(Collection<UUID> petIds) {
+        List<UUID> ids = List.copyOf(petIds);
+        int chunkSize = properties.backfill().chunkSize();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            rebuildChunk(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+    }
+
+    @Override
+    @RunsOn(Workload.BACKGROUND)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public WeightAlertBackfillResponse backfill() {
+        long startedAt = System.currentTimeMillis();
+        List<UUID> petIds = weightLogRepository.findDistinctPetIds();
+        int chunkSize = properties.backfill().chunkSize();
+
+        log.info("⚖️ Recalcul du détecteur de poids : {} animaux, lots de {}, {} threads",
+                petIds.size(), chunkSize, properties.backfill().parallelism());
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Integer reset = transaction.execute(status -> statsRepository.deleteWithoutWeightLogs());
+        if (reset != null && reset > 0) {
+            log.info("⚖️ État du détecteur supprimé pour {} animaux sans pesée", reset);
+        }
+        ExecutorService executor = ContextExecutorService.wrap(
+                Executors.newFixedThreadPool(properties.backfill().parallelism()),
+                ContextSnapshotFactory.builder().build());
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int from = 0; from < petIds.size(); from += chunkSize) {
+                List<UUID> chunk = petIds.subList(from, Math.min(from + chunkSize, petIds.size()));
+                futures.add(executor.submit(() -> Workload.BACKGROUND.call(
+                        () -> transaction.execute(status -> rebuildChunk(chunk)))));
+            }
+
+            long weightLogs = 0;
+            for (Future<Long> future : futures) {
+                weightLogs += future.get();
+            }
+
+            long duration = System.currentTimeMillis() - startedAt;
+            log.info("✅ Détecteur de poids recalculé : {} animaux, {} pesées en {} ms", petIds.size(), weightLogs, duration);
+            return new WeightAlertBackfillResponse(petIds.size(), weightLogs, duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Recalcul du détecteur de poids interrompu", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Échec du recalcul du détecteur de poids", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // RECALCUL
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Recalcule l'état d'un lot d'animaux en un seul parcours de leurs pesées ;
+     * l'état d'un animal qui n'a plus de pesée est supprimé.
+     *
+     * @return nombre de pesées lues
+     */
+    private long rebuildChunk(List<UUID> petIds) {
+        Map<UUID, PetWeightStats> existing = new HashMap<>();
+        statsRepository.findAllById(petIds).forEach(state -> existing.put(state.getPetId(), state));
+
+        long count = 0;
+        UUID currentPet = null;
+        EwmaStats stats = EwmaStats.EMPTY;
+        LocalDate lastDate = null;
+
+        try (Stream<PetWeightPoint> points = weightLogRepository.streamByPetIds(petIds)) {
+            Iterator<PetWeightPoint> iterator = points.iterator();
+            while (iterator.hasNext()) {
+                PetWeightPoint point = iterator.next();
+                if (!point.getPetId().equals(currentPet)) {
+                    store(existing, currentPet, stats, lastDate);
+                    currentPet = point.getPetId();
+                    stats = EwmaStats.EMPTY;
+                }
+                stats = stats.update(point.getWeight(), properties.alpha());
+                lastDate = point.getDate();
+                count++;
+            }
+        }
+        store(existing, currentPet, stats, lastDate);
+
+        // Restent les animaux sans aucune pesée
+        if (!existing.isEmpty()) {
+            statsRepository.deleteAll(existing.values());
+        }
+        return count;
+    }
+
+    private void store(Map<UUID, PetWeightStats> existing, UUID petId, EwmaStats stats, LocalDate lastDate) {
+        if (petId == null) {
+            return;
+        }
+        PetWeightStats state = existing.remove(petId);
+        if (state == null) {
+            state = PetWeightStats.builder().petId(petId).build();
+            state.apply(stats, lastDate);
+            statsRepository.save(state);
+        } else {
+            state.apply(stats, lastDate);
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // NOTIFICATION
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private void raiseAlert(Pet pet, double weight, double mean) {
+        notificationRepository.save(Notification.weightAlert(pet.getOwner(), pet, weight, mean));
+        log.info("⚠️ Alerte de poids pour l'animal {} : {} kg (moyenne {} kg)", pet.getId(), weight,
+                String.format(Locale.ROOT, "%.2f", mean));
+    }
+}
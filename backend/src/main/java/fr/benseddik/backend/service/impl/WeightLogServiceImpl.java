@@ -1,29 +1,45 @@
 package fr.benseddik.backend.service.impl;
 
 import fr.benseddik.backend.domain.Pet;
+import fr.benseddik.backend.domain.WeightAggregate;
+import fr.benseddik.backend.domain.WeightAggregate.Granularity;
 import fr.benseddik.backend.domain.WeightLog;
 import fr.benseddik.backend.dto.request.CreateWeightLogRequest;
 import fr.benseddik.backend.dto.response.WeightLogResponse;
+import fr.benseddik.backend.dto.response.WeightTrendPointResponse;
+import fr.benseddik.backend.dto.response.WeightTrendResponse;
+import fr.benseddik.backend.exception.BadRequestException;
 import fr.benseddik.backend.exception.ResourceNotFoundException;
 import fr.benseddik.backend.repository.PetRepository;
+import fr.benseddik.backend.repository.WeightAggregateRepository;
 import fr.benseddik.backend.repository.WeightLogRepository;
+import fr.benseddik.backend.repository.WeightLogRepository.WeightPoint;
+import fr.benseddik.backend.service.WeightAnomalyService;
 import fr.benseddik.backend.service.WeightLogService;
+import fr.benseddik.backend.util.LttbDownsampler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implémentation du service de gestion des pesées.
  *
  * 🛡️ SÉCURITÉ :
  * - Vérification que l'animal appartient à l'utilisateur
+ *
+ * ⚡ PERFORMANCE :
+ * - Courbes à nombre de points borné (LTTB en une passe sur un flux de projections)
+ * - Agrégats hebdomadaires / mensuels maintenus à chaque insertion / suppression
  */
 @Slf4j
 @Service
@@ -33,6 +49,14 @@ public class WeightLogServiceImpl implements WeightLogService {
 
     private final WeightLogRepository weightLogRepository;
     private final PetRepository petRepository;
+    private final WeightAggregateRepository weightAggregateRepository;
+    private final WeightAnomalyService weightAnomalyService;
+
+    @Value("${app.weight.trend.default-points:300}")
+    private int defaultTrendPoints;
+
+    @Value("${app.weight.trend.max-points:2000}")
+    private int maxTrendPoints;
 
     @Override
     @Transactional
@@ -51,6 +75,8 @@ public class WeightLogServiceImpl implements WeightLogService {
                 .build();
 
         WeightLog savedWeightLog = weightLogRepository.save(weightLog);
+        addToAggregates(pet.getId(), savedWeightLog.getDate(), savedWeightLog.getWeight());
+        weightAnomalyService.onWeightLogged(pet, savedWeightLog.getDate(), savedWeightLog.getWeight());
         log.info("✅ Pesée enregistrée: {} kg pour {} le {}",
                 savedWeightLog.getWeight(), pet.getName(), savedWeightLog.getDate());
 
@@ -101,6 +127,41 @@ public class WeightLogServiceImpl implements WeightLogService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public WeightTrendResponse getWeightTrend(UUID petId, UUID userId, LocalDate start, LocalDate end,
+                                              Integer maxPoints, Granularity granularity) {
+        log.debug("📈 Courbe de poids de l'animal {} entre {} et {} ({})", petId, start, end,
+                granularity != null ? granularity : "LTTB");
+
+        // 🛡️ SÉCURITÉ : Vérifier que l'animal appartient à l'utilisateur
+        petRepository.findByIdAndOwnerId(petId, userId)
+                .orElseThrow(() -> new AccessDeniedException("Cet animal ne vous appartient pas"));
+
+        if (start.isAfter(end)) {
+            throw new BadRequestException("La date de début doit précéder la date de fin");
+        }
+        int threshold = maxPoints == null ? defaultTrendPoints : Math.min(Math.max(maxPoints, 3), maxTrendPoints);
+
+        if (granularity != null) {
+            return aggregatedTrend(petId, start, end, granularity);
+        }
+
+        long total = weightLogRepository.countByPetIdAndDateBetween(petId, start, end);
+        LttbDownsampler downsampler = new LttbDownsampler(total, threshold);
+        try (Stream<WeightPoint> points = weightLogRepository.streamByPetIdAndDateBetween(petId, start, end)) {
+            Iterator<WeightPoint> iterator = points.iterator();
+            while (iterator.hasNext()) {
+                WeightPoint point = iterator.next();
+                downsampler.add(point.getDate().toEpochDay(), point.getWeight());
+            }
+        }
+
+        List<WeightTrendPointResponse> result = downsampler.result().stream()
+                .map(p -> new WeightTrendPointResponse(LocalDate.ofEpochDay((long) p.x()), p.y(), null, null, null))
+                .toList();
+        return new WeightTrendResponse(petId, start, end, "RAW", total, result);
+    }
+
     @Override
     @Transactional
     public void deleteWeightLog(UUID weightLogId, UUID userId) {
@@ -114,10 +175,53 @@ public class WeightLogServiceImpl implements WeightLogService {
             throw new AccessDeniedException("Accès non autorisé à cette pesée");
         }
 
+        UUID petId = weightLog.getPet().getId();
+        LocalDate date = weightLog.getDate();
+
         weightLogRepository.delete(weightLog);
+        weightLogRepository.flush();
+        removeFromAggregates(petId, date);
+        weightAnomalyService.onWeightLogDeleted(petId);
         log.info("✅ Pesée supprimée: {}", weightLogId);
     }
 
+    // ═══════════════════════════════════════════════════════════════════════════
+    // AGRÉGATS
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private WeightTrendResponse aggregatedTrend(UUID petId, LocalDate start, LocalDate end, Granularity granularity) {
+        List<WeightTrendPointResponse> points = weightAggregateRepository
+                .findByPetIdAndPeriod(petId, granularity, granularity.periodStart(start), end).stream()
+                .map(aggregate -> new WeightTrendPointResponse(
+                        aggregate.getPeriodStart(),
+                        aggregate.getAverage(),
+                        aggregate.getWeightMin(),
+                        aggregate.getWeightMax(),
+                        aggregate.getSampleCount()))
+                .toList();
+        return new WeightTrendResponse(petId, start, end, granularity.name(), points.size(), points);
+    }
+
+    /**
+     * Ajoute une pesée aux agrégats de sa semaine et de son mois (O(1), upsert).
+     */
+    private void addToAggregates(UUID petId, LocalDate date, double weight) {
+        for (Granularity granularity : Granularity.values()) {
+            weightAggregateRepository.addSample(petId, granularity.name(), granularity.periodStart(date), weight);
+        }
+    }
+
+    /**
+     * Recalcule les agrégats de la semaine et du mois d'une pesée supprimée (au plus 31 lignes relues).
+     */
+    private void removeFromAggregates(UUID petId, LocalDate date) {
+        for (Granularity granularity : Granularity.values()) {
+            LocalDate periodStart = granularity.periodStart(date);
+            weightAggregateRepository.recompute(petId, granularity.name(), periodStart, granularity.periodEnd(periodStart));
+        }
+        weightAggregateRepository.deleteEmpty(petId);
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // MAPPER
     // ═══════════════════════════════════════════════════════════════════════════
@@ -0,0 +1,60 @@
+package fr.benseddik.backend.util;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * File d'admission bornée : au plus {@code maxConcurrent} tâches actives,
+ * au plus {@code queueCapacity} tâches en attente (ordre d'arrivée), attente bornée.
+ *
+ * Une file pleine rejette immédiatement : la demande excédentaire coûte un rejet
+ * au lieu d'un thread bloqué.
+ */
+public final class AdmissionQueue {
+
+    private final int maxConcurrent;
+    private final int queueCapacity;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public AdmissionQueue(int maxConcurrent, int queueCapacity) {
+        this.maxConcurrent = maxConcurrent;
+        this.queueCapacity = queueCapacity;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Tente d'entrer, en attendant au plus {@code maxWait} une place libre.
+     *
+     * @return true si admis (appeler {@link #exit()} à la fin), false si file pleine ou délai dépassé
+     */
+    public boolean enter(Duration maxWait) throws InterruptedException {
+        // Délai nul : respecte l'ordre des tâches déjà en attente (semaphore équitable)
+        if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        if (waiting.incrementAndGet() > queueCapacity) {
+            waiting.decrementAndGet();
+            return false;
+        }
+        try {
+            return permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public void exit() {
+        permits.release();
+    }
+
+    public int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int waiting() {
+        return waiting.get();
+    }
+}
@@ -0,0 +1,69 @@
+package fr.benseddik.backend.util;
+
+/**
+ * Plage d'octets d'une requête HTTP Range (RFC 9110, section 14).
+ *
+ * Seule une plage unique est servie en 206 : un en-tête mal formé ou à plages multiples
+ * est ignoré (le fichier complet est renvoyé), ce que la RFC autorise.
+ *
+ * @param start premier octet (inclus)
+ * @param end   dernier octet (inclus)
+ */
+public record ByteRange(long start, long end) {
+
+    /**
+     * Plage demandée par un en-tête Range pour un fichier de {@code size} octets.
+     *
+     * @return la plage, le fichier complet si l'en-tête est absent ou ignoré,
+     *         ou null si la plage est hors du fichier (réponse 416)
+     */
+    public static ByteRange resolve(String header, long size) {
+        ByteRange full = new ByteRange(0, size - 1);
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return full;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return full;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffixe : les N derniers octets
+                long suffix = Long.parseLong(last);
+                if (suffix < 0) {
+                    return full;
+                }
+                if (suffix == 0 || size == 0) {
+                    return null;
+                }
+                return new ByteRange(Math.max(0, size - suffix), size - 1);
+            }
+            long start = Long.parseLong(first);
+            long requestedEnd = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || requestedEnd < start) {
+                return full;
+            }
+            if (start >= size) {
+                return null;
+            }
+            long end = Math.min(requestedEnd, size - 1);
+            return new ByteRange(start, end);
+        } catch (NumberFormatException e) {
+            return full;
+        }
+    }
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Vrai si la plage ne couvre pas tout le fichier.
+     */
+    public boolean isPartial(long size) {
+        return start > 0 || end < size - 1;
+    }
+}
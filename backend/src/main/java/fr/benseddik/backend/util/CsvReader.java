@@ -0,0 +1,185 @@
+package fr.benseddik.backend.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lecteur CSV (RFC 4180) en flux continu.
+ *
+ * - Séparateur configurable ("," ou ";" pour les exports Excel français)
+ * - Champs entre guillemets, guillemets doublés, retours à la ligne dans un champ
+ * - Fins de ligne LF ou CRLF, BOM UTF-8 ignoré
+ *
+ * ⚡ PERFORMANCE : un seul enregistrement en mémoire, lecture via un tampon interne.
+ */
+public final class CsvReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder(64);
+
+    private int position;
+    private int limit;
+    private long lineNumber = 1;
+    private long recordLine;
+    private boolean firstRead = true;
+
+    public CsvReader(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Lecteur dont le séparateur est deviné d'après le début de la première ligne, lu dans le
+     * tampon interne : rien n'est relu, quelle que soit la longueur de l'en-tête.
+     */
+    public static CsvReader detectingDelimiter(Reader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader, ',');
+        if (csv.read() != -1) {
+            csv.position--;
+            int end = csv.position;
+            while (end < csv.limit && csv.buffer[end] != '\n' && csv.buffer[end] != '\r') {
+                end++;
+            }
+            csv.delimiter = detectDelimiter(new String(csv.buffer, csv.position, end - csv.position));
+        }
+        return csv;
+    }
+
+    /**
+     * Devine le séparateur d'après la ligne d'en-tête (";" s'il y est plus fréquent que ",").
+     */
+    public static char detectDelimiter(String headerLine) {
+        int commas = 0;
+        int semicolons = 0;
+        for (int i = 0; i < headerLine.length(); i++) {
+            char c = headerLine.charAt(i);
+            if (c == ',') {
+                commas++;
+            } else if (c == ';') {
+                semicolons++;
+            }
+        }
+        return semicolons > commas ? ';' : ',';
+    }
+
+    /**
+     * Lit l'enregistrement suivant.
+     *
+     * @return les champs, ou null en fin de fichier (les lignes vides sont ignorées)
+     */
+    public List<String> next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            if (c == '\n' || c == '\r') {
+                consumeLineEnd(c);
+                continue;
+            }
+            recordLine = lineNumber;
+            return readRecord(c);
+        }
+    }
+
+    /**
+     * Numéro de ligne (base 1) du début du dernier enregistrement lu.
+     */
+    public long recordLine() {
+        return recordLine;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // ANALYSE
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private List<String> readRecord(int first) throws IOException {
+        List<String> fields = new ArrayList<>();
+        int c = first;
+        while (true) {
+            field.setLength(0);
+            if (c == '"') {
+                c = readQuoted();
+            } else {
+                while (c != -1 && c != delimiter && c != '\n' && c != '\r') {
+                    field.append((char) c);
+                    c = read();
+                }
+            }
+            fields.add(field.toString());
+
+            if (c == delimiter) {
+                c = read();
+                continue;
+            }
+            if (c == '\n' || c == '\r') {
+                consumeLineEnd(c);
+            }
+            return fields;
+        }
+    }
+
+    /**
+     * Lit un champ entre guillemets et retourne le caractère qui le suit.
+     */
+    private int readQuoted() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return -1;
+            }
+            if (c == '"') {
+                int following = read();
+                if (following == '"') {
+                    field.append('"');
+                    continue;
+                }
+                // Caractères parasites après le guillemet fermant : conservés tels quels
+                while (following != -1 && following != delimiter && following != '\n' && following != '\r') {
+                    field.append((char) following);
+                    following = read();
+                }
+                return following;
+            }
+            if (c == '\n') {
+                lineNumber++;
+            }
+            field.append((char) c);
+        }
+    }
+
+    private void consumeLineEnd(int c) throws IOException {
+        lineNumber++;
+        if (c == '\r') {
+            int following = read();
+            if (following != '\n' && following != -1) {
+                position--;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+            if (firstRead) {
+                firstRead = false;
+                if (buffer[0] == '\uFEFF') {
+                    position = 1;
+                    return read();
+                }
+            }
+        }
+        return buffer[position++];
+    }
+}
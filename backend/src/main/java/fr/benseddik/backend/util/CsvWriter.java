@@ -0,0 +1,92 @@
+package fr.benseddik.backend.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Écrivain CSV (RFC 4180) en flux continu, pendant de {@link CsvReader}.
+ *
+ * - Champs entourés de guillemets seulement si nécessaire (séparateur, guillemet, retour à la ligne)
+ * - Fins de ligne CRLF, valeurs null écrites comme champs vides
+ * - Formules neutralisées : un champ commençant par =, +, - ou @ est préfixé d'une apostrophe
+ *   (injection de formules à l'ouverture dans un tableur)
+ *
+ * ⚡ PERFORMANCE : aucune ligne n'est construite en mémoire, les champs sont écrits directement.
+ */
+public final class CsvWriter {
+
+    private final Writer writer;
+    private final char delimiter;
+    private boolean firstField = true;
+
+    public CsvWriter(Writer writer, char delimiter) {
+        this.writer = writer;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Écrit une ligne complète.
+     */
+    public CsvWriter row(Object... values) throws IOException {
+        for (Object value : values) {
+            field(value);
+        }
+        return endRow();
+    }
+
+    /**
+     * Écrit un champ de la ligne courante.
+     */
+    public CsvWriter field(Object value) throws IOException {
+        if (!firstField) {
+            writer.write(delimiter);
+        }
+        firstField = false;
+        if (value == null) {
+            return this;
+        }
+
+        String text = value.toString();
+        boolean formula = !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number);
+        if (!needsQuotes(text)) {
+            if (formula) {
+                writer.write('\'');
+            }
+            writer.write(text);
+            return this;
+        }
+
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+        return this;
+    }
+
+    /**
+     * Termine la ligne courante.
+     */
+    public CsvWriter endRow() throws IOException {
+        writer.write("\r\n");
+        firstField = true;
+        return this;
+    }
+
+    private boolean needsQuotes(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == delimiter || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
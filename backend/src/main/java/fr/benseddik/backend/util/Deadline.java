@@ -0,0 +1,46 @@
+package fr.benseddik.backend.util;
+
+import java.time.Duration;
+
+/**
+ * Échéance absolue partagée par plusieurs tâches d'une même requête.
+ *
+ * Basée sur {@link System#nanoTime()} : insensible aux changements d'horloge système.
+ */
+public record Deadline(long deadlineNanos) {
+
+    /**
+     * Échéance dans {@code timeout} à partir de maintenant.
+     */
+    public static Deadline in(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Temps restant (zéro si l'échéance est dépassée).
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * Temps restant en secondes entières, arrondi au supérieur et au moins 1
+     * (format attendu par les délais de transaction).
+     */
+    public int remainingSeconds() {
+        long nanos = deadlineNanos - System.nanoTime();
+        long seconds = (nanos + 999_999_999L) / 1_000_000_000L;
+        return (int) Math.clamp(seconds, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Échéance la plus proche des deux.
+     */
+    public Deadline earliest(Deadline other) {
+        return other.deadlineNanos - deadlineNanos < 0 ? other : this;
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+}
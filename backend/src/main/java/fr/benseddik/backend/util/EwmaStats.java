@@ -0,0 +1,59 @@
+package fr.benseddik.backend.util;
+
+/**
+ * Moyenne et variance mobiles exponentielles (EWMA), mises à jour en O(1) par observation.
+ *
+ * Formulation incrémentale (West, 1979) :
+ * <pre>
+ *   diff     = x - mean
+ *   mean'    = mean + alpha * diff
+ *   variance' = (1 - alpha) * (variance + alpha * diff²)
+ * </pre>
+ * La première observation initialise la moyenne, avec une variance nulle.
+ *
+ * @param count    nombre d'observations intégrées
+ * @param mean     moyenne mobile
+ * @param variance variance mobile
+ */
+public record EwmaStats(int count, double mean, double variance) {
+
+    public static final EwmaStats EMPTY = new EwmaStats(0, 0, 0);
+
+    /**
+     * Intègre une nouvelle observation.
+     *
+     * @param alpha poids de la nouvelle observation (0 &lt; alpha &le; 1)
+     */
+    public EwmaStats update(double value, double alpha) {
+        if (count == 0) {
+            return new EwmaStats(1, value, 0);
+        }
+        double diff = value - mean;
+        double newMean = mean + alpha * diff;
+        double newVariance = (1 - alpha) * (variance + alpha * diff * diff);
+        return new EwmaStats(count + 1, newMean, newVariance);
+    }
+
+    public double standardDeviation() {
+        return Math.sqrt(variance);
+    }
+
+    /**
+     * Écart d'une valeur à la moyenne, en nombre d'écarts-types (infini si la variance est nulle).
+     */
+    public double zScore(double value) {
+        double deviation = Math.abs(value - mean);
+        double sd = standardDeviation();
+        if (sd == 0) {
+            return deviation == 0 ? 0 : Double.POSITIVE_INFINITY;
+        }
+        return deviation / sd;
+    }
+
+    /**
+     * Écart relatif d'une valeur à la moyenne (0.1 = 10 %).
+     */
+    public double relativeChange(double value) {
+        return mean == 0 ? 0 : (value - mean) / mean;
+    }
+}
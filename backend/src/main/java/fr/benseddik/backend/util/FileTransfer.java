@@ -0,0 +1,60 @@
+package fr.benseddik.backend.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Envoi d'une plage d'un fichier dans la réponse HTTP sans passer par le tas.
+ *
+ * - Tomcat (connecteur NIO) : délégation au sendfile du noyau via les attributs de requête,
+ *   la copie a lieu après le retour du contrôleur, directement du cache disque vers la socket
+ * - Sinon : {@link FileChannel#transferTo} vers le canal de la réponse
+ *
+ * Les en-têtes (Content-Length, Content-Range…) doivent être positionnés avant l'appel.
+ */
+public final class FileTransfer {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * En dessous de ce seuil, une copie classique coûte moins qu'un appel sendfile (même seuil que Tomcat).
+     */
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    private FileTransfer() {
+    }
+
+    public static void send(HttpServletRequest request, HttpServletResponse response, Path file, ByteRange range)
+            throws IOException {
+        if (range.length() >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    throw new IOException("Fichier tronqué pendant l'envoi");
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package fr.benseddik.backend.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Arbre k-d immuable pour la recherche géographique (plus proches voisins, rayon).
+ *
+ * Les coordonnées (latitude, longitude) sont projetées sur la sphère unité en 3D :
+ * la distance euclidienne (corde) est monotone avec la distance orthodromique,
+ * ce qui évite les cas particuliers de l'antiméridien et des pôles.
+ *
+ * ⚡ PERFORMANCE : construction O(n log n) par sélection de médiane en place,
+ * requêtes O(log n + k) en moyenne. L'instance est immuable et partageable entre threads.
+ *
+ * @param <T> type des valeurs associées aux points
+ */
+public final class GeoKdTree<T> {
+
+    /**
+     * Rayon moyen de la Terre en kilomètres.
+     */
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+    private final Object[] values;
+
+    private GeoKdTree(double[] xs, double[] ys, double[] zs, Object[] values) {
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.values = values;
+    }
+
+    /**
+     * Construit l'arbre à partir d'une liste de points.
+     */
+    public static <T> GeoKdTree<T> build(List<GeoPoint<T>> points) {
+        int n = points.size();
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        double[] zs = new double[n];
+        Object[] values = new Object[n];
+
+        for (int i = 0; i < n; i++) {
+            GeoPoint<T> point = points.get(i);
+            double lat = Math.toRadians(point.latitude());
+            double lng = Math.toRadians(point.longitude());
+            xs[i] = Math.cos(lat) * Math.cos(lng);
+            ys[i] = Math.cos(lat) * Math.sin(lng);
+            zs[i] = Math.sin(lat);
+            values[i] = point.value();
+        }
+
+        GeoKdTree<T> tree = new GeoKdTree<>(xs, ys, zs, values);
+        tree.buildRange(0, n, 0);
+        return tree;
+    }
+
+    public static <T> GeoKdTree<T> empty() {
+        return new GeoKdTree<>(new double[0], new double[0], new double[0], new Object[0]);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Retourne les {@code limit} points les plus proches, éventuellement bornés par un rayon.
+     *
+     * @param maxDistanceKm rayon maximal en km (null = pas de limite)
+     * @return voisins triés par distance croissante
+     */
+    public List<Neighbor<T>> nearest(double latitude, double longitude, int limit, Double maxDistanceKm) {
+        if (limit <= 0 || values.length == 0) {
+            return List.of();
+        }
+        double[] query = toUnitVector(latitude, longitude);
+        double maxChordSq = maxDistanceKm == null ? Double.MAX_VALUE : chordSquared(maxDistanceKm);
+
+        // Tas max borné : la racine est le plus lointain des meilleurs candidats
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(Candidate::chordSq).reversed());
+        searchNearest(0, values.length, 0, query, limit, maxChordSq, heap);
+
+        List<Candidate> sorted = new ArrayList<>(heap);
+        sorted.sort(Comparator.comparingDouble(Candidate::chordSq));
+        return sorted.stream().map(this::toNeighbor).toList();
+    }
+
+    /**
+     * Retourne tous les points situés à moins de {@code radiusKm}, triés par distance croissante.
+     */
+    public List<Neighbor<T>> withinRadius(double latitude, double longitude, double radiusKm) {
+        if (radiusKm <= 0 || values.length == 0) {
+            return List.of();
+        }
+        double[] query = toUnitVector(latitude, longitude);
+        List<Candidate> found = new ArrayList<>();
+        searchRadius(0, values.length, 0, query, chordSquared(radiusKm), found);
+
+        found.sort(Comparator.comparingDouble(Candidate::chordSq));
+        return found.stream().map(this::toNeighbor).toList();
+    }
+
+    /**
+     * Distance orthodromique (haversine) entre deux coordonnées, en km.
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // CONSTRUCTION
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Place la médiane de [lo, hi) selon l'axe courant au milieu, puis récurse.
+     * Le nœud d'un intervalle est toujours son indice médian : pas de pointeurs.
+     */
+    private void buildRange(int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, depth % 3);
+        buildRange(lo, mid, depth + 1);
+        buildRange(mid + 1, hi, depth + 1);
+    }
+
+    private void select(int left, int right, int k, int axis) {
+        while (left < right) {
+            double pivot = coordinate((left + right) >>> 1, axis);
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinate(i, axis) < pivot) {
+                    i++;
+                }
+                while (coordinate(j, axis) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int a, int b) {
+        double x = xs[a];
+        xs[a] = xs[b];
+        xs[b] = x;
+        double y = ys[a];
+        ys[a] = ys[b];
+        ys[b] = y;
+        double z = zs[a];
+        zs[a] = zs[b];
+        zs[b] = z;
+        Object value = values[a];
+        values[a] = values[b];
+        values[b] = value;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // RECHERCHE
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private void searchNearest(int lo, int hi, int depth, double[] query, int limit,
+                               double maxChordSq, PriorityQueue<Candidate> heap) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        int axis = depth % 3;
+
+        double distSq = distanceSquared(mid, query);
+        if (distSq <= maxChordSq) {
+            if (heap.size() < limit) {
+                heap.add(new Candidate(mid, distSq));
+            } else if (distSq < heap.peek().chordSq()) {
+                heap.poll();
+                heap.add(new Candidate(mid, distSq));
+            }
+        }
+
+        double delta = query[axis] - coordinate(mid, axis);
+        boolean leftFirst = delta < 0;
+        if (leftFirst) {
+            searchNearest(lo, mid, depth + 1, query, limit, maxChordSq, heap);
+        } else {
+            searchNearest(mid + 1, hi, depth + 1, query, limit, maxChordSq, heap);
+        }
+
+        double bound = heap.size() < limit ? maxChordSq : Math.min(maxChordSq, heap.peek().chordSq());
+        if (delta * delta <= bound) {
+            if (leftFirst) {
+                searchNearest(mid + 1, hi, depth + 1, query, limit, maxChordSq, heap);
+            } else {
+                searchNearest(lo, mid, depth + 1, query, limit, maxChordSq, heap);
+            }
+        }
+    }
+
+    private void searchRadius(int lo, int hi, int depth, double[] query, double maxChordSq, List<Candidate> found) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        int axis = depth % 3;
+
+        double distSq = distanceSquared(mid, query);
+        if (distSq <= maxChordSq) {
+            found.add(new Candidate(mid, distSq));
+        }
+
+        double delta = query[axis] - coordinate(mid, axis);
+        if (delta <= 0 || delta * delta <= maxChordSq) {
+            searchRadius(lo, mid, depth + 1, query, maxChordSq, found);
+        }
+        if (delta >= 0 || delta * delta <= maxChordSq) {
+            searchRadius(mid + 1, hi, depth + 1, query, maxChordSq, found);
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // GÉOMÉTRIE
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private double coordinate(int index, int axis) {
+        return switch (axis) {
+            case 0 -> xs[index];
+            case 1 -> ys[index];
+            default -> zs[index];
+        };
+    }
+
+    private double distanceSquared(int index, double[] query) {
+        double dx = xs[index] - query[0];
+        double dy = ys[index] - query[1];
+        double dz = zs[index] - query[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static double[] toUnitVector(double latitude, double longitude) {
+        double lat = Math.toRadians(latitude);
+        double lng = Math.toRadians(longitude);
+        return new double[]{
+                Math.cos(lat) * Math.cos(lng),
+                Math.cos(lat) * Math.sin(lng),
+                Math.sin(lat)
+        };
+    }
+
+    /**
+     * Corde au carré correspondant à une distance à la surface (km).
+     */
+    private static double chordSquared(double distanceKm) {
+        double angle = Math.min(Math.PI, distanceKm / EARTH_RADIUS_KM);
+        double chord = 2 * Math.sin(angle / 2);
+        return chord * chord;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Neighbor<T> toNeighbor(Candidate candidate) {
+        double chord = Math.sqrt(candidate.chordSq());
+        double distanceKm = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, chord / 2));
+        return new Neighbor<>((T) values[candidate.index()], distanceKm);
+    }
+
+    private record Candidate(int index, double chordSq) {
+    }
+
+    /**
+     * Point à indexer.
+     */
+    public record GeoPoint<T>(double latitude, double longitude, T value) {
+    }
+
+    /**
+     * Résultat d'une recherche : valeur et distance orthodromique en km.
+     */
+    public record Neighbor<T>(T value, double distanceKm) {
+    }
+}
@@ -0,0 +1,94 @@
+package fr.benseddik.backend.util;
+
+/**
+ * Estimation adaptative du nombre de requêtes simultanées supportables (algorithme "gradient").
+ *
+ * À chaque fenêtre de requêtes terminées :
+ * - latence courte = moyenne de la fenêtre, latence de référence = moyenne mobile lente
+ * - gradient = tolérance × référence / courte, borné à [0.5, 1] : la limite baisse dès que
+ *   la latence dépasse la tolérance (file d'attente en formation, pool de connexions saturé)
+ * - nouvelle limite = limite × gradient + √limite (marge de file), lissée puis bornée
+ *
+ * La limite n'augmente pas si la charge reste sous la moitié de la limite : sans saturation,
+ * la latence ne renseigne pas sur la capacité.
+ *
+ * ⚡ PERFORMANCE : O(1) par requête, verrou pris uniquement pour cumuler un échantillon.
+ */
+public final class GradientLimit {
+
+    // Moyenne mobile de la latence de référence : ~20 fenêtres
+    private static final double LONG_RTT_FACTOR = 2.0 / 21;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final int windowSize;
+
+    private volatile double estimatedLimit;
+
+    private double longRtt;
+    private long windowRttSum;
+    private int windowCount;
+    private int windowMaxInFlight;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit,
+                         double rttTolerance, double smoothing, int windowSize) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.windowSize = windowSize;
+        this.estimatedLimit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * Limite courante de requêtes simultanées.
+     */
+    public int limit() {
+        return (int) estimatedLimit;
+    }
+
+    /**
+     * Enregistre une requête terminée.
+     *
+     * @param rttNanos durée de la requête
+     * @param inFlight requêtes en cours à son démarrage (elle comprise)
+     */
+    public synchronized void onSample(long rttNanos, int inFlight) {
+        windowRttSum += rttNanos;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+        if (++windowCount < windowSize) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowCount;
+        int maxInFlight = windowMaxInFlight;
+        windowRttSum = 0;
+        windowCount = 0;
+        windowMaxInFlight = 0;
+
+        update(Math.max(shortRtt, 1), maxInFlight);
+    }
+
+    private void update(double shortRtt, int inFlight) {
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) * LONG_RTT_FACTOR;
+        }
+        // Latence revenue bien en dessous de la référence : la référence redescend plus vite
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double limit = estimatedLimit;
+        if (inFlight < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.clamp(rttTolerance * longRtt / shortRtt, 0.5, 1.0);
+        double target = limit * gradient + Math.sqrt(limit);
+        estimatedLimit = Math.clamp(limit * (1 - smoothing) + target * smoothing, minLimit, maxLimit);
+    }
+}
@@ -0,0 +1,128 @@
+package fr.benseddik.backend.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Écriture en flux continu d'un calendrier iCalendar (RFC 5545).
+ *
+ * - Lignes terminées par CRLF, repliées au-delà de 75 octets UTF-8
+ * - Échappement des valeurs texte (\ ; , et retours à la ligne)
+ * - Dates-heures en UTC ("20250106T090000Z"), dates seules en VALUE=DATE
+ *
+ * Aucun événement n'est conservé en mémoire : chaque propriété est écrite immédiatement.
+ */
+public final class IcsWriter {
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter UTC_DATE_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final Writer out;
+
+    public IcsWriter(Writer out) {
+        this.out = out;
+    }
+
+    public IcsWriter beginCalendar(String productId, String name) throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:" + productId);
+        line("CALSCALE:GREGORIAN");
+        line("METHOD:PUBLISH");
+        text("X-WR-CALNAME", name);
+        return this;
+    }
+
+    public IcsWriter endCalendar() throws IOException {
+        line("END:VCALENDAR");
+        out.flush();
+        return this;
+    }
+
+    public IcsWriter beginEvent(String uid, Instant stamp) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + uid);
+        dateTime("DTSTAMP", stamp != null ? stamp : Instant.now());
+        return this;
+    }
+
+    public IcsWriter endEvent() throws IOException {
+        line("END:VEVENT");
+        return this;
+    }
+
+    /**
+     * Propriété texte échappée (ignorée si la valeur est vide).
+     */
+    public IcsWriter text(String name, String value) throws IOException {
+        if (value != null && !value.isBlank()) {
+            line(name + ":" + escape(value));
+        }
+        return this;
+    }
+
+    /**
+     * Propriété non échappée (valeur déjà conforme : STATUS, TRANSP...).
+     */
+    public IcsWriter raw(String name, String value) throws IOException {
+        line(name + ":" + value);
+        return this;
+    }
+
+    public IcsWriter dateTime(String name, Instant value) throws IOException {
+        line(name + ":" + UTC_DATE_TIME.format(value));
+        return this;
+    }
+
+    public IcsWriter date(String name, LocalDate value) throws IOException {
+        line(name + ";VALUE=DATE:" + DATE.format(value));
+        return this;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // FORMAT
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    static String escape(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case ';' -> sb.append("\\;");
+                case ',' -> sb.append("\\,");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> { }
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Écrit une ligne de contenu, repliée tous les 75 octets sans couper un caractère UTF-8.
+     */
+    private void line(String content) throws IOException {
+        int octets = 0;
+        int limit = MAX_LINE_OCTETS;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + size > limit) {
+                out.write("\r\n ");
+                octets = 0;
+                limit = MAX_LINE_OCTETS - 1;
+            }
+            out.write(Character.toChars(codePoint));
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        out.write("\r\n");
+    }
+}
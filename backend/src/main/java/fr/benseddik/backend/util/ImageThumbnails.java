@@ -0,0 +1,182 @@
+package fr.benseddik.backend.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Génération de vignettes carrées JPEG à partir d'une image (JPEG, PNG, GIF, BMP).
+ *
+ * - Dimensions lues avant décodage : les images trop grandes sont refusées sans être chargées
+ * - Décodage sous-échantillonné : une photo de 24 Mpx n'est jamais décompressée en pleine résolution
+ * - Recadrage centré, réductions successives par moitié (qualité proche du bicubique)
+ * - Transparence remplacée par un fond blanc (JPEG)
+ */
+public final class ImageThumbnails {
+
+    static {
+        // Encodage en mémoire : pas de fichier temporaire ImageIO par vignette
+        ImageIO.setUseCache(false);
+    }
+
+    private ImageThumbnails() {
+    }
+
+    /**
+     * Dimensions d'une image.
+     */
+    public record Size(int width, int height) {
+
+        public long pixels() {
+            return (long) width * height;
+        }
+    }
+
+    /**
+     * Lit les dimensions d'une image sans la décoder.
+     *
+     * @return les dimensions, ou null si le fichier n'est pas une image reconnue
+     */
+    public static Size probe(Path file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            ImageReader reader = readerFor(input);
+            if (reader == null) {
+                return null;
+            }
+            try {
+                return new Size(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Génère une vignette carrée par taille demandée, en un seul décodage de l'image source.
+     *
+     * @param sizes     côtés des vignettes en pixels
+     * @param maxPixels nombre maximal de pixels de l'image source
+     * @param quality   qualité JPEG (0 à 1)
+     * @return contenu JPEG par taille, dans l'ordre demandé
+     */
+    public static Map<Integer, byte[]> render(Path source, int[] sizes, long maxPixels, float quality) throws IOException {
+        BufferedImage square = decodeSquare(source, max(sizes), maxPixels);
+        Map<Integer, byte[]> thumbnails = new LinkedHashMap<>();
+        for (int size : sizes) {
+            thumbnails.put(size, encodeJpeg(scale(square, size), quality));
+        }
+        return thumbnails;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // DÉCODAGE
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private static BufferedImage decodeSquare(Path source, int largestSize, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            ImageReader reader = readerFor(input);
+            if (reader == null) {
+                throw new IllegalArgumentException("Format d'image non reconnu");
+            }
+            try {
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IllegalArgumentException("Image trop grande (" + width + "x" + height + ")");
+                }
+
+                // Sous-échantillonnage : on garde au moins deux fois la plus grande vignette sur le petit côté
+                int subsampling = Math.max(1, Math.min(width, height) / (2 * largestSize));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage image = reader.read(0, param);
+
+                int side = Math.min(image.getWidth(), image.getHeight());
+                return image.getSubimage((image.getWidth() - side) / 2, (image.getHeight() - side) / 2, side, side);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static ImageReader readerFor(ImageInputStream input) {
+        if (input == null) {
+            return null;
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+        if (!readers.hasNext()) {
+            return null;
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(input, true, true);
+        return reader;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // REDIMENSIONNEMENT / ENCODAGE
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private static BufferedImage scale(BufferedImage square, int size) {
+        BufferedImage current = square;
+        int side = square.getWidth();
+        do {
+            side = Math.max(side / 2, size);
+            current = draw(current, side);
+        } while (side > size);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int side) {
+        BufferedImage target = new BufferedImage(side, side, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, side, side);
+            graphics.drawImage(source, 0, 0, side, side, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DISABLED);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static int max(int[] sizes) {
+        int max = 1;
+        for (int size : sizes) {
+            max = Math.max(max, size);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,55 @@
+package fr.benseddik.backend.util;
+
+import java.math.BigDecimal;
+import java.util.regex.Pattern;
+
+/**
+ * Construction de prédicats jsonpath PostgreSQL (opérateur {@code @@}) pour les colonnes jsonb.
+ *
+ * 🛡️ SÉCURITÉ : les clés sont restreintes à un identifiant simple et les bornes sont des nombres,
+ * aucune saisie libre n'est recopiée dans l'expression.
+ */
+public final class JsonPathPredicates {
+
+    private static final Pattern KEY = Pattern.compile("[A-Za-z][A-Za-z0-9_]{0,63}");
+
+    private JsonPathPredicates() {
+    }
+
+    /**
+     * Vérifie qu'une clé peut être utilisée dans un prédicat.
+     */
+    public static boolean isValidKey(String key) {
+        return key != null && KEY.matcher(key).matches();
+    }
+
+    /**
+     * Clé numérique comprise entre deux bornes incluses (null = pas de borne).
+     *
+     * Ex : {@code exists($."creatinine") && $."creatinine".type() == "number" && $."creatinine" >= 1.5}
+     *
+     * ⚡ PERFORMANCE : la clause {@code exists} est extraite par l'index GIN (jsonb_ops) sur la clé.
+     */
+    public static String numberInRange(String key, Double min, Double max) {
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("Clé jsonpath invalide : " + key);
+        }
+        String path = "$.\"" + key + "\"";
+        StringBuilder predicate = new StringBuilder("exists(").append(path).append(")")
+                .append(" && ").append(path).append(".type() == \"number\"");
+        if (min != null) {
+            predicate.append(" && ").append(path).append(" >= ").append(literal(min));
+        }
+        if (max != null) {
+            predicate.append(" && ").append(path).append(" <= ").append(literal(max));
+        }
+        return predicate.toString();
+    }
+
+    private static String literal(double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("Borne non finie : " + value);
+        }
+        return BigDecimal.valueOf(value).toPlainString();
+    }
+}
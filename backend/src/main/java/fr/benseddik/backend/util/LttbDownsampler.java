@@ -0,0 +1,162 @@
+package fr.benseddik.backend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sous-échantillonnage LTTB (Largest-Triangle-Three-Buckets) en une seule passe.
+ *
+ * Conserve la forme visuelle d'une courbe (pics, creux) avec au plus {@code threshold} points :
+ * le premier et le dernier point sont gardés, puis, dans chaque seau intermédiaire,
+ * le point formant le plus grand triangle avec le point retenu précédemment
+ * et la moyenne du seau suivant.
+ *
+ * ⚡ PERFORMANCE : le nombre total de points est connu à l'avance (COUNT), les points
+ * arrivent dans l'ordre : seuls le seau courant et le seau suivant sont conservés en mémoire.
+ */
+public final class LttbDownsampler {
+
+    private final long total;
+    private final int threshold;
+    private final double bucketSize;
+    private final List<Point> selected;
+
+    private long index;
+    private int currentBucket;
+    private Point anchor;
+    private Bucket current = new Bucket();
+    private Bucket next = new Bucket();
+
+    /**
+     * @param total     nombre de points qui seront fournis
+     * @param threshold nombre maximal de points retenus (au moins 3)
+     */
+    public LttbDownsampler(long total, int threshold) {
+        if (threshold < 3) {
+            throw new IllegalArgumentException("threshold doit être au moins 3");
+        }
+        this.total = total;
+        this.threshold = threshold;
+        this.bucketSize = (double) (total - 2) / (threshold - 2);
+        this.selected = new ArrayList<>((int) Math.min(total, threshold));
+    }
+
+    /**
+     * Fournit le point suivant (abscisses croissantes).
+     */
+    public void add(double x, double y) {
+        long i = index++;
+        if (total <= threshold || i == 0) {
+            keep(new Point(x, y));
+            return;
+        }
+        if (i == total - 1) {
+            flush(x, y);
+            keep(new Point(x, y));
+            return;
+        }
+
+        int bucket = (int) Math.min((i - 1) / bucketSize, threshold - 3);
+        if (bucket == currentBucket) {
+            current.add(x, y);
+        } else if (bucket == currentBucket + 1) {
+            next.add(x, y);
+        } else {
+            // Le seau suivant est complet : on peut choisir le point du seau courant
+            keep(current.largestTriangle(anchor, next.averageX(), next.averageY()));
+            Bucket recycled = current;
+            current = next;
+            next = recycled.clear();
+            next.add(x, y);
+            currentBucket++;
+        }
+    }
+
+    /**
+     * Points retenus, dans l'ordre.
+     */
+    public List<Point> result() {
+        return selected;
+    }
+
+    private void flush(double lastX, double lastY) {
+        if (current.isEmpty()) {
+            return;
+        }
+        if (next.isEmpty()) {
+            keep(current.largestTriangle(anchor, lastX, lastY));
+            return;
+        }
+        keep(current.largestTriangle(anchor, next.averageX(), next.averageY()));
+        keep(next.largestTriangle(anchor, lastX, lastY));
+    }
+
+    private void keep(Point point) {
+        selected.add(point);
+        anchor = point;
+    }
+
+    /**
+     * Point retenu : abscisse et ordonnée.
+     */
+    public record Point(double x, double y) {
+    }
+
+    /**
+     * Points d'un seau, stockés dans des tableaux réutilisés.
+     */
+    private static final class Bucket {
+
+        private double[] xs = new double[16];
+        private double[] ys = new double[16];
+        private int size;
+        private double sumX;
+        private double sumY;
+
+        void add(double x, double y) {
+            if (size == xs.length) {
+                xs = Arrays.copyOf(xs, size * 2);
+                ys = Arrays.copyOf(ys, size * 2);
+            }
+            xs[size] = x;
+            ys[size] = y;
+            size++;
+            sumX += x;
+            sumY += y;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        double averageX() {
+            return sumX / size;
+        }
+
+        double averageY() {
+            return sumY / size;
+        }
+
+        Bucket clear() {
+            size = 0;
+            sumX = 0;
+            sumY = 0;
+            return this;
+        }
+
+        Point largestTriangle(Point a, double cx, double cy) {
+            int best = 0;
+            double bestArea = -1;
+            for (int i = 0; i < size; i++) {
+                // Aire doublée du triangle (a, point, c) : le facteur 1/2 ne change pas le maximum
+                double area = Math.abs((a.x() - cx) * (ys[i] - a.y()) - (a.x() - xs[i]) * (cy - a.y()));
+                if (area > bestArea) {
+                    bestArea = area;
+                    best = i;
+                }
+            }
+            return new Point(xs[best], ys[best]);
+        }
+    }
+}
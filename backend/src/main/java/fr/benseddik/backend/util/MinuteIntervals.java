@@ -0,0 +1,166 @@
+package fr.benseddik.backend.util;
+
+import java.util.Arrays;
+
+/**
+ * Ensemble immuable d'intervalles [début, fin[ d'une journée, en minutes depuis minuit.
+ *
+ * Arbre d'intervalles aplati : les intervalles sont triés par début et chaque position
+ * conserve la fin maximale des intervalles qui la précèdent. Le test de chevauchement
+ * est une recherche dichotomique, même si des intervalles existants se chevauchent
+ * (rendez-vous historiques antérieurs au contrôle des conflits).
+ *
+ * ⚡ Les modifications retournent une nouvelle instance (copie de quelques dizaines
+ * d'entiers au plus par journée de vétérinaire) : les lecteurs n'ont jamais besoin de verrou.
+ */
+public final class MinuteIntervals {
+
+    public static final MinuteIntervals EMPTY = new MinuteIntervals(new int[0], new int[0]);
+
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] maxEnds;
+
+    private MinuteIntervals(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = new int[starts.length];
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < starts.length; i++) {
+            max = Math.max(max, ends[i]);
+            maxEnds[i] = max;
+        }
+    }
+
+    /**
+     * Construit un ensemble à partir de paires [début, fin[ quelconques.
+     */
+    public static MinuteIntervals of(int[] pairs) {
+        int count = pairs.length / 2;
+        long[] packed = new long[count];
+        for (int i = 0; i < count; i++) {
+            packed[i] = ((long) pairs[2 * i] << 32) | (pairs[2 * i + 1] & 0xFFFFFFFFL);
+        }
+        Arrays.sort(packed);
+
+        int[] starts = new int[count];
+        int[] ends = new int[count];
+        for (int i = 0; i < count; i++) {
+            starts[i] = (int) (packed[i] >> 32);
+            ends[i] = (int) packed[i];
+        }
+        return new MinuteIntervals(starts, ends);
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    /**
+     * Vrai si [start, end[ chevauche au moins un intervalle.
+     */
+    public boolean overlaps(int start, int end) {
+        int last = lastStartBefore(end);
+        return last >= 0 && maxEnds[last] > start;
+    }
+
+    /**
+     * Nouvel ensemble contenant en plus [start, end[.
+     */
+    public MinuteIntervals with(int start, int end) {
+        int position = lastStartBefore(start + 1) + 1;
+        int[] newStarts = new int[starts.length + 1];
+        int[] newEnds = new int[ends.length + 1];
+        System.arraycopy(starts, 0, newStarts, 0, position);
+        System.arraycopy(ends, 0, newEnds, 0, position);
+        newStarts[position] = start;
+        newEnds[position] = end;
+        System.arraycopy(starts, position, newStarts, position + 1, starts.length - position);
+        System.arraycopy(ends, position, newEnds, position + 1, ends.length - position);
+        return new MinuteIntervals(newStarts, newEnds);
+    }
+
+    /**
+     * Nouvel ensemble privé d'une occurrence de [start, end[ (inchangé si absent).
+     */
+    public MinuteIntervals without(int start, int end) {
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] == start && ends[i] == end) {
+                int[] newStarts = new int[starts.length - 1];
+                int[] newEnds = new int[ends.length - 1];
+                System.arraycopy(starts, 0, newStarts, 0, i);
+                System.arraycopy(ends, 0, newEnds, 0, i);
+                System.arraycopy(starts, i + 1, newStarts, i, starts.length - i - 1);
+                System.arraycopy(ends, i + 1, newEnds, i, ends.length - i - 1);
+                return new MinuteIntervals(newStarts, newEnds);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Union des deux ensembles.
+     */
+    public MinuteIntervals union(MinuteIntervals other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        int[] pairs = new int[(size() + other.size()) * 2];
+        int p = 0;
+        for (MinuteIntervals source : new MinuteIntervals[]{this, other}) {
+            for (int i = 0; i < source.starts.length; i++) {
+                pairs[p++] = source.starts[i];
+                pairs[p++] = source.ends[i];
+            }
+        }
+        return of(pairs);
+    }
+
+    /**
+     * Parcourt les plages libres de [from, to[ (en dehors de tout intervalle), dans l'ordre.
+     */
+    public void forEachGap(int from, int to, GapConsumer consumer) {
+        int cursor = from;
+        for (int i = 0; i < starts.length && cursor < to; i++) {
+            if (ends[i] <= cursor) {
+                continue;
+            }
+            if (starts[i] > cursor) {
+                consumer.accept(cursor, Math.min(starts[i], to));
+            }
+            cursor = Math.max(cursor, ends[i]);
+        }
+        if (cursor < to) {
+            consumer.accept(cursor, to);
+        }
+    }
+
+    /**
+     * Indice du dernier intervalle dont le début est strictement inférieur à {@code bound}, ou -1.
+     */
+    private int lastStartBefore(int bound) {
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < bound) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    @FunctionalInterface
+    public interface GapConsumer {
+        void accept(int start, int end);
+    }
+}
@@ -0,0 +1,249 @@
+package fr.benseddik.backend.util;
+
+import java.text.Normalizer;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Horaires d'ouverture d'une clinique sous forme compacte.
+ *
+ * Chaque jour de la semaine est un tableau trié de paires [début, fin[ exprimées
+ * en minutes depuis minuit (0 à 1440). Formats reconnus (saisie libre française) :
+ * <ul>
+ *   <li>"Lun-Ven: 9h-19h, Sam: 9h-17h"</li>
+ *   <li>"Lun-Ven: 8h30-18h30" ou "Lun-Ven: 08:30-18:30"</li>
+ *   <li>"Lun-Ven: 9h-12h / 14h-19h" (plusieurs plages, séparées par "/", "," ou "et")</li>
+ *   <li>"Lun-Dim: 24h/24 (urgences)" ou simplement "24h/24"</li>
+ * </ul>
+ * Une plage qui dépasse minuit ("20h-2h") déborde sur le jour suivant.
+ */
+public final class OpeningHours {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final Map<String, DayOfWeek> DAYS = Map.ofEntries(
+            Map.entry("lun", DayOfWeek.MONDAY),
+            Map.entry("mar", DayOfWeek.TUESDAY),
+            Map.entry("mer", DayOfWeek.WEDNESDAY),
+            Map.entry("jeu", DayOfWeek.THURSDAY),
+            Map.entry("ven", DayOfWeek.FRIDAY),
+            Map.entry("sam", DayOfWeek.SATURDAY),
+            Map.entry("dim", DayOfWeek.SUNDAY)
+    );
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern COMMENT = Pattern.compile("\\(.*?\\)");
+    private static final Pattern SEGMENT_SEPARATOR = Pattern.compile("[,;]\\s*(?=[a-z]{3})");
+    private static final Pattern ALWAYS_OPEN = Pattern.compile("24\\s*h?\\s*/\\s*24|24\\s*h\\s*sur\\s*24|7\\s*j\\s*/\\s*7");
+    private static final Pattern RANGE_SEPARATOR = Pattern.compile("\\s*(?:/|,|\\bet\\b|&)\\s*");
+    private static final Pattern TIME_RANGE = Pattern.compile(
+            "(\\d{1,2})\\s*(?:h|:)\\s*(\\d{2})?\\s*-\\s*(\\d{1,2})\\s*(?:h|:)?\\s*(\\d{2})?");
+
+    private static final OpeningHours ALWAYS = fromDaily(new int[]{0, MINUTES_PER_DAY});
+
+    private final int[][] ranges;
+
+    private OpeningHours(int[][] ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Analyse une saisie libre. Retourne vide si le texte n'est pas reconnu.
+     */
+    public static Optional<OpeningHours> parse(String text) {
+        if (text == null || text.isBlank()) {
+            return Optional.empty();
+        }
+        String normalized = COMMENT.matcher(normalize(text)).replaceAll(" ").trim();
+
+        List<List<int[]>> perDay = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            perDay.add(new ArrayList<>());
+        }
+
+        if (day(normalized.split("[^a-z]", 2)[0]) == null) {
+            // Pas de jours précisés : les plages s'appliquent à toute la semaine
+            List<int[]> dayRanges = parseRanges(normalized);
+            if (dayRanges == null) {
+                return Optional.empty();
+            }
+            for (DayOfWeek day : DayOfWeek.values()) {
+                addRanges(perDay, day, dayRanges);
+            }
+            return Optional.of(build(perDay));
+        }
+
+        for (String segment : SEGMENT_SEPARATOR.split(normalized)) {
+            int colon = segment.indexOf(':');
+            if (colon < 0) {
+                return Optional.empty();
+            }
+            List<DayOfWeek> days = parseDays(segment.substring(0, colon));
+            List<int[]> dayRanges = parseRanges(segment.substring(colon + 1));
+            if (days == null || dayRanges == null) {
+                return Optional.empty();
+            }
+            for (DayOfWeek day : days) {
+                addRanges(perDay, day, dayRanges);
+            }
+        }
+        return Optional.of(build(perDay));
+    }
+
+    /**
+     * Ouvert 24h/24, 7j/7.
+     */
+    public static OpeningHours alwaysOpen() {
+        return ALWAYS;
+    }
+
+    /**
+     * Plages d'ouverture d'un jour : paires [début, fin[ triées, en minutes.
+     * Le tableau retourné est partagé et ne doit pas être modifié.
+     */
+    public int[] rangesFor(DayOfWeek day) {
+        return ranges[day.getValue() - 1];
+    }
+
+    /**
+     * Vérifie que [start, end[ (minutes) est entièrement contenu dans une plage d'ouverture.
+     */
+    public boolean covers(DayOfWeek day, int start, int end) {
+        int[] dayRanges = rangesFor(day);
+        for (int i = 0; i < dayRanges.length; i += 2) {
+            if (dayRanges[i] <= start && end <= dayRanges[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // ANALYSE
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static List<DayOfWeek> parseDays(String text) {
+        List<DayOfWeek> days = new ArrayList<>();
+        for (String part : text.split("[,/]|\\bet\\b")) {
+            String[] bounds = part.trim().split("\\s*(?:-|a|au)\\s+|\\s*-\\s*");
+            DayOfWeek first = day(bounds[0]);
+            DayOfWeek last = bounds.length > 1 ? day(bounds[1]) : first;
+            if (first == null || last == null) {
+                return null;
+            }
+            for (DayOfWeek d = first; ; d = d.plus(1)) {
+                days.add(d);
+                if (d == last) {
+                    break;
+                }
+            }
+        }
+        return days;
+    }
+
+    private static DayOfWeek day(String token) {
+        String trimmed = token.trim();
+        return trimmed.length() < 3 ? null : DAYS.get(trimmed.substring(0, 3));
+    }
+
+    private static List<int[]> parseRanges(String text) {
+        String trimmed = text.trim();
+        if (ALWAYS_OPEN.matcher(trimmed).find()) {
+            return List.of(new int[]{0, MINUTES_PER_DAY});
+        }
+        if (trimmed.startsWith("ferme")) {
+            return List.of();
+        }
+
+        List<int[]> result = new ArrayList<>();
+        for (String part : RANGE_SEPARATOR.split(trimmed)) {
+            Matcher matcher = TIME_RANGE.matcher(part.trim());
+            if (!matcher.matches()) {
+                return null;
+            }
+            int start = minutes(matcher.group(1), matcher.group(2));
+            int end = minutes(matcher.group(3), matcher.group(4));
+            if (start < 0 || end < 0) {
+                return null;
+            }
+            result.add(new int[]{start, end});
+        }
+        return result;
+    }
+
+    private static int minutes(String hours, String minutes) {
+        int h = Integer.parseInt(hours);
+        int m = minutes == null ? 0 : Integer.parseInt(minutes);
+        if (h > 24 || m > 59 || (h == 24 && m > 0)) {
+            return -1;
+        }
+        return h * 60 + m;
+    }
+
+    private static void addRanges(List<List<int[]>> perDay, DayOfWeek day, List<int[]> dayRanges) {
+        for (int[] range : dayRanges) {
+            int start = range[0];
+            int end = range[1];
+            if (end > start) {
+                perDay.get(day.getValue() - 1).add(new int[]{start, end});
+            } else if (end < start) {
+                // Débordement après minuit
+                perDay.get(day.getValue() - 1).add(new int[]{start, MINUTES_PER_DAY});
+                if (end > 0) {
+                    perDay.get(day.plus(1).getValue() - 1).add(new int[]{0, end});
+                }
+            }
+        }
+    }
+
+    /**
+     * Trie et fusionne les plages de chaque jour.
+     */
+    private static OpeningHours build(List<List<int[]>> perDay) {
+        int[][] ranges = new int[7][];
+        for (int i = 0; i < 7; i++) {
+            List<int[]> day = perDay.get(i);
+            day.sort((a, b) -> Integer.compare(a[0], b[0]));
+
+            int[] merged = new int[day.size() * 2];
+            int size = 0;
+            for (int[] range : day) {
+                if (size > 0 && range[0] <= merged[size - 1]) {
+                    merged[size - 1] = Math.max(merged[size - 1], range[1]);
+                } else {
+                    merged[size++] = range[0];
+                    merged[size++] = range[1];
+                }
+            }
+            ranges[i] = Arrays.copyOf(merged, size);
+        }
+        return new OpeningHours(ranges);
+    }
+
+    private static OpeningHours fromDaily(int[] dayRanges) {
+        int[][] ranges = new int[7][];
+        Arrays.fill(ranges, dayRanges);
+        return new OpeningHours(ranges);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            sb.append(day.name().substring(0, 3).toLowerCase(Locale.ROOT)).append(Arrays.toString(rangesFor(day))).append(' ');
+        }
+        return sb.toString().trim();
+    }
+}
@@ -0,0 +1,172 @@
+package fr.benseddik.backend.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Index de préfixes immuable (tableau trié de clés normalisées).
+ *
+ * Chaque champ indexé produit une clé par début de mot :
+ * "Clinique Vétérinaire du Centre" → "clinique veterinaire du centre",
+ * "veterinaire du centre", "du centre", "centre".
+ * Une recherche de préfixe est donc une recherche dichotomique suivie
+ * d'un parcours séquentiel des clés qui partagent ce préfixe.
+ *
+ * ⚡ L'instance est immuable : elle est reconstruite en entier puis publiée,
+ * et peut être partagée entre threads sans verrou.
+ *
+ * @param <T> type des valeurs retournées
+ */
+public final class PrefixIndex<T> {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+
+    /**
+     * Nombre maximal de clés parcourues par requête (protège contre les préfixes d'un caractère).
+     */
+    private static final int MAX_SCANNED_KEYS = 10_000;
+
+    private final String[] keys;
+    private final int[] valueIds;
+    private final int[] scores;
+    private final List<T> values;
+
+    private PrefixIndex(String[] keys, int[] valueIds, int[] scores, List<T> values) {
+        this.keys = keys;
+        this.valueIds = valueIds;
+        this.scores = scores;
+        this.values = values;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static <T> PrefixIndex<T> empty() {
+        return new PrefixIndex<>(new String[0], new int[0], new int[0], List.of());
+    }
+
+    /**
+     * Normalise un texte : minuscules, sans accents, ponctuation remplacée par des espaces.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String withoutAccents = DIACRITICS.matcher(decomposed).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Retourne les {@code limit} meilleures valeurs dont un champ commence par le préfixe.
+     *
+     * Classement : champ prioritaire d'abord (ordre de déclaration), début de champ
+     * avant début de mot, puis clé la plus courte (correspondance la plus précise).
+     */
+    public List<T> search(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0 || keys.length == 0) {
+            return List.of();
+        }
+
+        Map<Integer, Integer> bestScoreByValue = new HashMap<>();
+        int scanned = 0;
+        for (int i = lowerBound(normalized); i < keys.length && scanned < MAX_SCANNED_KEYS; i++, scanned++) {
+            if (!keys[i].startsWith(normalized)) {
+                break;
+            }
+            int score = scores[i] * 1_000 + Math.min(keys[i].length(), 999);
+            bestScoreByValue.merge(valueIds[i], score, Math::min);
+        }
+
+        return bestScoreByValue.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Integer>comparingByValue()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> values.get(entry.getKey()))
+                .toList();
+    }
+
+    /**
+     * Nombre de clés indexées.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Constructeur de l'index (non thread-safe, utilisé une seule fois par reconstruction).
+     */
+    public static final class Builder<T> {
+
+        private final List<T> values = new ArrayList<>();
+        private final List<Key> entries = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Ajoute une valeur indexée par plusieurs champs, du plus au moins prioritaire.
+         * Les champs null ou vides sont ignorés.
+         */
+        public Builder<T> add(T value, String... fields) {
+            int valueId = values.size();
+            values.add(value);
+
+            for (int fieldRank = 0; fieldRank < fields.length; fieldRank++) {
+                String normalized = normalize(fields[fieldRank]);
+                if (normalized.isEmpty()) {
+                    continue;
+                }
+                int fieldScore = fieldRank * 2;
+                entries.add(new Key(normalized, valueId, fieldScore));
+
+                for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+                    entries.add(new Key(normalized.substring(i + 1), valueId, fieldScore + 1));
+                }
+            }
+            return this;
+        }
+
+        public PrefixIndex<T> build() {
+            Key[] sorted = entries.toArray(Key[]::new);
+            Arrays.sort(sorted, Comparator.comparing(Key::text));
+
+            String[] keys = new String[sorted.length];
+            int[] valueIds = new int[sorted.length];
+            int[] scores = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                keys[i] = sorted[i].text();
+                valueIds[i] = sorted[i].valueId();
+                scores[i] = sorted[i].score();
+            }
+            return new PrefixIndex<>(keys, valueIds, scores, List.copyOf(values));
+        }
+
+        private record Key(String text, int valueId, int score) {
+        }
+    }
+}
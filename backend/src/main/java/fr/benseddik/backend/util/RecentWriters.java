@@ -0,0 +1,47 @@
+package fr.benseddik.backend.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Utilisateurs ayant écrit récemment (fenêtre glissante "read-your-writes").
+ *
+ * Tant qu'un utilisateur est dans la fenêtre, ses lectures doivent être servies par la base
+ * principale : une réplique en retard ne contient peut-être pas encore ses dernières écritures.
+ *
+ * ⚡ PERFORMANCE : cache Caffeine borné, expiration à l'écriture, aucune tâche de nettoyage.
+ */
+public final class RecentWriters {
+
+    private final Cache<UUID, Boolean> writers;
+
+    public RecentWriters(Duration window, long maximumSize) {
+        this(window, maximumSize, Ticker.systemTicker());
+    }
+
+    RecentWriters(Duration window, long maximumSize, Ticker ticker) {
+        this.writers = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Enregistre une écriture validée de l'utilisateur (repousse la fin de sa fenêtre).
+     */
+    public void markWrite(UUID userId) {
+        writers.put(userId, Boolean.TRUE);
+    }
+
+    /**
+     * Indique si l'utilisateur a écrit depuis moins d'une fenêtre.
+     */
+    public boolean recentlyWrote(UUID userId) {
+        return writers.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,26 @@
+package fr.benseddik.backend.config;
+
+import fr.benseddik.backend.config.AdmissionProperties.Share;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdmissionPropertiesTest {
+
+    @Test
+    void defaultSharesFitTheTomcatThreads() {
+        assertDoesNotThrow(() -> new AdmissionProperties(null, null, null, null, null));
+    }
+
+    @Test
+    void queuedRequestsCountAgainstTheThreadBudget() {
+        // 150 traitées + 200 en file : 350 threads pour la seule classe INTERACTIVE
+        Share interactive = new Share(150, 200, Duration.ofSeconds(2));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdmissionProperties(null, 200, null, interactive, null));
+    }
+}
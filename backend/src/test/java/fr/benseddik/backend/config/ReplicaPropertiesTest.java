@@ -0,0 +1,25 @@
+package fr.benseddik.backend.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReplicaPropertiesTest {
+
+    @Test
+    void defaultWindowCoversTheWorstObservableLag() {
+        ReplicaProperties properties = new ReplicaProperties(null, null, null, null, null, null,
+                Duration.ofSeconds(10), Duration.ofSeconds(5));
+
+        assertEquals(Duration.ofSeconds(15), properties.readYourWritesWindow());
+    }
+
+    @Test
+    void windowShorterThanMaxLagPlusCheckIntervalIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ReplicaProperties(null, null, null, null, null,
+                Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(5)));
+    }
+}
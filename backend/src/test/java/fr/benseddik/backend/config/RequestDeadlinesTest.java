@@ -0,0 +1,45 @@
+package fr.benseddik.backend.config;
+
+import fr.benseddik.backend.exception.DeadlineExceededException;
+import fr.benseddik.backend.util.Deadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestDeadlinesTest {
+
+    @AfterEach
+    void clear() {
+        RequestDeadlines.clear();
+    }
+
+    @Test
+    void withinUsesLocalTimeoutOutsideRequests() {
+        Deadline deadline = RequestDeadlines.within(Duration.ofSeconds(2));
+
+        assertThat(deadline.remaining()).isBetween(Duration.ofSeconds(1), Duration.ofSeconds(2));
+        RequestDeadlines.checkNotExpired();
+    }
+
+    @Test
+    void withinIsCappedByRequestDeadline() {
+        RequestDeadlines.set(Deadline.in(Duration.ofMillis(500)));
+
+        assertThat(RequestDeadlines.within(Duration.ofSeconds(10)).remaining())
+                .isLessThanOrEqualTo(Duration.ofMillis(500));
+        assertThat(RequestDeadlines.within(Duration.ofMillis(100)).remaining())
+                .isLessThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void expiredRequestDeadlineAbortsWork() {
+        RequestDeadlines.set(Deadline.in(Duration.ZERO));
+
+        assertThatThrownBy(RequestDeadlines::checkNotExpired)
+                .isInstanceOf(DeadlineExceededException.class);
+    }
+}
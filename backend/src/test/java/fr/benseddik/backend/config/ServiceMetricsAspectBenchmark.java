@@ -0,0 +1,147 @@
+package fr.benseddik.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Collection;
+
+/**
+ * Coût par appel de {@link ServiceMetricsAspect} : timer seul (traceur inactif), trace écartée par
+ * l'échantillonnage (pas de span de service), trace échantillonnée (timer et span, export par lots
+ * vers un exportateur vide).
+ * Références : le même proxy sans aspect, puis avec un conseil @Around vide (coût de Spring AOP seul).
+ * Budget : bien moins d'une microseconde par mesure.
+ * Hors de mvn test : ./mvnw test -Dgroups=benchmark -DexcludedGroups= -Dtest=ServiceMetricsAspectBenchmark
+ */
+@Tag("benchmark")
+class ServiceMetricsAspectBenchmark {
+
+    private static final int WARMUP_COUNT = 500_000;
+    private static final int CALL_COUNT = 2_000_000;
+
+    static class TrivialEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.length() == encodedPassword.length();
+        }
+    }
+
+    /**
+     * Même point de coupe que l'aspect, sans autre travail que proceed().
+     */
+    @Aspect
+    static class EmptyAdvice {
+        @Around("execution(* org.springframework.security.crypto.password.PasswordEncoder.*(..))")
+        public Object proceed(ProceedingJoinPoint joinPoint) throws Throwable {
+            return joinPoint.proceed();
+        }
+    }
+
+    @Test
+    void overheadPerCall() {
+        double baseline = nanosPerCall(proxy(null));
+        AspectJProxyFactory empty = new AspectJProxyFactory(new TrivialEncoder());
+        empty.addAspect(new EmptyAdvice());
+        report("empty @Around advice", nanosPerCall(empty.getProxy()), baseline);
+        report("timer only (Tracer.NOOP)", nanosPerCall(proxy(Tracer.NOOP)), baseline);
+
+        try (SdkTracerProvider provider = tracerProvider(Sampler.alwaysOff())) {
+            report("trace sampled out", inTrace(tracer(provider)), baseline);
+        }
+        try (SdkTracerProvider provider = tracerProvider(Sampler.alwaysOn())) {
+            report("trace sampled (timer + span)", inTrace(tracer(provider)), baseline);
+        }
+    }
+
+    /**
+     * Appels mesurés sous un span de requête, comme dans un contrôleur.
+     */
+    private static double inTrace(Tracer tracer) {
+        PasswordEncoder encoder = proxy(tracer);
+        Span request = tracer.nextSpan().name("request").start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(request)) {
+            return nanosPerCall(encoder);
+        } finally {
+            request.end();
+        }
+    }
+
+    private static PasswordEncoder proxy(Tracer tracer) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new TrivialEncoder());
+        if (tracer != null) {
+            factory.addAspect(new ServiceMetricsAspect(new SimpleMeterRegistry(), tracer));
+        }
+        return factory.getProxy();
+    }
+
+    private static double nanosPerCall(PasswordEncoder encoder) {
+        int matches = 0;
+        for (int i = 0; i < WARMUP_COUNT; i++) {
+            matches += encoder.matches("secret", "secret") ? 1 : 0;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < CALL_COUNT; i++) {
+            matches += encoder.matches("secret", "secret") ? 1 : 0;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (matches != WARMUP_COUNT + CALL_COUNT) {
+            throw new IllegalStateException("Résultat inattendu");
+        }
+        return (double) elapsed / CALL_COUNT;
+    }
+
+    private static void report(String path, double nanos, double baseline) {
+        System.out.printf("%-28s %7.1f ns/call, aspect overhead %7.1f ns (proxy without aspect: %.1f ns)%n",
+                path, nanos, nanos - baseline, baseline);
+    }
+
+    private static SdkTracerProvider tracerProvider(Sampler sampler) {
+        return SdkTracerProvider.builder()
+                .setSampler(sampler)
+                .addSpanProcessor(BatchSpanProcessor.builder(new DiscardingExporter()).build())
+                .build();
+    }
+
+    private static Tracer tracer(SdkTracerProvider provider) {
+        return new OtelTracer(provider.get("benchmark"), new OtelCurrentTraceContext(), event -> {
+        });
+    }
+
+    private static class DiscardingExporter implements SpanExporter {
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package fr.benseddik.backend.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServiceMetricsAspectTest {
+
+    static class FakeEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            throw new IllegalStateException("boom");
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private PasswordEncoder proxy() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new FakeEncoder());
+        factory.addAspect(new ServiceMetricsAspect(registry, Tracer.NOOP));
+        return factory.getProxy();
+    }
+
+    @Test
+    void recordsSuccessWithCommonTags() {
+        PasswordEncoder encoder = proxy();
+
+        assertThat(encoder.matches("secret", "secret")).isTrue();
+        encoder.matches("secret", "other");
+
+        Timer timer = registry.get("petcare.service")
+                .tag("class", "FakeEncoder")
+                .tag("method", "matches")
+                .tag(MetricTags.ENDPOINT, MetricTags.NONE)
+                .tag(MetricTags.TIER, MetricTags.ANONYMOUS)
+                .tag(MetricTags.OUTCOME, MetricTags.SUCCESS)
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void recordsErrorWithExceptionName() {
+        PasswordEncoder encoder = proxy();
+
+        assertThatThrownBy(() -> encoder.encode("secret")).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.get("petcare.service")
+                .tag("method", "encode")
+                .tag(MetricTags.OUTCOME, MetricTags.ERROR)
+                .tag("exception", "IllegalStateException")
+                .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,48 @@
+package fr.benseddik.backend.config;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.Test;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlBudgetListenerTest {
+
+    @Test
+    void listsPositionalParametersInNumericOrder() throws Exception {
+        List<ParameterSetOperation> parameters = new ArrayList<>();
+        for (int index = 11; index >= 1; index--) {
+            parameters.add(index == 10
+                    ? operation(PreparedStatement.class, "setString", int.class, String.class, index, "x")
+                    : operation(PreparedStatement.class, "setLong", int.class, long.class, index, 1L));
+        }
+
+        assertThat(SqlBudgetListener.shape(query(parameters)))
+                .isEqualTo("(Long, Long, Long, Long, Long, Long, Long, Long, Long, String, Long)");
+    }
+
+    @Test
+    void listsNamedParametersAfterPositionalOnes() throws Exception {
+        List<ParameterSetOperation> parameters = List.of(
+                operation(CallableStatement.class, "setString", String.class, String.class, "email", "a@b.c"),
+                operation(PreparedStatement.class, "setLong", int.class, long.class, 1, 1L));
+
+        assertThat(SqlBudgetListener.shape(query(parameters))).isEqualTo("(Long, String)");
+    }
+
+    private static QueryInfo query(List<ParameterSetOperation> parameters) {
+        QueryInfo query = new QueryInfo("select 1");
+        query.getParametersList().add(parameters);
+        return query;
+    }
+
+    private static ParameterSetOperation operation(Class<?> type, String method, Class<?> keyType, Class<?> valueType,
+                                                   Object key, Object value) throws NoSuchMethodException {
+        return new ParameterSetOperation(type.getMethod(method, keyType, valueType), new Object[]{key, value});
+    }
+}
@@ -0,0 +1,54 @@
+package fr.benseddik.backend.config;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlUsageTest {
+
+    @AfterEach
+    void clear() {
+        SqlUsage.clear();
+    }
+
+    @Test
+    void countsStatementsAndReportsTheMostRepeated() {
+        SqlUsage usage = SqlUsage.start();
+        usage.record("select * from users where id=?", 2_000_000);
+        for (int i = 0; i < 3; i++) {
+            usage.record("select * from weight_logs where pet_id=?", 1_000_000);
+        }
+
+        assertThat(SqlUsage.current()).isSameAs(usage);
+        assertThat(usage.statements()).isEqualTo(4);
+        assertThat(usage.jdbcTime()).isEqualTo(Duration.ofMillis(5));
+        assertThat(usage.mostRepeated()).contains(
+                new SqlUsage.Repeated("select * from weight_logs where pet_id=?", 3));
+    }
+
+    @Test
+    void isPropagatedToContextAwareExecutors() throws Exception {
+        SqlUsage usage = SqlUsage.start();
+        ExecutorService executor = ContextExecutorService.wrap(Executors.newSingleThreadExecutor(),
+                ContextSnapshotFactory.builder().build());
+        try {
+            executor.submit(() -> SqlUsage.current().record("select 1", 1_000)).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(usage.statements()).isEqualTo(1);
+    }
+
+    @Test
+    void isAbsentOutsideARequest() {
+        assertThat(SqlUsage.current()).isNull();
+    }
+}
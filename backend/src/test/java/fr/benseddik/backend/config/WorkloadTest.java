@@ -0,0 +1,35 @@
+package fr.benseddik.backend.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WorkloadTest {
+
+    @Test
+    void defaultsToInteractive() {
+        assertThat(Workload.current()).isEqualTo(Workload.INTERACTIVE);
+    }
+
+    @Test
+    void nestedDeclarationsAreRestored() throws Exception {
+        String observed = Workload.BACKGROUND.call(() -> {
+            StringBuilder trace = new StringBuilder(Workload.current().poolName());
+            Workload.REPORTING.run(() -> trace.append(',').append(Workload.current().poolName()));
+            return trace.append(',').append(Workload.current().poolName()).toString();
+        });
+
+        assertThat(observed).isEqualTo("background,reporting,background");
+        assertThat(Workload.current()).isEqualTo(Workload.INTERACTIVE);
+    }
+
+    @Test
+    void restoredWhenTaskFails() {
+        assertThatThrownBy(() -> Workload.REPORTING.run(() -> {
+            throw new IllegalStateException("échec");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(Workload.current()).isEqualTo(Workload.INTERACTIVE);
+    }
+}
@@ -0,0 +1,64 @@
+package fr.benseddik.backend.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplingFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final LogSamplingFilter filter = new LogSamplingFilter();
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.DEBUG);
+        filter.setContext(context);
+        filter.addSample("fr.benseddik.backend.service=0");
+        filter.addSample("fr.benseddik.backend.service.impl.AuthServiceImpl=1.0");
+        filter.start();
+    }
+
+    @Test
+    void dropsSampledOutInfoAndDebug() {
+        Logger logger = context.getLogger("fr.benseddik.backend.service.impl.PetServiceImpl");
+
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    void alwaysKeepsWarningsAndErrors() {
+        Logger logger = context.getLogger("fr.benseddik.backend.service.impl.PetServiceImpl");
+
+        assertThat(decide(logger, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void longestPrefixWinsAndOtherLoggersAreKept() {
+        assertThat(decide(context.getLogger("fr.benseddik.backend.service.impl.AuthServiceImpl"), Level.INFO))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(context.getLogger("fr.benseddik.backend.serviceregistry.Other"), Level.INFO))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(context.getLogger("fr.benseddik.backend.controller.PetController"), Level.INFO))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void leavesEnabledChecksAndDisabledLevelsAlone() {
+        Logger logger = context.getLogger("fr.benseddik.backend.service.impl.PetServiceImpl");
+        logger.setLevel(Level.INFO);
+
+        assertThat(filter.decide(null, logger, Level.INFO, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message {}", new Object[]{1}, null);
+    }
+}
@@ -0,0 +1,34 @@
+package fr.benseddik.backend.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MinimumLevelFilterTest {
+
+    @Test
+    void blocksBinderTracingEvenWhenTheLevelEnablesIt() {
+        LoggerContext context = new LoggerContext();
+        MinimumLevelFilter filter = new MinimumLevelFilter();
+        filter.setContext(context);
+        filter.addLogger("org.hibernate.orm.jdbc.bind");
+        filter.setLevel("INFO");
+        filter.start();
+
+        Logger binder = context.getLogger("org.hibernate.orm.jdbc.bind");
+        binder.setLevel(Level.TRACE);
+
+        assertThat(filter.decide(null, binder, Level.TRACE, "binding parameter", null, null))
+                .isEqualTo(FilterReply.DENY);
+        assertThat(filter.decide(null, binder, Level.TRACE, null, null, null))
+                .isEqualTo(FilterReply.DENY);
+        assertThat(filter.decide(null, binder, Level.WARN, "warning", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, context.getLogger("org.hibernate.orm.jdbc.batch"), Level.TRACE, "batch", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+}
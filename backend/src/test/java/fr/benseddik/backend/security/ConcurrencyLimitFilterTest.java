@@ -0,0 +1,83 @@
+package fr.benseddik.backend.security;
+
+import fr.benseddik.backend.config.PriorityClass;
+import fr.benseddik.backend.config.SecurityProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(new SecurityProperties(null, null,
+            new SecurityProperties.ConcurrencyLimit(true, 1, 1, 10, null, null, 1), null, null), registry);
+
+    @Test
+    void bulkRequestsDoNotTakeInteractiveCapacity() {
+        MockHttpServletResponse interactive = new MockHttpServletResponse();
+
+        run(PriorityClass.BULK, (request, response) -> run(PriorityClass.INTERACTIVE, interactive, (r, s) -> { }));
+
+        assertEquals(200, interactive.getStatus());
+    }
+
+    @Test
+    void bulkRequestsAreNeverShed() {
+        MockHttpServletResponse bulk = new MockHttpServletResponse();
+
+        run(PriorityClass.INTERACTIVE, (request, response) -> run(PriorityClass.BULK, bulk, (r, s) -> { }));
+
+        assertEquals(200, bulk.getStatus());
+    }
+
+    @Test
+    void interactiveRequestsBeyondTheLimitAreShed() {
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        run(PriorityClass.INTERACTIVE, (request, response) -> run(PriorityClass.INTERACTIVE, second, (r, s) -> { }));
+
+        assertEquals(503, second.getStatus());
+    }
+
+    @Test
+    void slowBulkRequestsDoNotLowerTheLimit() {
+        run(PriorityClass.INTERACTIVE, (request, response) -> { });
+        double before = limit();
+
+        for (int i = 0; i < 5; i++) {
+            run(PriorityClass.BULK, (request, response) -> sleep(20));
+        }
+
+        assertEquals(before, limit());
+    }
+
+    private void run(PriorityClass priority, FilterChain chain) {
+        run(priority, new MockHttpServletResponse(), chain);
+    }
+
+    private void run(PriorityClass priority, MockHttpServletResponse response, FilterChain chain) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/pets");
+        request.setAttribute(PriorityAdmissionFilter.PRIORITY_ATTRIBUTE, priority);
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double limit() {
+        return registry.get("petcare.concurrency.limit").gauge().value();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package fr.benseddik.backend.security;
+
+import fr.benseddik.backend.config.SecurityProperties.MetricsScrape;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MetricsScrapeAuthenticationProviderTest {
+
+    private final MetricsScrapeAuthenticationProvider provider =
+            new MetricsScrapeAuthenticationProvider(new MetricsScrape("prometheus", "secret-de-scrape"));
+
+    @Test
+    void scraperCredentialsGrantTheMetricsRole() {
+        Authentication authentication = provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("prometheus", "secret-de-scrape"));
+
+        assertEquals("ROLE_METRICS", authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .orElseThrow());
+    }
+
+    @Test
+    void wrongPasswordIsRejected() {
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("prometheus", "autre")));
+    }
+
+    @Test
+    void scrapeIsRejectedWithoutConfiguredPassword() {
+        MetricsScrapeAuthenticationProvider unconfigured = new MetricsScrapeAuthenticationProvider(new MetricsScrape(null, null));
+
+        assertThrows(BadCredentialsException.class, () -> unconfigured.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("prometheus", "")));
+    }
+}
@@ -0,0 +1,51 @@
+package fr.benseddik.backend.security.jfr;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class JfrSummaryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void summarizesEventsByTypeAndFields() throws Exception {
+        Path file = directory.resolve("petcare.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(UserLookupEvent.class).withoutThreshold();
+            recording.enable(PasswordHashEvent.class).withoutThreshold();
+            recording.start();
+
+            for (int i = 0; i < 3; i++) {
+                UserLookupEvent event = new UserLookupEvent();
+                event.begin();
+                event.record("id", true);
+            }
+            UserLookupEvent missing = new UserLookupEvent();
+            missing.begin();
+            missing.record("email", false);
+
+            ProfiledArgon2PasswordEncoder encoder = new ProfiledArgon2PasswordEncoder(16, 32, 1, 1024, 1);
+            assertThat(encoder.matches("secret", encoder.encode("secret"))).isTrue();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<JfrSummary.Stats> stats = JfrSummary.summarize(file, JfrSummary.DEFAULT_PREFIX);
+
+        assertThat(stats).extracting(JfrSummary.Stats::group, JfrSummary.Stats::count).contains(
+                tuple("petcare.UserLookup lookup=id found=true", 3L),
+                tuple("petcare.UserLookup lookup=email found=false", 1L),
+                tuple("petcare.PasswordHash operation=matches matched=true", 1L));
+        assertThat(stats).filteredOn(s -> s.group().startsWith("petcare.PasswordHash"))
+                .allSatisfy(s -> assertThat(s.meanAllocated()).isGreaterThanOrEqualTo(1024 * 1024));
+    }
+}
@@ -0,0 +1,104 @@
+package fr.benseddik.backend.service.impl;
+
+import fr.benseddik.backend.domain.Appointment;
+import fr.benseddik.backend.domain.Clinic;
+import fr.benseddik.backend.domain.Pet;
+import fr.benseddik.backend.domain.User;
+import fr.benseddik.backend.domain.Vet;
+import fr.benseddik.backend.dto.request.UpdateAppointmentRequest;
+import fr.benseddik.backend.dto.response.AppointmentResponse;
+import fr.benseddik.backend.exception.ConflictException;
+import fr.benseddik.backend.repository.AppointmentRepository;
+import fr.benseddik.backend.repository.ClinicRepository;
+import fr.benseddik.backend.repository.PetRepository;
+import fr.benseddik.backend.repository.UserRepository;
+import fr.benseddik.backend.repository.VetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Déplacement d'un rendez-vous avec Hibernate réel (H2) : la relecture des créneaux ne doit
+ * pas voir le rendez-vous déjà modifié, sinon il entre en conflit avec lui-même.
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class AppointmentServiceImplTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+    @Autowired
+    private PetRepository petRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private VetRepository vetRepository;
+    @Autowired
+    private ClinicRepository clinicRepository;
+
+    private AppointmentServiceImpl service;
+    private User owner;
+    private Appointment appointment;
+    private Vet vet;
+    private final LocalDateTime monday10h = LocalDate.now().plusWeeks(1)
+            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atTime(10, 0);
+
+    @BeforeEach
+    void setUp() {
+        VetAvailabilityServiceImpl availability =
+                new VetAvailabilityServiceImpl(appointmentRepository, vetRepository, clinicRepository);
+        ReflectionTestUtils.setField(availability, "defaultOpeningHours", "Lun-Ven: 9h-19h");
+        ReflectionTestUtils.setField(availability, "slotGranularityMinutes", 15);
+        ReflectionTestUtils.setField(availability, "defaultSlotMinutes", 30);
+        ReflectionTestUtils.setField(availability, "maxRangeDays", 31);
+        service = new AppointmentServiceImpl(appointmentRepository, petRepository, userRepository,
+                vetRepository, clinicRepository, availability);
+
+        owner = entityManager.persist(User.builder().email("owner@petcare.local").build());
+        Pet pet = entityManager.persist(Pet.builder().name("Rex").species("Chien").owner(owner).build());
+        Clinic clinic = entityManager.persist(Clinic.builder().name("Clinique du Centre")
+                .openingHours("Lun-Ven: 9h-19h").build());
+        vet = entityManager.persist(Vet.builder().firstName("Jean").lastName("Martin").clinic(clinic).build());
+        appointment = entityManager.persist(Appointment.builder()
+                .date(monday10h).durationMinutes(60).reason("Vaccin").status("scheduled")
+                .user(owner).pet(pet).vet(vet).clinic(clinic).build());
+        entityManager.persist(Appointment.builder()
+                .date(monday10h.plusHours(2)).durationMinutes(30).reason("Contrôle").status("scheduled")
+                .user(owner).pet(pet).vet(vet).clinic(clinic).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void rescheduleOverlappingItsOwnSlotIsAccepted() {
+        AppointmentResponse moved = service.updateAppointment(appointment.getId(),
+                reschedule(monday10h.plusMinutes(30)), owner.getId());
+
+        assertEquals(monday10h.plusMinutes(30), moved.date());
+    }
+
+    @Test
+    void rescheduleOntoAnotherAppointmentIsRejected() {
+        assertThrows(ConflictException.class, () -> service.updateAppointment(appointment.getId(),
+                reschedule(monday10h.plusHours(2)), owner.getId()));
+    }
+
+    private UpdateAppointmentRequest reschedule(LocalDateTime date) {
+        return new UpdateAppointmentRequest(date, null, null, null, vet.getId(), null, null);
+    }
+}
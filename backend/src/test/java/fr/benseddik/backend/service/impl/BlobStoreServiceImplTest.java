@@ -0,0 +1,105 @@
+package fr.benseddik.backend.service.impl;
+
+import fr.benseddik.backend.config.StorageProperties;
+import fr.benseddik.backend.exception.BadRequestException;
+import fr.benseddik.backend.repository.BlobRepository;
+import fr.benseddik.backend.service.BlobStoreService.StoredBlob;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlobStoreServiceImplTest {
+
+    private static final byte[] CONTENT = "contenu de test".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path root;
+
+    private final BlobRepository blobRepository = mock(BlobRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    void rejectedContentNeverReachesTheStore() throws IOException {
+        BlobStoreServiceImpl service = service();
+
+        assertThrows(BadRequestException.class, () -> service.store(new ByteArrayInputStream(CONTENT), "text/plain",
+                1024, file -> {
+                    throw new BadRequestException("Refusé");
+                }));
+
+        assertEquals(0, filesUnder(root));
+        verify(blobRepository, never()).retain(anyString(), anyLong(), anyString());
+    }
+
+    @Test
+    void contentCreatedByARolledBackUploadIsLeftToThePurge() throws IOException {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        BlobStoreServiceImpl service = service();
+
+        StoredBlob blob = inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK,
+                () -> service.store(new ByteArrayInputStream(CONTENT), "text/plain", 1024));
+
+        assertTrue(Files.exists(service.path(blob.sha256())));
+        verify(blobRepository).insertOrphan(blob.sha256(), CONTENT.length, "text/plain");
+    }
+
+    @Test
+    void committedUploadIsNotOrphaned() throws IOException {
+        BlobStoreServiceImpl service = service();
+
+        StoredBlob blob = inTransaction(TransactionSynchronization.STATUS_COMMITTED,
+                () -> service.store(new ByteArrayInputStream(CONTENT), "text/plain", 1024));
+
+        assertTrue(Files.exists(service.path(blob.sha256())));
+        verify(blobRepository, never()).insertOrphan(anyString(), anyLong(), anyString());
+    }
+
+    private BlobStoreServiceImpl service() {
+        return new BlobStoreServiceImpl(blobRepository, new StorageProperties(root, null, null), transactionManager);
+    }
+
+    private static StoredBlob inTransaction(int status, Upload upload) throws IOException {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            StoredBlob blob = upload.run();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(status);
+            }
+            return blob;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static long filesUnder(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Upload {
+        StoredBlob run() throws IOException;
+    }
+}
@@ -0,0 +1,96 @@
+package fr.benseddik.backend.service.impl;
+
+import fr.benseddik.backend.domain.Appointment;
+import fr.benseddik.backend.domain.Clinic;
+import fr.benseddik.backend.domain.Pet;
+import fr.benseddik.backend.domain.User;
+import fr.benseddik.backend.domain.Vet;
+import fr.benseddik.backend.repository.AppointmentRepository;
+import fr.benseddik.backend.repository.UserRepository;
+import fr.benseddik.backend.repository.VaccineRepository;
+import fr.benseddik.backend.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ETag du flux iCalendar (H2) : un renommage d'animal, de vétérinaire ou de clinique
+ * change le texte des événements, donc la version du flux.
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class CalendarFeedServiceImplTest {
+
+    private static final String TOKEN = "jeton";
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+    @Autowired
+    private VaccineRepository vaccineRepository;
+
+    private CalendarFeedServiceImpl service;
+    private Pet pet;
+    private Vet vet;
+    private Clinic clinic;
+
+    @BeforeEach
+    void setUp() {
+        JwtService jwtService = mock(JwtService.class);
+        when(jwtService.hashToken(TOKEN)).thenReturn("empreinte");
+        service = new CalendarFeedServiceImpl(userRepository, appointmentRepository, vaccineRepository, jwtService);
+
+        User owner = entityManager.persist(User.builder().email("owner@petcare.local")
+                .calendarTokenHash("empreinte").build());
+        pet = entityManager.persist(Pet.builder().name("Rex").species("Chien").owner(owner).build());
+        clinic = entityManager.persist(Clinic.builder().name("Clinique du Centre").address("1 rue de la Paix").build());
+        vet = entityManager.persist(Vet.builder().firstName("Jean").lastName("Martin").clinic(clinic).build());
+        entityManager.persist(Appointment.builder()
+                .date(LocalDateTime.now().plusDays(3)).durationMinutes(30).reason("Vaccin").status("scheduled")
+                .user(owner).pet(pet).vet(vet).clinic(clinic).build());
+        entityManager.flush();
+    }
+
+    @Test
+    void renamingAPetChangesTheVersion() throws InterruptedException {
+        assertChangedBy(() -> pet.setName("Rex II"));
+    }
+
+    @Test
+    void renamingAVetChangesTheVersion() throws InterruptedException {
+        assertChangedBy(() -> vet.setLastName("Durand"));
+    }
+
+    @Test
+    void movingAClinicChangesTheVersion() throws InterruptedException {
+        assertChangedBy(() -> clinic.setAddress("2 avenue Foch"));
+    }
+
+    @Test
+    void versionIsStableWithoutChanges() {
+        assertEquals(service.resolve(TOKEN).etag(), service.resolve(TOKEN).etag());
+    }
+
+    private void assertChangedBy(Runnable change) throws InterruptedException {
+        String before = service.resolve(TOKEN).etag();
+        Thread.sleep(5);
+        change.run();
+        entityManager.flush();
+
+        assertNotEquals(before, service.resolve(TOKEN).etag());
+    }
+}
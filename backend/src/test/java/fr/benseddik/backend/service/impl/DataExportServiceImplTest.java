@@ -0,0 +1,146 @@
+package fr.benseddik.backend.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.benseddik.backend.config.StorageProperties;
+import fr.benseddik.backend.domain.DataExport;
+import fr.benseddik.backend.domain.DataExport.Status;
+import fr.benseddik.backend.domain.User;
+import fr.benseddik.backend.dto.response.DataExportResponse;
+import fr.benseddik.backend.repository.AppointmentRepository;
+import fr.benseddik.backend.repository.AuditLogRepository;
+import fr.benseddik.backend.repository.DataExportRepository;
+import fr.benseddik.backend.repository.MedicalRecordRepository;
+import fr.benseddik.backend.repository.PetRepository;
+import fr.benseddik.backend.repository.UserRepository;
+import fr.benseddik.backend.repository.VaccineRepository;
+import fr.benseddik.backend.repository.WeightLogRepository;
+import fr.benseddik.backend.service.BlobStoreService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataExportServiceImplTest {
+
+    private static final Duration STALE_AFTER = Duration.ofMinutes(30);
+
+    @TempDir
+    Path root;
+
+    private final DataExportRepository dataExportRepository = mock(DataExportRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final User user = User.builder().id(UUID.randomUUID()).email("owner@petcare.local").build();
+
+    private DataExportServiceImpl service;
+
+    @AfterEach
+    void shutdown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void abandonedExportIsMarkedFailed() {
+        DataExport abandoned = export(Status.RUNNING, Instant.now().minus(STALE_AFTER).minusSeconds(1));
+        when(dataExportRepository.findStale(any(), any())).thenReturn(List.of(abandoned));
+        when(dataExportRepository.failIfStale(eq(abandoned.getId()), any(), eq(Status.FAILED), notNull(), any(), any()))
+                .thenReturn(1);
+
+        assertEquals(1, service().failAbandoned());
+    }
+
+    @Test
+    void exportKeptAliveByAnotherInstanceIsNotFailed() {
+        DataExport running = export(Status.RUNNING, Instant.now().minus(STALE_AFTER).minusSeconds(1));
+        when(dataExportRepository.findStale(any(), any())).thenReturn(List.of(running));
+        // Signe de vie rafraîchi entre la lecture et la mise à jour conditionnelle
+        when(dataExportRepository.failIfStale(any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        assertEquals(0, service().failAbandoned());
+    }
+
+    @Test
+    void recentHeartbeatKeepsAnOldRequestAlive() {
+        DataExport running = export(Status.RUNNING, Instant.now().minus(STALE_AFTER).minusSeconds(1));
+        running.setHeartbeatAt(Instant.now().minusSeconds(30));
+        when(dataExportRepository.findCurrentByUserId(any(), any())).thenReturn(List.of(running));
+
+        DataExportResponse response = service().requestExport(user.getId());
+
+        assertEquals(running.getId(), response.id());
+        verify(dataExportRepository, never()).failIfStale(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void abandonedExportDoesNotBlockANewRequest() {
+        DataExport abandoned = export(Status.PENDING, Instant.now().minus(STALE_AFTER).minusSeconds(1));
+        DataExport created = export(Status.PENDING, Instant.now());
+        when(dataExportRepository.findCurrentByUserId(any(), any())).thenReturn(List.of(abandoned));
+        when(dataExportRepository.failIfStale(eq(abandoned.getId()), any(), eq(Status.FAILED), notNull(), any(), any()))
+                .thenReturn(1);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(dataExportRepository.saveAndFlush(any())).thenReturn(created);
+
+        DataExportResponse response = inTransaction(() -> service().requestExport(user.getId()));
+
+        assertEquals(created.getId(), response.id());
+    }
+
+    @Test
+    void recentPendingExportIsReused() {
+        DataExport pending = export(Status.PENDING, Instant.now().minusSeconds(5));
+        when(dataExportRepository.findCurrentByUserId(any(), any())).thenReturn(List.of(pending));
+
+        DataExportResponse response = service().requestExport(user.getId());
+
+        assertEquals(pending.getId(), response.id());
+        assertEquals(Status.PENDING, pending.getStatus());
+    }
+
+    private DataExportServiceImpl service() {
+        service = new DataExportServiceImpl(dataExportRepository, userRepository, mock(PetRepository.class),
+                mock(AppointmentRepository.class), mock(VaccineRepository.class), mock(WeightLogRepository.class),
+                mock(MedicalRecordRepository.class), mock(AuditLogRepository.class), mock(BlobStoreService.class),
+                new ObjectMapper(), mock(PlatformTransactionManager.class), new StorageProperties(root, null, null),
+                Duration.ofDays(7), STALE_AFTER, 1);
+        return service;
+    }
+
+    private DataExport export(Status status, Instant createdAt) {
+        return DataExport.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .status(status)
+                .createdAt(createdAt)
+                .expiresAt(createdAt.plus(Duration.ofDays(7)))
+                .build();
+    }
+
+    private static DataExportResponse inTransaction(Supplier<DataExportResponse> action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            return action.get();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
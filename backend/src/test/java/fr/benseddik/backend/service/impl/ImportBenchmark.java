@@ -0,0 +1,68 @@
+package fr.benseddik.backend.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.benseddik.backend.dto.response.ImportReportResponse;
+import fr.benseddik.backend.repository.PetRepository;
+import fr.benseddik.backend.service.ImportService.ImportFormat;
+import fr.benseddik.backend.service.WeightAnomalyService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Débit d'import des pesées côté application (lecture CSV, validation, constitution des lots),
+ * base exclue : JdbcTemplate simulé. Débit de bout en bout avec PostgreSQL : bench/import/README.md
+ * Hors de mvn test : ./mvnw test -Dgroups=benchmark -DexcludedGroups= -Dtest=ImportBenchmark
+ */
+@Tag("benchmark")
+class ImportBenchmark {
+
+    private static final int ROW_COUNT = 1_000_000;
+    private static final int PET_COUNT = 20;
+
+    @Test
+    void weightLogCsv() throws Exception {
+        List<UUID> pets = IntStream.range(0, PET_COUNT).mapToObj(i -> UUID.randomUUID()).toList();
+        UUID userId = UUID.randomUUID();
+        PetRepository petRepository = mock(PetRepository.class);
+        when(petRepository.findIdsByOwnerId(any())).thenReturn(Set.copyOf(pets));
+
+        ImportServiceImpl service = new ImportServiceImpl(mock(JdbcTemplate.class), petRepository,
+                mock(WeightAnomalyService.class), new ObjectMapper());
+        ReflectionTestUtils.setField(service, "batchSize", 1000);
+        ReflectionTestUtils.setField(service, "maxRows", (long) ROW_COUNT);
+        ReflectionTestUtils.setField(service, "maxReportedErrors", 1000);
+
+        byte[] csv = weightLogs(pets);
+        service.importWeightLogs(new ByteArrayInputStream(csv), ImportFormat.CSV, userId);   // chauffe
+
+        ImportReportResponse report = service.importWeightLogs(new ByteArrayInputStream(csv), ImportFormat.CSV, userId);
+        System.out.printf("Weight log CSV import without database: %d rows in %d ms (%.0f rows/s)%n",
+                report.imported(), report.durationMs(), report.imported() * 1000.0 / Math.max(1, report.durationMs()));
+    }
+
+    private static byte[] weightLogs(List<UUID> pets) {
+        StringBuilder csv = new StringBuilder(ROW_COUNT * 70).append("petId;date;weight;note\n");
+        LocalDate start = LocalDate.now().minusYears(20);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            csv.append(pets.get(i % pets.size())).append(';')
+                    .append(start.plusDays(i / pets.size() % 7_000)).append(';')
+                    .append(5 + i % 300 / 10.0).append(';')
+                    .append(i % 10 == 0 ? "balance" : "").append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,96 @@
+package fr.benseddik.backend.service.impl;
+
+import fr.benseddik.backend.domain.Clinic;
+import fr.benseddik.backend.domain.Vet;
+import fr.benseddik.backend.repository.AppointmentRepository;
+import fr.benseddik.backend.repository.ClinicRepository;
+import fr.benseddik.backend.repository.VetRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Temps d'une requête de disponibilités « semaine d'une clinique » (10 vétérinaires), cache chaud.
+ * Hors de mvn test : ./mvnw test -Dgroups=benchmark -DexcludedGroups= -Dtest=VetAvailabilityBenchmark
+ */
+@Tag("benchmark")
+class VetAvailabilityBenchmark {
+
+    private static final int WARMUP_COUNT = 500;
+    private static final int QUERY_COUNT = 2_000;
+
+    @Test
+    void clinicWeekQuery() {
+        AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+        VetRepository vetRepository = mock(VetRepository.class);
+        ClinicRepository clinicRepository = mock(ClinicRepository.class);
+        VetAvailabilityServiceImpl service =
+                new VetAvailabilityServiceImpl(appointmentRepository, vetRepository, clinicRepository);
+        ReflectionTestUtils.setField(service, "defaultOpeningHours", "Lun-Ven: 9h-19h");
+        ReflectionTestUtils.setField(service, "slotGranularityMinutes", 15);
+        ReflectionTestUtils.setField(service, "defaultSlotMinutes", 30);
+        ReflectionTestUtils.setField(service, "maxRangeDays", 31);
+
+        Clinic clinic = Clinic.builder()
+                .id(UUID.randomUUID())
+                .name("Clinique Vétérinaire du Centre")
+                .openingHours("Lun-Ven: 9h-19h, Sam: 9h-17h")
+                .build();
+        LocalDate monday = LocalDate.now().plusWeeks(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        List<Vet> vets = new ArrayList<>();
+        List<AppointmentRepository.ScheduledSlot> booked = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Vet vet = Vet.builder().id(UUID.randomUUID()).firstName("Vet").lastName("N" + i).clinic(clinic).build();
+            vets.add(vet);
+            for (int day = 0; day < 6; day++) {
+                booked.add(slot(vet.getId(), monday.plusDays(day).atTime(9 + day, 0), 45));
+            }
+        }
+        when(clinicRepository.findById(clinic.getId())).thenReturn(Optional.of(clinic));
+        when(vetRepository.findByClinicId(clinic.getId())).thenReturn(vets);
+        when(appointmentRepository.findScheduledSlots(any(), any(), any())).thenReturn(booked);
+
+        for (int i = 0; i < WARMUP_COUNT; i++) {
+            service.getClinicAvailability(clinic.getId(), monday, monday.plusDays(6), 30);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            service.getClinicAvailability(clinic.getId(), monday, monday.plusDays(6), 30);
+        }
+
+        System.out.printf("Clinic week availability (10 vets): %.3f ms/query%n",
+                (System.nanoTime() - start) / 1e6 / QUERY_COUNT);
+    }
+
+    private static AppointmentRepository.ScheduledSlot slot(UUID vetId, LocalDateTime date, int duration) {
+        return new AppointmentRepository.ScheduledSlot() {
+            @Override
+            public UUID getVetId() {
+                return vetId;
+            }
+
+            @Override
+            public LocalDateTime getDate() {
+                return date;
+            }
+
+            @Override
+            public Integer getDurationMinutes() {
+                return duration;
+            }
+        };
+    }
+}
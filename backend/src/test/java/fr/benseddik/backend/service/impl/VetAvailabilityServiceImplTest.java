@@ -0,0 +1,204 @@
+package fr.benseddik.backend.service.impl;
+
+import fr.benseddik.backend.domain.Clinic;
+import fr.benseddik.backend.domain.Vet;
+import fr.benseddik.backend.dto.response.AvailableSlotResponse;
+import fr.benseddik.backend.exception.BadRequestException;
+import fr.benseddik.backend.exception.ConflictException;
+import fr.benseddik.backend.repository.AppointmentRepository;
+import fr.benseddik.backend.repository.ClinicRepository;
+import fr.benseddik.backend.repository.VetRepository;
+import fr.benseddik.backend.service.VetAvailabilityService.Booking;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VetAvailabilityServiceImplTest {
+
+    private final AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+    private final VetRepository vetRepository = mock(VetRepository.class);
+    private final ClinicRepository clinicRepository = mock(ClinicRepository.class);
+
+    private final VetAvailabilityServiceImpl service =
+            new VetAvailabilityServiceImpl(appointmentRepository, vetRepository, clinicRepository);
+
+    private final Clinic clinic = Clinic.builder()
+            .id(UUID.randomUUID())
+            .name("Clinique Vétérinaire du Centre")
+            .openingHours("Lun-Ven: 9h-19h, Sam: 9h-17h")
+            .build();
+
+    private final List<Vet> vets = new ArrayList<>();
+    private final List<AppointmentRepository.ScheduledSlot> booked = new CopyOnWriteArrayList<>();
+    private final LocalDate monday = LocalDate.now().plusWeeks(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "defaultOpeningHours", "Lun-Ven: 9h-19h");
+        ReflectionTestUtils.setField(service, "slotGranularityMinutes", 15);
+        ReflectionTestUtils.setField(service, "defaultSlotMinutes", 30);
+        ReflectionTestUtils.setField(service, "maxRangeDays", 31);
+
+        for (int i = 0; i < 10; i++) {
+            vets.add(Vet.builder().id(UUID.randomUUID()).firstName("Vet").lastName("N" + i).clinic(clinic).build());
+        }
+        when(clinicRepository.findById(clinic.getId())).thenReturn(Optional.of(clinic));
+        when(vetRepository.findByClinicId(clinic.getId())).thenReturn(vets);
+        when(vetRepository.findById(any())).thenAnswer(inv -> vets.stream()
+                .filter(vet -> vet.getId().equals(inv.getArgument(0))).findFirst());
+        when(appointmentRepository.findScheduledSlots(any(), any(), any())).thenAnswer(inv -> List.copyOf(booked));
+    }
+
+    @Test
+    void freeSlotsSkipBookedIntervalsAndClosedDays() {
+        UUID vetId = vets.getFirst().getId();
+        book(vetId, monday.atTime(10, 0), 60);
+
+        List<AvailableSlotResponse> slots = service.getVetAvailability(vetId, monday, monday.plusDays(6), 30);
+
+        // Lun-Ven 9h-19h (20 créneaux/jour) + Sam 9h-17h (16), moins 2 créneaux le lundi
+        assertEquals(5 * 20 + 16 - 2, slots.size());
+        assertTrue(slots.stream().noneMatch(slot -> slot.start().getDayOfWeek() == DayOfWeek.SUNDAY));
+        assertTrue(slots.stream().noneMatch(slot ->
+                slot.start().isBefore(monday.atTime(11, 0)) && slot.end().isAfter(monday.atTime(10, 0))));
+    }
+
+    @Test
+    void rejectsOverlapAndClosedClinic() {
+        UUID vetId = vets.getFirst().getId();
+        book(vetId, monday.atTime(10, 0), 60);
+
+        assertThrows(ConflictException.class,
+                () -> service.reserve(new Booking(vetId, monday.atTime(10, 30), 30), clinic, null));
+        assertThrows(BadRequestException.class,
+                () -> service.reserve(new Booking(vetId, monday.atTime(18, 45), 30), clinic, null));
+
+        // Déplacement du rendez-vous existant sur lui-même : pas de conflit
+        Booking existing = new Booking(vetId, monday.atTime(10, 0), 60);
+        service.reserve(new Booking(vetId, monday.atTime(10, 30), 30), clinic, existing);
+    }
+
+    @Test
+    void clinicWeekQueryIsServedFromCacheOnceLoaded() {
+        for (Vet vet : vets) {
+            for (int day = 0; day < 6; day++) {
+                book(vet.getId(), monday.plusDays(day).atTime(9 + day, 0), 45);
+            }
+        }
+
+        List<AvailableSlotResponse> first = service.getClinicAvailability(clinic.getId(), monday, monday.plusDays(6), 30);
+        List<AvailableSlotResponse> cached = service.getClinicAvailability(clinic.getId(), monday, monday.plusDays(6), 30);
+
+        // Une seule lecture des créneaux réservés pour les 10 vétérinaires et les 7 jours
+        verify(appointmentRepository, times(1)).findScheduledSlots(any(), any(), any());
+        assertFalse(first.isEmpty());
+        assertEquals(first, cached);
+    }
+
+    /**
+     * 4 000 réservations concurrentes sur 3 vétérinaires : chaque "transaction" réserve,
+     * puis rend son créneau visible (commit) avant de déclencher la synchronisation de fin.
+     */
+    @Test
+    void concurrentBookingsNeverOverlap() throws Exception {
+        List<UUID> vetIds = vets.subList(0, 3).stream().map(Vet::getId).toList();
+        AtomicInteger conflicts = new AtomicInteger();
+        Random random = new Random(7);
+        List<Booking> requests = new ArrayList<>();
+        for (int i = 0; i < 4_000; i++) {
+            requests.add(new Booking(
+                    vetIds.get(random.nextInt(vetIds.size())),
+                    monday.atTime(9, 0).plusMinutes(15L * random.nextInt(36)),
+                    15 * (1 + random.nextInt(4))));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Booking request : requests) {
+                futures.add(executor.submit(() -> bookInTransaction(request, conflicts)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(conflicts.get() > 0);
+        assertEquals(requests.size(), booked.size() + conflicts.get());
+        for (AppointmentRepository.ScheduledSlot a : booked) {
+            for (AppointmentRepository.ScheduledSlot b : booked) {
+                if (a != b && a.getVetId().equals(b.getVetId())) {
+                    LocalDateTime aEnd = a.getDate().plusMinutes(a.getDurationMinutes());
+                    LocalDateTime bEnd = b.getDate().plusMinutes(b.getDurationMinutes());
+                    assertFalse(a.getDate().isBefore(bEnd) && b.getDate().isBefore(aEnd),
+                            "Chevauchement: " + a.getDate() + " / " + b.getDate());
+                }
+            }
+        }
+    }
+
+    private void bookInTransaction(Booking request, AtomicInteger conflicts) {
+        TransactionSynchronizationManager.initSynchronization();
+        int status = TransactionSynchronization.STATUS_ROLLED_BACK;
+        try {
+            service.reserve(request, clinic, null);
+            book(request.vetId(), request.start(), request.durationMinutes());
+            status = TransactionSynchronization.STATUS_COMMITTED;
+        } catch (ConflictException e) {
+            conflicts.incrementAndGet();
+        } finally {
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(status);
+            }
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void book(UUID vetId, LocalDateTime date, int duration) {
+        booked.add(new AppointmentRepository.ScheduledSlot() {
+            @Override
+            public UUID getVetId() {
+                return vetId;
+            }
+
+            @Override
+            public LocalDateTime getDate() {
+                return date;
+            }
+
+            @Override
+            public Integer getDurationMinutes() {
+                return duration;
+            }
+        });
+    }
+}
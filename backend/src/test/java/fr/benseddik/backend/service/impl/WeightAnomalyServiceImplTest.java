@@ -0,0 +1,91 @@
+package fr.benseddik.backend.service.impl;
+
+import fr.benseddik.backend.config.WeightAlertProperties;
+import fr.benseddik.backend.domain.Pet;
+import fr.benseddik.backend.domain.PetWeightStats;
+import fr.benseddik.backend.domain.User;
+import fr.benseddik.backend.domain.WeightLog;
+import fr.benseddik.backend.repository.NotificationRepository;
+import fr.benseddik.backend.repository.PetWeightStatsRepository;
+import fr.benseddik.backend.repository.WeightLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Suppression d'une pesée (H2) : l'état EWMA est recalculé depuis les pesées restantes,
+ * et supprimé lorsque l'animal n'en a plus.
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class WeightAnomalyServiceImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private PetWeightStatsRepository statsRepository;
+    @Autowired
+    private WeightLogRepository weightLogRepository;
+
+    private WeightAnomalyServiceImpl service;
+    private Pet pet;
+
+    @BeforeEach
+    void setUp() {
+        service = new WeightAnomalyServiceImpl(statsRepository, weightLogRepository, mock(NotificationRepository.class),
+                new WeightAlertProperties(null, null, null, null, null, null), mock(PlatformTransactionManager.class));
+        User owner = entityManager.persist(User.builder().email("owner@petcare.local").build());
+        pet = entityManager.persist(Pet.builder().name("Rex").species("Chien").owner(owner).build());
+    }
+
+    @Test
+    void deletedWeighingNoLongerWeighsOnTheState() {
+        log(DAY, 10.0);
+        WeightLog wrong = log(DAY.plusDays(1), 100.0);
+        log(DAY.plusDays(2), 10.0);
+        service.rebuild(List.of(pet.getId()));
+
+        delete(wrong);
+
+        PetWeightStats state = statsRepository.findById(pet.getId()).orElseThrow();
+        assertEquals(2, state.getSampleCount());
+        assertEquals(10.0, state.getEwmaMean(), 1e-9);
+        assertEquals(DAY.plusDays(2), state.getLastDate());
+    }
+
+    @Test
+    void stateIsResetWhenTheLastWeighingIsDeleted() {
+        WeightLog only = log(DAY, 10.0);
+        service.rebuild(List.of(pet.getId()));
+
+        delete(only);
+
+        assertTrue(statsRepository.findById(pet.getId()).isEmpty());
+    }
+
+    private WeightLog log(LocalDate date, double weight) {
+        return entityManager.persistAndFlush(WeightLog.builder().pet(pet).date(date).weight(weight).build());
+    }
+
+    private void delete(WeightLog weightLog) {
+        weightLogRepository.delete(weightLog);
+        weightLogRepository.flush();
+        service.onWeightLogDeleted(pet.getId());
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,57 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionQueueTest {
+
+    @Test
+    void admitsUpToMaxConcurrentThenTimesOut() throws Exception {
+        AdmissionQueue queue = new AdmissionQueue(2, 5);
+
+        assertThat(queue.enter(Duration.ZERO)).isTrue();
+        assertThat(queue.enter(Duration.ZERO)).isTrue();
+        assertThat(queue.enter(Duration.ofMillis(20))).isFalse();
+        assertThat(queue.active()).isEqualTo(2);
+        assertThat(queue.waiting()).isZero();
+
+        queue.exit();
+        assertThat(queue.enter(Duration.ZERO)).isTrue();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        AdmissionQueue queue = new AdmissionQueue(1, 1);
+        assertThat(queue.enter(Duration.ZERO)).isTrue();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            Future<Boolean> waiter = executor.submit(() -> {
+                started.countDown();
+                return queue.enter(Duration.ofSeconds(5));
+            });
+            started.await();
+            while (queue.waiting() == 0) {
+                Thread.onSpinWait();
+            }
+
+            long startedAt = System.nanoTime();
+            assertThat(queue.enter(Duration.ofSeconds(5))).isFalse();
+            assertThat(System.nanoTime() - startedAt).isLessThan(TimeUnit.SECONDS.toNanos(1));
+
+            queue.exit();
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
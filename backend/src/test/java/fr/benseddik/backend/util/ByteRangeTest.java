@@ -0,0 +1,33 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteRangeTest {
+
+    @Test
+    void resolvesSingleRanges() {
+        assertThat(ByteRange.resolve("bytes=0-99", 1000)).isEqualTo(new ByteRange(0, 99));
+        assertThat(ByteRange.resolve("bytes=900-", 1000)).isEqualTo(new ByteRange(900, 999));
+        assertThat(ByteRange.resolve("bytes=-100", 1000)).isEqualTo(new ByteRange(900, 999));
+        assertThat(ByteRange.resolve("bytes=500-5000", 1000)).isEqualTo(new ByteRange(500, 999));
+        assertThat(ByteRange.resolve("bytes=-5000", 1000)).isEqualTo(new ByteRange(0, 999));
+    }
+
+    @Test
+    void ignoresMissingMalformedOrMultipleRanges() {
+        ByteRange full = new ByteRange(0, 999);
+        assertThat(ByteRange.resolve(null, 1000)).isEqualTo(full);
+        assertThat(ByteRange.resolve("bytes=abc", 1000)).isEqualTo(full);
+        assertThat(ByteRange.resolve("bytes=10-5", 1000)).isEqualTo(full);
+        assertThat(ByteRange.resolve("bytes=0-1,5-6", 1000)).isEqualTo(full);
+        assertThat(full.isPartial(1000)).isFalse();
+    }
+
+    @Test
+    void rejectsUnsatisfiableRanges() {
+        assertThat(ByteRange.resolve("bytes=1000-", 1000)).isNull();
+        assertThat(ByteRange.resolve("bytes=-0", 1000)).isNull();
+    }
+}
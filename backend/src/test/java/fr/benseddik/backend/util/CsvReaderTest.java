@@ -0,0 +1,52 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvReaderTest {
+
+    @Test
+    void parsesQuotedFieldsAndLineEndings() throws Exception {
+        String csv = "\uFEFFpetId,date,weight,note\r\n"
+                + "a,2024-01-01,12.5,\"Après \"\"vermifuge\"\", à jeun\"\r\n"
+                + "\n"
+                + "b,2024-01-02,12.7,\"sur\ndeux lignes\"\n"
+                + "c,2024-01-03,,";
+        CsvReader reader = new CsvReader(new StringReader(csv), ',');
+
+        assertThat(reader.next()).containsExactly("petId", "date", "weight", "note");
+        assertThat(reader.next()).containsExactly("a", "2024-01-01", "12.5", "Après \"vermifuge\", à jeun");
+        assertThat(reader.recordLine()).isEqualTo(2);
+
+        assertThat(reader.next()).containsExactly("b", "2024-01-02", "12.7", "sur\ndeux lignes");
+        assertThat(reader.recordLine()).isEqualTo(4);
+
+        List<String> last = reader.next();
+        assertThat(last).containsExactly("c", "2024-01-03", "", "");
+        assertThat(reader.recordLine()).isEqualTo(6);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void detectsFrenchExcelDelimiter() throws Exception {
+        assertThat(CsvReader.detectDelimiter("petId;date;weight;note")).isEqualTo(';');
+        assertThat(CsvReader.detectDelimiter("petId,date,weight")).isEqualTo(',');
+
+        CsvReader reader = new CsvReader(new StringReader("x;12,5\n"), ';');
+        assertThat(reader.next()).containsExactly("x", "12,5");
+    }
+
+    @Test
+    void detectsDelimiterOfLongHeaderWithoutRereading() throws Exception {
+        String header = "\uFEFFpetId;date;weight;" + "x".repeat(20_000);
+        CsvReader reader = CsvReader.detectingDelimiter(new StringReader(header + "\n1;2024-01-01;12,5;\n"));
+
+        assertThat(reader.next()).hasSize(4).startsWith("petId", "date");
+        assertThat(reader.next()).containsExactly("1", "2024-01-01", "12,5", "");
+        assertThat(reader.recordLine()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,40 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvWriterTest {
+
+    @Test
+    void quotesOnlyWhenNeededAndRoundTripsThroughReader() throws Exception {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out, ',')
+                .row("name", "note", "weight")
+                .row("Rex", "dit \"bonjour\",\nensuite", 12.5)
+                .row("Mia", null, -1);
+
+        assertThat(out.toString()).isEqualTo(
+                "name,note,weight\r\n"
+                        + "Rex,\"dit \"\"bonjour\"\",\nensuite\",12.5\r\n"
+                        + "Mia,,-1\r\n");
+
+        CsvReader reader = new CsvReader(new StringReader(out.toString()), ',');
+        reader.next();
+        assertThat(reader.next()).containsExactly("Rex", "dit \"bonjour\",\nensuite", "12.5");
+        assertThat(reader.next()).containsExactly("Mia", "", "-1");
+    }
+
+    @Test
+    void neutralizesSpreadsheetFormulas() throws Exception {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out, ';').row("=HYPERLINK(\"x\")", "@SUM(A1)", "ok");
+
+        List<String> fields = new CsvReader(new StringReader(out.toString()), ';').next();
+        assertThat(fields).containsExactly("'=HYPERLINK(\"x\")", "'@SUM(A1)", "ok");
+    }
+}
@@ -0,0 +1,28 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlineTest {
+
+    @Test
+    void remainingIsClampedOnceExpired() {
+        Deadline deadline = Deadline.in(Duration.ofMillis(-5));
+
+        assertThat(deadline.isExpired()).isTrue();
+        assertThat(deadline.remaining()).isEqualTo(Duration.ZERO);
+        assertThat(deadline.remainingSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    void remainingSecondsRoundsUp() {
+        Deadline deadline = Deadline.in(Duration.ofMillis(1500));
+
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.remaining()).isLessThanOrEqualTo(Duration.ofMillis(1500));
+        assertThat(deadline.remainingSeconds()).isEqualTo(2);
+    }
+}
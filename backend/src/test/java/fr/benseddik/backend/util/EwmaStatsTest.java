@@ -0,0 +1,51 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class EwmaStatsTest {
+
+    private static final double ALPHA = 0.3;
+
+    @Test
+    void firstSampleInitialisesMean() {
+        EwmaStats stats = EwmaStats.EMPTY.update(12.5, ALPHA);
+
+        assertThat(stats.count()).isEqualTo(1);
+        assertThat(stats.mean()).isEqualTo(12.5);
+        assertThat(stats.variance()).isZero();
+    }
+
+    @Test
+    void stableSeriesConvergesAndFlagsSuddenChange() {
+        EwmaStats stats = EwmaStats.EMPTY;
+        for (int i = 0; i < 50; i++) {
+            stats = stats.update(10 + (i % 2 == 0 ? 0.1 : -0.1), ALPHA);
+        }
+
+        assertThat(stats.mean()).isCloseTo(10, within(0.1));
+        assertThat(stats.zScore(10.05)).isLessThan(3);
+        assertThat(stats.zScore(12)).isGreaterThan(3);
+        assertThat(stats.relativeChange(12)).isCloseTo(0.2, within(0.02));
+    }
+
+    @Test
+    void matchesRecursiveDefinition() {
+        double[] values = {4.2, 4.4, 4.1, 4.8, 5.0, 4.7};
+        double mean = values[0];
+        double variance = 0;
+        EwmaStats stats = EwmaStats.EMPTY.update(values[0], ALPHA);
+        for (int i = 1; i < values.length; i++) {
+            double diff = values[i] - mean;
+            mean += ALPHA * diff;
+            variance = (1 - ALPHA) * (variance + ALPHA * diff * diff);
+            stats = stats.update(values[i], ALPHA);
+        }
+
+        assertThat(stats.mean()).isCloseTo(mean, within(1e-12));
+        assertThat(stats.variance()).isCloseTo(variance, within(1e-12));
+        assertThat(stats.count()).isEqualTo(values.length);
+    }
+}
@@ -0,0 +1,54 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static fr.benseddik.backend.util.GeoKdTreeTest.bruteForce;
+import static fr.benseddik.backend.util.GeoKdTreeTest.randomLatitude;
+import static fr.benseddik.backend.util.GeoKdTreeTest.randomLongitude;
+import static fr.benseddik.backend.util.GeoKdTreeTest.syntheticClinics;
+
+/**
+ * Gain de l'arbre k-d sur une recherche exhaustive, 200 000 cliniques synthétiques.
+ * Hors de mvn test : ./mvnw test -Dgroups=benchmark -DexcludedGroups= -Dtest=GeoKdTreeBenchmark
+ */
+@Tag("benchmark")
+class GeoKdTreeBenchmark {
+
+    private static final int CLINIC_COUNT = 200_000;
+    private static final int WARMUP_COUNT = 50;
+    private static final int QUERY_COUNT = 200;
+
+    @Test
+    void nearestVersusBruteForce() {
+        Random random = new Random(42);
+        List<GeoKdTree.GeoPoint<Integer>> points = syntheticClinics(random, CLINIC_COUNT);
+        GeoKdTree<Integer> tree = GeoKdTree.build(points);
+
+        long treeNanos = 0;
+        long bruteNanos = 0;
+        for (int q = -WARMUP_COUNT; q < QUERY_COUNT; q++) {
+            double lat = randomLatitude(random);
+            double lng = randomLongitude(random);
+
+            long start = System.nanoTime();
+            tree.nearest(lat, lng, 10, null);
+            long treeElapsed = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            bruteForce(points, lat, lng);
+            long bruteElapsed = System.nanoTime() - start;
+
+            if (q >= 0) {
+                treeNanos += treeElapsed;
+                bruteNanos += bruteElapsed;
+            }
+        }
+
+        System.out.printf("k-d tree nearest(10): %.3f ms/query, brute force: %.3f ms/query (%d clinics)%n",
+                treeNanos / 1e6 / QUERY_COUNT, bruteNanos / 1e6 / QUERY_COUNT, CLINIC_COUNT);
+    }
+}
@@ -0,0 +1,49 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientLimitTest {
+
+    private static final long MS = 1_000_000;
+
+    @Test
+    void growsWhileLatencyIsStableUnderLoad() {
+        GradientLimit limit = new GradientLimit(20, 5, 200, 1.5, 0.2, 10);
+
+        feed(limit, 50, 10 * MS, limit::limit);
+
+        assertThat(limit.limit()).isGreaterThan(20);
+    }
+
+    @Test
+    void doesNotGrowWhenUnderused() {
+        GradientLimit limit = new GradientLimit(20, 5, 200, 1.5, 0.2, 10);
+
+        feed(limit, 50, 10 * MS, () -> 3);
+
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+
+    @Test
+    void shrinksWhenLatencyRisesAndStaysWithinBounds() {
+        GradientLimit limit = new GradientLimit(100, 5, 200, 1.5, 0.2, 10);
+        feed(limit, 5, 10 * MS, limit::limit);
+        int beforeSpike = limit.limit();
+
+        feed(limit, 10, 100 * MS, limit::limit);
+        assertThat(limit.limit()).isLessThan(beforeSpike);
+
+        feed(limit, 500, 1_000 * MS, limit::limit);
+        assertThat(limit.limit()).isGreaterThanOrEqualTo(5);
+    }
+
+    private static void feed(GradientLimit limit, int windows, long rttNanos, IntSupplier inFlight) {
+        for (int i = 0; i < windows * 10; i++) {
+            limit.onSample(rttNanos, inFlight.getAsInt());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IcsWriterTest {
+
+    @Test
+    void escapesTextAndFormatsDates() throws Exception {
+        StringWriter out = new StringWriter();
+        new IcsWriter(out)
+                .beginEvent("a@petcare", Instant.parse("2025-01-06T09:00:00Z"))
+                .text("SUMMARY", "Rex; vaccin, rappel\\ok\nsuite")
+                .date("DTSTART", LocalDate.of(2025, 3, 1))
+                .endEvent();
+
+        assertThat(out.toString()).isEqualTo(
+                "BEGIN:VEVENT\r\n"
+                        + "UID:a@petcare\r\n"
+                        + "DTSTAMP:20250106T090000Z\r\n"
+                        + "SUMMARY:Rex\\; vaccin\\, rappel\\\\ok\\nsuite\r\n"
+                        + "DTSTART;VALUE=DATE:20250301\r\n"
+                        + "END:VEVENT\r\n");
+    }
+
+    @Test
+    void foldsLongLinesWithoutSplittingMultiByteCharacters() throws Exception {
+        StringWriter out = new StringWriter();
+        new IcsWriter(out).text("DESCRIPTION", "é".repeat(100));
+
+        String[] lines = out.toString().split("\r\n");
+        assertThat(lines.length).isGreaterThan(1);
+        for (String line : lines) {
+            assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+        }
+        assertThat(out.toString().replace("\r\n ", "").trim()).isEqualTo("DESCRIPTION:" + "é".repeat(100));
+    }
+}
@@ -0,0 +1,52 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageThumbnailsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void rendersSquareJpegThumbnails() throws Exception {
+        Path source = image(1200, 800);
+
+        assertThat(ImageThumbnails.probe(source)).isEqualTo(new ImageThumbnails.Size(1200, 800));
+
+        Map<Integer, byte[]> thumbnails = ImageThumbnails.render(source, new int[]{64, 256}, 10_000_000, 0.85f);
+        assertThat(thumbnails).containsOnlyKeys(64, 256);
+        for (Map.Entry<Integer, byte[]> thumbnail : thumbnails.entrySet()) {
+            BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnail.getValue()));
+            assertThat(decoded.getWidth()).isEqualTo(thumbnail.getKey());
+            assertThat(decoded.getHeight()).isEqualTo(thumbnail.getKey());
+        }
+    }
+
+    @Test
+    void rejectsOversizedAndUnknownImages() throws Exception {
+        Path source = image(1200, 800);
+        assertThatThrownBy(() -> ImageThumbnails.render(source, new int[]{64}, 100_000, 0.85f))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Path text = Files.writeString(dir.resolve("notes.txt"), "pas une image");
+        assertThat(ImageThumbnails.probe(text)).isNull();
+    }
+
+    private Path image(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Path file = dir.resolve("source-" + width + "x" + height + ".png");
+        ImageIO.write(image, "png", file.toFile());
+        return file;
+    }
+}
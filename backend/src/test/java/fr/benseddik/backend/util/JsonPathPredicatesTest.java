@@ -0,0 +1,26 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonPathPredicatesTest {
+
+    @Test
+    void buildsNumericRangePredicate() {
+        assertThat(JsonPathPredicates.numberInRange("creatinine", 1.5, null)).isEqualTo(
+                "exists($.\"creatinine\") && $.\"creatinine\".type() == \"number\" && $.\"creatinine\" >= 1.5");
+        assertThat(JsonPathPredicates.numberInRange("urea", 1e-7, 2.5)).endsWith(
+                "$.\"urea\" >= 0.00000010 && $.\"urea\" <= 2.5");
+    }
+
+    @Test
+    void rejectsKeysThatCouldAlterTheExpression() {
+        assertThat(JsonPathPredicates.isValidKey("glucose_2")).isTrue();
+        assertThat(JsonPathPredicates.isValidKey("a\" || true || \"")).isFalse();
+        assertThat(JsonPathPredicates.isValidKey("2fast")).isFalse();
+        assertThatThrownBy(() -> JsonPathPredicates.numberInRange("x.y", null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
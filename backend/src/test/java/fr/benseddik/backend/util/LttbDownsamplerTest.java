@@ -0,0 +1,52 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LttbDownsamplerTest {
+
+    @Test
+    void keepsAllPointsBelowThreshold() {
+        LttbDownsampler downsampler = new LttbDownsampler(5, 10);
+        for (int i = 0; i < 5; i++) {
+            downsampler.add(i, i * 2);
+        }
+
+        assertThat(downsampler.result()).hasSize(5);
+    }
+
+    @Test
+    void boundsPointsAndKeepsEndsAndSpikes() {
+        int total = 10_000;
+        LttbDownsampler downsampler = new LttbDownsampler(total, 100);
+        for (int i = 0; i < total; i++) {
+            double weight = i == 4_321 ? 50 : i == 7_654 ? 1 : 10 + Math.sin(i / 500.0);
+            downsampler.add(i, weight);
+        }
+
+        List<LttbDownsampler.Point> result = downsampler.result();
+        assertThat(result).hasSize(100);
+        assertThat(result.get(0).x()).isZero();
+        assertThat(result.get(99).x()).isEqualTo(total - 1);
+        assertThat(result).extracting(LttbDownsampler.Point::x).isSorted().contains(4_321.0, 7_654.0);
+    }
+
+    @Test
+    void handlesTotalJustAboveThreshold() {
+        for (int total = 4; total < 40; total++) {
+            int threshold = 3 + total % 5;
+            LttbDownsampler downsampler = new LttbDownsampler(total, threshold);
+            for (int i = 0; i < total; i++) {
+                downsampler.add(i, i % 3);
+            }
+
+            List<LttbDownsampler.Point> result = downsampler.result();
+            assertThat(result).hasSize(Math.min(total, threshold));
+            assertThat(result.get(result.size() - 1).x()).isEqualTo(total - 1);
+            assertThat(result).extracting(LttbDownsampler.Point::x).doesNotHaveDuplicates();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinuteIntervalsTest {
+
+    @Test
+    void detectsOverlapBehindShorterInterval() {
+        // [9h-12h] englobe [9h30-10h] : un simple "intervalle précédent" ne suffirait pas
+        MinuteIntervals booked = MinuteIntervals.of(new int[]{540, 720, 570, 600});
+
+        assertTrue(booked.overlaps(630, 660));
+        assertFalse(booked.overlaps(720, 750));
+        assertFalse(booked.overlaps(480, 540));
+    }
+
+    @Test
+    void listsGapsWithinRange() {
+        MinuteIntervals booked = MinuteIntervals.EMPTY.with(600, 630).with(540, 570).with(610, 660);
+
+        List<int[]> gaps = new ArrayList<>();
+        booked.forEachGap(540, 720, (start, end) -> gaps.add(new int[]{start, end}));
+
+        assertEquals(2, gaps.size());
+        assertEquals(570, gaps.get(0)[0]);
+        assertEquals(600, gaps.get(0)[1]);
+        assertEquals(660, gaps.get(1)[0]);
+        assertEquals(720, gaps.get(1)[1]);
+    }
+
+    @Test
+    void removesSingleOccurrence() {
+        MinuteIntervals booked = MinuteIntervals.EMPTY.with(540, 570).with(540, 570);
+
+        assertEquals(1, booked.without(540, 570).size());
+        assertTrue(booked.without(540, 570).without(540, 570).isEmpty());
+    }
+}
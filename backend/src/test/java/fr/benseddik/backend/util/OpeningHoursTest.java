@@ -0,0 +1,37 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpeningHoursTest {
+
+    @Test
+    void parsesDayRangesAndHalfHours() {
+        OpeningHours hours = OpeningHours.parse("Lun-Ven: 8h30-18h30, Sam: 10h-16h").orElseThrow();
+
+        assertArrayEquals(new int[]{510, 1110}, hours.rangesFor(DayOfWeek.WEDNESDAY));
+        assertArrayEquals(new int[]{600, 960}, hours.rangesFor(DayOfWeek.SATURDAY));
+        assertArrayEquals(new int[0], hours.rangesFor(DayOfWeek.SUNDAY));
+    }
+
+    @Test
+    void parsesAlwaysOpenAndSplitRanges() {
+        OpeningHours emergency = OpeningHours.parse("Lun-Dim: 24h/24 (urgences)").orElseThrow();
+        assertTrue(emergency.covers(DayOfWeek.SUNDAY, 0, 1440));
+
+        OpeningHours split = OpeningHours.parse("Lun-Ven: 9h-12h / 14h-19h").orElseThrow();
+        assertArrayEquals(new int[]{540, 720, 840, 1140}, split.rangesFor(DayOfWeek.MONDAY));
+        assertFalse(split.covers(DayOfWeek.MONDAY, 690, 750));
+    }
+
+    @Test
+    void rejectsUnknownFormats() {
+        assertTrue(OpeningHours.parse("Sur rendez-vous uniquement").isEmpty());
+        assertTrue(OpeningHours.parse("Lun-Ven: le matin").isEmpty());
+    }
+}
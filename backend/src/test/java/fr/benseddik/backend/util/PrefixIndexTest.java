@@ -0,0 +1,38 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixIndexTest {
+
+    private final PrefixIndex<String> index = PrefixIndex.<String>builder()
+            .add("centre", "Clinique Vétérinaire du Centre", "15 Rue de la République 75001 Paris")
+            .add("lyon", "Clinique des Brotteaux", "8 Place Bellecour 69002 Lyon")
+            .add("paris-est", "Centre Vétérinaire Paris Est", "3 Avenue Jean Jaurès 75019 Paris")
+            .build();
+
+    @Test
+    void matchesWordPrefixIgnoringCaseAndAccents() {
+        assertEquals(List.of("lyon"), index.search("BROT", 10));
+        assertEquals(2, index.search("vété", 10).size());
+    }
+
+    @Test
+    void ranksFieldStartBeforeWordStartAndPrimaryFieldBeforeAddress() {
+        List<String> results = index.search("centre", 10);
+
+        assertEquals("paris-est", results.get(0));
+        assertEquals("centre", results.get(1));
+    }
+
+    @Test
+    void limitsResultsAndIgnoresBlankPrefix() {
+        assertEquals(1, index.search("paris", 1).size());
+        assertTrue(index.search("  ", 10).isEmpty());
+        assertTrue(index.search("marseille", 10).isEmpty());
+    }
+}
@@ -0,0 +1,39 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentWritersTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final RecentWriters writers = new RecentWriters(Duration.ofSeconds(5), 100, nanos::get);
+
+    @Test
+    void userStaysInWindowUntilItExpires() {
+        UUID userId = UUID.randomUUID();
+        writers.markWrite(userId);
+
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertThat(writers.recentlyWrote(userId)).isTrue();
+
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(writers.recentlyWrote(userId)).isFalse();
+    }
+
+    @Test
+    void newWriteExtendsWindow() {
+        UUID userId = UUID.randomUUID();
+        writers.markWrite(userId);
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+        writers.markWrite(userId);
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+
+        assertThat(writers.recentlyWrote(userId)).isTrue();
+        assertThat(writers.recentlyWrote(UUID.randomUUID())).isFalse();
+    }
+}
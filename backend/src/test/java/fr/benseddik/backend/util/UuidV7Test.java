@@ -0,0 +1,33 @@
+package fr.benseddik.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    void encodesVersionVariantAndTimestamp() {
+        long now = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate(now);
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestamp(uuid)).isGreaterThanOrEqualTo(now);
+    }
+
+    @Test
+    void identifiersAreStrictlyIncreasingWithinSameMillisecondAndWhenClockGoesBack() {
+        long now = System.currentTimeMillis() + 60_000;
+        UUID previous = UuidV7.generate(now);
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = UuidV7.generate(i % 2 == 0 ? now : now - 1_000);
+            // Ordre des octets (celui de PostgreSQL) : comparaison non signée
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            previous = next;
+        }
+    }
+}